@@ -0,0 +1,88 @@
+package game.components.deck;
+
+import game.components.card.ICard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * 덱 셔플과 뽑기 벤치마크
+ *
+ * 한 라운드 분량(4명 × 5장)의 카드를 준비하는 비용을 덱 구현별로 비교합니다.
+ * 모든 덱은 같은 고정 시드의 난수 생성기로 섞습니다.
+ *
+ * <p>측정 항목:</p>
+ * <ul>
+ *   <li>deckRefNewShuffleDraw: 라운드마다 새 DeckRef 생성 후 셔플, 한 장씩 20장 (기존 딜러 경로)</li>
+ *   <li>deckRefResetShuffleDraw: DeckRef 재사용 (reset 후 셔플, 한 장씩 20장)</li>
+ *   <li>arrayDeckResetShuffleDraw: ArrayDeck 재사용 (reset 후 셔플, 20장 한 번에)</li>
+ *   <li>lazyDeckResetShuffleDraw: LazyDeck 재사용 (reset 후 O(1) 셔플, 뽑는 20장만 섞음)</li>
+ * </ul>
+ *
+ * @author XIYO
+ * @version 1.1
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DeckBenchmark {
+    private static final long SEED = 20241017L;
+    private static final int CARDS_PER_ROUND = 20;
+
+    private RandomGenerator random;
+    private DeckRef deckRef;
+    private ArrayDeck arrayDeck;
+    private LazyDeck lazyDeck;
+    private final ICard[] dealt = new ICard[CARDS_PER_ROUND];
+
+    @Setup
+    public void setUp() {
+        random = DeckRandom.create(SEED);
+        deckRef = new DeckRef(DeckRandom.create(SEED));
+        arrayDeck = new ArrayDeck(DeckRandom.create(SEED));
+        lazyDeck = new LazyDeck(DeckRandom.create(SEED));
+    }
+
+    @Benchmark
+    public void deckRefNewShuffleDraw(Blackhole blackhole) {
+        DeckRef deck = new DeckRef(random);
+        deck.shuffle();
+        for (int i = 0; i < CARDS_PER_ROUND; i++) {
+            blackhole.consume(deck.drawCard());
+        }
+    }
+
+    @Benchmark
+    public void deckRefResetShuffleDraw(Blackhole blackhole) {
+        deckRef.reset();
+        deckRef.shuffle();
+        for (int i = 0; i < CARDS_PER_ROUND; i++) {
+            blackhole.consume(deckRef.drawCard());
+        }
+    }
+
+    @Benchmark
+    public ICard[] arrayDeckResetShuffleDraw() {
+        arrayDeck.reset();
+        arrayDeck.shuffle();
+        arrayDeck.draw(CARDS_PER_ROUND, dealt);
+        return dealt;
+    }
+
+    @Benchmark
+    public ICard[] lazyDeckResetShuffleDraw() {
+        lazyDeck.reset();
+        lazyDeck.shuffle();
+        lazyDeck.draw(CARDS_PER_ROUND, dealt);
+        return dealt;
+    }
+}
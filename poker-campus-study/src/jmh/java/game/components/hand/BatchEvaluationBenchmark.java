@@ -0,0 +1,74 @@
+package game.components.hand;
+
+import game.components.deck.DeckRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * 일괄 핸드 평가 벤치마크
+ *
+ * 고정 시드로 만든 같은 핸드 묶음(위치별 배열)을 벡터 경로와 스칼라 경로로 평가하여
+ * 초당 평가 수를 비교합니다. 벡터 경로는 {@code --add-modules jdk.incubator.vector}가 필요합니다.
+ *
+ * <p>측정 항목:</p>
+ * <ul>
+ *   <li>vectorBatch: {@link BatchHandEvaluator#strengths(int[][], int, int[])} (벡터 모듈이 없으면 스칼라)</li>
+ *   <li>scalarBatch: {@link BatchHandEvaluator#scalarStrengths(int[][], int, int[])}</li>
+ * </ul>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BatchEvaluationBenchmark {
+    /** 한 번의 벤치마크 호출에서 평가하는 핸드 수 */
+    static final int HANDS = 1 << 16;
+    private static final long SEED = 20241017L;
+
+    private final int[][] cards = new int[BatchHandEvaluator.CARDS_PER_HAND][HANDS];
+    private final int[] strengths = new int[HANDS];
+
+    @Setup
+    public void setUp() {
+        RandomGenerator random = DeckRandom.create(SEED);
+        int[] deck = new int[52];
+        for (int i = 0; i < HANDS; i++) {
+            for (int k = 0; k < deck.length; k++) {
+                deck[k] = k;
+            }
+            for (int j = 0; j < BatchHandEvaluator.CARDS_PER_HAND; j++) {
+                int pick = j + random.nextInt(deck.length - j);
+                int temp = deck[pick];
+                deck[pick] = deck[j];
+                deck[j] = temp;
+                cards[j][i] = deck[j];
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public int[] vectorBatch() {
+        BatchHandEvaluator.strengths(cards, HANDS, strengths);
+        return strengths;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public int[] scalarBatch() {
+        BatchHandEvaluator.scalarStrengths(cards, HANDS, strengths);
+        return strengths;
+    }
+}
@@ -0,0 +1,114 @@
+package game.components.hand;
+
+import game.components.card.ICard;
+import game.components.deck.ArrayDeck;
+import game.components.deck.DeckRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 핸드 평가 벤치마크
+ *
+ * 고정 시드로 만든 같은 핸드 묶음을 참조 구현({@link HandRef#evaluate()})과
+ * 룩업 테이블 평가기들로 평가하여 초당 평가 수를 비교합니다.
+ *
+ * <p>측정 항목:</p>
+ * <ul>
+ *   <li>handRefEvaluate: HandRef에 5장을 넣고 evaluate() - 게임에서 쓰는 경로</li>
+ *   <li>fiveCardStrength: {@link HandEvaluator#strength(int, int, int, int, int)} 직접 호출</li>
+ *   <li>sevenCardStrength: {@link SevenCardEvaluator} 7장 직접 평가</li>
+ *   <li>sevenCardBruteForce: 7장 중 21가지 5장 조합을 HandRef로 모두 평가해 최고 강도 - sevenCardStrength의 비교 기준</li>
+ * </ul>
+ *
+ * @author XIYO
+ * @version 1.1
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HandEvaluationBenchmark {
+    /** 한 번의 벤치마크 호출에서 평가하는 핸드 수 */
+    static final int HANDS = 1024;
+    private static final long SEED = 20241017L;
+
+    private final ICard[][] cards = new ICard[HANDS][7];
+    private final int[][] indexes = new int[HANDS][7];
+    private final HandRef hand = new HandRef();
+
+    @Setup
+    public void setUp() {
+        ArrayDeck deck = new ArrayDeck(DeckRandom.create(SEED));
+        for (int i = 0; i < HANDS; i++) {
+            deck.reset();
+            deck.shuffle();
+            deck.draw(7, cards[i]);
+            for (int j = 0; j < 7; j++) {
+                indexes[i][j] = cards[i][j].getIndex();
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public void handRefEvaluate(Blackhole blackhole) {
+        for (ICard[] c : cards) {
+            hand.clear();
+            for (int j = 0; j < 5; j++) {
+                hand.add(c[j]);
+            }
+            blackhole.consume(hand.evaluate());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public void fiveCardStrength(Blackhole blackhole) {
+        for (int[] c : indexes) {
+            blackhole.consume(HandEvaluator.strength(c[0], c[1], c[2], c[3], c[4]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public void sevenCardStrength(Blackhole blackhole) {
+        for (int[] c : indexes) {
+            blackhole.consume(SevenCardEvaluator.strength(c[0], c[1], c[2], c[3], c[4], c[5], c[6]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public void sevenCardBruteForce(Blackhole blackhole) {
+        for (ICard[] c : cards) {
+            int best = 0;
+            for (int a = 0; a < 7; a++) {
+                for (int b = a + 1; b < 7; b++) {
+                    for (int d = b + 1; d < 7; d++) {
+                        for (int e = d + 1; e < 7; e++) {
+                            for (int f = e + 1; f < 7; f++) {
+                                hand.clear();
+                                hand.add(c[a]);
+                                hand.add(c[b]);
+                                hand.add(c[d]);
+                                hand.add(c[e]);
+                                hand.add(c[f]);
+                                best = Math.max(best, hand.strength());
+                            }
+                        }
+                    }
+                }
+            }
+            blackhole.consume(best);
+        }
+    }
+}
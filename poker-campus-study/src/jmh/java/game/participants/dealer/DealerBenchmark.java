@@ -0,0 +1,85 @@
+package game.participants.dealer;
+
+import game.participants.player.IPlayer;
+import game.participants.player.PlayerRef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 딜러 라운드 벤치마크
+ *
+ * 4인 게임의 한 라운드 처리 속도(초당 라운드 수)를 측정합니다.
+ * 딜러는 고정 시드로 만들어 매번 같은 카드 흐름을 사용합니다.
+ *
+ * <p>측정 항목:</p>
+ * <ul>
+ *   <li>dealRound: 새 게임 시작과 카드 분배만 - 아래 항목에서 빼는 기준값</li>
+ *   <li>dealAndDetermineWinners: 새 게임 시작, 카드 분배, 승자 판정 (새 핸드라 평가 포함)
+ *       - 한 번의 승자 판정 비용은 dealRound와의 시간 차이</li>
+ *   <li>playGameRound: {@link DealerRef#playGame(List, int)} 1라운드 (기본 {@link RoundListener#NO_OP} 리스너 경로)</li>
+ *   <li>simulateRound: {@link DealerRef#simulate(List, int)} 1라운드 (할당 없는 경로)</li>
+ * </ul>
+ *
+ * @author XIYO
+ * @version 1.3
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DealerBenchmark {
+    private static final long SEED = 20241017L;
+    private static final int INITIAL_MONEY = 10000;
+
+    private DealerRef dealer;
+    private List<IPlayer> players;
+
+    @Setup
+    public void setUp() {
+        dealer = new DealerRef(SEED);
+        players = createPlayers();
+    }
+
+    @Benchmark
+    public List<IPlayer> dealRound() {
+        dealer.startNewGame();
+        dealer.dealCards(players);
+        return players;
+    }
+
+    @Benchmark
+    public List<? extends IPlayer> dealAndDetermineWinners() {
+        dealer.startNewGame();
+        dealer.dealCards(players);
+        return dealer.determineWinners(players);
+    }
+
+    @Benchmark
+    public void playGameRound() {
+        dealer.playGame(players, 1);
+    }
+
+    @Benchmark
+    public void simulateRound() {
+        dealer.simulate(players, 1);
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    private static List<IPlayer> createPlayers() {
+        List<IPlayer> players = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            players.add(new PlayerRef("플레이어" + i, INITIAL_MONEY));
+        }
+        return players;
+    }
+}
@@ -0,0 +1,195 @@
+import game.components.card.ICard;
+import game.components.hand.HandEvaluator;
+import game.components.hand.HandRank;
+import game.components.hand.HandRef;
+import game.components.hand.HandStrength;
+import game.components.hand.IHand;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 5장 전체 조합 족보 전수 조사 도구
+ *
+ * 52장 중 5장을 고르는 2,598,960가지 조합을 모두 평가하여 족보별 개수와 걸린 시간을 출력합니다.
+ * 족보별 개수는 알려진 상수이므로 평가기의 정확성 검증과 처리량 측정을 한 번에 할 수 있습니다.
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>멀티스레드: 첫 번째 카드(0-47)를 작업 단위로 나눠 스레드들이 하나씩 가져감</li>
+ *   <li>할당 없음: 카드 인덱스 반복과 스레드별 개수 배열만 사용</li>
+ *   <li>검증: 족보별 개수를 알려진 값과 비교하고, 다르면 종료 코드 1로 끝남</li>
+ *   <li>평가 방식 선택: {@code fast}는 {@link HandEvaluator}, {@code hand}는 {@link HandRef} (카드 추가 후 evaluate)</li>
+ * </ul>
+ *
+ * <p>실행 예시:</p>
+ * <pre>
+ * ./gradlew runCensus                         // fast, 가용 코어 수만큼 스레드
+ * ./gradlew runCensus --args="hand 4"         // HandRef, 스레드 4개
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class HandCensus {
+    /** 전체 5장 조합 수 C(52,5) */
+    public static final long TOTAL_HANDS = 2_598_960L;
+
+    /** 족보별로 알려진 5장 조합 개수 (HandRank 순서) */
+    private static final long[] KNOWN_FREQUENCIES = {
+        1_302_540, 1_098_240, 123_552, 54_912, 10_200,
+        5_108, 3_744, 624, 36, 4
+    };
+
+    private static final int CARD_COUNT = 52;
+    private static final int HAND_SIZE = 5;
+    private static final HandRank[] HAND_RANKS = HandRank.values();
+
+    /**
+     * 5장을 평가하는 방식
+     */
+    public enum Mode {
+        /** 카드 인덱스로 룩업 테이블 평가기를 직접 호출 */
+        FAST,
+        /** 스레드마다 HandRef 하나를 재사용하며 카드를 추가하고 evaluate() 호출 */
+        HAND
+    }
+
+    public static void main(String[] args) {
+        Mode mode = args.length > 0 ? Mode.valueOf(args[0].toUpperCase()) : Mode.FAST;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        System.out.println("╔════════════════════════════════════════╗");
+        System.out.println("   🃏 5장 족보 전수 조사 (" + mode + ") 🃏   ");
+        System.out.println("╚════════════════════════════════════════╝");
+        System.out.println("스레드 수: " + threads + "개\n");
+
+        long start = System.nanoTime();
+        long[] frequencies = census(mode, threads);
+        long elapsed = System.nanoTime() - start;
+
+        boolean matches = printTable(frequencies);
+        System.out.printf("\n소요 시간: %,d ms (%,.0f 핸드/초)\n",
+            elapsed / 1_000_000, TOTAL_HANDS * 1e9 / elapsed);
+
+        if (!matches) {
+            System.out.println("❌ 알려진 개수와 다른 족보가 있습니다.");
+            System.exit(1);
+        }
+        System.out.println("✅ 모든 족보 개수가 알려진 값과 일치합니다.");
+    }
+
+    /**
+     * 전체 5장 조합을 평가하여 족보별 개수를 셉니다.
+     *
+     * @param mode 평가 방식
+     * @param threads 사용할 스레드 수
+     * @return HandRank 순서의 족보별 개수
+     * @throws IllegalArgumentException mode가 null이거나 스레드 수가 양수가 아닐 때
+     */
+    public static long[] census(Mode mode, int threads) {
+        if (mode == null) {
+            throw new IllegalArgumentException("평가 방식은 null일 수 없습니다.");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("스레드 수는 양수여야 합니다.");
+        }
+
+        // 첫 카드가 작을수록 작업량이 크므로 작은 번호부터 나눠주면 끝이 고르게 맞춰짐
+        AtomicInteger nextFirst = new AtomicInteger();
+        long[][] counts = new long[threads][HAND_RANKS.length];
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            long[] local = counts[t];
+            workers[t] = Thread.ofPlatform().name("census-" + t).start(() -> {
+                HandRef hand = new HandRef();
+                int first;
+                while ((first = nextFirst.getAndIncrement()) <= CARD_COUNT - HAND_SIZE) {
+                    if (mode == Mode.FAST) {
+                        countFast(first, local);
+                    } else {
+                        countHand(first, hand, local);
+                    }
+                }
+            });
+        }
+
+        long[] total = new long[HAND_RANKS.length];
+        for (int t = 0; t < threads; t++) {
+            join(workers[t]);
+            for (int r = 0; r < total.length; r++) {
+                total[r] += counts[t][r];
+            }
+        }
+        return total;
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    /**
+     * 첫 카드가 c0인 모든 조합을 HandEvaluator로 평가합니다.
+     */
+    private static void countFast(int c0, long[] counts) {
+        for (int c1 = c0 + 1; c1 < CARD_COUNT; c1++) {
+            for (int c2 = c1 + 1; c2 < CARD_COUNT; c2++) {
+                for (int c3 = c2 + 1; c3 < CARD_COUNT; c3++) {
+                    for (int c4 = c3 + 1; c4 < CARD_COUNT; c4++) {
+                        int strength = HandEvaluator.strength(c0, c1, c2, c3, c4);
+                        counts[HandStrength.rankOf(strength).ordinal()]++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 첫 카드가 c0인 모든 조합을 HandRef에 담아 평가합니다.
+     */
+    private static void countHand(int c0, IHand hand, long[] counts) {
+        for (int c1 = c0 + 1; c1 < CARD_COUNT; c1++) {
+            for (int c2 = c1 + 1; c2 < CARD_COUNT; c2++) {
+                for (int c3 = c2 + 1; c3 < CARD_COUNT; c3++) {
+                    for (int c4 = c3 + 1; c4 < CARD_COUNT; c4++) {
+                        hand.clear();
+                        hand.add(ICard.of(c0));
+                        hand.add(ICard.of(c1));
+                        hand.add(ICard.of(c2));
+                        hand.add(ICard.of(c3));
+                        hand.add(ICard.of(c4));
+                        counts[hand.evaluate().ordinal()]++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 족보별 개수 표를 출력하고 모두 알려진 값과 같은지 반환합니다.
+     */
+    private static boolean printTable(long[] frequencies) {
+        boolean matches = true;
+        long total = 0;
+        System.out.println("족보              개수        기대값");
+        System.out.println("────────────────────────────────────────");
+        for (HandRank rank : HAND_RANKS) {
+            long count = frequencies[rank.ordinal()];
+            long expected = KNOWN_FREQUENCIES[rank.ordinal()];
+            boolean ok = count == expected;
+            matches &= ok;
+            total += count;
+            System.out.printf("%-10s %,12d %,12d %s\n", rank.getDisplayName(), count, expected, ok ? "✓" : "✗");
+        }
+        System.out.println("────────────────────────────────────────");
+        System.out.printf("%-10s %,12d %,12d %s\n", "합계", total, TOTAL_HANDS, total == TOTAL_HANDS ? "✓" : "✗");
+        return matches && total == TOTAL_HANDS;
+    }
+
+    private static void join(Thread worker) {
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("전수 조사가 중단되었습니다.", e);
+        }
+    }
+}
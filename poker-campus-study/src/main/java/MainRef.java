@@ -1,3 +1,4 @@
+import game.participants.dealer.AsyncRoundPrinter;
 import game.participants.dealer.DealerRef;
 import game.participants.dealer.IDealer;
 import game.participants.player.PlayerRef;
@@ -39,11 +40,13 @@ public class MainRef {
             players.add(new PlayerRef(name, INITIAL_MONEY));
         }
         
-        // IDealer 인터페이스 타입으로 DealerRef 객체 생성
-        IDealer dealer = new DealerRef();
-        
-        // 게임 진행
-        dealer.playGame(players, TOTAL_ROUNDS);
+        // 게임 진행 - 라운드 출력은 백그라운드 스레드가 담당하고,
+        // try 블록이 끝나면 남은 출력을 모두 쓴 뒤 최종 결과를 출력합니다
+        try (AsyncRoundPrinter printer = new AsyncRoundPrinter(System.out)) {
+            // IDealer 인터페이스 타입으로 DealerRef 객체 생성
+            IDealer dealer = new DealerRef(printer);
+            dealer.playGame(players, TOTAL_ROUNDS);
+        }
         
         // 최종 결과 출력
         printFinalResults(players);
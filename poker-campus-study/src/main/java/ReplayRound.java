@@ -0,0 +1,38 @@
+import game.participants.dealer.RoundReplay;
+
+/**
+ * 라운드 재현 도구
+ *
+ * 테이블 시드와 라운드 번호로 그 라운드의 카드 분배와 승자를 다시 출력합니다.
+ * 앞선 라운드를 진행하지 않으므로 몇 번째 라운드든 바로 재현됩니다.
+ *
+ * <p>실행 예시:</p>
+ * <pre>
+ * ./gradlew runReplay --args="42 1234 4"   // 테이블 시드 42, 1234번째 라운드, 4명
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ReplayRound {
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("사용법: ReplayRound <테이블 시드> <라운드 번호> [플레이어 수 (기본 4)]");
+            return;
+        }
+        long tableSeed = Long.parseLong(args[0]);
+        long round = Long.parseLong(args[1]);
+        int playerCount = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+
+        // 평가 테이블 초기화 시간은 재현 시간에서 제외
+        RoundReplay.winners(RoundReplay.deal(tableSeed, 1, playerCount));
+
+        long start = System.nanoTime();
+        RoundReplay.winners(RoundReplay.deal(tableSeed, round, playerCount));
+        long elapsed = System.nanoTime() - start;
+
+        System.out.print(RoundReplay.describe(tableSeed, round, playerCount));
+        System.out.printf("재현 시간: %,.1f µs\n", elapsed / 1_000.0);
+    }
+}
@@ -0,0 +1,50 @@
+import game.management.poker.Tournament;
+import game.management.poker.TournamentResult;
+import game.participants.player.IPlayer;
+import game.participants.player.PlayerRef;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 토너먼트 실행 도구
+ *
+ * 플레이어를 만들어 {@link Tournament}를 끝까지 진행하고, 상위 순위와 전체 소요 시간을 출력합니다.
+ *
+ * <p>실행 예시:</p>
+ * <pre>
+ * ./gradlew runTournament                          // 10,000명, 9인 테이블, 시드 42
+ * ./gradlew runTournament --args="2000 6 7"        // 2,000명, 6인 테이블, 시드 7
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class RunTournament {
+    private static final int DEFAULT_PLAYERS = 10_000;
+    private static final int STARTING_STACK = 10_000;
+    private static final int TOP_PLACES = 3;
+
+    public static void main(String[] args) {
+        int playerCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PLAYERS;
+        int seats = args.length > 1 ? Integer.parseInt(args[1]) : Tournament.DEFAULT_SEATS;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+
+        List<IPlayer> players = new ArrayList<>(playerCount);
+        for (int i = 1; i <= playerCount; i++) {
+            players.add(new PlayerRef("플레이어" + i, STARTING_STACK));
+        }
+
+        Tournament tournament = new Tournament(players, seats, Tournament.DEFAULT_ANTE, seed, ForkJoinPool.commonPool());
+        TournamentResult result = tournament.run();
+
+        System.out.println(result);
+        for (int place = 1; place <= Math.min(TOP_PLACES, result.standings().size()); place++) {
+            IPlayer player = result.standings().get(place - 1);
+            System.out.printf("%d위: %s (%d승 %d패 %d무)%n", place, player.getName(),
+                player.getWinCount(), player.getLoseCount(), player.getDrawCount());
+        }
+    }
+}
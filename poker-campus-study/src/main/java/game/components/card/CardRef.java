@@ -12,22 +12,39 @@ package game.components.card;
  *   <li>비교 가능: 랭크 우선, 무늬 보조로 정렬</li>
  *   <li>동등성 보장: equals/hashCode 일관성 유지</li>
  *   <li>가독성: 직관적인 문자열 표현</li>
+ *   <li>공유 인스턴스: 52장의 표준 카드를 한 번만 만들어 {@link ICard#of(Suit, Rank)}로 재사용</li>
  * </ul>
  * 
  * <p>사용 예시:</p>
  * <pre>
- * CardRef card = new CardRef(Suit.HEARTS, Rank.ACE);
+ * ICard card = ICard.of(Suit.HEARTS, Rank.ACE);  // 새로 할당하지 않음
  * System.out.println(card);  // "A♥" 출력
  * System.out.println(card.getValue());  // 14 출력
  * </pre>
  * 
  * @author XIYO
- * @version 1.1
+ * @version 1.2
  * @since 2024-01-01
  */
 public class CardRef implements ICard {
+    /** 표준 덱의 카드 수 */
+    static final int DECK_SIZE = 52;
+    
+    /** 카드 인덱스 순서의 표준 카드 52장 */
+    private static final CardRef[] CANONICAL = new CardRef[DECK_SIZE];
+    
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                CardRef card = new CardRef(suit, rank);
+                CANONICAL[card.index] = card;
+            }
+        }
+    }
+    
     private final Suit suit;
     private final Rank rank;
+    private final int index;
     
     /**
      * CardRef 생성자
@@ -40,6 +57,14 @@ public class CardRef implements ICard {
         }
         this.suit = suit;
         this.rank = rank;
+        this.index = CardSet.indexOf(suit, rank);
+    }
+    
+    /**
+     * 인덱스에 해당하는 표준 카드를 반환합니다. 범위 검사는 호출하는 쪽에서 합니다.
+     */
+    static CardRef canonical(int index) {
+        return CANONICAL[index];
     }
     
     /**
@@ -88,6 +113,18 @@ public class CardRef implements ICard {
     public int getValue() {
         return rank.getValue();
     }
+    
+    /**
+     * 카드의 인덱스를 반환합니다.
+     * 
+     * 생성 시 계산해 둔 값을 그대로 반환합니다.
+     * 
+     * @return 무늬 우선 카드 인덱스 (0-51)
+     */
+    @Override
+    public int getIndex() {
+        return index;
+    }
 
     @Override
     public int compareTo(ICard other) {
@@ -128,8 +165,8 @@ public class CardRef implements ICard {
      */
     @Override
     public boolean equals(Object obj) {
-        if (obj == null) return false;
         if (this == obj) return true;
+        if (obj == null) return false;
         if (!(obj instanceof ICard)) return false;
         
         ICard other = (ICard) obj;
@@ -145,10 +182,12 @@ public class CardRef implements ICard {
      *   <li>무늬와 랭크를 기반으로 해시 코드를 생성해야 합니다</li>
      * </ul>
      * 
+     * <p>카드 인덱스(0-51)가 무늬와 랭크를 유일하게 나타내므로 그대로 사용합니다.</p>
+     * 
      * @return 카드의 해시 코드
      */
     @Override
     public int hashCode() {
-        return java.util.Objects.hash(suit, rank);
+        return index;
     }
 }
\ No newline at end of file
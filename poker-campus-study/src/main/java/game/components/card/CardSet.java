@@ -0,0 +1,268 @@
+package game.components.card;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카드 집합을 하나의 long 비트마스크로 다루는 유틸리티 클래스
+ *
+ * 카드 한 장마다 비트 하나를 사용하며, 무늬별로 13비트씩 나란히 배치합니다(무늬 우선).
+ * 집합 자체가 기본형 long이므로 객체 할당 없이 복사, 비교, 합집합, 차집합이 가능합니다.
+ *
+ * <p>비트 배치:</p>
+ * <ul>
+ *   <li>비트 번호 = {@code suit.ordinal() * 13 + rank.ordinal()} (0-51)</li>
+ *   <li>SPADES: 0-12, HEARTS: 13-25, DIAMONDS: 26-38, CLUBS: 39-51</li>
+ *   <li>각 13비트 칸 안에서 비트 0은 TWO, 비트 12는 ACE</li>
+ * </ul>
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>집합 연산: 카드 추가, 합집합, 제거, 포함 여부</li>
+ *   <li>무늬별 장수: 비트 카운트 한 번</li>
+ *   <li>랭크 마스크: 무늬별 또는 전체 13비트 랭크 마스크 추출</li>
+ *   <li>플러시/스트레이트 판정: 비트 연산 몇 번</li>
+ * </ul>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * long dead = CardSet.of(card1, card2);        // 이미 나온 카드
+ * long live = CardSet.remove(CardSet.FULL_DECK, dead);
+ * int spades = CardSet.suitCount(live, Suit.SPADES);
+ * boolean flush = CardSet.isFlush(hand.getCardSet());
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class CardSet {
+    /** 한 무늬가 차지하는 비트 수 */
+    public static final int LANE_WIDTH = 13;
+    /** 한 무늬 칸의 마스크 */
+    public static final int LANE_MASK = (1 << LANE_WIDTH) - 1;
+    /** 빈 집합 */
+    public static final long EMPTY = 0L;
+    /** 52장 전체 */
+    public static final long FULL_DECK = (1L << 52) - 1;
+
+    private static final int WHEEL_MASK = 0x100F;
+    private static final Suit[] SUITS = Suit.values();
+
+    private CardSet() {
+    }
+
+    /**
+     * 카드의 비트 번호를 계산합니다.
+     *
+     * @param suit 무늬
+     * @param rank 랭크
+     * @return 무늬 우선 카드 인덱스 (0-51)
+     */
+    public static int indexOf(Suit suit, Rank rank) {
+        return suit.ordinal() * LANE_WIDTH + rank.ordinal();
+    }
+
+    /**
+     * 카드의 비트 번호를 계산합니다.
+     *
+     * @param card 카드
+     * @return 무늬 우선 카드 인덱스 (0-51)
+     */
+    public static int indexOf(ICard card) {
+        return card.getIndex();
+    }
+
+    /**
+     * 카드 한 장으로 이루어진 집합을 만듭니다.
+     *
+     * @param card 카드
+     * @return 해당 카드의 비트만 켜진 집합
+     */
+    public static long of(ICard card) {
+        return 1L << indexOf(card);
+    }
+
+    /**
+     * 여러 카드로 이루어진 집합을 만듭니다.
+     *
+     * @param cards 카드들
+     * @return 카드 집합
+     */
+    public static long of(ICard... cards) {
+        long set = EMPTY;
+        for (ICard card : cards) {
+            set |= of(card);
+        }
+        return set;
+    }
+
+    /**
+     * 카드 목록으로 집합을 만듭니다.
+     *
+     * @param cards 카드 목록
+     * @return 카드 집합
+     */
+    public static long of(List<? extends ICard> cards) {
+        long set = EMPTY;
+        for (int i = 0; i < cards.size(); i++) {
+            set |= of(cards.get(i));
+        }
+        return set;
+    }
+
+    /**
+     * 집합에 카드를 추가합니다.
+     *
+     * @param set 원래 집합
+     * @param card 추가할 카드
+     * @return 카드가 추가된 집합
+     */
+    public static long add(long set, ICard card) {
+        return set | of(card);
+    }
+
+    /**
+     * 두 집합의 합집합을 구합니다.
+     *
+     * @param a 첫 번째 집합
+     * @param b 두 번째 집합
+     * @return 합집합
+     */
+    public static long union(long a, long b) {
+        return a | b;
+    }
+
+    /**
+     * 집합에서 다른 집합의 카드를 제거합니다.
+     *
+     * @param set 원래 집합
+     * @param removed 제거할 카드 집합
+     * @return 차집합
+     */
+    public static long remove(long set, long removed) {
+        return set & ~removed;
+    }
+
+    /**
+     * 집합에 카드가 들어 있는지 확인합니다.
+     *
+     * @param set 집합
+     * @param card 확인할 카드
+     * @return 들어 있으면 true
+     */
+    public static boolean contains(long set, ICard card) {
+        return (set & of(card)) != 0;
+    }
+
+    /**
+     * 집합의 카드 수를 반환합니다.
+     *
+     * @param set 집합
+     * @return 카드 수
+     */
+    public static int size(long set) {
+        return Long.bitCount(set);
+    }
+
+    /**
+     * 한 무늬의 13비트 랭크 마스크를 추출합니다.
+     *
+     * @param set 집합
+     * @param suit 무늬
+     * @return 비트 0(TWO)부터 비트 12(ACE)까지의 랭크 마스크
+     */
+    public static int suitMask(long set, Suit suit) {
+        return (int) (set >>> (suit.ordinal() * LANE_WIDTH)) & LANE_MASK;
+    }
+
+    /**
+     * 한 무늬의 카드 수를 반환합니다.
+     *
+     * @param set 집합
+     * @param suit 무늬
+     * @return 해당 무늬의 카드 수
+     */
+    public static int suitCount(long set, Suit suit) {
+        return Integer.bitCount(suitMask(set, suit));
+    }
+
+    /**
+     * 무늬와 관계없이 집합에 있는 랭크들의 마스크를 추출합니다.
+     *
+     * @param set 집합
+     * @return 네 무늬 랭크 마스크의 OR
+     */
+    public static int rankMask(long set) {
+        return (int) (set | set >>> LANE_WIDTH | set >>> (2 * LANE_WIDTH) | set >>> (3 * LANE_WIDTH)) & LANE_MASK;
+    }
+
+    /**
+     * 같은 무늬가 5장 이상 있는지 확인합니다.
+     *
+     * @param set 집합
+     * @return 플러시가 가능하면 true
+     */
+    public static boolean isFlush(long set) {
+        for (Suit suit : SUITS) {
+            if (suitCount(set, suit) >= 5) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 랭크 마스크에서 가장 높은 스트레이트의 최고 랭크를 찾습니다.
+     *
+     * 연속된 5비트는 마스크를 한 칸씩 밀어 AND 네 번으로 찾습니다.
+     * 백스트레이트(A-2-3-4-5)는 최고 랭크 FIVE로 취급합니다.
+     *
+     * @param rankMask 13비트 랭크 마스크
+     * @return 최고 랭크의 서수 (스트레이트가 없으면 -1)
+     */
+    public static int straightHigh(int rankMask) {
+        int runs = rankMask & (rankMask << 1) & (rankMask << 2) & (rankMask << 3) & (rankMask << 4);
+        if (runs != 0) {
+            return 31 - Integer.numberOfLeadingZeros(runs);
+        }
+        return (rankMask & WHEEL_MASK) == WHEEL_MASK ? Rank.FIVE.ordinal() : -1;
+    }
+
+    /**
+     * 무늬와 관계없이 연속된 5개 랭크가 있는지 확인합니다.
+     *
+     * @param set 집합
+     * @return 스트레이트가 가능하면 true
+     */
+    public static boolean isStraight(long set) {
+        return straightHigh(rankMask(set)) >= 0;
+    }
+
+    /**
+     * 집합의 카드들을 인덱스 순서대로 목록으로 만듭니다.
+     *
+     * @param set 집합
+     * @return 표준 카드 목록 (무늬 우선, 같은 무늬는 랭크 오름차순)
+     */
+    public static List<ICard> toList(long set) {
+        List<ICard> cards = new ArrayList<>(size(set));
+        for (long rest = set; rest != 0; rest &= rest - 1) {
+            int index = Long.numberOfTrailingZeros(rest);
+            cards.add(ICard.of(index));
+        }
+        return cards;
+    }
+
+    /**
+     * 집합을 문자열로 표현합니다.
+     *
+     * 형식: "[A♠, 10♥, ...]"
+     *
+     * @param set 집합
+     * @return 집합의 문자열 표현
+     */
+    public static String toString(long set) {
+        return toList(set).toString();
+    }
+}
@@ -6,11 +6,50 @@ package game.components.card;
  * 이 인터페이스는 카드 게임에서 사용되는 카드 한 장의 기본 동작을 정의합니다.
  * 모든 카드 구현체는 이 인터페이스를 구현해야 합니다.
  * 
+ * <p>52장의 카드는 불변이므로 {@link #of(Suit, Rank)}와 {@link #of(int)}는
+ * 미리 만들어 둔 표준 카드 객체를 공유하여 반환합니다. 같은 카드는 항상 같은 객체이므로
+ * 참조 비교(==)로 동일성을 확인할 수 있고, 카드를 새로 할당할 필요가 없습니다.</p>
+ * 
+ * <p>사용 예시:</p>
+ * <pre>
+ * ICard ace = ICard.of(Suit.SPADES, Rank.ACE);
+ * ICard same = ICard.of(ace.getIndex());   // ace == same
+ * </pre>
+ * 
  * @author XIYO
- * @version 1.1
+ * @version 1.2
  * @since 2024-01-01
  */
 public interface ICard extends Comparable<ICard> {
+    /**
+     * 무늬와 랭크에 해당하는 표준 카드를 반환합니다.
+     * 
+     * @param suit 카드의 무늬
+     * @param rank 카드의 랭크
+     * @return 공유되는 표준 카드 객체
+     * @throws IllegalArgumentException suit 또는 rank가 null일 때
+     */
+    static ICard of(Suit suit, Rank rank) {
+        if (suit == null || rank == null) {
+            throw new IllegalArgumentException("Suit와 Rank는 null일 수 없습니다.");
+        }
+        return CardRef.canonical(CardSet.indexOf(suit, rank));
+    }
+    
+    /**
+     * 카드 인덱스에 해당하는 표준 카드를 반환합니다.
+     * 
+     * @param index 무늬 우선 카드 인덱스 (0-51, {@link CardSet} 비트 번호와 같음)
+     * @return 공유되는 표준 카드 객체
+     * @throws IllegalArgumentException 인덱스가 범위를 벗어날 때
+     */
+    static ICard of(int index) {
+        if (index < 0 || index >= CardRef.DECK_SIZE) {
+            throw new IllegalArgumentException("카드 인덱스는 0-51 사이여야 합니다: " + index);
+        }
+        return CardRef.canonical(index);
+    }
+    
     /**
      * 카드의 무늬를 반환합니다.
      * 
@@ -52,6 +91,18 @@ public interface ICard extends Comparable<ICard> {
      */
     int getValue();
     
+    /**
+     * 카드의 인덱스를 반환합니다.
+     * 
+     * <p>인덱스는 {@code suit.ordinal() * 13 + rank.ordinal()}이며
+     * {@link CardSet}의 비트 번호, 평가기의 카드 인덱스와 같습니다.</p>
+     * 
+     * @return 무늬 우선 카드 인덱스 (0-51)
+     */
+    default int getIndex() {
+        return CardSet.indexOf(getSuit(), getRank());
+    }
+    
     /**
      * 카드를 문자열로 표현합니다.
      * 
@@ -0,0 +1,230 @@
+package game.components.deck;
+
+import game.components.card.CardSet;
+import game.components.card.ICard;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * 고정 배열 덱 - 커서로 카드를 뽑는 IDeck 구현체
+ *
+ * 52장의 표준 카드를 길이 52의 배열에 담고, 다음에 뽑을 위치를 가리키는 커서만 움직입니다.
+ * 뽑은 카드는 배열에서 지우지 않고 커서 앞쪽에 남겨 두므로,
+ * 한 번 만든 덱을 {@link #reset()}으로 할당 없이 계속 재사용할 수 있습니다.
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>카드 뽑기: 커서 이동만으로 O(1) - 남은 카드를 당기지 않음</li>
+ *   <li>여러 장 뽑기: {@link #draw(int, ICard[])}로 배열 복사 한 번</li>
+ *   <li>리셋: 커서를 처음으로 되돌려 52장 복원 - 새 덱을 만들지 않음</li>
+ *   <li>셔플: 남은 카드 구간만 Fisher-Yates로 제자리 섞기 (덱 전용 난수 생성기 지정 가능)</li>
+ *   <li>시드 리셋: {@link #reset(long)}으로 52장을 시드만으로 정해지는 순서로 복원 (라운드 재현)</li>
+ *   <li>풀 리셋: {@link #reset(ShufflePool)}으로 백그라운드에서 미리 섞어 둔 순서로 복원 (셔플 생략)</li>
+ * </ul>
+ *
+ * <p>배열 구성:</p>
+ * <ul>
+ *   <li>[0, top): 이미 뽑았거나 제거한 카드</li>
+ *   <li>[top, 52): 남은 카드 (top 위치가 덱의 맨 위)</li>
+ * </ul>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * ArrayDeck deck = new ArrayDeck(DeckRandom.create(seed));  // 재현 가능한 셔플
+ * ICard[] dealt = new ICard[10];
+ * for (int round = 0; round &lt; rounds; round++) {
+ *     deck.reset();
+ *     deck.shuffle();
+ *     deck.draw(10, dealt);   // 한 번에 10장
+ * }
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.2
+ * @since 2026-10-17
+ */
+public class ArrayDeck implements IDeck {
+    private static final int DECK_SIZE = 52;
+
+    private final ICard[] cards = new ICard[DECK_SIZE];
+    /** 이 덱 전용 난수 생성기 (null이면 스레드별 생성기 사용) */
+    private final RandomGenerator random;
+    private int top;
+
+    // 인스턴스 초기화 블록 - 표준 카드 52장을 인덱스 순서(무늬 우선)로 채움
+    {
+        for (int index = 0; index < DECK_SIZE; index++) {
+            cards[index] = ICard.of(index);
+        }
+    }
+
+    /**
+     * ArrayDeck 생성자
+     *
+     * 셔플에는 호출한 스레드의 {@link ThreadLocalRandom}을 사용합니다.
+     */
+    public ArrayDeck() {
+        this.random = null;
+    }
+
+    /**
+     * 전용 난수 생성기를 사용하는 ArrayDeck 생성자
+     *
+     * 같은 시드의 생성기를 주면 같은 셔플 순서가 재현됩니다.
+     *
+     * @param random 셔플에 사용할 난수 생성기
+     * @throws IllegalArgumentException random이 null일 때
+     */
+    public ArrayDeck(RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException("난수 생성기는 null일 수 없습니다.");
+        }
+        this.random = random;
+    }
+
+    /**
+     * 남은 카드들을 섞습니다.
+     *
+     * 이미 뽑은 카드는 그대로 두고 [top, 52) 구간만 제자리에서 섞습니다.
+     */
+    public void shuffle() {
+        shuffle(random != null ? random : ThreadLocalRandom.current());
+    }
+
+    /**
+     * 주어진 난수 생성기로 남은 카드들을 섞습니다.
+     *
+     * @param random 사용할 난수 생성기
+     */
+    public void shuffle(RandomGenerator random) {
+        for (int i = DECK_SIZE - 1; i > top; i--) {
+            int j = top + random.nextInt(i - top + 1);
+            ICard temp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = temp;
+        }
+    }
+
+    /**
+     * 덱에서 카드를 한 장 뽑습니다.
+     *
+     * @return 뽑은 카드
+     * @throws IllegalStateException 덱이 비어있을 때
+     */
+    public ICard drawCard() {
+        if (isEmpty()) {
+            throw new IllegalStateException("덱이 비어있습니다.");
+        }
+        return cards[top++];
+    }
+
+    /**
+     * 덱에서 카드를 여러 장 한 번에 뽑아 배열에 채웁니다.
+     *
+     * @param n 뽑을 카드 수
+     * @param dest 뽑은 카드를 담을 배열 (앞에서부터 n칸 사용)
+     * @throws IllegalArgumentException n이 음수이거나 배열보다 클 때
+     * @throws IllegalStateException 남은 카드가 n장보다 적을 때
+     */
+    @Override
+    public void draw(int n, ICard[] dest) {
+        if (n < 0 || n > dest.length) {
+            throw new IllegalArgumentException("뽑을 카드 수가 올바르지 않습니다: " + n);
+        }
+        if (n > size()) {
+            throw new IllegalStateException("덱에 남은 카드가 부족합니다. (남은 카드: " + size() + "장)");
+        }
+        System.arraycopy(cards, top, dest, 0, n);
+        top += n;
+    }
+
+    /**
+     * 덱이 비어있는지 확인합니다.
+     *
+     * @return 덱이 비어있으면 true, 카드가 하나라도 있으면 false
+     */
+    public boolean isEmpty() {
+        return top == DECK_SIZE;
+    }
+
+    /**
+     * 덱에 남은 카드 수를 반환합니다.
+     *
+     * @return 남은 카드 수 (0-52)
+     */
+    public int size() {
+        return DECK_SIZE - top;
+    }
+
+    /**
+     * 뽑은 카드를 모두 되돌려 52장을 복원합니다.
+     *
+     * 커서만 처음으로 되돌리며 객체를 새로 만들지 않습니다.
+     * 카드 순서는 바뀌지 않으므로 새 라운드 전에는 {@link #shuffle()}을 호출해야 합니다.
+     */
+    public void reset() {
+        top = 0;
+    }
+
+    /**
+     * 52장을 복원하고 시드로 정해지는 순서로 배열합니다.
+     *
+     * 이전 셔플 결과와 관계없이 카드 순서는 시드만의 함수이므로({@link DeckRandom#fillShuffled(long, ICard[])}),
+     * 라운드 시드만 알면 그 라운드의 덱을 그대로 재현할 수 있습니다. 할당이 없습니다.
+     *
+     * @param seed 덱 순서를 정하는 시드 (보통 {@link DeckRandom#roundSeed(long, long)})
+     */
+    public void reset(long seed) {
+        DeckRandom.fillShuffled(seed, cards);
+        top = 0;
+    }
+
+    /**
+     * 52장을 복원하고 풀에서 미리 섞어 둔 순서로 배열합니다.
+     *
+     * 풀이 비어 있으면 덱을 그대로 두고 false를 반환하므로, 이때는 {@link #reset()} 후
+     * {@link #shuffle()}로 직접 섞어야 합니다. 할당이 없습니다.
+     *
+     * @param pool 미리 섞은 덱 풀
+     * @return 풀에서 순서를 받았으면 true, 풀이 비어 있으면 false
+     */
+    public boolean reset(ShufflePool pool) {
+        if (!pool.poll(cards)) {
+            return false;
+        }
+        top = 0;
+        return true;
+    }
+
+    /**
+     * 덱에 남아 있는 카드들을 비트마스크 집합으로 반환합니다.
+     *
+     * @return {@link CardSet} 형식의 남은 카드 집합
+     */
+    public long getCardSet() {
+        long set = CardSet.EMPTY;
+        for (int i = top; i < DECK_SIZE; i++) {
+            set |= 1L << cards[i].getIndex();
+        }
+        return set;
+    }
+
+    /**
+     * 주어진 카드들을 덱에서 제거합니다.
+     *
+     * 제거할 카드를 커서 위치와 맞바꾸고 커서를 전진시키므로, 제거한 카드도
+     * {@link #reset()} 시 함께 복원됩니다.
+     *
+     * @param cardSet 제거할 {@link CardSet} 카드 집합
+     */
+    public void removeAll(long cardSet) {
+        for (int i = top; i < DECK_SIZE; i++) {
+            if ((cardSet & (1L << cards[i].getIndex())) != 0) {
+                ICard temp = cards[i];
+                cards[i] = cards[top];
+                cards[top++] = temp;
+            }
+        }
+    }
+}
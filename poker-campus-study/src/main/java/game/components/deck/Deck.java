@@ -4,6 +4,7 @@ import game.components.card.Card;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * 카드 덱을 나타내는 클래스
@@ -95,6 +96,16 @@ public class Deck implements IDeck {
                 "이 메서드는 카드의 순서만 바꾸고 카드 수는 변경하지 않습니다.");
     }
     
+    /**
+     * 주어진 난수 생성기로 덱을 섞습니다.
+     * 
+     * @param random 사용할 난수 생성기
+     */
+    public void shuffle(RandomGenerator random) {
+        throw new UnsupportedOperationException("TODO: Collections.shuffle(cards, random)을 사용하여 " +
+                "주어진 난수 생성기로 카드를 섞으세요. 같은 시드의 생성기를 주면 항상 같은 순서가 나와야 합니다.");
+    }
+    
     /**
      * 덱에서 카드를 한 장 뽑습니다.
      * 
@@ -119,4 +130,35 @@ public class Deck implements IDeck {
         throw new UnsupportedOperationException("TODO: cards.isEmpty()를 호출하여 카드 리스트가 비어있는지 확인하고 그 결과를 반환하세요. " +
                 "List의 isEmpty() 메서드는 리스트에 요소가 없으면 true, 하나라도 있으면 false를 반환합니다.");
     }
+    
+    /**
+     * 뽑은 카드를 모두 되돌려 52장을 복원합니다.
+     * 
+     * 리셋 후에는 셔플이 필요합니다.
+     */
+    public void reset() {
+        throw new UnsupportedOperationException("TODO: cards.clear()로 리스트를 비운 뒤, " +
+                "초기화 블록과 같은 방법으로 52장의 카드를 다시 채우세요. " +
+                "리셋 후에 카드 수는 다시 52장이어야 합니다.");
+    }
+    
+    /**
+     * 덱에 남아 있는 카드들을 비트마스크 집합으로 반환합니다.
+     * 
+     * @return 남은 카드 집합
+     */
+    public long getCardSet() {
+        throw new UnsupportedOperationException("TODO: CardSet.of(cards)를 호출하여 남은 카드들의 비트마스크를 반환하세요. " +
+                "카드 한 장은 비트 하나(무늬 * 13 + 랭크 번호)에 대응합니다.");
+    }
+    
+    /**
+     * 주어진 카드들을 덱에서 제거합니다.
+     * 
+     * @param cardSet 제거할 카드 집합
+     */
+    public void removeAll(long cardSet) {
+        throw new UnsupportedOperationException("TODO: cards.removeIf(card -> CardSet.contains(cardSet, card))로 " +
+                "집합에 포함된 카드들을 덱에서 제거하세요. 덱에 없는 카드는 무시하면 됩니다.");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package game.components.deck;
+
+import game.components.card.ICard;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * 덱 셔플용 난수 생성기를 만드는 유틸리티 클래스
+ *
+ * 모든 덱이 하나의 공유 난수 생성기를 쓰면 여러 테이블이 동시에 셔플할 때 경합이 생기고,
+ * 결과를 재현할 수도 없습니다. 이 클래스는 덱마다(또는 스레드마다) 독립된
+ * {@value #ALGORITHM} 생성기를 만들어 줍니다.
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>무작위 시드 생성기: 운영용, 덱마다 독립</li>
+ *   <li>고정 시드 생성기: 같은 시드면 같은 셔플 순서 (라운드 재현)</li>
+ *   <li>분할 가능: {@link SplittableGenerator#split()}으로 스레드별 생성기를 만듦</li>
+ *   <li>시드 파생: 하나의 시드에서 작업 단위마다 독립된 시드를 결정적으로 계산</li>
+ *   <li>라운드 시드: 테이블 시드와 라운드 번호로 라운드마다 64비트 시드 계산</li>
+ *   <li>시드 순서: 시드만으로 정해지는 52장 순서 (생성기 객체 없이, 할당 없이)</li>
+ * </ul>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * IDeck deck = new ArrayDeck(DeckRandom.create(seed));  // 재현 가능한 덱
+ *
+ * SplittableGenerator root = DeckRandom.create(seed);
+ * IDeck workerDeck = new ArrayDeck(root.split());       // 작업 스레드마다 분할
+ *
+ * long seed = DeckRandom.roundSeed(tableSeed, 1234);     // 1234번째 라운드의 시드
+ * DeckRandom.fillShuffled(seed, cards);                  // 그 라운드의 덱 순서
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.1
+ * @since 2026-10-17
+ */
+public final class DeckRandom {
+    /** 셔플에 사용하는 난수 알고리즘 (LXM 계열, 분할 가능) */
+    public static final String ALGORITHM = "L64X128MixRandom";
+
+    private static final RandomGeneratorFactory<RandomGenerator> FACTORY = RandomGeneratorFactory.of(ALGORITHM);
+    /** 2^64 / 황금비 - 스트림 번호를 고르게 퍼뜨리는 증분 */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int DECK_SIZE = 52;
+
+    private DeckRandom() {
+    }
+
+    /**
+     * 무작위 시드로 새 생성기를 만듭니다.
+     *
+     * @return 독립된 분할 가능 생성기
+     */
+    public static SplittableGenerator create() {
+        return (SplittableGenerator) FACTORY.create();
+    }
+
+    /**
+     * 고정 시드로 새 생성기를 만듭니다.
+     *
+     * 같은 시드로 만든 생성기는 항상 같은 난수열을 만듭니다.
+     *
+     * @param seed 시드
+     * @return 독립된 분할 가능 생성기
+     */
+    public static SplittableGenerator create(long seed) {
+        return (SplittableGenerator) FACTORY.create(seed);
+    }
+
+    /**
+     * 기준 시드와 스트림 번호로 독립된 시드를 파생합니다.
+     *
+     * 스레드 수나 실행 순서와 관계없이 (seed, stream)이 같으면 항상 같은 값이므로,
+     * 작업을 나눠 병렬로 실행해도 순차 실행과 같은 결과를 재현할 수 있습니다.
+     * SplitMix64의 혼합 함수를 사용합니다.
+     *
+     * @param seed 기준 시드
+     * @param stream 스트림 번호 (예: 작업 묶음 번호, 라운드 번호)
+     * @return 파생된 시드
+     */
+    public static long deriveSeed(long seed, long stream) {
+        return mix(seed + (stream + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * 테이블 시드와 라운드 번호로 그 라운드의 시드를 계산합니다.
+     *
+     * 앞선 라운드를 다시 진행하지 않고도 임의의 라운드 시드를 바로 구할 수 있으므로,
+     * 감사 기록에는 카드 목록 대신 테이블 시드만 남기면 됩니다.
+     *
+     * @param tableSeed 테이블 시드
+     * @param round 라운드 번호 (딜러가 진행한 순번, 1부터)
+     * @return 라운드 시드
+     */
+    public static long roundSeed(long tableSeed, long round) {
+        return deriveSeed(tableSeed, round);
+    }
+
+    /**
+     * 시드로 정해지는 순서로 52장을 배열에 채웁니다.
+     *
+     * 표준 순서(카드 인덱스 순)에서 시작해 시드로 만든 SplitMix64 난수열로 Fisher-Yates 셔플을 합니다.
+     * 결과는 시드만의 함수이며, 생성기 객체를 만들지 않으므로 할당이 없습니다.
+     * 범위 안의 난수는 거절 샘플링으로 치우침 없이 뽑습니다.
+     *
+     * @param seed 시드 (보통 {@link #roundSeed(long, long)})
+     * @param dest 카드를 채울 배열 (앞에서부터 52칸 사용)
+     * @throws IllegalArgumentException 배열이 52칸보다 작을 때
+     */
+    public static void fillShuffled(long seed, ICard[] dest) {
+        if (dest.length < DECK_SIZE) {
+            throw new IllegalArgumentException("배열은 " + DECK_SIZE + "칸 이상이어야 합니다.");
+        }
+        for (int i = 0; i < DECK_SIZE; i++) {
+            dest[i] = ICard.of(i);
+        }
+        long state = seed;
+        for (int i = DECK_SIZE - 1; i > 0; i--) {
+            long bound = i + 1;
+            // Lemire 방식: 상위 64비트가 결과, 하위 64비트가 치우침 판정에 쓰임
+            state += GOLDEN_GAMMA;
+            long random = mix(state);
+            long low = random * bound;
+            if (Long.compareUnsigned(low, bound) < 0) {
+                long threshold = Long.remainderUnsigned(-bound, bound);
+                while (Long.compareUnsigned(low, threshold) < 0) {
+                    state += GOLDEN_GAMMA;
+                    random = mix(state);
+                    low = random * bound;
+                }
+            }
+            int j = (int) Math.unsignedMultiplyHigh(random, bound);
+            ICard temp = dest[i];
+            dest[i] = dest[j];
+            dest[j] = temp;
+        }
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    /**
+     * SplitMix64 혼합 함수
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
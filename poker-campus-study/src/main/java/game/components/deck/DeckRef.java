@@ -1,13 +1,13 @@
 package game.components.deck;
 
-import game.components.card.CardRef;
+import game.components.card.CardSet;
 import game.components.card.ICard;
-import game.components.card.Rank;
-import game.components.card.Suit;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * 덱 참조 구현체 - IDeck 인터페이스의 완성된 구현
@@ -17,8 +17,8 @@ import java.util.List;
  * 
  * <p>주요 기능:</p>
  * <ul>
- *   <li>자동 초기화: 생성 시 52장 카드 자동 생성</li>
- *   <li>랜덤 셔플: Collections.shuffle()을 통한 무작위 섞기</li>
+ *   <li>자동 초기화: 생성 시 52장의 표준 카드({@link ICard#of(int)})로 채움 - 카드 객체를 새로 만들지 않음</li>
+ *   <li>랜덤 셔플: Collections.shuffle()을 통한 무작위 섞기 (덱 전용 난수 생성기 또는 스레드별 생성기 사용)</li>
  *   <li>카드 추출: 덱에서 카드를 뽑아 제거</li>
  *   <li>상태 확인: 덱의 빈 상태 확인</li>
  * </ul>
@@ -33,6 +33,7 @@ import java.util.List;
  * <p>사용 예시:</p>
  * <pre>
  * DeckRef deck = new DeckRef();  // 52장 자동 생성
+ * DeckRef replay = new DeckRef(DeckRandom.create(seed));  // 재현 가능한 셔플
  * deck.shuffle();                // 카드 섞기
  * Card card = deck.drawCard();   // 카드 한 장 뽑기
  * boolean empty = deck.isEmpty(); // 빈 덱 확인
@@ -44,17 +45,41 @@ import java.util.List;
  */
 public class DeckRef implements IDeck {
     
-    private final List<ICard> cards = new ArrayList<>();
+    private static final int DECK_SIZE = 52;
     
-    // 인스턴스 초기화 블록 - 52장의 카드 생성
+    private final List<ICard> cards = new ArrayList<>(DECK_SIZE);
+    /** 이 덱 전용 난수 생성기 (null이면 스레드별 생성기 사용) */
+    private final RandomGenerator random;
+    
+    // 인스턴스 초기화 블록 - 표준 카드 52장을 인덱스 순서(무늬 우선)로 채움
     {
-        for (Suit suit : Suit.values()) {
-            for (Rank rank : Rank.values()) {
-                cards.add(new CardRef(suit, rank));
-            }
+        for (int index = 0; index < DECK_SIZE; index++) {
+            cards.add(ICard.of(index));
         }
     }
     
+    /**
+     * DeckRef 생성자
+     * 
+     * 셔플에는 호출한 스레드의 {@link ThreadLocalRandom}을 사용합니다.
+     */
+    public DeckRef() {
+        this.random = null;
+    }
+    
+    /**
+     * 전용 난수 생성기를 사용하는 DeckRef 생성자
+     * 
+     * @param random 셔플에 사용할 난수 생성기
+     * @throws IllegalArgumentException random이 null일 때
+     */
+    public DeckRef(RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException("난수 생성기는 null일 수 없습니다.");
+        }
+        this.random = random;
+    }
+    
     /**
      * 덱을 섞습니다.
      * 
@@ -65,7 +90,16 @@ public class DeckRef implements IDeck {
      * 새로운 덱은 사용 전에 반드시 섞어야 합니다.
      */
     public void shuffle() {
-        Collections.shuffle(cards);
+        shuffle(random != null ? random : ThreadLocalRandom.current());
+    }
+    
+    /**
+     * 주어진 난수 생성기로 덱을 섞습니다.
+     * 
+     * @param random 사용할 난수 생성기
+     */
+    public void shuffle(RandomGenerator random) {
+        Collections.shuffle(cards, random);
     }
     
     /**
@@ -92,4 +126,34 @@ public class DeckRef implements IDeck {
     public boolean isEmpty() {
         return cards.isEmpty();
     }
+    
+    /**
+     * 뽑은 카드를 모두 되돌려 52장을 복원합니다.
+     * 
+     * 표준 카드 52장을 인덱스 순서로 다시 채웁니다. 리셋 후에는 셔플이 필요합니다.
+     */
+    public void reset() {
+        cards.clear();
+        for (int index = 0; index < DECK_SIZE; index++) {
+            cards.add(ICard.of(index));
+        }
+    }
+    
+    /**
+     * 덱에 남아 있는 카드들을 비트마스크 집합으로 반환합니다.
+     * 
+     * @return {@link CardSet} 형식의 남은 카드 집합
+     */
+    public long getCardSet() {
+        return CardSet.of(cards);
+    }
+    
+    /**
+     * 주어진 카드들을 덱에서 제거합니다.
+     * 
+     * @param cardSet 제거할 {@link CardSet} 카드 집합
+     */
+    public void removeAll(long cardSet) {
+        cards.removeIf(card -> CardSet.contains(cardSet, card));
+    }
 }
\ No newline at end of file
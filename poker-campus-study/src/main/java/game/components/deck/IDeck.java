@@ -1,7 +1,10 @@
 package game.components.deck;
 
+import game.components.card.CardSet;
 import game.components.card.ICard;
 
+import java.util.random.RandomGenerator;
+
 /**
  * 카드 덱의 기본 동작을 정의하는 인터페이스
  * 
@@ -21,6 +24,16 @@ public interface IDeck {
      */
     void shuffle();
     
+    /**
+     * 주어진 난수 생성기로 덱을 섞습니다.
+     * 
+     * 같은 상태의 생성기로 섞으면 항상 같은 순서가 되므로 라운드를 재현할 수 있습니다.
+     * 생성기는 스레드 안전하지 않을 수 있으므로 스레드마다 따로 사용해야 합니다.
+     * 
+     * @param random 사용할 난수 생성기 (예: {@link DeckRandom#create(long)})
+     */
+    void shuffle(RandomGenerator random);
+    
     /**
      * 덱에서 카드를 한 장 뽑습니다.
      * 
@@ -32,10 +45,55 @@ public interface IDeck {
      */
     ICard drawCard();
     
+    /**
+     * 덱에서 카드를 여러 장 한 번에 뽑아 배열에 채웁니다.
+     * 
+     * 기본 구현은 {@link #drawCard()}를 n번 호출합니다.
+     * 배열 기반 구현체는 한 번의 복사로 처리하도록 재정의할 수 있습니다.
+     * 
+     * @param n 뽑을 카드 수
+     * @param dest 뽑은 카드를 담을 배열 (앞에서부터 n칸 사용)
+     * @throws IllegalArgumentException n이 음수이거나 배열보다 클 때
+     * @throws IllegalStateException 남은 카드가 n장보다 적을 때
+     */
+    default void draw(int n, ICard[] dest) {
+        if (n < 0 || n > dest.length) {
+            throw new IllegalArgumentException("뽑을 카드 수가 올바르지 않습니다: " + n);
+        }
+        for (int i = 0; i < n; i++) {
+            dest[i] = drawCard();
+        }
+    }
+    
     /**
      * 덱이 비어있는지 확인합니다.
      * 
      * @return 덱이 비어있으면 true, 카드가 하나라도 있으면 false
      */
     boolean isEmpty();
+    
+    /**
+     * 뽑은 카드를 모두 되돌려 52장을 복원합니다.
+     * 
+     * 새 덱을 만들지 않고 같은 덱을 다음 라운드에 재사용할 때 사용합니다.
+     * 리셋 후에는 {@link #shuffle()}을 호출해야 합니다.
+     */
+    void reset();
+    
+    /**
+     * 덱에 남아 있는 카드들을 비트마스크 집합으로 반환합니다.
+     * 
+     * @return {@link CardSet} 형식의 남은 카드 집합
+     */
+    long getCardSet();
+    
+    /**
+     * 주어진 카드들을 덱에서 제거합니다.
+     * 
+     * 시뮬레이션에서 이미 공개된 카드(죽은 카드)를 덱에서 빼낼 때 사용합니다.
+     * 덱에 없는 카드는 무시합니다.
+     * 
+     * @param cardSet 제거할 {@link CardSet} 카드 집합
+     */
+    void removeAll(long cardSet);
 }
\ No newline at end of file
@@ -0,0 +1,224 @@
+package game.components.deck;
+
+import game.components.card.CardSet;
+import game.components.card.ICard;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * 지연 셔플 덱 - 뽑는 카드만 그때그때 섞는 IDeck 구현체
+ *
+ * {@link #shuffle()}은 사용할 난수 생성기만 기억하고 O(1)로 끝납니다.
+ * 실제 섞기는 카드를 뽑을 때마다 앞에서부터 진행하는 Fisher-Yates의 한 단계
+ * (남은 카드 중 하나를 골라 맨 위와 맞바꿈)로 하므로, 뽑히지 않은 카드는 섞지 않습니다.
+ * 뽑히는 카드의 분포는 52장을 모두 섞은 뒤 위에서부터 뽑을 때와 같습니다.
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>O(1) 셔플: 4명 × 5장 라운드면 난수 51번 대신 20번, 카드 교환도 20번</li>
+ *   <li>카드 뽑기: 난수 한 번 + 교환 한 번 + 커서 이동</li>
+ *   <li>리셋: 커서만 처음으로 되돌림 - 순서가 남아 있어도 다음 셔플 후 분포는 같음</li>
+ *   <li>{@link ArrayDeck}과 같은 배열 구성과 제거 방식</li>
+ * </ul>
+ *
+ * <p>배열 구성:</p>
+ * <ul>
+ *   <li>[0, top): 이미 뽑았거나 제거한 카드</li>
+ *   <li>[top, 52): 남은 카드 (셔플 후에는 아직 섞이지 않은 상태)</li>
+ * </ul>
+ *
+ * <p>주의: 셔플한 생성기는 카드를 다 뽑을 때까지 사용하므로, {@link #shuffle()}을 호출한
+ * 스레드에서 뽑아야 합니다 (다른 덱처럼 덱 하나는 스레드 하나가 사용).</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * LazyDeck deck = new LazyDeck(DeckRandom.create(seed));
+ * ICard[] dealt = new ICard[20];
+ * for (int round = 0; round &lt; rounds; round++) {
+ *     deck.reset();
+ *     deck.shuffle();          // O(1)
+ *     deck.draw(20, dealt);    // 뽑는 20장만 섞음
+ * }
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class LazyDeck implements IDeck {
+    private static final int DECK_SIZE = 52;
+
+    private final ICard[] cards = new ICard[DECK_SIZE];
+    /** 이 덱 전용 난수 생성기 (null이면 스레드별 생성기 사용) */
+    private final RandomGenerator random;
+    /** 뽑을 때 사용할 생성기 - 셔플 전이면 null (섞지 않고 순서대로 뽑음) */
+    private RandomGenerator pending;
+    private int top;
+
+    // 인스턴스 초기화 블록 - 표준 카드 52장을 인덱스 순서(무늬 우선)로 채움
+    {
+        for (int index = 0; index < DECK_SIZE; index++) {
+            cards[index] = ICard.of(index);
+        }
+    }
+
+    /**
+     * LazyDeck 생성자
+     *
+     * 셔플에는 {@link #shuffle()}을 호출한 스레드의 {@link ThreadLocalRandom}을 사용합니다.
+     */
+    public LazyDeck() {
+        this.random = null;
+    }
+
+    /**
+     * 전용 난수 생성기를 사용하는 LazyDeck 생성자
+     *
+     * 같은 시드의 생성기를 주면 같은 카드 흐름이 재현됩니다.
+     *
+     * @param random 셔플에 사용할 난수 생성기
+     * @throws IllegalArgumentException random이 null일 때
+     */
+    public LazyDeck(RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException("난수 생성기는 null일 수 없습니다.");
+        }
+        this.random = random;
+    }
+
+    /**
+     * 남은 카드들을 섞습니다.
+     *
+     * 생성기만 기억하며, 실제 섞기는 카드를 뽑을 때 한 장씩 진행합니다.
+     */
+    public void shuffle() {
+        shuffle(random != null ? random : ThreadLocalRandom.current());
+    }
+
+    /**
+     * 주어진 난수 생성기로 남은 카드들을 섞습니다.
+     *
+     * 생성기는 다음 {@link #reset()}까지 카드를 뽑을 때마다 사용됩니다.
+     *
+     * @param random 사용할 난수 생성기
+     */
+    public void shuffle(RandomGenerator random) {
+        this.pending = random;
+    }
+
+    /**
+     * 덱에서 카드를 한 장 뽑습니다.
+     *
+     * 셔플한 뒤이면 남은 카드 중 하나를 골라 맨 위와 맞바꾼 뒤 뽑습니다.
+     *
+     * @return 뽑은 카드
+     * @throws IllegalStateException 덱이 비어있을 때
+     */
+    public ICard drawCard() {
+        if (isEmpty()) {
+            throw new IllegalStateException("덱이 비어있습니다.");
+        }
+        if (pending != null) {
+            swapIntoTop(pending);
+        }
+        return cards[top++];
+    }
+
+    /**
+     * 덱에서 카드를 여러 장 한 번에 뽑아 배열에 채웁니다.
+     *
+     * @param n 뽑을 카드 수
+     * @param dest 뽑은 카드를 담을 배열 (앞에서부터 n칸 사용)
+     * @throws IllegalArgumentException n이 음수이거나 배열보다 클 때
+     * @throws IllegalStateException 남은 카드가 n장보다 적을 때
+     */
+    @Override
+    public void draw(int n, ICard[] dest) {
+        if (n < 0 || n > dest.length) {
+            throw new IllegalArgumentException("뽑을 카드 수가 올바르지 않습니다: " + n);
+        }
+        if (n > size()) {
+            throw new IllegalStateException("덱에 남은 카드가 부족합니다. (남은 카드: " + size() + "장)");
+        }
+        RandomGenerator generator = pending;
+        for (int i = 0; i < n; i++) {
+            if (generator != null) {
+                swapIntoTop(generator);
+            }
+            dest[i] = cards[top++];
+        }
+    }
+
+    /**
+     * 덱이 비어있는지 확인합니다.
+     *
+     * @return 덱이 비어있으면 true, 카드가 하나라도 있으면 false
+     */
+    public boolean isEmpty() {
+        return top == DECK_SIZE;
+    }
+
+    /**
+     * 덱에 남은 카드 수를 반환합니다.
+     *
+     * @return 남은 카드 수 (0-52)
+     */
+    public int size() {
+        return DECK_SIZE - top;
+    }
+
+    /**
+     * 뽑은 카드를 모두 되돌려 52장을 복원합니다.
+     *
+     * 커서만 처음으로 되돌리고 기억한 생성기를 지우므로, 새 라운드 전에는 {@link #shuffle()}을 호출해야 합니다.
+     * 이전 라운드의 순서가 남아 있어도 뽑을 때 남은 카드 전체에서 고르므로 분포에는 영향이 없습니다.
+     */
+    public void reset() {
+        top = 0;
+        pending = null;
+    }
+
+    /**
+     * 덱에 남아 있는 카드들을 비트마스크 집합으로 반환합니다.
+     *
+     * @return {@link CardSet} 형식의 남은 카드 집합
+     */
+    public long getCardSet() {
+        long set = CardSet.EMPTY;
+        for (int i = top; i < DECK_SIZE; i++) {
+            set |= 1L << cards[i].getIndex();
+        }
+        return set;
+    }
+
+    /**
+     * 주어진 카드들을 덱에서 제거합니다.
+     *
+     * 제거할 카드를 커서 위치와 맞바꾸고 커서를 전진시키므로, 제거한 카드도
+     * {@link #reset()} 시 함께 복원됩니다.
+     *
+     * @param cardSet 제거할 {@link CardSet} 카드 집합
+     */
+    public void removeAll(long cardSet) {
+        for (int i = top; i < DECK_SIZE; i++) {
+            if ((cardSet & (1L << cards[i].getIndex())) != 0) {
+                ICard temp = cards[i];
+                cards[i] = cards[top];
+                cards[top++] = temp;
+            }
+        }
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    /**
+     * 앞에서부터 진행하는 Fisher-Yates의 한 단계 - 남은 카드 중 하나를 맨 위(top)로 가져옵니다.
+     */
+    private void swapIntoTop(RandomGenerator generator) {
+        int j = top + generator.nextInt(DECK_SIZE - top);
+        ICard temp = cards[j];
+        cards[j] = cards[top];
+        cards[top] = temp;
+    }
+}
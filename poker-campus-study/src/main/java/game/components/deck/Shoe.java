@@ -0,0 +1,298 @@
+package game.components.deck;
+
+import game.components.card.CardSet;
+import game.components.card.ICard;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * 슈(shoe) - 여러 벌의 덱을 함께 섞어 쓰고, 컷 카드가 나온 뒤에만 다시 섞는 IDeck 구현체
+ *
+ * 카지노처럼 K벌(52 × K장)을 한 번에 섞어 두고 여러 라운드에 걸쳐 이어서 나눕니다.
+ * 카드는 카드 인덱스(0-51) 하나를 byte 한 칸에 담은 배열로 보관하고, 나눌 때
+ * 공유되는 표준 카드 객체({@link ICard#of(int)})로 바꾸므로 셔플과 재사용에 할당이 없습니다.
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>여러 벌: 1-{@value #MAX_DECKS}벌 - 한 라운드에 52장보다 많이 필요한 11명 이상 테이블 지원</li>
+ *   <li>컷 카드: 전체의 {@code penetration} 비율 위치에 꽂아 두고, 그 위치를 지나면 표시</li>
+ *   <li>지연 셔플: {@link #nextRound()}에서 컷 카드가 나왔을 때만 전체를 다시 섞음</li>
+ *   <li>부족할 때: 한 번에 뽑을 카드가 남은 카드보다 많으면 뽑기 전에 전체를 다시 섞음</li>
+ * </ul>
+ *
+ * <p>배열 구성:</p>
+ * <ul>
+ *   <li>[0, top): 이미 나눈 카드 (버린 카드 더미)</li>
+ *   <li>[top, 52 × K): 남은 카드 (top 위치가 슈의 맨 앞)</li>
+ * </ul>
+ *
+ * <p>주의: 여러 벌이므로 같은 카드가 한 라운드에 두 장 이상 나올 수 있습니다.
+ * {@link #getCardSet()}은 남은 카드의 종류만 나타냅니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * Shoe shoe = new Shoe(6, 0.75, DeckRandom.create(seed));  // 6벌, 75% 위치에 컷 카드
+ * DealerRef dealer = new DealerRef(shoe);
+ * dealer.simulate(players, 1_000_000);   // 14명 테이블도 가능, 셔플은 컷 카드가 나올 때만
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.1
+ * @since 2026-10-17
+ */
+public class Shoe implements IDeck {
+    /** 최대 덱 수 */
+    public static final int MAX_DECKS = 16;
+    /** 기본 컷 카드 위치 (전체의 75%) */
+    public static final double DEFAULT_PENETRATION = 0.75;
+    private static final int DECK_SIZE = 52;
+
+    private final byte[] cards;
+    /** 컷 카드 위치 - top이 이 값에 이르면 컷 카드가 나온 것 */
+    private final int cutCard;
+    /** 이 슈 전용 난수 생성기 (null이면 스레드별 생성기 사용) */
+    private final RandomGenerator random;
+    private int top;
+    private long reshuffles;
+
+    /**
+     * 기본 컷 카드 위치를 사용하는 Shoe 생성자
+     *
+     * @param decks 덱 수 (1-{@value #MAX_DECKS})
+     * @throws IllegalArgumentException 덱 수가 범위를 벗어날 때
+     */
+    public Shoe(int decks) {
+        this(decks, DEFAULT_PENETRATION);
+    }
+
+    /**
+     * 컷 카드 위치를 지정하는 Shoe 생성자
+     *
+     * 셔플에는 호출한 스레드의 {@link ThreadLocalRandom}을 사용합니다.
+     *
+     * @param decks 덱 수 (1-{@value #MAX_DECKS})
+     * @param penetration 컷 카드 위치 (전체 카드 중 비율, 0 초과 1 이하)
+     * @throws IllegalArgumentException 덱 수나 위치가 범위를 벗어날 때
+     */
+    public Shoe(int decks, double penetration) {
+        this(decks, penetration, null);
+    }
+
+    /**
+     * 전용 난수 생성기를 사용하는 Shoe 생성자
+     *
+     * 같은 시드의 생성기를 주면 같은 카드 흐름이 재현됩니다.
+     *
+     * @param decks 덱 수 (1-{@value #MAX_DECKS})
+     * @param penetration 컷 카드 위치 (전체 카드 중 비율, 0 초과 1 이하)
+     * @param random 셔플에 사용할 난수 생성기 (null이면 스레드별 생성기)
+     * @throws IllegalArgumentException 덱 수나 위치가 범위를 벗어날 때
+     */
+    public Shoe(int decks, double penetration, RandomGenerator random) {
+        if (decks < 1 || decks > MAX_DECKS) {
+            throw new IllegalArgumentException("덱 수는 1-" + MAX_DECKS + "벌이어야 합니다: " + decks);
+        }
+        if (!(penetration > 0.0 && penetration <= 1.0)) {
+            throw new IllegalArgumentException("컷 카드 위치는 0 초과 1 이하의 비율이어야 합니다: " + penetration);
+        }
+        this.cards = new byte[decks * DECK_SIZE];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = (byte) (i % DECK_SIZE);
+        }
+        this.cutCard = Math.max(1, (int) Math.round(cards.length * penetration));
+        this.random = random;
+        // 생성 중에는 하위 클래스가 재정의할 수 있는 메서드를 부르지 않음
+        collectAndShuffle();
+    }
+
+    /**
+     * 새 라운드를 준비합니다.
+     *
+     * 컷 카드가 이미 나왔으면 버린 카드까지 모두 모아 다시 섞고, 아니면 그대로 이어서 나눕니다.
+     *
+     * @return 다시 섞었으면 true
+     */
+    public boolean nextRound() {
+        if (!isCutCardOut()) {
+            return false;
+        }
+        reshuffle();
+        return true;
+    }
+
+    /**
+     * 컷 카드가 나왔는지 확인합니다.
+     *
+     * @return 컷 카드 위치를 지났으면 true
+     */
+    public boolean isCutCardOut() {
+        return top >= cutCard;
+    }
+
+    /**
+     * 버린 카드까지 모두 모아 전체를 다시 섞습니다.
+     */
+    public void reshuffle() {
+        collectAndShuffle();
+    }
+
+    /**
+     * 남은 카드들을 섞습니다.
+     *
+     * 이미 나눈 카드는 그대로 두고 [top, 52 × K) 구간만 제자리에서 섞습니다.
+     * 버린 카드까지 섞으려면 {@link #reshuffle()}을 사용하세요.
+     */
+    public void shuffle() {
+        shuffle(random != null ? random : ThreadLocalRandom.current());
+    }
+
+    /**
+     * 주어진 난수 생성기로 남은 카드들을 섞습니다.
+     *
+     * @param random 사용할 난수 생성기
+     */
+    public void shuffle(RandomGenerator random) {
+        shuffleRemaining(random);
+    }
+
+    /**
+     * 슈에서 카드를 한 장 뽑습니다.
+     *
+     * 카드가 모두 나왔으면 전체를 다시 섞은 뒤 뽑으므로 슈는 비지 않습니다.
+     *
+     * @return 뽑은 카드
+     */
+    public ICard drawCard() {
+        if (isEmpty()) {
+            reshuffle();
+        }
+        return ICard.of(cards[top++]);
+    }
+
+    /**
+     * 슈에서 카드를 여러 장 한 번에 뽑아 배열에 채웁니다.
+     *
+     * 남은 카드가 n장보다 적으면 전체를 다시 섞은 뒤 뽑습니다.
+     *
+     * @param n 뽑을 카드 수
+     * @param dest 뽑은 카드를 담을 배열 (앞에서부터 n칸 사용)
+     * @throws IllegalArgumentException n이 음수이거나 배열보다 클 때
+     * @throws IllegalStateException n이 슈 전체 카드 수보다 많을 때
+     */
+    @Override
+    public void draw(int n, ICard[] dest) {
+        if (n < 0 || n > dest.length) {
+            throw new IllegalArgumentException("뽑을 카드 수가 올바르지 않습니다: " + n);
+        }
+        if (n > cards.length) {
+            throw new IllegalStateException("슈 전체 카드 수보다 많이 뽑을 수 없습니다. (전체: " + cards.length + "장)");
+        }
+        if (n > size()) {
+            reshuffle();
+        }
+        for (int i = 0; i < n; i++) {
+            dest[i] = ICard.of(cards[top + i]);
+        }
+        top += n;
+    }
+
+    /**
+     * 남은 카드가 없는지 확인합니다.
+     *
+     * @return 남은 카드가 없으면 true
+     */
+    public boolean isEmpty() {
+        return top == cards.length;
+    }
+
+    /**
+     * 남은 카드 수를 반환합니다.
+     *
+     * @return 남은 카드 수 (0 - 52 × K)
+     */
+    public int size() {
+        return cards.length - top;
+    }
+
+    /**
+     * 덱 수를 반환합니다.
+     *
+     * @return 덱 수
+     */
+    public int getDeckCount() {
+        return cards.length / DECK_SIZE;
+    }
+
+    /**
+     * 지금까지 전체를 다시 섞은 횟수를 반환합니다 (생성 시의 첫 셔플 포함).
+     *
+     * @return 전체 셔플 횟수
+     */
+    public long getReshuffleCount() {
+        return reshuffles;
+    }
+
+    /**
+     * 나눈 카드를 모두 되돌립니다.
+     *
+     * 커서만 처음으로 되돌리며 카드 순서는 바뀌지 않으므로, 이어서 {@link #shuffle()}을 호출해야 합니다.
+     * 라운드마다 호출할 필요는 없습니다 - 라운드 사이에는 {@link #nextRound()}를 사용하세요.
+     */
+    public void reset() {
+        top = 0;
+    }
+
+    /**
+     * 남은 카드의 종류를 비트마스크 집합으로 반환합니다.
+     *
+     * @return {@link CardSet} 형식의 남은 카드 종류
+     */
+    public long getCardSet() {
+        long set = CardSet.EMPTY;
+        for (int i = top; i < cards.length; i++) {
+            set |= 1L << cards[i];
+        }
+        return set;
+    }
+
+    /**
+     * 주어진 카드들을 남은 카드에서 모두 (모든 벌에서) 제거합니다.
+     *
+     * 제거한 카드는 버린 카드 더미로 옮겨지므로 다음 전체 셔플 때 함께 돌아옵니다.
+     *
+     * @param cardSet 제거할 {@link CardSet} 카드 집합
+     */
+    public void removeAll(long cardSet) {
+        for (int i = top; i < cards.length; i++) {
+            if ((cardSet & (1L << cards[i])) != 0) {
+                byte temp = cards[i];
+                cards[i] = cards[top];
+                cards[top++] = temp;
+            }
+        }
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    /**
+     * 버린 카드까지 모두 모아 다시 섞고 재셔플 횟수를 셉니다.
+     */
+    private void collectAndShuffle() {
+        top = 0;
+        shuffleRemaining(random != null ? random : ThreadLocalRandom.current());
+        reshuffles++;
+    }
+
+    /**
+     * [top, 52 × K) 구간을 제자리에서 섞습니다 (Fisher-Yates).
+     */
+    private void shuffleRemaining(RandomGenerator random) {
+        for (int i = cards.length - 1; i > top; i--) {
+            int j = top + random.nextInt(i - top + 1);
+            byte temp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = temp;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package game.components.deck;
+
+import game.components.card.ICard;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+
+/**
+ * 미리 섞은 덱 풀 - 백그라운드 스레드가 섞어 둔 52장 순열을 딜러 스레드가 꺼내 쓰는 고정 크기 링 버퍼
+ *
+ * 셔플을 라운드마다 딜러 스레드에서 하지 않고, 생산 스레드들이 미리 섞어 링 버퍼에 채워 둡니다.
+ * 딜러 스레드는 준비된 순열 하나를 자기 덱에 복사만 하므로 카드 나누기와 평가에만 시간을 씁니다.
+ * 링 버퍼는 칸마다 시퀀스 번호를 두는 잠금 없는(lock-free) 방식(Vyukov bounded queue)이며,
+ * 순열은 카드 인덱스(0-51)를 byte 한 칸에 담아 미리 할당한 배열에 그대로 덮어쓰므로 할당이 없습니다.
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>백그라운드 셔플: 생산 스레드마다 전용 난수 생성기로 Fisher-Yates 셔플</li>
+ *   <li>잠금 없는 꺼내기: 여러 딜러 스레드가 동시에 {@link #poll(ICard[])} 가능 (CAS 한 번 + 52바이트 복사)</li>
+ *   <li>배압(back-pressure): 버퍼가 가득 차면 생산 스레드가 잠시 쉬었다가 다시 시도</li>
+ *   <li>대체 경로: 버퍼가 비어 있으면 false를 반환하고, 호출한 쪽이 직접 섞음 ({@link DeckRandom} 재현과는 무관)</li>
+ *   <li>지표: 버퍼 깊이, 생산/소비 수, 빈 버퍼(대체 셔플) 횟수, 생산 대기 횟수</li>
+ * </ul>
+ *
+ * <p>버퍼 구성:</p>
+ * <ul>
+ *   <li>칸 i: permutations[i × 52, (i + 1) × 52) 순열과 sequences[i] 시퀀스 번호</li>
+ *   <li>sequences[i] == pos: 생산 위치 pos가 쓸 수 있는 빈 칸</li>
+ *   <li>sequences[i] == pos + 1: 소비 위치 pos가 꺼낼 수 있는 채워진 칸</li>
+ * </ul>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * try (ShufflePool pool = new ShufflePool(1024, 2)) {   // 1024칸, 생산 스레드 2개
+ *     DealerRef dealer = new DealerRef(pool);           // 테이블 스레드마다 딜러 하나
+ *     dealer.simulate(players, 1_000_000);
+ *     System.out.println(pool.getMisses() + "번 직접 섞음");
+ * }
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class ShufflePool implements AutoCloseable {
+    /** 기본 버퍼 칸 수 */
+    public static final int DEFAULT_CAPACITY = 1024;
+    /** 최대 버퍼 칸 수 */
+    public static final int MAX_CAPACITY = 1 << 20;
+    /** 최대 생산 스레드 수 */
+    public static final int MAX_PRODUCERS = 64;
+    private static final int DECK_SIZE = 52;
+
+    // 생산/소비 위치는 서로 다른 캐시 라인에 둠 (long 8개 = 64바이트 간격)
+    private static final int PAD = 8;
+    private static final int TAIL = PAD;
+    private static final int HEAD = PAD * 3;
+    /** 버퍼가 가득 찼을 때 생산 스레드가 쉬는 최대 시간 */
+    private static final long MAX_BACKOFF_NANOS = 50_000;
+
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int mask;
+    private final byte[] permutations;
+    private final long[] sequences;
+    /** [TAIL]: 다음 생산 위치, [HEAD]: 다음 소비 위치 */
+    private final long[] cursors = new long[PAD * 4];
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder producerStalls = new LongAdder();
+    private final Thread[] producers;
+    private volatile boolean closed;
+
+    /**
+     * 기본 크기({@value #DEFAULT_CAPACITY}칸)와 생산 스레드 하나를 사용하는 ShufflePool 생성자
+     */
+    public ShufflePool() {
+        this(DEFAULT_CAPACITY, 1);
+    }
+
+    /**
+     * ShufflePool 생성자
+     *
+     * 생산 스레드는 데몬 스레드로 바로 시작하며, {@link #close()}로 멈춥니다.
+     *
+     * @param capacity 버퍼 칸 수 (2 이상 {@value #MAX_CAPACITY} 이하의 2의 거듭제곱)
+     * @param producerCount 생산 스레드 수 (1-{@value #MAX_PRODUCERS})
+     * @throws IllegalArgumentException 칸 수나 생산 스레드 수가 올바르지 않을 때
+     */
+    public ShufflePool(int capacity, int producerCount) {
+        if (capacity < 2 || capacity > MAX_CAPACITY || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("버퍼 칸 수는 2-" + MAX_CAPACITY + " 사이의 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        if (producerCount < 1 || producerCount > MAX_PRODUCERS) {
+            throw new IllegalArgumentException("생산 스레드 수는 1-" + MAX_PRODUCERS + "개여야 합니다: " + producerCount);
+        }
+        this.mask = capacity - 1;
+        this.permutations = new byte[capacity * DECK_SIZE];
+        this.sequences = new long[capacity];
+        for (int i = 0; i < capacity; i++) {
+            sequences[i] = i;
+        }
+        this.producers = new Thread[producerCount];
+        for (int i = 0; i < producerCount; i++) {
+            producers[i] = Thread.ofPlatform().name("shuffle-producer-" + i).daemon().start(this::produce);
+        }
+    }
+
+    /**
+     * 섞어 둔 순열 하나를 꺼내 카드 52장으로 채웁니다.
+     *
+     * 여러 스레드가 동시에 호출할 수 있으며 할당이 없습니다.
+     * 버퍼가 비어 있으면 기다리지 않고 false를 반환하므로, 호출한 쪽이 직접 섞어야 합니다.
+     *
+     * @param dest 카드를 채울 배열 (앞에서부터 52칸 사용)
+     * @return 꺼냈으면 true, 버퍼가 비어 있으면 false (dest는 그대로)
+     * @throws IllegalArgumentException 배열이 52칸보다 작을 때
+     */
+    public boolean poll(ICard[] dest) {
+        if (dest.length < DECK_SIZE) {
+            throw new IllegalArgumentException("카드 배열은 " + DECK_SIZE + "칸 이상이어야 합니다: " + dest.length);
+        }
+        long pos = (long) SLOT.getVolatile(cursors, HEAD);
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = (long) SLOT.getAcquire(sequences, index) - (pos + 1);
+            if (diff == 0) {
+                if (SLOT.compareAndSet(cursors, HEAD, pos, pos + 1)) {
+                    int offset = index * DECK_SIZE;
+                    for (int i = 0; i < DECK_SIZE; i++) {
+                        dest[i] = ICard.of(permutations[offset + i]);
+                    }
+                    // 한 바퀴 뒤의 생산 위치에 칸을 돌려줌
+                    SLOT.setRelease(sequences, index, pos + mask + 1);
+                    return true;
+                }
+                pos = (long) SLOT.getVolatile(cursors, HEAD);
+            } else if (diff < 0) {
+                misses.increment();
+                return false;
+            } else {
+                pos = (long) SLOT.getVolatile(cursors, HEAD); // 다른 소비자가 먼저 가져감
+            }
+        }
+    }
+
+    /**
+     * 지금 꺼낼 수 있는 순열 수를 반환합니다.
+     *
+     * 생산/소비가 진행 중이면 근삿값입니다.
+     *
+     * @return 버퍼 깊이 (0 - 칸 수)
+     */
+    public int depth() {
+        long depth = getProduced() - getConsumed();
+        return (int) Math.max(0, Math.min(depth, mask + 1));
+    }
+
+    /**
+     * 버퍼 칸 수를 반환합니다.
+     *
+     * @return 칸 수
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * 지금까지 버퍼에 넣은 순열 수를 반환합니다.
+     *
+     * @return 생산 수
+     */
+    public long getProduced() {
+        return (long) SLOT.getVolatile(cursors, TAIL);
+    }
+
+    /**
+     * 지금까지 꺼내 간 순열 수를 반환합니다.
+     *
+     * @return 소비 수
+     */
+    public long getConsumed() {
+        return (long) SLOT.getVolatile(cursors, HEAD);
+    }
+
+    /**
+     * 버퍼가 비어 있어 {@link #poll(ICard[])}이 false를 반환한 횟수를 반환합니다.
+     *
+     * 딜러가 직접 섞은 횟수와 같습니다. 이 값이 계속 늘면 생산 스레드를 늘리세요.
+     *
+     * @return 빈 버퍼 횟수
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * 버퍼가 가득 차 생산 스레드가 쉬어야 했던 횟수를 반환합니다.
+     *
+     * @return 생산 대기 횟수 (가득 찰 때마다 한 번)
+     */
+    public long getProducerStalls() {
+        return producerStalls.sum();
+    }
+
+    /**
+     * 생산 스레드 수를 반환합니다.
+     *
+     * @return 생산 스레드 수
+     */
+    public int getProducerCount() {
+        return producers.length;
+    }
+
+    /**
+     * 생산 스레드를 멈추고 끝날 때까지 기다립니다.
+     *
+     * 버퍼에 남은 순열은 계속 꺼낼 수 있으며, 다 쓰면 {@link #poll(ICard[])}은 false를 반환합니다.
+     * 여러 번 호출해도 안전합니다.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        boolean interrupted = false;
+        for (Thread producer : producers) {
+            LockSupport.unpark(producer);
+            while (true) {
+                try {
+                    producer.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    /**
+     * 생산 스레드 본체 - 같은 순열을 계속 다시 섞어 버퍼에 넣습니다.
+     *
+     * 균등한 Fisher-Yates 셔플은 어떤 순서에서 시작해도 균등한 순열을 만들므로 매번 52장을 되돌릴 필요가 없습니다.
+     */
+    private void produce() {
+        RandomGenerator random = DeckRandom.create();
+        byte[] order = new byte[DECK_SIZE];
+        for (int i = 0; i < DECK_SIZE; i++) {
+            order[i] = (byte) i;
+        }
+        while (!closed) {
+            for (int i = DECK_SIZE - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                byte temp = order[i];
+                order[i] = order[j];
+                order[j] = temp;
+            }
+            if (!offer(order)) {
+                producerStalls.increment();
+                long backoff = 1_000;
+                do {
+                    LockSupport.parkNanos(this, backoff);
+                    backoff = Math.min(backoff * 2, MAX_BACKOFF_NANOS);
+                } while (!closed && !offer(order));
+            }
+        }
+    }
+
+    /**
+     * 순열 하나를 빈 칸에 넣습니다.
+     *
+     * @return 넣었으면 true, 버퍼가 가득 차 있으면 false
+     */
+    private boolean offer(byte[] order) {
+        long pos = (long) SLOT.getVolatile(cursors, TAIL);
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = (long) SLOT.getAcquire(sequences, index) - pos;
+            if (diff == 0) {
+                if (SLOT.compareAndSet(cursors, TAIL, pos, pos + 1)) {
+                    System.arraycopy(order, 0, permutations, index * DECK_SIZE, DECK_SIZE);
+                    SLOT.setRelease(sequences, index, pos + 1);
+                    return true;
+                }
+                pos = (long) SLOT.getVolatile(cursors, TAIL);
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = (long) SLOT.getVolatile(cursors, TAIL); // 다른 생산자가 먼저 차지함
+            }
+        }
+    }
+}
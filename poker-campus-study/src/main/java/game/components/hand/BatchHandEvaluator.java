@@ -0,0 +1,166 @@
+package game.components.hand;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * 여러 핸드를 한 번에 평가하는 일괄 평가기
+ *
+ * 핸드마다 {@link IHand#evaluate()}를 부르는 대신, 카드 위치별로 나눈 배열(struct-of-arrays)에 담긴
+ * 핸드 N개를 한 번에 평가해 {@link HandStrength} 강도 값을 int 배열에 씁니다.
+ * 벡터 API({@code jdk.incubator.vector})가 있으면 여러 핸드를 레인별로 동시에 평가하고,
+ * 없으면 같은 결과를 내는 스칼라 경로로 평가합니다. 두 경로의 결과는 비트 단위로 같습니다.
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>입력 형식: {@code cards[j][i]} = i번째 핸드의 j번째 카드 인덱스 (0-51, j = 0-4)</li>
+ *   <li>벡터 경로: 카드 비트 모아 읽기, 플러시/랭크 마스크와 페어 해시를 레인별로 계산</li>
+ *   <li>스칼라 경로: 핸드마다 {@link HandEvaluator#strength(int, int, int, int, int)} - 벡터 모듈이 없거나
+ *       {@code -Dpoker.batch.scalar=true}일 때</li>
+ *   <li>여러 벌 덱({@link game.components.deck.Shoe})의 중복 카드도 {@link HandEvaluator}와 같게 평가</li>
+ *   <li>할당 없음: 결과 배열을 중간 계산에도 재사용</li>
+ * </ul>
+ *
+ * <p>실행: 벡터 경로는 별도 소스 세트({@code src/vector/java})에 있으며, 그 클래스가 클래스패스에 있고
+ * JVM에 {@code --add-modules jdk.incubator.vector}가 있을 때만 사용합니다 (Gradle의 jmh, vectorTest 태스크).
+ * 그 밖의 실행(runMain 등)은 인큐베이터 경고 없이 스칼라 경로로 동작합니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * int[][] cards = new int[5][n];       // cards[j][i]: i번째 핸드의 j번째 카드
+ * int[] strengths = new int[n];
+ * BatchHandEvaluator.strengths(cards, n, strengths);
+ * HandRank rank = HandStrength.rankOf(strengths[0]);
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.1
+ * @since 2026-10-17
+ */
+public final class BatchHandEvaluator {
+    /** 핸드 하나의 카드 수 */
+    public static final int CARDS_PER_HAND = 5;
+    /** 이 속성이 true면 벡터 모듈이 있어도 스칼라 경로만 사용 */
+    public static final String SCALAR_PROPERTY = "poker.batch.scalar";
+
+    private static final String VECTOR_CLASS = "game.components.hand.VectorHandEvaluator";
+
+    /** 벡터 경로의 strengths 메서드 (쓸 수 없으면 null) */
+    private static final MethodHandle VECTOR = vectorStrengths();
+    private static final boolean VECTORIZED = VECTOR != null;
+
+    private BatchHandEvaluator() {
+    }
+
+    /**
+     * 핸드 count개의 강도를 평가합니다.
+     *
+     * 벡터 경로를 쓸 수 있으면 벡터로, 아니면 스칼라로 평가합니다.
+     *
+     * @param cards 카드 위치별 인덱스 배열 5개 (각각 길이 count 이상)
+     * @param count 평가할 핸드 수
+     * @param out 강도를 쓸 배열 (앞에서부터 count칸 사용)
+     * @throws IllegalArgumentException 배열 수나 길이, count가 올바르지 않을 때
+     * @throws IndexOutOfBoundsException 카드 인덱스가 0-51을 벗어날 때 (벡터 경로와 스칼라 경로 모두)
+     */
+    public static void strengths(int[][] cards, int count, int[] out) {
+        validate(cards, count, out);
+        if (VECTORIZED) {
+            vector(cards, count, out);
+        } else {
+            scalar(cards, count, out);
+        }
+    }
+
+    /**
+     * 스칼라 경로로만 핸드 count개의 강도를 평가합니다.
+     *
+     * 벡터 경로와 결과가 같으며, 비교와 벤치마크에 사용합니다.
+     *
+     * @param cards 카드 위치별 인덱스 배열 5개 (각각 길이 count 이상)
+     * @param count 평가할 핸드 수
+     * @param out 강도를 쓸 배열 (앞에서부터 count칸 사용)
+     * @throws IllegalArgumentException 배열 수나 길이, count가 올바르지 않을 때
+     * @throws IndexOutOfBoundsException 카드 인덱스가 0-51을 벗어날 때 (벡터 경로와 스칼라 경로 모두)
+     */
+    public static void scalarStrengths(int[][] cards, int count, int[] out) {
+        validate(cards, count, out);
+        scalar(cards, count, out);
+    }
+
+    /**
+     * {@link #strengths(int[][], int, int[])}가 벡터 경로를 사용하는지 확인합니다.
+     *
+     * @return 벡터 모듈이 있고, 플랫폼 벡터가 충분히 넓고, 스칼라 강제 속성이 없으면 true
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    private static void vector(int[][] cards, int count, int[] out) {
+        try {
+            VECTOR.invokeExact(cards, count, out);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("벡터 평가에 실패했습니다.", e);
+        }
+    }
+
+    private static void scalar(int[][] cards, int count, int[] out) {
+        int[] c0 = cards[0];
+        int[] c1 = cards[1];
+        int[] c2 = cards[2];
+        int[] c3 = cards[3];
+        int[] c4 = cards[4];
+        for (int i = 0; i < count; i++) {
+            out[i] = HandEvaluator.strength(c0[i], c1[i], c2[i], c3[i], c4[i]);
+        }
+    }
+
+    private static void validate(int[][] cards, int count, int[] out) {
+        if (cards.length != CARDS_PER_HAND) {
+            throw new IllegalArgumentException("카드 배열은 " + CARDS_PER_HAND + "개여야 합니다: " + cards.length);
+        }
+        if (count < 0 || count > out.length) {
+            throw new IllegalArgumentException("핸드 수가 올바르지 않습니다: " + count);
+        }
+        for (int[] position : cards) {
+            if (position.length < count) {
+                throw new IllegalArgumentException("카드 배열의 길이가 핸드 수보다 짧습니다: " + position.length);
+            }
+        }
+    }
+
+    /**
+     * 벡터 경로를 찾습니다.
+     *
+     * 벡터 모듈이 실행 중인 JVM에 있고 벡터 소스 세트의 클래스가 클래스패스에 있을 때만 이름으로 불러오므로,
+     * 둘 중 하나라도 없으면 클래스를 찾지 못하는 오류 없이 스칼라 경로를 씁니다.
+     *
+     * @return 벡터 평가 메서드 핸들, 쓸 수 없으면 null
+     */
+    private static MethodHandle vectorStrengths() {
+        if (Boolean.getBoolean(SCALAR_PROPERTY)
+            || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            Class<?> type = Class.forName(VECTOR_CLASS, true, BatchHandEvaluator.class.getClassLoader());
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle supported = lookup.findStatic(type, "isSupported", MethodType.methodType(boolean.class));
+            if (!(boolean) supported.invokeExact()) {
+                return null;
+            }
+            return lookup.findStatic(type, "strengths",
+                MethodType.methodType(void.class, int[][].class, int.class, int[].class));
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (Throwable e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package game.components.hand;
+
+import game.components.card.CardSet;
+import game.components.card.ICard;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 완전 열거 승률 계산기 - 일부 카드만 알려진 핸드들의 정확한 승/무/패 확률
+ *
+ * 플레이어마다 이미 아는 카드(0-5장)가 주어지면, 남은 덱에서 각자 5장이 되도록 채우는
+ * 모든 경우를 빠짐없이 열거하고 {@link HandEvaluator}로 평가하여 정확한 확률을 구합니다.
+ * 몬테카를로 표본이 아니라 전체 경우를 세므로 결과에 통계 오차가 없습니다.
+ *
+ * <p>열거 방식:</p>
+ * <ul>
+ *   <li>플레이어마다 "남은 카드 중 k장" 조합을 위치 비트마스크로 표현하고 colex 순서로 순회 (Gosper 방식)</li>
+ *   <li>가장 경우의 수가 많은 플레이어를 바깥 차원으로 삼고, 그 조합 번호 범위를 fork/join으로 반씩 나눔</li>
+ *   <li>작업 범위의 첫 조합은 colex 순위에서 바로 복원 (조합 수 계산표 사용)</li>
+ *   <li>나머지 플레이어는 작업 안에서 중첩 순회, 경우마다 모든 핸드를 평가해 승/무/패 집계</li>
+ * </ul>
+ *
+ * <p>시간 예산을 넘기면 열거를 멈추고 그때까지의 결과를 반환합니다
+ * ({@link EquityResult#isComplete()}가 false). 경우의 수는 모르는 카드가 많을수록 급격히 늘어납니다.
+ * 예를 들어 3장 + 2장이 알려진 2인 대결은 C(47,2) × C(45,3) = 15,339,390가지입니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * EquityCalculator calculator = new EquityCalculator();
+ * EquityResult result = calculator.calculate(List.of(
+ *     List.of(aceOfSpades, aceOfHearts, kingOfClubs),   // 플레이어 A: 3장 공개
+ *     List.of(twoOfDiamonds, twoOfClubs)));              // 플레이어 B: 2장 공개
+ * System.out.println(result.getWinFraction(0));
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class EquityCalculator {
+    /** 플레이어 한 명의 최종 카드 수 */
+    public static final int HAND_SIZE = 5;
+    /** 기본 시간 예산 */
+    public static final Duration DEFAULT_BUDGET = Duration.ofMinutes(1);
+
+    private static final int DECK_SIZE = 52;
+    /** 작업을 풀 스레드 수의 몇 배로 나눌지 (작업량 불균형 완화) */
+    private static final int TASKS_PER_THREAD = 16;
+    /** C(n, k) 계산표 (n ≤ 52, k ≤ 5) */
+    private static final long[][] BINOMIAL = new long[DECK_SIZE + 1][HAND_SIZE + 1];
+
+    static {
+        for (int n = 0; n <= DECK_SIZE; n++) {
+            BINOMIAL[n][0] = 1;
+            for (int k = 1; k <= Math.min(n, HAND_SIZE); k++) {
+                BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + BINOMIAL[n - 1][k];
+            }
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final Duration budget;
+
+    /**
+     * 공용 ForkJoinPool과 기본 시간 예산을 사용하는 EquityCalculator 생성자
+     */
+    public EquityCalculator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BUDGET);
+    }
+
+    /**
+     * 실행 풀과 시간 예산을 지정하는 EquityCalculator 생성자
+     *
+     * @param pool 열거를 실행할 풀
+     * @param budget 계산 시간 예산 (넘기면 부분 결과 반환)
+     * @throws IllegalArgumentException pool이 null이거나 예산이 양수가 아닐 때
+     */
+    public EquityCalculator(ForkJoinPool pool, Duration budget) {
+        if (pool == null) {
+            throw new IllegalArgumentException("ForkJoinPool은 null일 수 없습니다.");
+        }
+        if (budget == null || budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("시간 예산은 양수여야 합니다.");
+        }
+        this.pool = pool;
+        this.budget = budget;
+    }
+
+    /**
+     * 플레이어별로 알려진 카드로부터 정확한 승/무/패 확률을 계산합니다.
+     *
+     * @param holdings 플레이어별 알려진 카드 목록 (각 0-5장, 입력 순서가 결과의 플레이어 순번)
+     * @return 플레이어별 승/무/패 집계
+     * @throws IllegalArgumentException 플레이어가 없거나, 카드가 5장을 넘거나, 중복되거나,
+     *                                  남은 카드로 모든 핸드를 채울 수 없을 때
+     */
+    public EquityResult calculate(List<? extends List<? extends ICard>> holdings) {
+        long start = System.nanoTime();
+        Problem problem = Problem.of(holdings, pool.getParallelism(), start + budget.toNanos());
+
+        Tally tally = pool.invoke(new EnumerationTask(problem, 0, problem.outerCount));
+
+        // 바깥 차원 순서로 정렬했던 집계를 입력 순서로 되돌림
+        int players = problem.order.length;
+        long[] wins = new long[players];
+        long[] ties = new long[players];
+        for (int level = 0; level < players; level++) {
+            wins[problem.order[level]] = tally.wins[level];
+            ties[problem.order[level]] = tally.ties[level];
+        }
+        return new EquityResult(wins, ties, tally.completions, problem.totalCompletions,
+            Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    /**
+     * 비트 0..n-1 중 k개가 켜진 위치 마스크 가운데 colex 순위 rank인 것을 복원합니다.
+     */
+    static long unrankColex(long rank, int k) {
+        long mask = 0;
+        for (int i = k; i >= 1; i--) {
+            int c = i - 1;
+            while (BINOMIAL[c + 1][i] <= rank) {
+                c++;
+            }
+            mask |= 1L << c;
+            rank -= BINOMIAL[c][i];
+        }
+        return mask;
+    }
+
+    /**
+     * 같은 비트 수를 가진 다음 마스크를 구합니다 (colex 순서의 다음 조합, Gosper 방식).
+     */
+    static long nextColex(long mask) {
+        long lowest = mask & -mask;
+        long ripple = mask + lowest;
+        return (((ripple ^ mask) >>> 2) / lowest) | ripple;
+    }
+
+    /**
+     * 위치 마스크를 실제 카드 집합으로 바꿉니다.
+     */
+    private static long toCards(long positions, int[] available) {
+        long cards = CardSet.EMPTY;
+        for (long rest = positions; rest != 0; rest &= rest - 1) {
+            cards |= 1L << available[Long.numberOfTrailingZeros(rest)];
+        }
+        return cards;
+    }
+
+    /**
+     * 집합에 없는 카드들을 인덱스 오름차순으로 채우고 개수를 반환합니다.
+     */
+    private static int fillAvailable(long used, int[] available) {
+        int n = 0;
+        for (long rest = ~used & CardSet.FULL_DECK; rest != 0; rest &= rest - 1) {
+            available[n++] = Long.numberOfTrailingZeros(rest);
+        }
+        return n;
+    }
+
+    /**
+     * 입력을 검증하고 열거에 필요한 값을 계산해 둔 문제 정의
+     *
+     * 플레이어는 필요한 조합 수가 많은 순서(level)로 다시 배열합니다.
+     */
+    private static final class Problem {
+        final long[] known;      // level별 알려진 카드 집합
+        final int[] missing;     // level별 채워야 할 카드 수
+        final int[] order;       // level → 입력 순번
+        final long dead;         // 모든 알려진 카드
+        final long outerCount;   // 바깥 차원 조합 수
+        final long totalCompletions;
+        final long grain;        // 작업을 더 나누지 않는 범위 크기
+        final long deadline;
+        volatile boolean expired;
+
+        private Problem(long[] known, int[] missing, int[] order, long dead, long outerCount,
+                        long totalCompletions, long grain, long deadline) {
+            this.known = known;
+            this.missing = missing;
+            this.order = order;
+            this.dead = dead;
+            this.outerCount = outerCount;
+            this.totalCompletions = totalCompletions;
+            this.grain = grain;
+            this.deadline = deadline;
+        }
+
+        static Problem of(List<? extends List<? extends ICard>> holdings, int parallelism, long deadline) {
+            if (holdings == null || holdings.isEmpty()) {
+                throw new IllegalArgumentException("플레이어가 없습니다.");
+            }
+            int players = holdings.size();
+            long[] knownByPlayer = new long[players];
+            long dead = CardSet.EMPTY;
+            int totalMissing = 0;
+            for (int p = 0; p < players; p++) {
+                List<? extends ICard> cards = holdings.get(p);
+                if (cards == null || cards.size() > HAND_SIZE) {
+                    throw new IllegalArgumentException("플레이어마다 알려진 카드는 0-" + HAND_SIZE + "장이어야 합니다.");
+                }
+                for (ICard card : cards) {
+                    if (card == null) {
+                        throw new IllegalArgumentException("카드는 null일 수 없습니다.");
+                    }
+                    if (CardSet.contains(dead, card)) {
+                        throw new IllegalArgumentException("같은 카드가 두 번 들어 있습니다: " + card);
+                    }
+                    dead = CardSet.add(dead, card);
+                    knownByPlayer[p] = CardSet.add(knownByPlayer[p], card);
+                }
+                totalMissing += HAND_SIZE - cards.size();
+            }
+            int remaining = DECK_SIZE - CardSet.size(dead);
+            if (totalMissing > remaining) {
+                throw new IllegalArgumentException("남은 카드가 부족합니다. (필요: " + totalMissing + "장, 남은 카드: " + remaining + "장)");
+            }
+
+            // 채울 카드가 많은 플레이어부터 (바깥 차원이 가장 커지도록)
+            Integer[] byMissing = new Integer[players];
+            for (int p = 0; p < players; p++) {
+                byMissing[p] = p;
+            }
+            Arrays.sort(byMissing, (a, b) -> Integer.compare(
+                holdings.get(a).size(), holdings.get(b).size()));
+
+            long[] known = new long[players];
+            int[] missing = new int[players];
+            int[] order = new int[players];
+            long total = 1;
+            int left = remaining;
+            for (int level = 0; level < players; level++) {
+                int p = byMissing[level];
+                order[level] = p;
+                known[level] = knownByPlayer[p];
+                missing[level] = HAND_SIZE - CardSet.size(knownByPlayer[p]);
+                long combos = BINOMIAL[left][missing[level]];
+                total = total > Long.MAX_VALUE / combos ? Long.MAX_VALUE : total * combos;
+                left -= missing[level];
+            }
+            long outerCount = BINOMIAL[remaining][missing[0]];
+            long grain = Math.max(1, outerCount / ((long) parallelism * TASKS_PER_THREAD));
+            return new Problem(known, missing, order, dead, outerCount, total, grain, deadline);
+        }
+    }
+
+    /**
+     * 작업 하나의 집계 (level 순서)
+     */
+    private static final class Tally {
+        final long[] wins;
+        final long[] ties;
+        long completions;
+
+        Tally(int players) {
+            this.wins = new long[players];
+            this.ties = new long[players];
+        }
+
+        void merge(Tally other) {
+            for (int i = 0; i < wins.length; i++) {
+                wins[i] += other.wins[i];
+                ties[i] += other.ties[i];
+            }
+            completions += other.completions;
+        }
+    }
+
+    /**
+     * 바깥 차원 조합 순위 범위 [from, to)를 열거하는 작업
+     */
+    private static final class EnumerationTask extends RecursiveTask<Tally> {
+        private final Problem problem;
+        private final long from;
+        private final long to;
+
+        // 작업마다 따로 쓰는 버퍼
+        private int[][] available;
+        private long[] assigned;
+        private int[] strengths;
+        private Tally tally;
+
+        EnumerationTask(Problem problem, long from, long to) {
+            this.problem = problem;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from > problem.grain) {
+                long mid = (from + to) >>> 1;
+                EnumerationTask left = new EnumerationTask(problem, from, mid);
+                left.fork();
+                Tally result = new EnumerationTask(problem, mid, to).compute();
+                result.merge(left.join());
+                return result;
+            }
+            return enumerate();
+        }
+
+        private Tally enumerate() {
+            int players = problem.order.length;
+            available = new int[players][DECK_SIZE];
+            assigned = new long[players];
+            strengths = new int[players];
+            tally = new Tally(players);
+            if (problem.expired) {
+                return tally;
+            }
+
+            fillAvailable(problem.dead, available[0]);
+            long positions = unrankColex(from, problem.missing[0]);
+            for (long rank = from; rank < to; rank++) {
+                if (System.nanoTime() - problem.deadline > 0) {
+                    problem.expired = true;
+                }
+                if (problem.expired) {
+                    break;
+                }
+                long cards = toCards(positions, available[0]);
+                assigned[0] = cards;
+                enumerateLevel(1, problem.dead | cards);
+                positions = problem.missing[0] == 0 ? 0 : nextColex(positions);
+            }
+            return tally;
+        }
+
+        /**
+         * level번째 플레이어의 모든 조합을 순회하고, 마지막 level 다음에는 승부를 집계합니다.
+         */
+        private void enumerateLevel(int level, long used) {
+            if (level == assigned.length) {
+                settle();
+                return;
+            }
+            int k = problem.missing[level];
+            if (k == 0) {
+                assigned[level] = CardSet.EMPTY;
+                enumerateLevel(level + 1, used);
+                return;
+            }
+            int[] cards = available[level];
+            int n = fillAvailable(used, cards);
+            long end = 1L << n;
+            for (long positions = (1L << k) - 1; positions < end; positions = nextColex(positions)) {
+                long set = toCards(positions, cards);
+                assigned[level] = set;
+                enumerateLevel(level + 1, used | set);
+            }
+        }
+
+        private void settle() {
+            int best = Integer.MIN_VALUE;
+            int bestCount = 0;
+            for (int level = 0; level < strengths.length; level++) {
+                int strength = HandEvaluator.strength(problem.known[level] | assigned[level]);
+                strengths[level] = strength;
+                if (strength > best) {
+                    best = strength;
+                    bestCount = 1;
+                } else if (strength == best) {
+                    bestCount++;
+                }
+            }
+            for (int level = 0; level < strengths.length; level++) {
+                if (strengths[level] == best) {
+                    if (bestCount == 1) {
+                        tally.wins[level]++;
+                    } else {
+                        tally.ties[level]++;
+                    }
+                }
+            }
+            tally.completions++;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package game.components.hand;
+
+import java.time.Duration;
+
+/**
+ * 승률 계산 결과 - 플레이어별 승/무/패 횟수와 비율
+ *
+ * {@link EquityCalculator}가 열거한 모든 남은 카드 조합(완성 경우) 중
+ * 각 플레이어가 단독으로 이긴 경우, 공동 1위로 비긴 경우, 진 경우의 수를 담습니다.
+ * 시간 예산 안에 모든 경우를 열거하지 못하면 {@link #isComplete()}가 false이며,
+ * 비율은 열거한 경우만을 기준으로 합니다.
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * EquityResult result = calculator.calculate(holdings);
+ * double win = result.getWinFraction(0);   // 첫 번째 플레이어의 승률
+ * double tie = result.getTieFraction(0);   // 무승부 비율
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class EquityResult {
+    private final long[] wins;
+    private final long[] ties;
+    private final long completions;
+    private final long totalCompletions;
+    private final Duration elapsed;
+
+    EquityResult(long[] wins, long[] ties, long completions, long totalCompletions, Duration elapsed) {
+        this.wins = wins;
+        this.ties = ties;
+        this.completions = completions;
+        this.totalCompletions = totalCompletions;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * 플레이어 수를 반환합니다.
+     *
+     * @return 플레이어 수
+     */
+    public int getPlayerCount() {
+        return wins.length;
+    }
+
+    /**
+     * 플레이어가 단독으로 이긴 경우의 수를 반환합니다.
+     *
+     * @param player 플레이어 순번 (입력 순서)
+     * @return 승리 경우의 수
+     */
+    public long getWins(int player) {
+        return wins[player];
+    }
+
+    /**
+     * 플레이어가 공동 1위로 비긴 경우의 수를 반환합니다.
+     *
+     * @param player 플레이어 순번 (입력 순서)
+     * @return 무승부 경우의 수
+     */
+    public long getTies(int player) {
+        return ties[player];
+    }
+
+    /**
+     * 플레이어가 진 경우의 수를 반환합니다.
+     *
+     * @param player 플레이어 순번 (입력 순서)
+     * @return 패배 경우의 수
+     */
+    public long getLosses(int player) {
+        return completions - wins[player] - ties[player];
+    }
+
+    /**
+     * 승률을 반환합니다.
+     *
+     * @param player 플레이어 순번 (입력 순서)
+     * @return 열거한 경우 중 단독 승리 비율 (0.0-1.0)
+     */
+    public double getWinFraction(int player) {
+        return fraction(wins[player]);
+    }
+
+    /**
+     * 무승부 비율을 반환합니다.
+     *
+     * @param player 플레이어 순번 (입력 순서)
+     * @return 열거한 경우 중 공동 1위 비율 (0.0-1.0)
+     */
+    public double getTieFraction(int player) {
+        return fraction(ties[player]);
+    }
+
+    /**
+     * 패배 비율을 반환합니다.
+     *
+     * @param player 플레이어 순번 (입력 순서)
+     * @return 열거한 경우 중 패배 비율 (0.0-1.0)
+     */
+    public double getLossFraction(int player) {
+        return fraction(getLosses(player));
+    }
+
+    /**
+     * 실제로 열거한 완성 경우의 수를 반환합니다.
+     *
+     * @return 열거한 경우의 수
+     */
+    public long getCompletions() {
+        return completions;
+    }
+
+    /**
+     * 전체 완성 경우의 수를 반환합니다.
+     *
+     * @return 전체 경우의 수 (long 범위를 넘으면 {@link Long#MAX_VALUE})
+     */
+    public long getTotalCompletions() {
+        return totalCompletions;
+    }
+
+    /**
+     * 모든 경우를 열거했는지 확인합니다.
+     *
+     * @return 시간 예산 안에 모두 열거했으면 true (정확한 값)
+     */
+    public boolean isComplete() {
+        return completions == totalCompletions;
+    }
+
+    /**
+     * 계산에 걸린 시간을 반환합니다.
+     *
+     * @return 경과 시간
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    private double fraction(long count) {
+        return completions == 0 ? 0.0 : (double) count / completions;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < wins.length; i++) {
+            sb.append(String.format("플레이어 %d: 승 %.4f%% 무 %.4f%% 패 %.4f%%%n",
+                i, getWinFraction(i) * 100, getTieFraction(i) * 100, getLossFraction(i) * 100));
+        }
+        sb.append(String.format("열거: %,d / %,d (%s, %dms)",
+            completions, totalCompletions, isComplete() ? "완료" : "시간 초과", elapsed.toMillis()));
+        return sb.toString();
+    }
+}
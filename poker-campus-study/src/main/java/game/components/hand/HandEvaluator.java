@@ -0,0 +1,329 @@
+package game.components.hand;
+
+import game.components.card.CardSet;
+import game.components.card.ICard;
+
+import java.util.Arrays;
+
+/**
+ * 룩업 테이블 기반 5장 족보 평가기
+ *
+ * 5장의 카드를 몇 번의 배열 읽기만으로 {@link HandStrength} 강도 값으로 평가합니다.
+ * 강도 값에는 족보와 모든 키커가 들어 있으므로 정수 비교만으로 승부를 가릴 수 있습니다.
+ * 평가 중에는 객체를 할당하지 않으며, 카드를 한 번만 순회합니다.
+ *
+ * <p>평가 방식:</p>
+ * <ul>
+ *   <li>카드마다 랭크 비트, 무늬 비트, 랭크 소수를 하나의 int로 미리 계산해 둡니다</li>
+ *   <li>플러시: 다섯 장의 무늬 비트 AND가 0이 아니면 랭크 비트마스크로 플러시 테이블 조회</li>
+ *   <li>서로 다른 랭크 5장: 랭크 비트마스크로 스트레이트/하이카드 테이블 조회</li>
+ *   <li>그 외(페어 포함): 랭크 소수의 곱을 완전 해시하여 테이블 조회</li>
+ *   <li>여러 벌 덱({@link game.components.deck.Shoe})의 같은 카드 중복: 랭크가 겹치는 플러시와
+ *       같은 랭크 5장은 드물게 타는 별도 경로에서 평가</li>
+ * </ul>
+ *
+ * <p>카드 인덱스는 무늬 우선 순서입니다: {@code suit.ordinal() * 13 + rank.ordinal()} (0-51)</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * int strength = HandEvaluator.strength(c0, c1, c2, c3, c4);  // 카드 인덱스 5개
+ * HandRank rank = HandEvaluator.evaluate(c0, c1, c2, c3, c4);  // 족보만 필요할 때
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.2
+ * @since 2026-10-17
+ */
+public final class HandEvaluator {
+    private static final int RANK_COUNT = 13;
+    private static final int SUIT_COUNT = 4;
+    private static final int CARD_COUNT = 52;
+    private static final int[] PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41};
+    private static final int ROYAL_MASK = 0x1F00;
+    private static final int WHEEL_MASK = 0x100F;
+    private static final int WHEEL_TOP = 3; // 백스트레이트의 최고 카드는 5
+
+    // 아래 상수와 표는 같은 패키지의 VectorHandEvaluator도 레인별로 조회합니다
+    static final int PRIME_MASK = 0xFF;
+    static final int SUIT_SHIFT = 8;
+    static final int RANK_BIT_SHIFT = 16;
+
+    /** 카드 인덱스별 [랭크 비트(16-28) | 무늬 비트(8-11) | 랭크 소수(0-7)] */
+    static final int[] CARD_BITS = new int[CARD_COUNT];
+    /** 같은 무늬 5장의 랭크 비트마스크 → 강도 */
+    static final int[] FLUSHES = new int[1 << RANK_COUNT];
+    /** 서로 다른 랭크 5장의 랭크 비트마스크 → 강도 */
+    static final int[] UNIQUE5 = new int[1 << RANK_COUNT];
+    /** 페어가 있는 랭크 조합(소수 곱)의 완전 해시 */
+    static final PerfectHash PAIRED_HASH;
+    /** 완전 해시 슬롯 → 강도 */
+    static final int[] PAIRED;
+    /** 랭크가 겹치는 플러시의 족보 부분 (여러 벌 덱 전용) */
+    private static final int FLUSH_BASE = HandStrength.of(HandRank.FLUSH);
+    /** 같은 랭크 5장 → 그 랭크 포카드의 최고 강도 (여러 벌 덱 전용) */
+    private static final int[] FIVE_OF_A_KIND = new int[RANK_COUNT];
+
+    static {
+        for (int rank = 0; rank < RANK_COUNT; rank++) {
+            FIVE_OF_A_KIND[rank] = HandStrength.of(HandRank.FOUR_OF_A_KIND, rank, rank);
+        }
+        for (int suit = 0; suit < SUIT_COUNT; suit++) {
+            for (int rank = 0; rank < RANK_COUNT; rank++) {
+                CARD_BITS[suit * RANK_COUNT + rank] =
+                    (1 << (rank + RANK_BIT_SHIFT)) | (1 << (suit + SUIT_SHIFT)) | PRIMES[rank];
+            }
+        }
+
+        for (int mask = 0; mask < (1 << RANK_COUNT); mask++) {
+            if (Integer.bitCount(mask) != 5) {
+                continue;
+            }
+            int[] ranks = descendingRanks(mask);
+            if (isStraightMask(mask)) {
+                int top = mask == WHEEL_MASK ? WHEEL_TOP : ranks[0];
+                HandRank flush = mask == ROYAL_MASK ? HandRank.ROYAL_FLUSH : HandRank.STRAIGHT_FLUSH;
+                FLUSHES[mask] = HandStrength.of(flush, top);
+                UNIQUE5[mask] = HandStrength.of(HandRank.STRAIGHT, top);
+            } else {
+                FLUSHES[mask] = HandStrength.of(HandRank.FLUSH, ranks);
+                UNIQUE5[mask] = HandStrength.of(HandRank.HIGH_CARD, ranks);
+            }
+        }
+
+        // 페어가 하나 이상 있는 랭크 조합 4,888가지
+        int[] keys = new int[4888];
+        int[] strengths = new int[keys.length];
+        int count = 0;
+        int[] counts = new int[RANK_COUNT];
+        for (int a = 0; a < RANK_COUNT; a++) {
+            for (int b = a; b < RANK_COUNT; b++) {
+                for (int c = b; c < RANK_COUNT; c++) {
+                    for (int d = c; d < RANK_COUNT; d++) {
+                        for (int e = d; e < RANK_COUNT; e++) {
+                            if (a == e) {
+                                continue; // 같은 랭크 5장은 존재하지 않음
+                            }
+                            Arrays.fill(counts, 0);
+                            counts[a]++;
+                            counts[b]++;
+                            counts[c]++;
+                            counts[d]++;
+                            counts[e]++;
+                            HandRank rank = classifyPaired(counts);
+                            if (rank == null) {
+                                continue; // 서로 다른 랭크 5장은 UNIQUE5가 담당
+                            }
+                            keys[count] = PRIMES[a] * PRIMES[b] * PRIMES[c] * PRIMES[d] * PRIMES[e];
+                            strengths[count] = HandStrength.of(rank, groupedRanks(counts));
+                            count++;
+                        }
+                    }
+                }
+            }
+        }
+
+        PAIRED_HASH = PerfectHash.build(keys, 13, 11);
+        PAIRED = new int[PAIRED_HASH.size()];
+        for (int i = 0; i < count; i++) {
+            PAIRED[PAIRED_HASH.indexOf(keys[i])] = strengths[i];
+        }
+    }
+
+    private HandEvaluator() {
+    }
+
+    /**
+     * 카드 인덱스 5개로 이루어진 핸드의 강도를 평가합니다.
+     *
+     * @param c0 첫 번째 카드 인덱스 (0-51)
+     * @param c1 두 번째 카드 인덱스 (0-51)
+     * @param c2 세 번째 카드 인덱스 (0-51)
+     * @param c3 네 번째 카드 인덱스 (0-51)
+     * @param c4 다섯 번째 카드 인덱스 (0-51)
+     * @return {@link HandStrength} 형식의 강도 값
+     */
+    public static int strength(int c0, int c1, int c2, int c3, int c4) {
+        int a = CARD_BITS[c0];
+        int b = CARD_BITS[c1];
+        int c = CARD_BITS[c2];
+        int d = CARD_BITS[c3];
+        int e = CARD_BITS[c4];
+        int rankMask = (a | b | c | d | e) >>> RANK_BIT_SHIFT;
+
+        if ((a & b & c & d & e & (0xF << SUIT_SHIFT)) != 0) {
+            int flush = FLUSHES[rankMask];
+            // 0이면 랭크가 겹치는 플러시 - 여러 벌 덱에서만 가능
+            return flush != 0 ? flush : duplicateFlush(c0, c1, c2, c3, c4, pairedStrength(a, b, c, d, e, rankMask));
+        }
+        if (Integer.bitCount(rankMask) == 5) {
+            return UNIQUE5[rankMask];
+        }
+        return pairedStrength(a, b, c, d, e, rankMask);
+    }
+
+    /**
+     * 카드 5장으로 이루어진 핸드의 강도를 평가합니다.
+     *
+     * @param c0 첫 번째 카드
+     * @param c1 두 번째 카드
+     * @param c2 세 번째 카드
+     * @param c3 네 번째 카드
+     * @param c4 다섯 번째 카드
+     * @return {@link HandStrength} 형식의 강도 값
+     */
+    public static int strength(ICard c0, ICard c1, ICard c2, ICard c3, ICard c4) {
+        return strength(CardSet.indexOf(c0), CardSet.indexOf(c1), CardSet.indexOf(c2),
+            CardSet.indexOf(c3), CardSet.indexOf(c4));
+    }
+
+    /**
+     * 카드 5장으로 이루어진 카드 집합의 강도를 평가합니다.
+     *
+     * @param cardSet 정확히 5비트가 켜진 {@link CardSet} 집합
+     * @return {@link HandStrength} 형식의 강도 값
+     */
+    public static int strength(long cardSet) {
+        long rest = cardSet;
+        int c0 = Long.numberOfTrailingZeros(rest);
+        rest &= rest - 1;
+        int c1 = Long.numberOfTrailingZeros(rest);
+        rest &= rest - 1;
+        int c2 = Long.numberOfTrailingZeros(rest);
+        rest &= rest - 1;
+        int c3 = Long.numberOfTrailingZeros(rest);
+        rest &= rest - 1;
+        return strength(c0, c1, c2, c3, Long.numberOfTrailingZeros(rest));
+    }
+
+    /**
+     * 카드 인덱스 5개로 이루어진 핸드의 족보를 평가합니다.
+     *
+     * @param c0 첫 번째 카드 인덱스 (0-51)
+     * @param c1 두 번째 카드 인덱스 (0-51)
+     * @param c2 세 번째 카드 인덱스 (0-51)
+     * @param c3 네 번째 카드 인덱스 (0-51)
+     * @param c4 다섯 번째 카드 인덱스 (0-51)
+     * @return 평가된 포커 족보
+     */
+    public static HandRank evaluate(int c0, int c1, int c2, int c3, int c4) {
+        return HandStrength.rankOf(strength(c0, c1, c2, c3, c4));
+    }
+
+    /**
+     * 카드 5장으로 이루어진 핸드의 족보를 평가합니다.
+     *
+     * @param c0 첫 번째 카드
+     * @param c1 두 번째 카드
+     * @param c2 세 번째 카드
+     * @param c3 네 번째 카드
+     * @param c4 다섯 번째 카드
+     * @return 평가된 포커 족보
+     */
+    public static HandRank evaluate(ICard c0, ICard c1, ICard c2, ICard c3, ICard c4) {
+        return HandStrength.rankOf(strength(c0, c1, c2, c3, c4));
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    /**
+     * 랭크 비트마스크 5개가 연속된 스트레이트인지 확인합니다.
+     * 백스트레이트(A-2-3-4-5)도 포함합니다.
+     */
+    private static boolean isStraightMask(int mask) {
+        if (mask == WHEEL_MASK) {
+            return true;
+        }
+        int low = Integer.numberOfTrailingZeros(mask);
+        return mask == (0x1F << low);
+    }
+
+    /**
+     * 페어가 있는 핸드의 강도를 랭크 소수 곱으로 조회합니다.
+     *
+     * 같은 랭크 5장(여러 벌 덱에서만 가능)은 족보 표에 없으므로
+     * 그 랭크의 포카드 중 가장 높은 값(키커도 같은 랭크)으로 평가합니다.
+     */
+    private static int pairedStrength(int a, int b, int c, int d, int e, int rankMask) {
+        if ((rankMask & (rankMask - 1)) == 0) {
+            return FIVE_OF_A_KIND[Integer.numberOfTrailingZeros(rankMask)];
+        }
+        int product = (a & PRIME_MASK) * (b & PRIME_MASK) * (c & PRIME_MASK)
+            * (d & PRIME_MASK) * (e & PRIME_MASK);
+        return PAIRED[PAIRED_HASH.indexOf(product)];
+    }
+
+    /**
+     * 랭크가 겹치는 같은 무늬 5장의 강도를 구합니다 (여러 벌 덱에서만 가능).
+     *
+     * 플러시(겹친 랭크도 키커로 비교)와 페어 계열 중 더 높은 쪽입니다.
+     * 예: A♠ A♠ K♠ Q♠ J♠는 원페어보다 높은 플러시, A♠ A♠ A♠ K♠ K♠는 플러시보다 높은 풀하우스.
+     */
+    private static int duplicateFlush(int c0, int c1, int c2, int c3, int c4, int paired) {
+        // 높은 랭크부터 4비트씩 이어 붙여 키커 순서를 만듦 (HandStrength 형식)
+        int r0 = c0 % RANK_COUNT, r1 = c1 % RANK_COUNT, r2 = c2 % RANK_COUNT, r3 = c3 % RANK_COUNT, r4 = c4 % RANK_COUNT;
+        int kickers = 0;
+        for (int rank = RANK_COUNT - 1; rank >= 0; rank--) {
+            if (r0 == rank) kickers = kickers << 4 | rank;
+            if (r1 == rank) kickers = kickers << 4 | rank;
+            if (r2 == rank) kickers = kickers << 4 | rank;
+            if (r3 == rank) kickers = kickers << 4 | rank;
+            if (r4 == rank) kickers = kickers << 4 | rank;
+        }
+        return Math.max(FLUSH_BASE | kickers, paired);
+    }
+
+    /**
+     * 랭크별 개수로 페어 계열 족보를 판정합니다.
+     *
+     * @return 페어가 없으면 null
+     */
+    private static HandRank classifyPaired(int[] counts) {
+        int pairs = 0;
+        int trips = 0;
+        for (int count : counts) {
+            if (count == 4) return HandRank.FOUR_OF_A_KIND;
+            if (count == 3) trips++;
+            if (count == 2) pairs++;
+        }
+        if (trips == 1 && pairs == 1) return HandRank.FULL_HOUSE;
+        if (trips == 1) return HandRank.THREE_OF_A_KIND;
+        if (pairs == 2) return HandRank.TWO_PAIR;
+        if (pairs == 1) return HandRank.ONE_PAIR;
+        return null;
+    }
+
+    /**
+     * 랭크 비트마스크를 높은 랭크부터 나열합니다.
+     */
+    private static int[] descendingRanks(int mask) {
+        int[] ranks = new int[Integer.bitCount(mask)];
+        int i = 0;
+        for (int rank = RANK_COUNT - 1; rank >= 0; rank--) {
+            if ((mask & (1 << rank)) != 0) {
+                ranks[i++] = rank;
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * 랭크별 개수를 비교 순서(개수 많은 순, 같으면 높은 랭크 순)로 나열합니다.
+     * 예: K-K-K-2-2 → [K, 2], 9-9-A-7-3 → [9, A, 7, 3]
+     */
+    private static int[] groupedRanks(int[] counts) {
+        int distinct = 0;
+        for (int count : counts) {
+            if (count > 0) distinct++;
+        }
+        int[] ranks = new int[distinct];
+        int i = 0;
+        for (int size = 4; size >= 1; size--) {
+            for (int rank = RANK_COUNT - 1; rank >= 0; rank--) {
+                if (counts[rank] == size) {
+                    ranks[i++] = rank;
+                }
+            }
+        }
+        return ranks;
+    }
+}
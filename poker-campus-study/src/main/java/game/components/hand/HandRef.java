@@ -1,10 +1,10 @@
 package game.components.hand;
 
+import game.components.card.CardSet;
 import game.components.card.ICard;
-import game.components.card.Rank;
-import game.components.card.Suit;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 핸드 참조 구현체 - IHand 인터페이스의 완성된 구현
@@ -14,10 +14,11 @@ import java.util.*;
  * 
  * <p>주요 기능:</p>
  * <ul>
- *   <li>카드 관리: 카드 추가, 전체 패 버리기</li>
- *   <li>족보 평가: 로열 플러시부터 하이카드까지 완전한 포커 족보 판정</li>
+ *   <li>카드 관리: 카드 추가, 전체 패 버리기, 비트마스크 카드 집합 유지</li>
+ *   <li>족보 평가: 로열 플러시부터 하이카드까지 완전한 포커 족보 판정 ({@link HandEvaluator} 룩업 테이블 사용)</li>
  *   <li>점수 계산: 족보별 점수를 반환하여 승부 판정 지원</li>
- *   <li>핸드 비교: 다른 핸드와의 강도 비교</li>
+ *   <li>강도 계산: 족보와 키커를 하나의 정수로 묶은 강도 값 반환 (한 번 계산 후 카드가 바뀔 때까지 캐시)</li>
+ *   <li>핸드 비교: 키커까지 포함한 강도 비교 (정수 비교 한 번)</li>
  *   <li>방어적 설계: null 카드 방지, 방어적 복사본 반환</li>
  * </ul>
  * 
@@ -46,12 +47,16 @@ import java.util.*;
  * </pre>
  * 
  * @author XIYO
- * @version 1.1
+ * @version 1.2
  * @since 2024-01-01
  */
 public class HandRef implements IHand {
     private List<ICard> cards  = new ArrayList<>();
+    private long cardSet = CardSet.EMPTY;
+    /** 캐시된 강도 값 (카드가 바뀌면 {@link #NOT_EVALUATED}로 무효화) */
+    private int strength = NOT_EVALUATED;
     private static final int MAX_CARDS = 5;
+    private static final int NOT_EVALUATED = -1;
     
     /**
      * 손패에 카드를 추가합니다.
@@ -69,6 +74,8 @@ public class HandRef implements IHand {
             throw new IllegalStateException("핸드는 최대 " + MAX_CARDS + "장까지만 가질 수 있습니다.");
         }
         cards.add(card);
+        cardSet = CardSet.add(cardSet, card);
+        strength = NOT_EVALUATED;
     }
     
     /**
@@ -83,6 +90,18 @@ public class HandRef implements IHand {
         return List.copyOf(cards);
     }
     
+    /**
+     * 손패의 카드들을 비트마스크 집합으로 반환합니다.
+     * 
+     * 카드를 추가할 때마다 갱신해 두므로 호출 비용이 없습니다.
+     * 
+     * @return {@link CardSet} 형식의 카드 집합 (빈 손패일 경우 0)
+     */
+    @Override
+    public long getCardSet() {
+        return cardSet;
+    }
+    
     /**
      * 손패가 가득 찼는지 확인합니다.
      * 
@@ -101,6 +120,8 @@ public class HandRef implements IHand {
      */
     public void clear() {
         cards.clear();
+        cardSet = CardSet.EMPTY;
+        strength = NOT_EVALUATED;
     }
     
     
@@ -127,22 +148,7 @@ public class HandRef implements IHand {
      * @throws IllegalStateException 카드가 정확히 5장이 아닐 때
      */
     public HandRank evaluate() {
-        if (cards.size() != 5) {
-            throw new IllegalStateException("핸드는 정확히 5장이어야 평가할 수 있습니다.");
-        }
-        
-        // 높은 족보부터 차례대로 확인
-        if (isRoyalFlush()) return HandRank.ROYAL_FLUSH;
-        if (isStraightFlush()) return HandRank.STRAIGHT_FLUSH;
-        if (isFourOfAKind()) return HandRank.FOUR_OF_A_KIND;
-        if (isFullHouse()) return HandRank.FULL_HOUSE;
-        if (isFlush()) return HandRank.FLUSH;
-        if (isStraight()) return HandRank.STRAIGHT;
-        if (isThreeOfAKind()) return HandRank.THREE_OF_A_KIND;
-        if (isTwoPair()) return HandRank.TWO_PAIR;
-        if (isOnePair()) return HandRank.ONE_PAIR;
-        
-        return HandRank.HIGH_CARD;
+        return HandStrength.rankOf(strength());
     }
     
     /**
@@ -158,172 +164,39 @@ public class HandRef implements IHand {
         return evaluate().getScore();
     }
     
-    public int compareTo(IHand other) {
-        return Integer.compare(this.open(), other.open());
-    }
-    
-    // ===== 헬퍼 메서드들 =====
-    
-    /**
-     * 로열 플러시인지 확인합니다.
-     * 
-     * 로열 플러시는 같은 무늬의 10-J-Q-K-A 조합입니다.
-     * 포커에서 가장 강한 패입니다.
-     * 
-     * @return 로열 플러시이면 true, 아니면 false
-     */
-    private boolean isRoyalFlush() {
-        
-        if (!isFlush()) return false;
-        
-        Set<Rank> requiredRanks = new HashSet<>();
-        requiredRanks.add(Rank.TEN);
-        requiredRanks.add(Rank.JACK);
-        requiredRanks.add(Rank.QUEEN);
-        requiredRanks.add(Rank.KING);
-        requiredRanks.add(Rank.ACE);
-        
-        Set<Rank> currentRanks = new HashSet<>();
-        for (ICard card : cards) {
-            currentRanks.add(card.getRank());
-        }
-        
-        return currentRanks.equals(requiredRanks);
-    }
-    
-    /**
-     * 스트레이트 플러시인지 확인합니다.
-     * 
-     * 스트레이트 플러시는 같은 무늬의 연속된 5장 조합입니다.
-     * 로열 플러시를 제외한 두 번째로 강한 패입니다.
-     * 
-     * @return 스트레이트 플러시이면 true, 아니면 false
-     */
-    private boolean isStraightFlush() {
-        
-        return isFlush() && isStraight();
-    }
-    
-    /**
-     * 포카드인지 확인
-     * @return 포카드이면 true
-     */
-    private boolean isFourOfAKind() {
-        Map<Rank, Integer> counts = getRankCounts();
-        return counts.containsValue(4);
-    }
-    
-    /**
-     * 풀하우스인지 확인합니다.
-     * 
-     * 풀하우스는 같은 랭크 3장과 같은 랭크 2장의 조합입니다.
-     * 예: AAA22, KKK33
-     * 
-     * @return 풀하우스이면 true, 아니면 false
-     */
-    private boolean isFullHouse() {
-        
-        Map<Rank, Integer> counts = getRankCounts();
-        return counts.containsValue(3) && counts.containsValue(2);
-    }
-    
-    /**
-     * 플러시인지 확인
-     * @return 플러시이면 true
-     */
-    private boolean isFlush() {
-        Suit firstSuit = cards.get(0).getSuit();
-        for (ICard card : cards) {
-            if (card.getSuit() != firstSuit) {
-                return false;
-            }
-        }
-        return true;
-    }
-    
     /**
-     * 스트레이트인지 확인합니다.
+     * 손패의 강도를 족보와 키커까지 포함한 하나의 정수로 평가합니다.
      * 
-     * 스트레이트는 연속된 5장의 카드 조합입니다.
-     * 백스트레이트(A-2-3-4-5)도 유효한 스트레이트입니다.
+     * 처음 호출할 때 한 번만 평가하고, {@link #add(ICard)}나 {@link #clear()}로
+     * 카드가 바뀔 때까지 같은 값을 반환합니다. 따라서 {@link #evaluate()}, {@link #open()},
+     * {@link #compareTo(IHand)}를 여러 번 호출해도 평가는 한 번뿐입니다.
      * 
-     * @return 스트레이트이면 true, 아니면 false
+     * @return {@link HandStrength} 형식의 강도 값 (높을수록 강한 패)
+     * @throws IllegalStateException 카드가 정확히 5장이 아닐 때
      */
-    private boolean isStraight() {
-        
-        List<Integer> values = new ArrayList<>();
-        for (ICard card : cards) {
-            values.add(card.getValue());
-        }
-        Collections.sort(values);
-        
-        // 일반 스트레이트 체크
-        boolean isNormalStraight = true;
-        for (int i = 0; i < 4; i++) {
-            if (values.get(i + 1) - values.get(i) != 1) {
-                isNormalStraight = false;
-                break;
+    @Override
+    public int strength() {
+        if (strength == NOT_EVALUATED) {
+            if (cards.size() != MAX_CARDS) {
+                throw new IllegalStateException("핸드는 정확히 5장이어야 평가할 수 있습니다.");
             }
+            // 여러 벌 덱에서 같은 카드가 겹치면 집합으로는 5장이 안 되므로 카드 목록으로 평가
+            strength = Long.bitCount(cardSet) == MAX_CARDS
+                ? HandEvaluator.strength(cardSet)
+                : HandEvaluator.strength(cards.get(0), cards.get(1), cards.get(2), cards.get(3), cards.get(4));
         }
-        
-        // 특수 케이스: A-2-3-4-5 (백스트레이트)
-        boolean isAceLowStraight = values.equals(Arrays.asList(2, 3, 4, 5, 14));
-        
-        return isNormalStraight || isAceLowStraight;
+        return strength;
     }
     
     /**
-     * 쓰리카드인지 확인합니다.
+     * 다른 손패와 강도를 비교합니다.
      * 
-     * 쓰리카드는 같은 랭크 3장을 가진 조합입니다.
-     * 예: AAA45, KKK78
+     * 족보가 같으면 키커까지 비교하므로, 0은 포커 규칙상 완전한 동점일 때만 반환됩니다.
      * 
-     * @return 쓰리카드이면 true, 아니면 false
+     * @param other 비교할 손패
+     * @return 이 손패가 강하면 양수, 약하면 음수, 동점이면 0
      */
-    private boolean isThreeOfAKind() {
-        
-        Map<Rank, Integer> counts = getRankCounts();
-        return counts.containsValue(3);
-    }
-    
-    /**
-     * 투페어인지 확인합니다.
-     * 
-     * 투페어는 서로 다른 랭크의 페어 2개를 가진 조합입니다.
-     * 예: AA33K, JJTT5
-     * 
-     * @return 투페어이면 true, 아니면 false
-     */
-    private boolean isTwoPair() {
-        
-        Map<Rank, Integer> counts = getRankCounts();
-        int pairCount = 0;
-        for (int count : counts.values()) {
-            if (count == 2) {
-                pairCount++;
-            }
-        }
-        return pairCount == 2;
-    }
-    
-    /**
-     * 원페어인지 확인
-     * @return 원페어이면 true
-     */
-    private boolean isOnePair() {
-        Map<Rank, Integer> counts = getRankCounts();
-        return counts.containsValue(2);
-    }
-    
-    /**
-     * 각 랭크별 카드 개수를 계산
-     * @return 랭크별 카드 개수 맵
-     */
-    private Map<Rank, Integer> getRankCounts() {
-        Map<Rank, Integer> counts = new EnumMap<>(Rank.class);
-        for (ICard card : cards) {
-            counts.put(card.getRank(), counts.getOrDefault(card.getRank(), 0) + 1);
-        }
-        return counts;
+    public int compareTo(IHand other) {
+        return Integer.compare(this.strength(), other.strength());
     }
-}
\ No newline at end of file
+}
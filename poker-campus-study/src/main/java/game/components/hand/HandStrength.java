@@ -0,0 +1,101 @@
+package game.components.hand;
+
+import game.components.card.Rank;
+
+/**
+ * 족보와 모든 타이브레이커를 하나의 int로 묶은 핸드 강도 값
+ *
+ * 두 핸드의 강도는 정수 비교 한 번으로 결정됩니다. 값이 클수록 강한 핸드이며,
+ * 값이 같으면 포커 규칙상 완전히 동점입니다.
+ *
+ * <p>비트 구성 (상위 → 하위):</p>
+ * <ul>
+ *   <li>20-23: 족보 ({@link HandRank#ordinal()})</li>
+ *   <li>16-19: 첫 번째 비교 랭크 (예: 원페어의 페어 랭크)</li>
+ *   <li>12-15: 두 번째 비교 랭크</li>
+ *   <li>8-11: 세 번째 비교 랭크</li>
+ *   <li>4-7: 네 번째 비교 랭크</li>
+ *   <li>0-3: 다섯 번째 비교 랭크</li>
+ * </ul>
+ *
+ * <p>각 랭크 칸에는 {@link Rank#ordinal()}이 들어가며, 사용하지 않는 칸은 0입니다.
+ * 스트레이트 계열은 가장 높은 카드 하나만 기록합니다 (백스트레이트는 5).</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * int strength = hand.strength();
+ * HandRank rank = HandStrength.rankOf(strength);     // 족보만 추출
+ * System.out.println(HandStrength.toString(strength)); // "원페어(200) A-K-9-5"
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class HandStrength {
+    private static final int CATEGORY_SHIFT = 20;
+    private static final int RANK_BITS = 4;
+    private static final int MAX_RANKS = 5;
+    private static final HandRank[] HAND_RANKS = HandRank.values();
+    private static final Rank[] RANKS = Rank.values();
+
+    private HandStrength() {
+    }
+
+    /**
+     * 족보와 비교 랭크들로 강도 값을 만듭니다.
+     *
+     * @param rank 족보
+     * @param ranks 비교 순서대로 나열한 랭크 서수 (최대 5개)
+     * @return 묶인 강도 값
+     * @throws IllegalArgumentException 랭크가 5개를 넘을 때
+     */
+    public static int of(HandRank rank, int... ranks) {
+        if (ranks.length > MAX_RANKS) {
+            throw new IllegalArgumentException("비교 랭크는 최대 " + MAX_RANKS + "개입니다.");
+        }
+        int strength = rank.ordinal() << CATEGORY_SHIFT;
+        for (int i = 0; i < ranks.length; i++) {
+            strength |= ranks[i] << (RANK_BITS * (MAX_RANKS - 1 - i));
+        }
+        return strength;
+    }
+
+    /**
+     * 강도 값에서 족보를 꺼냅니다.
+     *
+     * @param strength 강도 값
+     * @return 족보
+     */
+    public static HandRank rankOf(int strength) {
+        return HAND_RANKS[strength >>> CATEGORY_SHIFT];
+    }
+
+    /**
+     * 강도 값을 사람이 읽을 수 있는 문자열로 표현합니다.
+     *
+     * 형식: "족보(점수) 랭크-랭크-..." (사용하지 않는 칸은 생략)
+     *
+     * @param strength 강도 값
+     * @return 강도 값의 문자열 표현
+     */
+    public static String toString(int strength) {
+        HandRank rank = rankOf(strength);
+        StringBuilder sb = new StringBuilder(rank.toString()).append(' ');
+        int used = switch (rank) {
+            case STRAIGHT, STRAIGHT_FLUSH, ROYAL_FLUSH -> 1;
+            case FOUR_OF_A_KIND, FULL_HOUSE -> 2;
+            case TWO_PAIR, THREE_OF_A_KIND -> 3;
+            case ONE_PAIR -> 4;
+            default -> MAX_RANKS;
+        };
+        for (int i = 0; i < used; i++) {
+            if (i > 0) {
+                sb.append('-');
+            }
+            int ordinal = (strength >>> (RANK_BITS * (MAX_RANKS - 1 - i))) & 0xF;
+            sb.append(RANKS[ordinal].getSymbol());
+        }
+        return sb.toString();
+    }
+}
@@ -1,5 +1,6 @@
 package game.components.hand;
 
+import game.components.card.CardSet;
 import game.components.card.ICard;
 
 import java.util.List;
@@ -35,6 +36,32 @@ public interface IHand extends Comparable<IHand> {
      */
     List<ICard> getCards();
     
+    /**
+     * 손패의 카드들을 비트마스크 집합으로 반환합니다.
+     * 
+     * 멤버십 확인, 플러시/스트레이트 판정, 죽은 카드 관리를
+     * 객체 순회 없이 비트 연산으로 처리할 때 사용합니다.
+     * 
+     * @return {@link CardSet} 형식의 카드 집합 (빈 손패일 경우 0)
+     */
+    default long getCardSet() {
+        return CardSet.of(getCards());
+    }
+    
+    /**
+     * 카드 집합의 모든 카드를 손패에 추가합니다.
+     * 
+     * 카드는 인덱스 순서(무늬 우선, 같은 무늬는 랭크 오름차순)로 추가됩니다.
+     * 
+     * @param cardSet 추가할 {@link CardSet} 카드 집합
+     * @throws IllegalStateException 추가 중 손패가 가득 찼을 때
+     */
+    default void addAll(long cardSet) {
+        for (ICard card : CardSet.toList(cardSet)) {
+            add(card);
+        }
+    }
+    
     /**
      * 손패가 가득 찼는지 확인합니다.
      * 
@@ -72,6 +99,28 @@ public interface IHand extends Comparable<IHand> {
      */
     int open();
     
+    /**
+     * 손패의 강도를 족보와 키커까지 포함한 하나의 정수로 평가합니다.
+     * 
+     * 같은 족보끼리도 비교 랭크가 높은 쪽이 이기도록 모든 타이브레이커가 들어 있어
+     * 두 손패의 승부는 정수 비교 한 번으로 결정됩니다.
+     * 값이 같으면 포커 규칙상 완전한 동점입니다.
+     * 
+     * <p>딜러, 출력, 비교가 모두 이 값을 공유하므로, 구현체는 처음 호출할 때 계산한 값을
+     * {@link #add(ICard)}나 {@link #clear()}로 카드가 바뀔 때까지 캐시하는 것이 좋습니다.
+     * 기본 구현은 캐시 없이 매번 평가합니다.</p>
+     * 
+     * @return {@link HandStrength} 형식의 강도 값 (높을수록 강한 패)
+     * @throws IllegalStateException 카드가 정확히 5장이 아닐 때
+     */
+    default int strength() {
+        List<ICard> cards = getCards();
+        if (cards.size() != 5) {
+            throw new IllegalStateException("핸드는 정확히 5장이어야 평가할 수 있습니다.");
+        }
+        return HandEvaluator.strength(cards.get(0), cards.get(1), cards.get(2), cards.get(3), cards.get(4));
+    }
+    
     /**
      * 손패를 문자열로 표현합니다.
      * 
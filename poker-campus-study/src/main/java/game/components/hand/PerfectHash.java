@@ -0,0 +1,207 @@
+package game.components.hand;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 고정된 정수 키 집합을 위한 충돌 없는(perfect) 해시 인덱서
+ *
+ * 족보 평가 테이블처럼 키 집합이 미리 정해져 있는 경우에 사용합니다.
+ * 생성 시점에 "해시 후 변위(hash and displace)" 방식으로 버킷마다 XOR 변위를 찾아
+ * 모든 키가 서로 다른 슬롯에 놓이도록 만듭니다.
+ *
+ * <p>조회 비용:</p>
+ * <ul>
+ *   <li>정수 곱셈 2회와 시프트/XOR 몇 번</li>
+ *   <li>변위 배열 읽기 1회</li>
+ *   <li>분기와 객체 할당 없음</li>
+ * </ul>
+ *
+ * <p>주의: 생성 시 주어지지 않은 키를 조회하면 임의의 슬롯이 반환됩니다.
+ * 호출자는 항상 키 집합에 속한 값만 조회해야 합니다.</p>
+ *
+ * @author XIYO
+ * @version 1.1
+ * @since 2026-10-17
+ */
+final class PerfectHash {
+    private static final int MAX_ATTEMPTS = 64;
+    // mix()의 상수 - 벡터 평가기가 같은 해시를 레인별로 계산할 때도 사용
+    static final int MIX_MULTIPLIER = 0x2C1B3C6D;
+    static final int MIX_SHIFT_1 = 15;
+    static final int MIX_SHIFT_2 = 12;
+
+    private final int seed;
+    private final int bucketShift;
+    private final int slotShift;
+    private final int slotMask;
+    private final int[] displacements;
+
+    private PerfectHash(int seed, int slotBits, int bucketBits, int[] displacements) {
+        this.seed = seed;
+        this.bucketShift = 32 - bucketBits;
+        this.slotShift = 32 - bucketBits - slotBits;
+        this.slotMask = (1 << slotBits) - 1;
+        this.displacements = displacements;
+    }
+
+    /**
+     * 주어진 키 집합에 대한 완전 해시를 생성합니다.
+     *
+     * @param keys 서로 다른 키 목록
+     * @param slotBits 슬롯 개수의 로그 값 (슬롯 수 = 2^slotBits)
+     * @param bucketBits 버킷 개수의 로그 값 (버킷 수 = 2^bucketBits)
+     * @return 생성된 완전 해시
+     * @throws IllegalArgumentException 슬롯보다 키가 많거나 비트 수 합이 32를 넘을 때
+     * @throws IllegalStateException 정해진 시도 안에 충돌 없는 배치를 찾지 못했을 때
+     */
+    static PerfectHash build(int[] keys, int slotBits, int bucketBits) {
+        if (slotBits + bucketBits > 32 || keys.length > (1 << slotBits)) {
+            throw new IllegalArgumentException("키 " + keys.length + "개를 2^" + slotBits + " 슬롯에 배치할 수 없습니다.");
+        }
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            int seed = (0x9E3779B1 + attempt * 0x6A09E667) | 1;
+            int[] displacements = tryBuild(keys, seed, slotBits, bucketBits);
+            if (displacements != null) {
+                return new PerfectHash(seed, slotBits, bucketBits, displacements);
+            }
+        }
+        throw new IllegalStateException("완전 해시를 생성하지 못했습니다.");
+    }
+
+    /**
+     * 키가 놓인 슬롯 번호를 반환합니다.
+     *
+     * @param key 생성 시 주어진 키 중 하나
+     * @return 0 이상 2^slotBits 미만의 슬롯 번호
+     */
+    int indexOf(int key) {
+        int h = mix(key, seed);
+        return ((h >>> slotShift) & slotMask) ^ displacements[h >>> bucketShift];
+    }
+
+    /**
+     * 곱셈 상수(시드)를 반환합니다. 조회를 레인별로 다시 구현하는 벡터 평가기가 사용합니다.
+     *
+     * @return {@link #mix(int, int)}에 주는 시드
+     */
+    int seed() {
+        return seed;
+    }
+
+    /**
+     * 해시 값에서 버킷 번호를 꺼낼 때의 시프트를 반환합니다.
+     *
+     * @return 버킷 시프트
+     */
+    int bucketShift() {
+        return bucketShift;
+    }
+
+    /**
+     * 해시 값에서 슬롯 번호를 꺼낼 때의 시프트를 반환합니다.
+     *
+     * @return 슬롯 시프트
+     */
+    int slotShift() {
+        return slotShift;
+    }
+
+    /**
+     * 버킷별 XOR 변위 배열을 반환합니다 (복사하지 않으므로 수정하면 안 됩니다).
+     *
+     * @return 변위 배열
+     */
+    int[] displacements() {
+        return displacements;
+    }
+
+    /**
+     * 슬롯 개수를 반환합니다.
+     *
+     * @return 값 테이블이 가져야 할 길이
+     */
+    int size() {
+        return slotMask + 1;
+    }
+
+    /**
+     * 키를 32비트로 섞습니다.
+     *
+     * @param key 원본 키
+     * @param seed 곱셈 상수
+     * @return 섞인 해시 값
+     */
+    static int mix(int key, int seed) {
+        int h = key * seed;
+        h ^= h >>> MIX_SHIFT_1;
+        h *= MIX_MULTIPLIER;
+        h ^= h >>> MIX_SHIFT_2;
+        return h;
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    /**
+     * 한 번의 시드로 배치를 시도합니다.
+     *
+     * @return 성공하면 버킷별 변위 배열, 실패하면 null
+     */
+    private static int[] tryBuild(int[] keys, int seed, int slotBits, int bucketBits) {
+        int bucketCount = 1 << bucketBits;
+        int slotCount = 1 << slotBits;
+        int bucketShift = 32 - bucketBits;
+        int slotShift = 32 - bucketBits - slotBits;
+        int slotMask = slotCount - 1;
+
+        List<List<Integer>> buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (int key : keys) {
+            int h = mix(key, seed);
+            buckets.get(h >>> bucketShift).add((h >>> slotShift) & slotMask);
+        }
+
+        // 큰 버킷부터 배치해야 빈 슬롯이 많을 때 어려운 버킷을 처리할 수 있습니다
+        Integer[] order = new Integer[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(buckets.get(b).size(), buckets.get(a).size()));
+
+        boolean[] used = new boolean[slotCount];
+        int[] displacements = new int[bucketCount];
+        for (int bucket : order) {
+            List<Integer> slots = buckets.get(bucket);
+            if (slots.isEmpty()) {
+                break;
+            }
+            if (slots.stream().distinct().count() != slots.size()) {
+                return null;
+            }
+            int found = -1;
+            for (int d = 0; d < slotCount && found < 0; d++) {
+                boolean fits = true;
+                for (int slot : slots) {
+                    if (used[slot ^ d]) {
+                        fits = false;
+                        break;
+                    }
+                }
+                if (fits) {
+                    found = d;
+                }
+            }
+            if (found < 0) {
+                return null;
+            }
+            for (int slot : slots) {
+                used[slot ^ found] = true;
+            }
+            displacements[bucket] = found;
+        }
+        return displacements;
+    }
+}
@@ -0,0 +1,262 @@
+package game.components.hand;
+
+import game.components.card.CardSet;
+import game.components.card.ICard;
+
+/**
+ * 7장 중 최고의 5장 강도를 직접 구하는 평가기
+ *
+ * 커뮤니티 카드 게임(홀덤 등)에서 7장 중 최고 5장의 강도를 구할 때 사용합니다.
+ * 21가지 조합을 하나씩 만들어 보지 않고, 7장의 카드 정보를 더한 키로 테이블을 한 번 조회합니다.
+ * 평가 중에는 객체를 할당하지 않습니다.
+ *
+ * <p>평가 방식:</p>
+ * <ul>
+ *   <li>카드마다 [무늬별 개수 니블 | 랭크별 5진수 자리값]을 담은 long을 미리 계산해 둡니다</li>
+ *   <li>7장의 값을 더하면 하위 32비트는 랭크 개수 키(5진수), 상위 비트는 무늬별 장수가 됩니다</li>
+ *   <li>어떤 무늬가 5장 이상이면 그 무늬의 랭크 비트마스크로 플러시 테이블 조회</li>
+ *   <li>아니면 랭크 개수 키를 완전 해시하여 테이블 조회 (49,205가지 랭크 조합)</li>
+ * </ul>
+ *
+ * <p>반환 값은 {@link HandEvaluator#strength(int, int, int, int, int)}와 같은
+ * {@link HandStrength} 형식이므로 5장 평가 결과와 그대로 비교할 수 있습니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * // 홀카드 2장 + 보드 5장 (카드 인덱스)
+ * int strength = SevenCardEvaluator.strength(h0, h1, b0, b1, b2, b3, b4);
+ * HandRank rank = HandStrength.rankOf(strength);
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class SevenCardEvaluator {
+    private static final int RANK_COUNT = 13;
+    private static final int SUIT_COUNT = 4;
+    private static final int CARD_COUNT = 52;
+    private static final int HAND_SIZE = 7;
+    private static final int RANK_MASK = (1 << RANK_COUNT) - 1;
+
+    private static final int SUIT_SHIFT = 32;
+    /** 무늬별 장수 니블에 더하면 5장 이상인 무늬의 최상위 비트가 켜지는 값 */
+    private static final int FLUSH_PROBE = 0x3333;
+    private static final int FLUSH_FLAGS = 0x8888;
+
+    /** 카드 인덱스별 [무늬 장수 니블(32-47) | 랭크 5진수 자리값(0-31)] */
+    private static final long[] CARD_KEYS = new long[CARD_COUNT];
+    /** 한 무늬의 랭크 비트마스크(5-7비트) → 최고 플러시 강도 */
+    private static final int[] FLUSHES = new int[1 << RANK_COUNT];
+    /** 7장 랭크 개수 키의 완전 해시 */
+    private static final PerfectHash RANK_HASH;
+    /** 완전 해시 슬롯 → 플러시가 아닌 최고 강도 */
+    private static final int[] NON_FLUSHES;
+
+    static {
+        int[] powers = new int[RANK_COUNT];
+        powers[0] = 1;
+        for (int rank = 1; rank < RANK_COUNT; rank++) {
+            powers[rank] = powers[rank - 1] * 5;
+        }
+        for (int suit = 0; suit < SUIT_COUNT; suit++) {
+            for (int rank = 0; rank < RANK_COUNT; rank++) {
+                CARD_KEYS[suit * RANK_COUNT + rank] = (1L << (SUIT_SHIFT + suit * 4)) | powers[rank];
+            }
+        }
+
+        for (int mask = 0; mask <= RANK_MASK; mask++) {
+            int bits = Integer.bitCount(mask);
+            if (bits >= 5 && bits <= HAND_SIZE) {
+                FLUSHES[mask] = bestFlush(mask);
+            }
+        }
+
+        // 랭크 7개(중복 허용, 같은 랭크 최대 4장) 조합 49,205가지
+        int[] keys = new int[49205];
+        int[] strengths = new int[keys.length];
+        int count = 0;
+        int[] ranks = new int[HAND_SIZE];
+        for (ranks[0] = 0; ranks[0] < RANK_COUNT; ranks[0]++) {
+            for (ranks[1] = ranks[0]; ranks[1] < RANK_COUNT; ranks[1]++) {
+                for (ranks[2] = ranks[1]; ranks[2] < RANK_COUNT; ranks[2]++) {
+                    for (ranks[3] = ranks[2]; ranks[3] < RANK_COUNT; ranks[3]++) {
+                        for (ranks[4] = ranks[3]; ranks[4] < RANK_COUNT; ranks[4]++) {
+                            for (ranks[5] = ranks[4]; ranks[5] < RANK_COUNT; ranks[5]++) {
+                                for (ranks[6] = ranks[5]; ranks[6] < RANK_COUNT; ranks[6]++) {
+                                    if (hasFiveOfAKind(ranks)) {
+                                        continue;
+                                    }
+                                    int key = 0;
+                                    for (int rank : ranks) {
+                                        key += powers[rank];
+                                    }
+                                    keys[count] = key;
+                                    strengths[count] = bestNonFlush(ranks);
+                                    count++;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        RANK_HASH = PerfectHash.build(keys, 16, 14);
+        NON_FLUSHES = new int[RANK_HASH.size()];
+        for (int i = 0; i < count; i++) {
+            NON_FLUSHES[RANK_HASH.indexOf(keys[i])] = strengths[i];
+        }
+    }
+
+    private SevenCardEvaluator() {
+    }
+
+    /**
+     * 카드 인덱스 7개 중 최고 5장의 강도를 평가합니다.
+     *
+     * @param c0 첫 번째 카드 인덱스 (0-51)
+     * @param c1 두 번째 카드 인덱스 (0-51)
+     * @param c2 세 번째 카드 인덱스 (0-51)
+     * @param c3 네 번째 카드 인덱스 (0-51)
+     * @param c4 다섯 번째 카드 인덱스 (0-51)
+     * @param c5 여섯 번째 카드 인덱스 (0-51)
+     * @param c6 일곱 번째 카드 인덱스 (0-51)
+     * @return {@link HandStrength} 형식의 최고 강도 값
+     */
+    public static int strength(int c0, int c1, int c2, int c3, int c4, int c5, int c6) {
+        long sum = CARD_KEYS[c0] + CARD_KEYS[c1] + CARD_KEYS[c2] + CARD_KEYS[c3]
+            + CARD_KEYS[c4] + CARD_KEYS[c5] + CARD_KEYS[c6];
+        int flushFlags = ((int) (sum >>> SUIT_SHIFT) + FLUSH_PROBE) & FLUSH_FLAGS;
+        if (flushFlags == 0) {
+            return NON_FLUSHES[RANK_HASH.indexOf((int) sum)];
+        }
+        // 7장에서 5장 이상인 무늬는 하나뿐입니다
+        int suitBase = (Integer.numberOfTrailingZeros(flushFlags) >>> 2) * RANK_COUNT;
+        int mask = suitRank(c0, suitBase) | suitRank(c1, suitBase) | suitRank(c2, suitBase)
+            | suitRank(c3, suitBase) | suitRank(c4, suitBase) | suitRank(c5, suitBase) | suitRank(c6, suitBase);
+        return FLUSHES[mask];
+    }
+
+    /**
+     * 카드 7장으로 이루어진 카드 집합에서 최고 5장의 강도를 평가합니다.
+     *
+     * @param cardSet 정확히 7비트가 켜진 {@link CardSet} 집합
+     * @return {@link HandStrength} 형식의 최고 강도 값
+     */
+    public static int strength(long cardSet) {
+        long rest = cardSet;
+        int c0 = Long.numberOfTrailingZeros(rest);
+        rest &= rest - 1;
+        int c1 = Long.numberOfTrailingZeros(rest);
+        rest &= rest - 1;
+        int c2 = Long.numberOfTrailingZeros(rest);
+        rest &= rest - 1;
+        int c3 = Long.numberOfTrailingZeros(rest);
+        rest &= rest - 1;
+        int c4 = Long.numberOfTrailingZeros(rest);
+        rest &= rest - 1;
+        int c5 = Long.numberOfTrailingZeros(rest);
+        rest &= rest - 1;
+        return strength(c0, c1, c2, c3, c4, c5, Long.numberOfTrailingZeros(rest));
+    }
+
+    /**
+     * 카드 7장 중 최고 5장의 강도를 평가합니다.
+     *
+     * @param cards 평가할 카드 7장
+     * @return {@link HandStrength} 형식의 최고 강도 값
+     * @throws IllegalArgumentException 카드가 정확히 7장이 아닐 때
+     */
+    public static int strength(ICard[] cards) {
+        if (cards.length != HAND_SIZE) {
+            throw new IllegalArgumentException("카드는 정확히 " + HAND_SIZE + "장이어야 합니다.");
+        }
+        return strength(CardSet.indexOf(cards[0]), CardSet.indexOf(cards[1]),
+            CardSet.indexOf(cards[2]), CardSet.indexOf(cards[3]),
+            CardSet.indexOf(cards[4]), CardSet.indexOf(cards[5]),
+            CardSet.indexOf(cards[6]));
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    /**
+     * 카드가 주어진 무늬이면 랭크 비트를, 아니면 0을 반환합니다.
+     * 부호 없는 비교 한 번으로 무늬 범위를 확인하므로 분기가 예측하기 쉽습니다.
+     */
+    private static int suitRank(int card, int suitBase) {
+        int rank = card - suitBase;
+        return Integer.compareUnsigned(rank, RANK_COUNT) < 0 ? 1 << rank : 0;
+    }
+
+    /**
+     * 오름차순 랭크 배열에 같은 랭크가 5장 이상 있는지 확인합니다.
+     */
+    private static boolean hasFiveOfAKind(int[] ranks) {
+        for (int i = 0; i + SUIT_COUNT < ranks.length; i++) {
+            if (ranks[i] == ranks[i + SUIT_COUNT]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 한 무늬의 랭크 5-7개 중 최고 플러시(또는 스트레이트 플러시) 강도를 구합니다.
+     */
+    private static int bestFlush(int mask) {
+        int[] cards = new int[Integer.bitCount(mask)];
+        int n = 0;
+        for (int rank = 0; rank < RANK_COUNT; rank++) {
+            if ((mask & (1 << rank)) != 0) {
+                cards[n++] = rank; // 스페이드 무늬 카드 인덱스
+            }
+        }
+        return bestOfFive(cards);
+    }
+
+    /**
+     * 랭크 7개 중 플러시가 아닌 최고 5장 강도를 구합니다.
+     * 5장마다 무늬를 0,1,2,3,0 순으로 배정하여 평가기가 플러시로 보지 않게 합니다.
+     */
+    private static int bestNonFlush(int[] ranks) {
+        int best = 0;
+        int n = ranks.length;
+        for (int a = 0; a < n; a++) {
+            for (int b = a + 1; b < n; b++) {
+                for (int c = b + 1; c < n; c++) {
+                    for (int d = c + 1; d < n; d++) {
+                        for (int e = d + 1; e < n; e++) {
+                            int strength = HandEvaluator.strength(
+                                ranks[a], RANK_COUNT + ranks[b], 2 * RANK_COUNT + ranks[c],
+                                3 * RANK_COUNT + ranks[d], ranks[e]);
+                            best = Math.max(best, strength);
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 카드 인덱스 5-7개 중 최고 5장 강도를 구합니다.
+     */
+    private static int bestOfFive(int[] cards) {
+        int best = 0;
+        int n = cards.length;
+        for (int a = 0; a < n; a++) {
+            for (int b = a + 1; b < n; b++) {
+                for (int c = b + 1; c < n; c++) {
+                    for (int d = c + 1; d < n; d++) {
+                        for (int e = d + 1; e < n; e++) {
+                            best = Math.max(best,
+                                HandEvaluator.strength(cards[a], cards[b], cards[c], cards[d], cards[e]));
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,81 @@
+package game.components.hand;
+
+import java.util.Arrays;
+
+/**
+ * 쇼다운 판정기 - 미리 계산한 강도 배열에서 승자를 한 번에 찾음
+ *
+ * 강도 배열을 한 번만 훑으며 최고 강도와 동점자 목록을 함께 만듭니다.
+ * 더 센 강도가 나오면 지금까지의 동점자 목록을 비우고 다시 시작하므로,
+ * 좌석이 수백 개인 토너먼트 쇼다운도 좌석 수에 비례하는 비용만 듭니다.
+ * 승자는 좌석 순번 배열로 돌려주므로 정산도 {@code contains()} 없이 선형으로 처리할 수 있습니다.
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>단일 패스: 최고 강도 찾기와 동점자 수집을 한 번의 순회로 처리</li>
+ *   <li>할당 없음: 호출자가 준 버퍼에 승자 순번을 오름차순으로 기록</li>
+ *   <li>동점 처리: 강도 값이 같으면 모두 승자 ({@link HandStrength} 값은 정수 비교로 충분)</li>
+ * </ul>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * int[] strengths = new int[players.size()];
+ * for (int i = 0; i &lt; strengths.length; i++) {
+ *     strengths[i] = players.get(i).getHand().strength();
+ * }
+ * int[] winners = new int[strengths.length];
+ * int winnerCount = Showdown.winners(strengths, strengths.length, winners);
+ * boolean draw = winnerCount == strengths.length;
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class Showdown {
+
+    private Showdown() {
+    }
+
+    /**
+     * 강도 배열의 앞쪽 {@code count}칸에서 승자를 찾아 버퍼에 기록합니다.
+     *
+     * @param strengths 좌석 순서대로의 강도 값
+     * @param count 판정할 좌석 수
+     * @param winners 승자 순번을 받을 버퍼 (최소 {@code count}칸, 앞쪽 반환값만큼이 유효)
+     * @return 승자 수 (count가 0이면 0)
+     * @throws IllegalArgumentException count가 음수이거나 배열보다 클 때, 버퍼가 작을 때
+     */
+    public static int winners(int[] strengths, int count, int[] winners) {
+        if (count < 0 || count > strengths.length) {
+            throw new IllegalArgumentException("좌석 수는 0-" + strengths.length + "이어야 합니다: " + count);
+        }
+        if (winners.length < count) {
+            throw new IllegalArgumentException("승자 버퍼는 최소 " + count + "칸이어야 합니다.");
+        }
+        int best = Integer.MIN_VALUE;
+        int winnerCount = 0;
+        for (int i = 0; i < count; i++) {
+            int strength = strengths[i];
+            if (strength > best) {
+                best = strength;
+                winnerCount = 0;
+            }
+            if (strength == best) {
+                winners[winnerCount++] = i;
+            }
+        }
+        return winnerCount;
+    }
+
+    /**
+     * 강도 배열 전체에서 승자 순번을 찾습니다.
+     *
+     * @param strengths 좌석 순서대로의 강도 값
+     * @return 승자 순번 배열 (오름차순)
+     */
+    public static int[] winners(int[] strengths) {
+        int[] winners = new int[strengths.length];
+        return Arrays.copyOf(winners, winners(strengths, strengths.length, winners));
+    }
+}
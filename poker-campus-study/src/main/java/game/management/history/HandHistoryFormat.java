@@ -0,0 +1,65 @@
+package game.management.history;
+
+import java.nio.ByteOrder;
+
+/**
+ * 핸드 기록 파일 형식 상수 모음
+ *
+ * <p>파일 구조 (리틀 엔디언):</p>
+ * <pre>
+ * 파일 헤더 (24바이트)
+ *   int   매직 "PKHH"
+ *   short 형식 버전
+ *   short 예약 (0)
+ *   long  마지막 동기화 때 완전한 레코드가 끝나는 위치
+ *   long  그 위치까지의 마지막 라운드 번호
+ *
+ * 라운드 레코드 (16 + 좌석 수 × 8바이트)
+ *   long  라운드 번호
+ *   byte  좌석 수 (1-10)
+ *   byte  플래그 (bit 0: 무승부)
+ *   short 승자 비트마스크 (bit n = n번 좌석)
+ *   int   승자 1명당 상금
+ *   long  좌석마다: bit 0-29 카드 5장 × 6비트 카드 코드(카드 코드 오름차순),
+ *                  bit 32-55 핸드 강도 ({@link game.components.hand.HandStrength})
+ * </pre>
+ *
+ * 카드 코드는 {@link game.components.card.ICard#getIndex()} (0-51)입니다.
+ * 레코드 길이는 좌석 수만으로 정해지므로 색인 없이 앞에서부터 건너뛰며 읽을 수 있습니다.
+ * 이어 쓸 때는 헤더의 동기화 위치부터만 훑으면 되므로 파일 크기와 관계없이 빨리 열립니다.
+ *
+ * @author XIYO
+ * @version 1.1
+ * @since 2026-10-17
+ */
+final class HandHistoryFormat {
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+    static final int MAGIC = 0x48484B50; // "PKHH" (리틀 엔디언)
+    static final short VERSION = 2;
+    static final int COMMITTED_END_OFFSET = 8;
+    static final int COMMITTED_ROUND_OFFSET = 16;
+    static final int FILE_HEADER_SIZE = 24;
+
+    static final int ROUND_OFFSET = 0;
+    static final int SEATS_OFFSET = 8;
+    static final int FLAGS_OFFSET = 9;
+    static final int WINNERS_OFFSET = 10;
+    static final int PRIZE_OFFSET = 12;
+    static final int RECORD_HEADER_SIZE = 16;
+    static final int SEAT_SIZE = 8;
+
+    static final int FLAG_DRAW = 1;
+    static final int MAX_SEATS = 10;
+    static final int CARDS_PER_SEAT = 5;
+    static final int CARD_BITS = 6;
+    static final int CARD_MASK = (1 << CARD_BITS) - 1;
+    static final int STRENGTH_SHIFT = 32;
+    static final int MAX_RECORD_SIZE = RECORD_HEADER_SIZE + MAX_SEATS * SEAT_SIZE;
+
+    private HandHistoryFormat() {
+    }
+
+    static int recordSize(int seats) {
+        return RECORD_HEADER_SIZE + seats * SEAT_SIZE;
+    }
+}
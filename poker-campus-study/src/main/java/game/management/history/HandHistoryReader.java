@@ -0,0 +1,174 @@
+package game.management.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+import static game.management.history.HandHistoryFormat.*;
+
+/**
+ * 핸드 기록 리더 - {@link HandHistoryWriter}가 쓴 파일을 메모리 매핑으로 훑어 읽음
+ *
+ * 파일을 최대 {@value #WINDOW_SIZE}바이트씩 {@link MappedByteBuffer}로 매핑하고,
+ * 레코드 하나를 가리키는 {@link HandRecord} 객체 하나를 옮겨 가며 콜백에 넘깁니다.
+ * 읽기 시스템 호출, 복사, 파싱용 객체 생성이 없으므로 스캔 속도는 페이지 캐시와
+ * 콜백 본문이 결정합니다 (예: 4명 테이블 1억 라운드 = 약 4.8GB, 페이지 캐시에 있으면 몇 초 만에 집계).
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>전체 스캔: {@link #scan(Consumer)} - 레코드 수 반환</li>
+ *   <li>2GB 초과 파일: 매핑 창을 레코드 경계에서 옮겨 가며 읽음</li>
+ *   <li>끝이 잘린 파일: 기록 도중 중단되어 마지막 레코드가 불완전하면 그 앞까지만 읽음</li>
+ * </ul>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * long[] winsByRank = new long[HandRank.values().length];
+ * HandHistoryReader reader = HandHistoryReader.open(Path.of("rounds.hh"));
+ * long rounds = reader.scan(record -&gt; {
+ *     for (int seat = 0; seat &lt; record.getSeatCount(); seat++) {
+ *         if (record.isWinner(seat)) {
+ *             winsByRank[record.getRank(seat).ordinal()]++;
+ *         }
+ *     }
+ * });
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.1
+ * @since 2026-10-17
+ */
+public final class HandHistoryReader {
+    /** 한 번에 매핑하는 최대 크기 (1GB) */
+    static final long WINDOW_SIZE = 1L << 30;
+
+    private final Path path;
+
+    private HandHistoryReader(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * 핸드 기록 파일을 엽니다.
+     *
+     * @param path 파일 경로
+     * @return 리더
+     * @throws IOException 파일을 읽을 수 없거나 핸드 기록 형식이 아닐 때
+     */
+    public static HandHistoryReader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            readHeader(channel);
+        }
+        return new HandHistoryReader(path);
+    }
+
+    /**
+     * 모든 레코드를 기록된 순서대로 훑습니다.
+     *
+     * @param action 레코드마다 호출할 콜백 (넘겨받은 레코드는 콜백 안에서만 유효)
+     * @return 읽은 레코드 수
+     * @throws IOException 파일을 읽을 수 없거나 레코드가 손상되었을 때
+     */
+    public long scan(Consumer<? super HandRecord> action) throws IOException {
+        return scan(action, null, FILE_HEADER_SIZE, 0);
+    }
+
+    /**
+     * 레코드 수를 셉니다.
+     *
+     * @return 레코드 수
+     * @throws IOException 파일을 읽을 수 없거나 레코드가 손상되었을 때
+     */
+    public long count() throws IOException {
+        return scan(record -> {
+        });
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    /**
+     * 파일 끝의 상태를 구합니다 (기록기가 이어 쓰기 전에 호출).
+     *
+     * 헤더에 기록된 마지막 동기화 위치부터만 훑습니다. 그 위치가 파일보다 뒤에 있으면
+     * (동기화 뒤에 파일이 잘린 경우) 처음부터 훑습니다.
+     *
+     * @return {완전한 마지막 레코드가 끝나는 위치, 마지막 라운드 번호}
+     */
+    long[] tail() throws IOException {
+        long start;
+        long lastRoundId;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = readHeader(channel);
+            start = header.getLong(COMMITTED_END_OFFSET);
+            lastRoundId = header.getLong(COMMITTED_ROUND_OFFSET);
+            if (start < FILE_HEADER_SIZE || start > channel.size()) {
+                start = FILE_HEADER_SIZE;
+                lastRoundId = 0;
+            }
+        }
+        long[] tail = new long[2];
+        scan(record -> {
+        }, tail, start, lastRoundId);
+        return tail;
+    }
+
+    private long scan(Consumer<? super HandRecord> action, long[] tail, long start, long lastRoundId) throws IOException {
+        HandRecord record = new HandRecord();
+        long count = 0;
+        long base = start;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            while (base < size) {
+                long length = Math.min(WINDOW_SIZE, size - base);
+                boolean lastWindow = base + length == size;
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, base, length);
+                window.order(ORDER);
+
+                int limit = (int) length;
+                int position = 0;
+                while (position + RECORD_HEADER_SIZE <= limit) {
+                    int seats = window.get(position + SEATS_OFFSET);
+                    if (seats < 1 || seats > MAX_SEATS) {
+                        throw new IOException("손상된 레코드입니다 (위치 " + (base + position) + ", 좌석 수 " + seats + ")");
+                    }
+                    int recordSize = recordSize(seats);
+                    if (position + recordSize > limit) {
+                        break;
+                    }
+                    record.moveTo(window, position, seats);
+                    action.accept(record);
+                    lastRoundId = window.getLong(position + ROUND_OFFSET);
+                    count++;
+                    position += recordSize;
+                }
+                base += position;
+                if (lastWindow || position == 0) {
+                    break; // 남은 바이트는 기록 도중 잘린 레코드
+                }
+            }
+        }
+        if (tail != null) {
+            tail[0] = base;
+            tail[1] = lastRoundId;
+        }
+        return count;
+    }
+
+    private static ByteBuffer readHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE).order(ORDER);
+        while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+            // 헤더를 다 읽을 때까지 반복
+        }
+        if (header.hasRemaining() || header.getInt(0) != MAGIC) {
+            throw new IOException("핸드 기록 파일이 아닙니다.");
+        }
+        if (header.getShort(4) != VERSION) {
+            throw new IOException("지원하지 않는 핸드 기록 형식 버전입니다: " + header.getShort(4));
+        }
+        return header;
+    }
+}
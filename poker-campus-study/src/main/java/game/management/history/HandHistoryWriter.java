@@ -0,0 +1,330 @@
+package game.management.history;
+
+import game.components.card.ICard;
+import game.components.hand.IHand;
+import game.participants.dealer.RoundListener;
+import game.participants.player.IPlayer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static game.management.history.HandHistoryFormat.*;
+
+/**
+ * 핸드 기록기 - 딜러가 진행한 라운드를 이진 형식으로 파일 끝에 덧붙이는 리스너
+ *
+ * 라운드마다 좌석별 카드 5장(6비트 코드)과 핸드 강도를 long 하나에 묶고, 승자는 비트마스크,
+ * 상금은 승자 1명당 금액 하나로 기록합니다 (형식은 {@link HandHistoryFormat}).
+ * 4명 테이블 기준 라운드당 48바이트로, 같은 내용의 텍스트 로그보다 몇 배 작고
+ * {@link HandHistoryReader}로 파싱 없이 바로 읽을 수 있습니다.
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>일괄 쓰기: 레코드를 다이렉트 버퍼에 모았다가 버퍼가 차면 {@link FileChannel}로 한 번에 쓰기</li>
+ *   <li>그룹 커밋: {@code syncInterval} 라운드마다 한 번만 디스크 동기화 (0이면 닫을 때만)</li>
+ *   <li>이어 쓰기: 기존 파일을 열면 헤더의 마지막 동기화 위치부터 훑어 잘린 마지막 레코드를 잘라내고
+ *       라운드 번호를 이어서 부여 (파일 전체를 다시 읽지 않음)</li>
+ *   <li>할당 없음: 카드는 핸드의 {@link game.components.card.CardSet} 비트마스크에서 바로 읽음</li>
+ *   <li>라운드 번호: 새 파일에 시드 딜러 하나만 연결하면 {@code DealerRef.getRoundsDealt()}와 같아
+ *       {@link game.participants.dealer.RoundReplay}로 바로 재현 가능</li>
+ * </ul>
+ *
+ * <p>주의: 리스너 이벤트는 게임 스레드 하나에서 오는 것을 전제로 하므로,
+ * 테이블(딜러)마다 기록기를 따로 만드세요. 입출력 오류는 {@link UncheckedIOException}으로 전달됩니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * try (HandHistoryWriter history = HandHistoryWriter.open(Path.of("rounds.hh"))) {
+ *     DealerRef dealer = new DealerRef(tableSeed);
+ *     dealer.setRoundListener(history);
+ *     dealer.playGame(players, 100_000_000);
+ * }   // close()가 남은 레코드를 쓰고 동기화
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.1
+ * @since 2026-10-17
+ */
+public class HandHistoryWriter implements RoundListener, AutoCloseable {
+    /** 기본 버퍼 크기 (4MB) */
+    public static final int DEFAULT_BUFFER_SIZE = 4 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final int syncInterval;
+    /** 헤더 갱신과 이미 파일에 쓴 레코드의 상금 고치기에 쓰는 작은 버퍼 */
+    private final ByteBuffer patch = ByteBuffer.allocateDirect(FILE_HEADER_SIZE).order(ORDER);
+    private final long[] seatWords = new long[MAX_SEATS];
+    private final int[] codes = new int[CARDS_PER_SEAT];
+
+    private List<? extends IPlayer> seated = List.of();
+    private long roundBase;
+    private int lastRound;
+    private long lastRoundId;
+    /** 버퍼의 첫 바이트가 쓰일 파일 위치 */
+    private long flushedEnd;
+    /** 상금을 기다리는 마지막 레코드의 파일 위치 (동기화 뒤에도 유지) */
+    private long recordPosition = -1;
+    private int unsynced;
+    private long roundsWritten;
+    private boolean closed;
+
+    private HandHistoryWriter(FileChannel channel, int bufferSize, int syncInterval, long end, long lastRoundId) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize).order(ORDER);
+        this.syncInterval = syncInterval;
+        this.flushedEnd = end;
+        this.roundBase = lastRoundId;
+        this.lastRoundId = lastRoundId;
+    }
+
+    /**
+     * 기본 버퍼 크기로 기록기를 엽니다 (동기화는 닫을 때만).
+     *
+     * @param path 기록 파일 경로 (없으면 만들고, 있으면 이어 씀)
+     * @return 기록기
+     * @throws IOException 파일을 열 수 없거나 기존 파일이 핸드 기록 형식이 아닐 때
+     */
+    public static HandHistoryWriter open(Path path) throws IOException {
+        return open(path, DEFAULT_BUFFER_SIZE, 0);
+    }
+
+    /**
+     * 버퍼 크기와 그룹 커밋 간격을 지정해 기록기를 엽니다.
+     *
+     * @param path 기록 파일 경로 (없으면 만들고, 있으면 이어 씀)
+     * @param bufferSize 다이렉트 버퍼 크기 (바이트)
+     * @param syncInterval 몇 라운드마다 디스크에 동기화할지 (0이면 닫을 때만)
+     * @return 기록기
+     * @throws IllegalArgumentException 버퍼가 레코드 하나보다 작거나 간격이 음수일 때
+     * @throws IOException 파일을 열 수 없거나 기존 파일이 핸드 기록 형식이 아닐 때
+     */
+    public static HandHistoryWriter open(Path path, int bufferSize, int syncInterval) throws IOException {
+        if (bufferSize < MAX_RECORD_SIZE) {
+            throw new IllegalArgumentException("버퍼는 최소 " + MAX_RECORD_SIZE + "바이트여야 합니다.");
+        }
+        if (syncInterval < 0) {
+            throw new IllegalArgumentException("동기화 간격은 음수일 수 없습니다.");
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            long lastRoundId = 0;
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE).order(ORDER);
+                header.putInt(MAGIC).putShort(VERSION).putShort((short) 0)
+                    .putLong(FILE_HEADER_SIZE).putLong(0).flip();
+                writeFully(channel, header);
+            } else {
+                long[] tail = HandHistoryReader.open(path).tail();
+                channel.truncate(tail[0]);
+                lastRoundId = tail[1];
+            }
+            long end = channel.size();
+            channel.position(end);
+            return new HandHistoryWriter(channel, bufferSize, syncInterval, end, lastRoundId);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void handsEvaluated(int round, List<? extends IPlayer> players) {
+        if (players.size() > MAX_SEATS) {
+            throw new IllegalArgumentException("한 라운드는 최대 " + MAX_SEATS + "명까지 기록할 수 있습니다.");
+        }
+        if (round <= lastRound) {
+            roundBase += lastRound; // 새 게임 - 라운드 번호를 이어서 부여
+        }
+        lastRound = round;
+        for (int seat = 0; seat < players.size(); seat++) {
+            IHand hand = players.get(seat).getHand();
+            seatWords[seat] = cardCodes(hand) | (long) hand.strength() << STRENGTH_SHIFT;
+        }
+        seated = players;
+    }
+
+    @Override
+    public void winnersDecided(int round, List<? extends IPlayer> winners, boolean draw) {
+        int mask = 0;
+        for (IPlayer winner : winners) {
+            mask |= 1 << seatOf(winner);
+        }
+        append(roundBase + round, mask, draw);
+    }
+
+    @Override
+    public void prizePaid(int round, IPlayer winner, int amount) {
+        if (recordPosition < 0) {
+            return;
+        }
+        if (recordPosition >= flushedEnd) {
+            buffer.putInt((int) (recordPosition - flushedEnd) + PRIZE_OFFSET, amount);
+            return;
+        }
+        // 상금이 오기 전에 동기화되어 이미 파일에 쓴 레코드 - 파일에서 직접 고침
+        patch.clear();
+        patch.putInt(amount).flip();
+        try {
+            writeFully(channel, patch, recordPosition + PRIZE_OFFSET);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 지금까지 이 기록기로 쓴 라운드 수를 반환합니다.
+     *
+     * @return 기록한 라운드 수 (기존 파일에 있던 라운드 제외)
+     */
+    public long getRoundsWritten() {
+        return roundsWritten;
+    }
+
+    /**
+     * 버퍼에 모인 레코드를 파일에 쓰고 디스크에 동기화합니다.
+     *
+     * 동기화한 뒤 헤더에 레코드 끝 위치와 마지막 라운드 번호를 적어, 다시 열 때 그 뒤만 훑게 합니다.
+     * 헤더는 다음 동기화(또는 닫기) 때 디스크에 반영되며, 헤더가 그보다 오래되어도 더 앞에서부터 훑을 뿐입니다.
+     *
+     * @throws UncheckedIOException 쓰기에 실패했을 때
+     * @throws IllegalStateException 이미 닫혔을 때
+     */
+    public void commit() {
+        ensureOpen();
+        try {
+            flush();
+            channel.force(false);
+            patch.clear();
+            patch.putLong(flushedEnd).putLong(lastRoundId).flip();
+            writeFully(channel, patch, COMMITTED_END_OFFSET);
+            unsynced = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 남은 레코드를 쓰고 동기화한 뒤 파일을 닫습니다. 여러 번 호출해도 안전합니다.
+     *
+     * @throws UncheckedIOException 쓰기에 실패했을 때
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        try {
+            commit();
+            channel.force(false); // 마지막 헤더까지 반영
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            closed = true;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    private void append(long roundId, int winnerMask, boolean draw) {
+        ensureOpen();
+        int seats = seated.size();
+        try {
+            // 그룹 커밋은 다음 레코드를 쓰기 전에 - 직전 레코드의 상금이 아직 채워지는 중일 수 있음
+            if (syncInterval > 0 && unsynced >= syncInterval) {
+                commit();
+            } else if (buffer.remaining() < recordSize(seats)) {
+                flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        recordPosition = flushedEnd + buffer.position();
+        lastRoundId = roundId;
+        buffer.putLong(roundId)
+            .put((byte) seats)
+            .put((byte) (draw ? FLAG_DRAW : 0))
+            .putShort((short) winnerMask)
+            .putInt(0);
+        for (int seat = 0; seat < seats; seat++) {
+            buffer.putLong(seatWords[seat]);
+        }
+        unsynced++;
+        roundsWritten++;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        flushedEnd += buffer.remaining();
+        writeFully(channel, buffer);
+        buffer.clear();
+    }
+
+    /**
+     * 핸드의 카드 5장을 카드 코드 오름차순으로 6비트씩 묶습니다.
+     *
+     * 보통은 카드 집합 비트마스크를 아래 비트부터 읽고, 여러 벌 덱에서 같은 카드가 겹친
+     * 핸드(집합의 카드가 5장보다 적음)만 카드 목록을 읽어 정렬합니다.
+     */
+    private long cardCodes(IHand hand) {
+        long set = hand.getCardSet();
+        long word = 0;
+        if (Long.bitCount(set) == CARDS_PER_SEAT) {
+            for (int i = 0; i < CARDS_PER_SEAT; i++) {
+                word |= (long) Long.numberOfTrailingZeros(set) << (i * CARD_BITS);
+                set &= set - 1;
+            }
+            return word;
+        }
+        List<ICard> cards = hand.getCards();
+        for (int i = 0; i < CARDS_PER_SEAT; i++) {
+            int code = cards.get(i).getIndex();
+            int j = i;
+            for (; j > 0 && codes[j - 1] > code; j--) {
+                codes[j] = codes[j - 1];
+            }
+            codes[j] = code;
+        }
+        for (int i = 0; i < CARDS_PER_SEAT; i++) {
+            word |= (long) codes[i] << (i * CARD_BITS);
+        }
+        return word;
+    }
+
+    private int seatOf(IPlayer player) {
+        for (int seat = 0; seat < seated.size(); seat++) {
+            if (seated.get(seat) == player) {
+                return seat;
+            }
+        }
+        throw new IllegalStateException("이번 라운드에 앉지 않은 승자입니다: " + player.getName());
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("이미 닫힌 기록기입니다.");
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer source, long position) throws IOException {
+        while (source.hasRemaining()) {
+            position += channel.write(source, position);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package game.management.history;
+
+import game.components.card.ICard;
+import game.components.hand.HandRank;
+import game.components.hand.HandStrength;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static game.management.history.HandHistoryFormat.*;
+
+/**
+ * 핸드 기록 파일의 라운드 레코드 하나를 읽는 뷰
+ *
+ * {@link HandHistoryReader#scan(java.util.function.Consumer)}는 객체 하나를 레코드마다
+ * 다시 가리키게 하여 넘겨주므로, 스캔 중에 레코드당 객체를 만들지 않습니다.
+ * 값은 매핑된 파일에서 필요할 때 바로 읽습니다.
+ *
+ * <p>주의: 콜백 안에서만 유효합니다. 보관하려면 필요한 값을 복사하세요.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * reader.scan(record -&gt; {
+ *     for (int seat = 0; seat &lt; record.getSeatCount(); seat++) {
+ *         if (record.isWinner(seat)) {
+ *             winsByRank[record.getRank(seat).ordinal()]++;
+ *         }
+ *     }
+ * });
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.1
+ * @since 2026-10-17
+ */
+public final class HandRecord {
+    private ByteBuffer buffer;
+    private int position;
+    private int seats;
+
+    HandRecord() {
+    }
+
+    /**
+     * 라운드 번호를 반환합니다.
+     *
+     * @return 라운드 번호 (1부터)
+     */
+    public long getRoundId() {
+        return buffer.getLong(position + ROUND_OFFSET);
+    }
+
+    /**
+     * 좌석 수를 반환합니다.
+     *
+     * @return 참가 플레이어 수
+     */
+    public int getSeatCount() {
+        return seats;
+    }
+
+    /**
+     * 모든 플레이어가 동점인 무승부였는지 확인합니다.
+     *
+     * @return 무승부이면 true
+     */
+    public boolean isDraw() {
+        return (buffer.get(position + FLAGS_OFFSET) & FLAG_DRAW) != 0;
+    }
+
+    /**
+     * 승자 비트마스크를 반환합니다 (bit n = n번 좌석).
+     *
+     * @return 승자 비트마스크
+     */
+    public int getWinnerMask() {
+        return buffer.getShort(position + WINNERS_OFFSET) & 0xFFFF;
+    }
+
+    /**
+     * 좌석이 승자인지 확인합니다 (무승부이면 모두 승자).
+     *
+     * @param seat 좌석 번호 (0부터)
+     * @return 승자이면 true
+     */
+    public boolean isWinner(int seat) {
+        return (getWinnerMask() >>> checkSeat(seat) & 1) != 0;
+    }
+
+    /**
+     * 좌석의 이번 라운드 상금 변화량을 반환합니다.
+     *
+     * @param seat 좌석 번호
+     * @return 받은 상금 (패자와 무승부는 0)
+     */
+    public int getPrizeDelta(int seat) {
+        return isWinner(seat) ? buffer.getInt(position + PRIZE_OFFSET) : 0;
+    }
+
+    /**
+     * 좌석의 핸드 강도를 반환합니다.
+     *
+     * @param seat 좌석 번호
+     * @return {@link HandStrength} 강도 값
+     */
+    public int getStrength(int seat) {
+        return (int) (seatWord(seat) >>> STRENGTH_SHIFT);
+    }
+
+    /**
+     * 좌석의 족보를 반환합니다.
+     *
+     * @param seat 좌석 번호
+     * @return 족보
+     */
+    public HandRank getRank(int seat) {
+        return HandStrength.rankOf(getStrength(seat));
+    }
+
+    /**
+     * 좌석의 카드 코드를 반환합니다.
+     *
+     * @param seat 좌석 번호
+     * @param card 카드 순서 (0-4, 카드 코드 오름차순)
+     * @return 카드 인덱스 (0-51, {@link ICard#getIndex()})
+     * @throws IllegalArgumentException 순서가 0-4가 아닐 때
+     */
+    public int getCardIndex(int seat, int card) {
+        if (card < 0 || card >= CARDS_PER_SEAT) {
+            throw new IllegalArgumentException("카드 순서는 0-" + (CARDS_PER_SEAT - 1) + "이어야 합니다: " + card);
+        }
+        return (int) (seatWord(seat) >>> (card * CARD_BITS)) & CARD_MASK;
+    }
+
+    /**
+     * 좌석의 카드 5장을 카드 코드 순서(무늬 우선, 같은 무늬는 랭크 오름차순)로 반환합니다.
+     *
+     * @param seat 좌석 번호
+     * @return 카드 목록
+     */
+    public List<ICard> getCards(int seat) {
+        List<ICard> cards = new ArrayList<>(CARDS_PER_SEAT);
+        for (int i = 0; i < CARDS_PER_SEAT; i++) {
+            cards.add(ICard.of(getCardIndex(seat, i)));
+        }
+        return cards;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("라운드 ").append(getRoundId());
+        if (isDraw()) {
+            sb.append(" (무승부)");
+        }
+        for (int seat = 0; seat < seats; seat++) {
+            sb.append(System.lineSeparator()).append("  좌석 ").append(seat).append(": ")
+                .append(getCards(seat)).append(" (").append(HandStrength.toString(getStrength(seat))).append(')');
+            int delta = getPrizeDelta(seat);
+            if (delta != 0) {
+                sb.append(" +").append(delta);
+            }
+        }
+        return sb.toString();
+    }
+
+    // ===== 헬퍼 메서드들 (HandHistoryReader에서 호출) =====
+
+    void moveTo(ByteBuffer buffer, int position, int seats) {
+        this.buffer = buffer;
+        this.position = position;
+        this.seats = seats;
+    }
+
+    private long seatWord(int seat) {
+        return buffer.getLong(position + RECORD_HEADER_SIZE + checkSeat(seat) * SEAT_SIZE);
+    }
+
+    private int checkSeat(int seat) {
+        if (seat < 0 || seat >= seats) {
+            throw new IllegalArgumentException("좌석 번호는 0-" + (seats - 1) + "이어야 합니다: " + seat);
+        }
+        return seat;
+    }
+}
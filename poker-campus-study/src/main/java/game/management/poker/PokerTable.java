@@ -0,0 +1,380 @@
+package game.management.poker;
+
+import game.participants.dealer.DealerRef;
+import game.participants.player.IPlayer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포커 테이블 - 자체 딜러와 플레이어를 가진 게임 한 판
+ *
+ * {@link TableManager}가 만들고 가상 스레드에서 진행합니다.
+ * 테이블의 생명주기는 {@link GameState}로 관리합니다.
+ *
+ * <p>상태 전이:</p>
+ * <pre>
+ * NOT_STARTED ──start()──▶ WAITING_FOR_PLAYERS ──seat() (2명 이상)──▶ IN_PROGRESS
+ *      └────────start() (2명 이상)─────────────────────────────────────▲   │
+ *                                                         resume()   │   │ pause()
+ *                                                       PAUSED ◀─────┴───┘
+ * 모든 라운드 완료 또는 close() ──▶ ENDED (어느 상태에서나)
+ * </pre>
+ *
+ * <p>라운드는 {@value #ROUNDS_PER_SLICE}라운드씩 출력 없이 진행하며({@link DealerRef#simulate(List, int)}),
+ * 한 묶음이 끝날 때마다 일시 정지와 종료 요청을 확인하고 다른 가상 스레드에 실행을 양보합니다.
+ * 따라서 pause()는 진행 중인 묶음이 끝난 뒤에 반영되고, close()는 바로 ENDED가 되지만
+ * 진행 중이던 묶음은 끝까지 진행됩니다 (멈출 때까지 기다리려면 {@link #awaitEnd()}).</p>
+ *
+ * <p>플레이어의 핸드는 하나뿐이므로 한 플레이어는 한 번에 한 테이블에만 앉을 수 있습니다.
+ * 자리는 {@link TableManager}가 관리하며, 테이블이 끝나고 라운드 묶음까지 멈추면 풀립니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * PokerTable table = manager.createTable(1_000);
+ * table.seat(new PlayerRef("럭키가이", 10000));
+ * table.seat(new PlayerRef("포커마스터", 10000));
+ * table.start();       // IN_PROGRESS
+ * table.pause();       // PAUSED
+ * table.resume();      // IN_PROGRESS
+ * table.awaitEnd();    // ENDED
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.2
+ * @since 2026-10-17
+ */
+public class PokerTable {
+    /** 게임을 시작할 수 있는 최소 인원 */
+    public static final int MIN_PLAYERS = 2;
+    /** 한 테이블의 최대 인원 (52장 / 5장) */
+    public static final int MAX_PLAYERS = 10;
+    /** 상태를 확인하고 실행을 양보하는 라운드 간격 */
+    static final int ROUNDS_PER_SLICE = 64;
+
+    private final int id;
+    private final int totalRounds;
+    private final DealerRef dealer;
+    private final TableManager manager;
+    private final List<IPlayer> players = new ArrayList<>(MAX_PLAYERS);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition stateChanged = lock.newCondition();
+
+    private volatile GameState state = GameState.NOT_STARTED;
+    private volatile int roundsPlayed;
+    /** 가상 스레드가 라운드를 진행하고 있는지 (lock으로 보호) */
+    private boolean running;
+    /** 가상 스레드가 일시 정지 상태에서 재개를 기다리고 있는지 (lock으로 보호) */
+    private boolean parked;
+    /** 가상 스레드에서 진행을 시작한 적이 있는지 (lock으로 보호) */
+    private boolean launched;
+    /** 라운드 묶음이 끝날 때마다 테이블 스레드에서 호출 (테스트용) */
+    private volatile Runnable sliceHook = () -> { };
+
+    PokerTable(int id, int totalRounds, DealerRef dealer, TableManager manager) {
+        this.id = id;
+        this.totalRounds = totalRounds;
+        this.dealer = dealer;
+        this.manager = manager;
+    }
+
+    /**
+     * 테이블 번호를 반환합니다.
+     *
+     * @return 관리자 안에서 고유한 테이블 번호
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * 테이블 시드를 반환합니다.
+     *
+     * 테이블 시드와 라운드 번호(1부터)로 {@link game.participants.dealer.RoundReplay}에서 라운드를 재현할 수 있습니다.
+     *
+     * @return 테이블 시드
+     */
+    public long getTableSeed() {
+        return dealer.getTableSeed();
+    }
+
+    /**
+     * 현재 상태를 반환합니다.
+     *
+     * @return 테이블 상태
+     */
+    public GameState getState() {
+        return state;
+    }
+
+    /**
+     * 지금까지 진행한 라운드 수를 반환합니다.
+     *
+     * @return 진행한 라운드 수
+     */
+    public int getRoundsPlayed() {
+        return roundsPlayed;
+    }
+
+    /**
+     * 진행할 전체 라운드 수를 반환합니다.
+     *
+     * @return 전체 라운드 수
+     */
+    public int getTotalRounds() {
+        return totalRounds;
+    }
+
+    /**
+     * 앉아 있는 플레이어 목록을 반환합니다.
+     *
+     * @return 수정할 수 없는 플레이어 목록 복사본
+     */
+    public List<IPlayer> getPlayers() {
+        lock.lock();
+        try {
+            return List.copyOf(players);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 플레이어를 테이블에 앉힙니다.
+     *
+     * 게임이 시작되기 전(NOT_STARTED, WAITING_FOR_PLAYERS)에만 앉을 수 있으며,
+     * 플레이어를 기다리던 테이블은 인원이 {@value #MIN_PLAYERS}명이 되면 바로 시작합니다.
+     *
+     * @param player 앉힐 플레이어
+     * @throws IllegalArgumentException player가 null이거나 이미 이 테이블 또는 진행 중인 다른 테이블에 앉아 있을 때
+     * @throws IllegalStateException 게임이 이미 시작되었거나 자리가 없을 때
+     */
+    public void seat(IPlayer player) {
+        if (player == null) {
+            throw new IllegalArgumentException("플레이어는 null일 수 없습니다.");
+        }
+        lock.lock();
+        try {
+            if (state != GameState.NOT_STARTED && state != GameState.WAITING_FOR_PLAYERS) {
+                throw new IllegalStateException("게임이 시작된 테이블에는 앉을 수 없습니다. (현재 상태: " + state.getDisplayName() + ")");
+            }
+            if (players.size() == MAX_PLAYERS) {
+                throw new IllegalStateException("테이블은 최대 " + MAX_PLAYERS + "명까지 앉을 수 있습니다.");
+            }
+            if (players.contains(player)) {
+                throw new IllegalArgumentException("이미 앉아 있는 플레이어입니다: " + player.getName());
+            }
+            manager.claimSeat(player, this);
+            players.add(player);
+            if (state == GameState.WAITING_FOR_PLAYERS && players.size() >= MIN_PLAYERS) {
+                launch();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 게임을 시작합니다.
+     *
+     * 인원이 {@value #MIN_PLAYERS}명 이상이면 바로 진행하고(IN_PROGRESS),
+     * 모자라면 플레이어를 기다립니다(WAITING_FOR_PLAYERS).
+     *
+     * @throws IllegalStateException 이미 시작한 테이블일 때
+     */
+    public void start() {
+        lock.lock();
+        try {
+            requireState(GameState.NOT_STARTED, "시작");
+            if (players.size() >= MIN_PLAYERS) {
+                launch();
+            } else {
+                changeState(GameState.WAITING_FOR_PLAYERS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 진행 중인 게임을 일시 정지합니다.
+     *
+     * 진행 중인 라운드 묶음이 끝나면 멈춥니다.
+     *
+     * @throws IllegalStateException 진행 중이 아닐 때
+     */
+    public void pause() {
+        lock.lock();
+        try {
+            requireState(GameState.IN_PROGRESS, "일시 정지");
+            changeState(GameState.PAUSED);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 일시 정지한 게임을 다시 진행합니다.
+     *
+     * @throws IllegalStateException 일시 정지 상태가 아닐 때
+     */
+    public void resume() {
+        lock.lock();
+        try {
+            requireState(GameState.PAUSED, "재개");
+            changeState(GameState.IN_PROGRESS);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 테이블을 닫습니다.
+     *
+     * 바로 ENDED가 되며, 진행 중이던 라운드 묶음은 끝까지 진행된 뒤 멈춥니다.
+     * 이미 닫힌 테이블이면 아무것도 하지 않습니다.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            if (state != GameState.ENDED) {
+                changeState(GameState.ENDED);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 테이블이 끝나고(ENDED) 실행 중이던 라운드 묶음까지 멈출 때까지 기다립니다.
+     *
+     * @throws InterruptedException 기다리는 중 인터럽트되었을 때
+     */
+    public void awaitEnd() throws InterruptedException {
+        lock.lock();
+        try {
+            while (state != GameState.ENDED || running) {
+                stateChanged.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "테이블 " + id + " [" + state.getDisplayName() + ", " + roundsPlayed + "/" + totalRounds + "라운드]";
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    /**
+     * 가상 스레드에서 실행되는 테이블 본체
+     */
+    void run() {
+        try {
+            while (awaitRunnable()) {
+                int slice = Math.min(ROUNDS_PER_SLICE, totalRounds - roundsPlayed);
+                dealer.simulate(players, slice);
+                roundsPlayed += slice;
+                manager.roundsPlayed(slice);
+                sliceHook.run();
+                if (roundsPlayed == totalRounds) {
+                    break;
+                }
+                Thread.yield();
+            }
+        } finally {
+            lock.lock();
+            try {
+                running = false;
+                if (state != GameState.ENDED) {
+                    changeState(GameState.ENDED);
+                } else {
+                    stateChanged.signalAll();
+                    manager.releaseSeats(this, players);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 진행 중이면 바로, 일시 정지 중이면 재개될 때까지 기다린 뒤 계속할지 반환합니다.
+     */
+    private boolean awaitRunnable() {
+        if (state == GameState.IN_PROGRESS) {
+            return true;
+        }
+        lock.lock();
+        try {
+            while (state == GameState.PAUSED) {
+                if (!parked) {
+                    parked = true;
+                    stateChanged.signalAll();
+                }
+                stateChanged.awaitUninterruptibly();
+            }
+            parked = false;
+            return state == GameState.IN_PROGRESS;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 라운드 묶음이 끝날 때마다 테이블 스레드에서 실행할 작업을 지정합니다 (테스트용).
+     */
+    void onSliceEnd(Runnable hook) {
+        sliceHook = hook;
+    }
+
+    /**
+     * 일시 정지한 테이블의 가상 스레드가 재개를 기다리기 시작할 때까지 기다립니다 (테스트용).
+     *
+     * @return 제한 시간 안에 기다리기 시작했으면 true
+     */
+    boolean awaitParked(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (!parked) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = stateChanged.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void launch() {
+        changeState(GameState.IN_PROGRESS);
+        running = true;
+        launched = true;
+        manager.launch(this);
+    }
+
+    private void requireState(GameState expected, String action) {
+        if (state != expected) {
+            throw new IllegalStateException(action + "할 수 없는 상태입니다. (현재 상태: " + state.getDisplayName() + ")");
+        }
+    }
+
+    private void changeState(GameState next) {
+        state = next;
+        stateChanged.signalAll();
+        if (next == GameState.ENDED) {
+            manager.tableEnded(this, launched);
+            if (!running) {
+                manager.releaseSeats(this, players);
+            }
+        }
+    }
+}
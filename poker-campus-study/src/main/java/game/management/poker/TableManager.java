@@ -0,0 +1,261 @@
+package game.management.poker;
+
+import game.components.deck.DeckRandom;
+import game.participants.dealer.DealerRef;
+import game.participants.player.IPlayer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 테이블 관리자 - 한 JVM에서 수천 개의 포커 테이블을 동시에 운영
+ *
+ * 테이블마다 자체 딜러(덱, 난수 생성기)와 플레이어를 가지며, 진행 중인 테이블 하나가
+ * 가상 스레드 하나에서 실행됩니다. 가상 스레드는 스택이 작고 필요할 때만 운영체제 스레드에
+ * 올라가므로, 테이블 수가 코어 수보다 훨씬 많아도 스레드 비용이 문제되지 않습니다.
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>테이블 생성: 빈 테이블 또는 플레이어를 앉혀 바로 시작하는 테이블</li>
+ *   <li>생명주기: 테이블 번호로 일시 정지, 재개, 닫기 ({@link GameState}로 상태 관리)</li>
+ *   <li>지표: 초당 끝난 테이블 수와 초당 라운드 수 ({@link TableMetrics}, 시작 전에 닫힌 테이블은 세지 않음)</li>
+ *   <li>자리 관리: 한 플레이어는 진행 중인 테이블 하나에만 앉을 수 있음 (핸드를 테이블끼리 덮어쓰지 않도록)</li>
+ *   <li>재현: 테이블 시드 = {@link DeckRandom#deriveSeed(long, long)}(기준 시드, 테이블 번호),
+ *       분쟁 시 {@link PokerTable#getTableSeed()}와 라운드 번호로 {@link game.participants.dealer.RoundReplay} 재현</li>
+ * </ul>
+ *
+ * <p>끝난 테이블은 관리 목록에서 빠지므로, 결과가 필요하면 생성 시 받은 {@link PokerTable}을 보관하세요.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * try (TableManager manager = new TableManager()) {
+ *     for (int i = 0; i &lt; 5_000; i++) {
+ *         manager.createTable(List.of(new PlayerRef("A", 10000), new PlayerRef("B", 10000)), 1_000);
+ *     }
+ *     manager.awaitAll();
+ *     System.out.println(manager.metrics());
+ * }
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.2
+ * @since 2026-10-17
+ */
+public class TableManager implements AutoCloseable {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ConcurrentHashMap<Integer, PokerTable> tables = new ConcurrentHashMap<>();
+    /** 플레이어별로 앉아 있는 테이블 (테이블이 멈추면 풀림) */
+    private final ConcurrentHashMap<IPlayer, PokerTable> seats = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    private final LongAdder rounds = new LongAdder();
+    private final LongAdder tablesCompleted = new LongAdder();
+    private final long startNanos = System.nanoTime();
+    private final long seed;
+    private volatile boolean closed;
+
+    /**
+     * 무작위 기준 시드를 사용하는 TableManager 생성자
+     *
+     * 실행할 때마다 카드 흐름이 다르지만, 테이블마다 시드가 있으므로 라운드 재현은 가능합니다.
+     */
+    public TableManager() {
+        this(DeckRandom.create().nextLong());
+    }
+
+    /**
+     * 테이블 번호별로 시드를 나눠 주는 TableManager 생성자
+     *
+     * 같은 시드, 같은 순서로 만든 테이블은 같은 카드 흐름으로 진행됩니다.
+     *
+     * @param seed 기준 시드
+     */
+    public TableManager(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * 빈 테이블을 만듭니다 (NOT_STARTED).
+     *
+     * @param rounds 진행할 라운드 수
+     * @return 새 테이블
+     * @throws IllegalArgumentException 라운드 수가 양수가 아닐 때
+     * @throws IllegalStateException 관리자가 닫혔을 때
+     */
+    public PokerTable createTable(int rounds) {
+        if (rounds <= 0) {
+            throw new IllegalArgumentException("라운드 수는 양수여야 합니다.");
+        }
+        if (closed) {
+            throw new IllegalStateException("이미 닫힌 테이블 관리자입니다.");
+        }
+        int id = nextId.getAndIncrement();
+        DealerRef dealer = new DealerRef(DeckRandom.deriveSeed(seed, id));
+        PokerTable table = new PokerTable(id, rounds, dealer, this);
+        tables.put(id, table);
+        return table;
+    }
+
+    /**
+     * 플레이어를 앉힌 테이블을 만들고 바로 시작합니다.
+     *
+     * @param players 앉힐 플레이어 목록 ({@value PokerTable#MIN_PLAYERS}-{@value PokerTable#MAX_PLAYERS}명)
+     * @param rounds 진행할 라운드 수
+     * @return 시작한 테이블
+     * @throws IllegalArgumentException 라운드 수가 양수가 아니거나 플레이어 목록이 잘못되었을 때
+     * @throws IllegalStateException 관리자가 닫혔거나 인원이 맞지 않을 때
+     */
+    public PokerTable createTable(List<? extends IPlayer> players, int rounds) {
+        if (players == null || players.size() < PokerTable.MIN_PLAYERS) {
+            throw new IllegalArgumentException("플레이어는 최소 " + PokerTable.MIN_PLAYERS + "명이어야 합니다.");
+        }
+        PokerTable table = createTable(rounds);
+        try {
+            for (IPlayer player : players) {
+                table.seat(player);
+            }
+        } catch (RuntimeException e) {
+            table.close();
+            throw e;
+        }
+        table.start();
+        return table;
+    }
+
+    /**
+     * 진행 중인 테이블을 찾습니다.
+     *
+     * @param id 테이블 번호
+     * @return 테이블
+     * @throws IllegalArgumentException 없는 테이블이거나 이미 끝난 테이블일 때
+     */
+    public PokerTable getTable(int id) {
+        PokerTable table = tables.get(id);
+        if (table == null) {
+            throw new IllegalArgumentException("존재하지 않거나 이미 끝난 테이블입니다: " + id);
+        }
+        return table;
+    }
+
+    /**
+     * 아직 끝나지 않은 테이블 목록을 반환합니다.
+     *
+     * @return 테이블 목록 스냅샷
+     */
+    public List<PokerTable> getTables() {
+        return List.copyOf(tables.values());
+    }
+
+    /**
+     * 테이블을 일시 정지합니다.
+     *
+     * @param id 테이블 번호
+     * @throws IllegalArgumentException 없는 테이블일 때
+     * @throws IllegalStateException 진행 중이 아닐 때
+     */
+    public void pause(int id) {
+        getTable(id).pause();
+    }
+
+    /**
+     * 일시 정지한 테이블을 재개합니다.
+     *
+     * @param id 테이블 번호
+     * @throws IllegalArgumentException 없는 테이블일 때
+     * @throws IllegalStateException 일시 정지 상태가 아닐 때
+     */
+    public void resume(int id) {
+        getTable(id).resume();
+    }
+
+    /**
+     * 테이블을 닫습니다.
+     *
+     * @param id 테이블 번호
+     * @throws IllegalArgumentException 없는 테이블일 때
+     */
+    public void closeTable(int id) {
+        getTable(id).close();
+    }
+
+    /**
+     * 현재 지표를 반환합니다.
+     *
+     * @return 지표 스냅샷
+     */
+    public TableMetrics metrics() {
+        return new TableMetrics(tables.size(), tablesCompleted.sum(), rounds.sum(),
+            Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * 지금 관리 중인 모든 테이블이 끝날 때까지 기다립니다.
+     *
+     * 플레이어를 기다리거나 일시 정지한 테이블이 있으면 끝나지 않으므로 주의하세요.
+     *
+     * @throws InterruptedException 기다리는 중 인터럽트되었을 때
+     */
+    public void awaitAll() throws InterruptedException {
+        for (PokerTable table : getTables()) {
+            table.awaitEnd();
+        }
+    }
+
+    /**
+     * 모든 테이블을 닫고, 진행 중이던 테이블이 멈출 때까지 기다립니다.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (PokerTable table : getTables()) {
+            table.close();
+        }
+        executor.close();
+    }
+
+    // ===== 헬퍼 메서드들 (PokerTable에서 호출) =====
+
+    void launch(PokerTable table) {
+        executor.execute(table::run);
+    }
+
+    void roundsPlayed(int count) {
+        rounds.add(count);
+    }
+
+    /**
+     * 플레이어의 자리를 잡습니다. 다른 테이블에 앉아 있으면 예외가 발생합니다.
+     */
+    void claimSeat(IPlayer player, PokerTable table) {
+        PokerTable current = seats.putIfAbsent(player, table);
+        if (current != null && current != table) {
+            throw new IllegalArgumentException("이미 다른 테이블에 앉아 있는 플레이어입니다: "
+                + player.getName() + " (테이블 " + current.getId() + ")");
+        }
+    }
+
+    /**
+     * 멈춘 테이블의 자리를 모두 풉니다.
+     */
+    void releaseSeats(PokerTable table, List<IPlayer> players) {
+        for (IPlayer player : players) {
+            seats.remove(player, table);
+        }
+    }
+
+    /**
+     * 끝난 테이블을 관리 목록에서 뺍니다. 진행을 시작했던 테이블만 지표에 셉니다.
+     */
+    void tableEnded(PokerTable table, boolean launched) {
+        if (tables.remove(table.getId(), table) && launched) {
+            tablesCompleted.increment();
+        }
+    }
+}
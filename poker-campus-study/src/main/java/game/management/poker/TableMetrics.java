@@ -0,0 +1,54 @@
+package game.management.poker;
+
+import java.time.Duration;
+
+/**
+ * 테이블 관리자 지표 스냅샷
+ *
+ * {@link TableManager#metrics()}를 호출한 시점의 값이며, 처리량은 관리자 생성 이후 평균입니다.
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * TableMetrics metrics = manager.metrics();
+ * System.out.printf("%.0f 라운드/초%n", metrics.roundsPerSecond());
+ * </pre>
+ *
+ * @param openTables 아직 끝나지 않은 테이블 수
+ * @param tablesCompleted 진행을 시작했다가 끝난(ENDED) 테이블 수 (시작 전에 닫힌 테이블 제외)
+ * @param roundsPlayed 모든 테이블에서 진행한 라운드 수
+ * @param elapsed 관리자 생성 이후 경과 시간
+ * @author XIYO
+ * @version 1.1
+ * @since 2026-10-17
+ */
+public record TableMetrics(int openTables, long tablesCompleted, long roundsPlayed, Duration elapsed) {
+
+    /**
+     * 초당 끝난 테이블 수를 반환합니다.
+     *
+     * @return 테이블/초
+     */
+    public double tablesPerSecond() {
+        return perSecond(tablesCompleted);
+    }
+
+    /**
+     * 초당 진행한 라운드 수를 반환합니다.
+     *
+     * @return 라운드/초
+     */
+    public double roundsPerSecond() {
+        return perSecond(roundsPlayed);
+    }
+
+    private double perSecond(long count) {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0.0 : count * 1e9 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("진행 중 테이블: %,d, 끝난 테이블: %,d (%,.0f/초), 라운드: %,d (%,.0f/초)",
+            openTables, tablesCompleted, tablesPerSecond(), roundsPlayed, roundsPerSecond());
+    }
+}
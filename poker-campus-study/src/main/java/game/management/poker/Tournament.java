@@ -0,0 +1,376 @@
+package game.management.poker;
+
+import game.components.deck.DeckRandom;
+import game.components.hand.HandStrength;
+import game.participants.dealer.DealerRef;
+import game.participants.player.IPlayer;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 토너먼트 - 수천 명을 여러 테이블에 앉히고 칩을 모두 잃은 플레이어를 탈락시키며 우승자를 가림
+ *
+ * 단계(레벨)마다 모든 테이블이 {@value #ROUNDS_PER_LEVEL}라운드씩 동시에 진행하고,
+ * 단계가 끝나면 탈락자를 빼고 테이블을 줄이거나 인원을 맞춥니다.
+ * 매 라운드 앉은 플레이어 전원이 앤티를 내고 승자가 팟을 나눠 가지며, 앤티는 단계마다 두 배가 됩니다.
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>병렬 진행: 테이블마다 자체 딜러를 두고 {@link ForkJoinPool}에서 진행 (작업 훔치기로 테이블 간 편차 흡수)</li>
+ *   <li>탈락: 잔액({@link IPlayer#getBalance()})이 0이 되면 그 라운드 직후 자리에서 제외</li>
+ *   <li>점진적 재배치: 필요한 테이블 수만 남기고, 정원보다 많은 자리와 없어지는 테이블의 자리만 옮김</li>
+ *   <li>순위: 늦게 탈락할수록 높은 순위, 같은 라운드 번호에서 탈락하면 그 라운드 시작 시 칩이 많았던 쪽이 높은 순위</li>
+ *   <li>재현: 좌석 추첨과 테이블마다의 딜러 시드를 기준 시드에서 파생 (같은 입력이면 같은 결과)</li>
+ * </ul>
+ *
+ * <p>팟 규칙 (단순화): 사이드 팟 없이 승자들이 팟 전체를 똑같이 나누고 나머지는 앞자리 승자가 가집니다.
+ * 잔액이 앤티보다 적으면 남은 칩 전부를 냅니다 (올인). 전원 동점이면 앤티를 걷지 않습니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * List&lt;IPlayer&gt; players = new ArrayList&lt;&gt;();
+ * for (int i = 1; i &lt;= 10_000; i++) {
+ *     players.add(new PlayerRef("플레이어" + i, 10_000));
+ * }
+ * TournamentResult result = new Tournament(players, 42L).run();
+ * System.out.println(result);   // 우승자, 단계 수, 이동한 자리 수, 전체 소요 시간
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.1
+ * @since 2026-10-17
+ */
+public class Tournament {
+    /** 단계마다 각 테이블이 진행하는 라운드 수 */
+    public static final int ROUNDS_PER_LEVEL = 20;
+    /** 기본 테이블 정원 */
+    public static final int DEFAULT_SEATS = 9;
+    /** 기본 시작 앤티 */
+    public static final long DEFAULT_ANTE = 100;
+
+    private final int seatsPerTable;
+    private final ForkJoinPool pool;
+    private final long totalChips;
+    private final int playerCount;
+    private final int startingTables;
+
+    private List<Table> tables = new ArrayList<>();
+    private final List<IPlayer> eliminated = new ArrayList<>();
+    private long ante;
+    private int remaining;
+    private int levels;
+    private int tablesBroken;
+    private long seatMoves;
+    private long roundsPlayed;
+    private boolean started;
+
+    /**
+     * 기본 정원, 기본 앤티, 공용 ForkJoinPool을 사용하는 Tournament 생성자
+     *
+     * @param players 참가 플레이어 목록 (잔액이 양수)
+     * @param seed 좌석 추첨과 딜러 시드의 기준 시드
+     * @throws IllegalArgumentException 참가자가 2명 미만이거나 잘못된 플레이어가 있을 때
+     */
+    public Tournament(List<? extends IPlayer> players, long seed) {
+        this(players, DEFAULT_SEATS, DEFAULT_ANTE, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 정원, 시작 앤티, 실행 풀을 지정하는 Tournament 생성자
+     *
+     * @param players 참가 플레이어 목록 (잔액이 양수, 중복 없음)
+     * @param seatsPerTable 테이블 정원 ({@value PokerTable#MIN_PLAYERS}-{@value PokerTable#MAX_PLAYERS})
+     * @param startingAnte 첫 단계의 앤티 (양수)
+     * @param seed 좌석 추첨과 딜러 시드의 기준 시드
+     * @param pool 테이블을 진행할 ForkJoinPool
+     * @throws IllegalArgumentException 설정이 범위를 벗어나거나 잘못된 플레이어가 있을 때
+     */
+    public Tournament(List<? extends IPlayer> players, int seatsPerTable, long startingAnte, long seed, ForkJoinPool pool) {
+        if (seatsPerTable < PokerTable.MIN_PLAYERS || seatsPerTable > PokerTable.MAX_PLAYERS) {
+            throw new IllegalArgumentException("테이블 정원은 " + PokerTable.MIN_PLAYERS + "-"
+                + PokerTable.MAX_PLAYERS + "명이어야 합니다: " + seatsPerTable);
+        }
+        if (startingAnte <= 0) {
+            throw new IllegalArgumentException("앤티는 양수여야 합니다.");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("ForkJoinPool은 null일 수 없습니다.");
+        }
+        if (players == null || players.size() < 2) {
+            throw new IllegalArgumentException("토너먼트는 최소 2명이 필요합니다.");
+        }
+        Map<IPlayer, Boolean> seen = new IdentityHashMap<>();
+        long chips = 0;
+        for (IPlayer player : players) {
+            if (player == null || player.getBalance() <= 0) {
+                throw new IllegalArgumentException("모든 참가자는 칩을 가지고 있어야 합니다: " + player);
+            }
+            if (seen.put(player, Boolean.TRUE) != null) {
+                throw new IllegalArgumentException("같은 플레이어가 두 번 참가할 수 없습니다: " + player.getName());
+            }
+            try {
+                chips = Math.addExact(chips, player.getBalance());
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("전체 칩 합계가 long 범위를 넘습니다.");
+            }
+        }
+        this.seatsPerTable = seatsPerTable;
+        this.pool = pool;
+        this.ante = startingAnte;
+        this.totalChips = chips;
+        this.playerCount = players.size();
+        this.remaining = players.size();
+
+        // 좌석 추첨 후 테이블에 돌아가며 앉힘 (테이블 간 인원 차이는 최대 1명)
+        List<IPlayer> draw = new ArrayList<>(players);
+        Collections.shuffle(draw, new SplittableRandom(seed));
+        int tableCount = tablesFor(remaining);
+        for (int id = 1; id <= tableCount; id++) {
+            tables.add(new Table(id, new DealerRef(DeckRandom.deriveSeed(seed, id))));
+        }
+        for (int i = 0; i < draw.size(); i++) {
+            tables.get(i % tableCount).seats.add(draw.get(i));
+        }
+        this.startingTables = tableCount;
+    }
+
+    /**
+     * 우승자가 나올 때까지 토너먼트를 진행합니다.
+     *
+     * @return 순위와 진행 통계 (전체 소요 시간 포함)
+     * @throws IllegalStateException 이미 진행한 토너먼트일 때
+     */
+    public TournamentResult run() {
+        if (started) {
+            throw new IllegalStateException("이미 진행한 토너먼트입니다.");
+        }
+        long start = System.nanoTime();
+        while (playLevel()) {
+            // 한 명이 남을 때까지 단계 반복
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        List<IPlayer> standings = new ArrayList<>(playerCount);
+        standings.add(tables.get(0).seats.get(0));
+        for (int i = eliminated.size() - 1; i >= 0; i--) {
+            standings.add(eliminated.get(i));
+        }
+        return new TournamentResult(standings, levels, startingTables, tablesBroken, seatMoves, roundsPlayed, elapsed);
+    }
+
+    // ===== 헬퍼 메서드들 (단계 진행은 테스트에서도 호출) =====
+
+    /**
+     * 한 단계를 진행하고 탈락 처리와 재배치를 합니다.
+     *
+     * @return 아직 두 명 이상 남아 있으면 true
+     */
+    boolean playLevel() {
+        started = true;
+        if (remaining < 2) {
+            return false;
+        }
+        playTables();
+        finishLevel();
+        return remaining >= 2;
+    }
+
+    /**
+     * 모든 테이블이 이번 단계의 라운드를 동시에 진행합니다 (탈락자는 각 테이블에서 바로 빠짐).
+     */
+    void playTables() {
+        levels++;
+        pool.invoke(new LevelTask(tables, 0, tables.size(), ante));
+    }
+
+    /**
+     * 탈락자의 순위를 정하고 테이블을 재배치한 뒤 앤티를 올립니다.
+     */
+    void finishLevel() {
+        // 먼저 탈락한 순서로 쌓아 두었다가 run()에서 뒤집음
+        List<Bust> busts = new ArrayList<>();
+        for (Table table : tables) {
+            roundsPlayed += table.roundsPlayed;
+            table.roundsPlayed = 0;
+            busts.addAll(table.busts);
+            table.busts.clear();
+        }
+        busts.sort(Comparator.comparingInt(Bust::round).thenComparingLong(Bust::stack));
+        for (Bust bust : busts) {
+            eliminated.add(bust.player());
+        }
+        remaining -= busts.size();
+
+        rebalance();
+        // 두 배가 전체 칩을 넘으면 전체 칩으로 (곱하기 전에 비교해 넘침 방지)
+        ante = ante > totalChips / 2 ? totalChips : ante * 2;
+    }
+
+    /**
+     * 현재 테이블별 인원을 반환합니다.
+     */
+    List<Integer> tableSizes() {
+        List<Integer> sizes = new ArrayList<>(tables.size());
+        for (Table table : tables) {
+            sizes.add(table.seats.size());
+        }
+        return sizes;
+    }
+
+    long seatMoves() {
+        return seatMoves;
+    }
+
+    int remaining() {
+        return remaining;
+    }
+
+    /**
+     * 필요한 테이블 수만 남기고 인원 차이가 1명 이하가 되도록 최소한의 자리만 옮깁니다.
+     *
+     * 인원이 많은 테이블부터 남기고, 남는 테이블 중 앞쪽(많은 쪽) 나머지 개수만큼이 한 명 더 앉습니다.
+     * 목표 인원보다 많은 테이블과 없어지는 테이블의 플레이어만 모아 부족한 테이블에 채웁니다.
+     */
+    private void rebalance() {
+        int target = tablesFor(remaining);
+        tables.sort(Comparator.comparingInt((Table table) -> table.seats.size()).reversed()
+            .thenComparingInt(table -> table.id));
+        int base = remaining / target;
+        int extra = remaining % target;
+
+        ArrayDeque<IPlayer> movers = new ArrayDeque<>();
+        for (int i = 0; i < target; i++) {
+            List<IPlayer> seats = tables.get(i).seats;
+            int want = base + (i < extra ? 1 : 0);
+            while (seats.size() > want) {
+                movers.add(seats.remove(seats.size() - 1));
+            }
+        }
+        for (int i = target; i < tables.size(); i++) {
+            movers.addAll(tables.get(i).seats);
+            tablesBroken++;
+        }
+        seatMoves += movers.size();
+        for (int i = 0; i < target; i++) {
+            List<IPlayer> seats = tables.get(i).seats;
+            int want = base + (i < extra ? 1 : 0);
+            while (seats.size() < want) {
+                seats.add(movers.poll());
+            }
+        }
+        tables = new ArrayList<>(tables.subList(0, target));
+    }
+
+    private int tablesFor(int players) {
+        return Math.max(1, (players + seatsPerTable - 1) / seatsPerTable);
+    }
+
+    /**
+     * 탈락 기록 - 단계 안의 라운드 번호와 그 라운드 시작 시 칩
+     */
+    private record Bust(IPlayer player, int round, long stack) {
+    }
+
+    /**
+     * 토너먼트 테이블 - 자체 딜러와 좌석 목록 (한 단계 동안 한 작업자만 접근)
+     */
+    private static final class Table {
+        final int id;
+        final DealerRef dealer;
+        final List<IPlayer> seats = new ArrayList<>(PokerTable.MAX_PLAYERS);
+        final List<Bust> busts = new ArrayList<>();
+        final long[] stacks = new long[PokerTable.MAX_PLAYERS];
+        long roundsPlayed;
+
+        Table(int id, DealerRef dealer) {
+            this.id = id;
+            this.dealer = dealer;
+        }
+
+        void playLevel(long ante) {
+            for (int round = 0; round < ROUNDS_PER_LEVEL && seats.size() >= 2; round++) {
+                dealer.startNewGame();
+                dealer.dealCards(seats);
+                List<? extends IPlayer> winners = dealer.determineWinners(seats);
+                roundsPlayed++;
+                if (winners.size() == seats.size()) {
+                    for (IPlayer player : seats) {
+                        player.recordDraw();
+                    }
+                    continue;
+                }
+                settle(winners, ante, round);
+            }
+        }
+
+        /**
+         * 앤티를 걷어 승자에게 나누고 칩이 떨어진 플레이어를 자리에서 뺍니다.
+         *
+         * 승자 목록은 좌석 순서이므로 좌석과 나란히 한 번만 훑습니다.
+         */
+        private void settle(List<? extends IPlayer> winners, long ante, int round) {
+            long pot = 0;
+            for (int i = 0; i < seats.size(); i++) {
+                IPlayer player = seats.get(i);
+                stacks[i] = player.getBalance();
+                long paid = Math.min(ante, stacks[i]);
+                player.applyDelta(-paid);
+                pot += paid;
+            }
+            long share = pot / winners.size();
+            long rest = pot % winners.size();
+            int next = 0;
+            for (IPlayer player : seats) {
+                if (next < winners.size() && winners.get(next) == player) {
+                    player.applyDelta(next == 0 ? share + rest : share);
+                    player.recordWin(HandStrength.rankOf(player.getHand().strength()));
+                    next++;
+                } else {
+                    player.recordLose();
+                }
+            }
+            for (int i = seats.size() - 1; i >= 0; i--) {
+                if (seats.get(i).getBalance() == 0) {
+                    busts.add(new Bust(seats.remove(i), round, stacks[i]));
+                }
+            }
+        }
+    }
+
+    /**
+     * 테이블 구간을 반씩 나눠 진행하는 작업 - 쉬는 작업자가 남은 구간을 훔쳐 감
+     */
+    private static final class LevelTask extends RecursiveAction {
+        private final List<Table> tables;
+        private final int from;
+        private final int to;
+        private final long ante;
+
+        LevelTask(List<Table> tables, int from, int to, long ante) {
+            this.tables = tables;
+            this.from = from;
+            this.to = to;
+            this.ante = ante;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                tables.get(from).playLevel(ante);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new LevelTask(tables, from, mid, ante), new LevelTask(tables, mid, to, ante));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package game.management.poker;
+
+import game.participants.player.IPlayer;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 토너먼트 결과 - 최종 순위와 진행 통계
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * TournamentResult result = new Tournament(players, 42L).run();
+ * System.out.println(result.champion().getName());
+ * System.out.printf("%,d명 토너먼트: %d ms%n", result.standings().size(), result.elapsed().toMillis());
+ * </pre>
+ *
+ * @param standings 순위순 플레이어 목록 (0번이 우승자)
+ * @param levels 진행한 단계 수
+ * @param startingTables 시작 테이블 수
+ * @param tablesBroken 합치면서 없앤 테이블 수
+ * @param seatMoves 재배치로 옮긴 자리 수
+ * @param roundsPlayed 모든 테이블에서 진행한 라운드 수
+ * @param elapsed 시작부터 우승자가 나올 때까지 걸린 시간
+ * @author XIYO
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record TournamentResult(List<IPlayer> standings, int levels, int startingTables, int tablesBroken,
+                               long seatMoves, long roundsPlayed, Duration elapsed) {
+
+    /**
+     * 순위 목록을 변경할 수 없는 복사본으로 고정합니다.
+     */
+    public TournamentResult {
+        standings = List.copyOf(standings);
+    }
+
+    /**
+     * 우승자를 반환합니다.
+     *
+     * @return 1위 플레이어
+     */
+    public IPlayer champion() {
+        return standings.get(0);
+    }
+
+    /**
+     * 초당 진행한 라운드 수를 반환합니다.
+     *
+     * @return 라운드/초
+     */
+    public double roundsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0.0 : roundsPlayed * 1e9 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("참가 %,d명, 우승: %s, 단계: %d, 테이블: %,d개 시작 (%,d개 합침), 자리 이동: %,d, "
+                + "라운드: %,d (%,.0f/초), 소요 시간: %,d ms",
+            standings.size(), champion().getName(), levels, startingTables, tablesBroken, seatMoves,
+            roundsPlayed, roundsPerSecond(), elapsed.toMillis());
+    }
+}
@@ -0,0 +1,238 @@
+package game.participants.dealer;
+
+import game.components.card.ICard;
+import game.components.hand.HandStrength;
+import game.components.hand.IHand;
+import game.participants.player.IPlayer;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 비동기 라운드 출력기 - 게임 진행을 백그라운드 스레드에서 출력하는 리스너
+ *
+ * 게임 스레드는 출력에 필요한 값(이름, 카드, 강도)만 복사해 큐에 넣고 바로 돌아갑니다.
+ * 문자열 만들기와 콘솔/파일 쓰기는 전용 스레드가 여러 이벤트를 모아 한 번에 처리합니다.
+ * 출력 형식은 예전 {@code DealerRef.playGame()}의 콘솔 출력과 같습니다.
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>비동기 출력: 포맷팅과 I/O를 게임 스레드에서 분리</li>
+ *   <li>일괄 처리: 큐에 쌓인 이벤트를 최대 {@value #MAX_BATCH}개씩 모아 한 번에 쓰기</li>
+ *   <li>메모리 제한: 큐가 가득 차면 게임 스레드가 잠시 기다림 (이벤트 유실 없음)</li>
+ *   <li>콘솔/파일: PrintStream 또는 파일 경로로 생성</li>
+ * </ul>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * try (AsyncRoundPrinter printer = new AsyncRoundPrinter(System.out)) {
+ *     IDealer dealer = new DealerRef(printer);
+ *     dealer.playGame(players, 100);
+ * }   // close()가 남은 출력을 모두 쓴 뒤 반환
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.1
+ * @since 2026-10-17
+ */
+public class AsyncRoundPrinter implements RoundListener, AutoCloseable {
+    private static final int QUEUE_CAPACITY = 4096;
+    private static final int MAX_BATCH = 256;
+    private static final String NL = System.lineSeparator();
+    /** 출력 스레드를 멈추는 종료 표시 */
+    private static final Object CLOSE = new Object();
+
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final PrintStream out;
+    private final boolean ownsStream;
+    private final Thread writer;
+    private volatile boolean closed;
+
+    /**
+     * 주어진 스트림에 출력하는 AsyncRoundPrinter 생성자
+     *
+     * 스트림은 닫지 않습니다 (예: System.out).
+     *
+     * @param out 출력 스트림
+     * @throws IllegalArgumentException out이 null일 때
+     */
+    public AsyncRoundPrinter(PrintStream out) {
+        this(out, false);
+    }
+
+    private AsyncRoundPrinter(PrintStream out, boolean ownsStream) {
+        if (out == null) {
+            throw new IllegalArgumentException("출력 스트림은 null일 수 없습니다.");
+        }
+        this.out = out;
+        this.ownsStream = ownsStream;
+        this.writer = Thread.ofPlatform().name("round-printer").daemon().start(this::drain);
+    }
+
+    /**
+     * 파일에 출력하는 AsyncRoundPrinter를 만듭니다.
+     *
+     * 파일은 UTF-8로 새로 쓰며, {@link #close()} 시 함께 닫힙니다.
+     *
+     * @param path 출력 파일 경로
+     * @return 파일 출력기
+     * @throws IOException 파일을 열 수 없을 때
+     */
+    public static AsyncRoundPrinter toFile(Path path) throws IOException {
+        PrintStream file = new PrintStream(Files.newOutputStream(path), false, StandardCharsets.UTF_8);
+        return new AsyncRoundPrinter(file, true);
+    }
+
+    @Override
+    public void roundStarted(int round) {
+        enqueue(new Started(round));
+    }
+
+    @Override
+    public void handsEvaluated(int round, List<? extends IPlayer> players) {
+        PlayerLine[] lines = new PlayerLine[players.size()];
+        for (int i = 0; i < lines.length; i++) {
+            IPlayer player = players.get(i);
+            IHand hand = player.getHand();
+            lines[i] = new PlayerLine(player.getName(), hand.getCards(), hand.strength());
+        }
+        enqueue(new Hands(lines));
+    }
+
+    @Override
+    public void winnersDecided(int round, List<? extends IPlayer> winners, boolean draw) {
+        enqueue(draw ? Decided.DRAW : Decided.WINNERS);
+    }
+
+    @Override
+    public void prizePaid(int round, IPlayer winner, int amount) {
+        enqueue(new Prize(winner.getName(), winner.getHand().strength(), amount));
+    }
+
+    /**
+     * 남은 이벤트를 모두 출력한 뒤 출력 스레드를 종료합니다.
+     *
+     * 파일 출력기이면 파일도 닫습니다. 여러 번 호출해도 안전합니다.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(CLOSE);
+                writer.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (ownsStream) {
+            out.close();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    private void enqueue(Object event) {
+        if (closed) {
+            throw new IllegalStateException("이미 닫힌 출력기입니다.");
+        }
+        // 인터럽트되어도 이벤트를 버리지 않고 다시 기다린 뒤, 인터럽트 상태를 복원
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(event);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 출력 스레드 본체 - 이벤트를 모아 포맷팅한 뒤 한 번에 씁니다.
+     */
+    private void drain() {
+        List<Object> batch = new ArrayList<>(MAX_BATCH);
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                continue; // 종료 표시를 받을 때까지 계속
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+
+            boolean done = false;
+            for (Object event : batch) {
+                if (event == CLOSE) {
+                    done = true;
+                    break;
+                }
+                format(event, sb);
+            }
+            out.print(sb);
+            out.flush();
+            sb.setLength(0);
+            batch.clear();
+            if (done) {
+                return;
+            }
+        }
+    }
+
+    private static void format(Object event, StringBuilder sb) {
+        if (event instanceof Started started) {
+            sb.append(NL).append("=== 라운드 ").append(started.round()).append(" ===").append(NL);
+        } else if (event instanceof Hands hands) {
+            sb.append("플레이어 핸드:").append(NL);
+            for (PlayerLine line : hands.lines()) {
+                sb.append(line.name()).append(": ").append(line.cards())
+                    .append(" (").append(HandStrength.rankOf(line.strength())).append(')').append(NL);
+            }
+        } else if (event == Decided.DRAW) {
+            sb.append(NL).append("결과: 무승부!").append(NL);
+            sb.append("상금: 없음").append(NL);
+        } else if (event == Decided.WINNERS) {
+            sb.append(NL).append("승자:").append(NL);
+        } else if (event instanceof Prize prize) {
+            sb.append("  🏆 ").append(prize.name()).append(" - ").append(HandStrength.rankOf(prize.strength()))
+                .append(" (+").append(prize.amount()).append("원)").append(NL);
+        }
+    }
+
+    // ===== 이벤트 (게임 스레드에서 복사한 값) =====
+
+    private record Started(int round) {
+    }
+
+    private record PlayerLine(String name, List<ICard> cards, int strength) {
+    }
+
+    private record Hands(PlayerLine[] lines) {
+    }
+
+    private enum Decided {
+        DRAW, WINNERS
+    }
+
+    private record Prize(String name, int strength, int amount) {
+    }
+}
@@ -1,12 +1,21 @@
 package game.participants.dealer;
 
-import game.components.deck.DeckRef;
+import game.components.card.ICard;
+import game.components.deck.ArrayDeck;
+import game.components.deck.DeckRandom;
 import game.components.deck.IDeck;
+import game.components.deck.LazyDeck;
+import game.components.deck.Shoe;
+import game.components.deck.ShufflePool;
+import game.components.hand.HandRank;
 import game.components.hand.HandRef;
+import game.components.hand.HandStrength;
+import game.components.hand.Showdown;
 import game.participants.player.IPlayer;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * 딜러 참조 구현체 - IDealer 인터페이스의 완성된 구현
@@ -16,63 +25,228 @@ import java.util.List;
  * 
  * <p>주요 기능:</p>
  * <ul>
- *   <li>게임 관리: 새 게임 시작, 덱 초기화 및 셔플</li>
+ *   <li>게임 관리: 새 게임 시작, 덱 리셋 및 셔플 (덱 하나를 계속 재사용, 나눌 카드만 섞는 {@link LazyDeck})</li>
  *   <li>카드 분배: 플레이어들에게 공정한 카드 분배</li>
  *   <li>승부 판정: 포커 족보에 따른 승자 결정</li>
  *   <li>상금 분배: 승자들에게 상금 지급</li>
- *   <li>게임 진행: 전체 게임 라운드 관리</li>
+ *   <li>게임 진행: 전체 게임 라운드 관리 (진행 상황은 {@link RoundListener}로 알림)</li>
+ *   <li>시뮬레이션 모드: 출력 없이 핸드, 덱, 결과 버퍼를 재사용하여 라운드당 할당 없이 진행</li>
+ *   <li>슈: 여러 벌의 덱을 컷 카드가 나올 때까지 이어서 사용 ({@link Shoe}, 11명 이상 테이블)</li>
+ *   <li>덱 풀: 백그라운드에서 미리 섞어 둔 순서를 받아 셔플을 생략, 풀이 비면 직접 섞음 ({@link ShufflePool})</li>
+ *   <li>재현: 테이블 시드로 만들면 라운드마다 시드가 정해져 임의의 라운드를 재현 가능 ({@link RoundReplay})</li>
  * </ul>
  * 
  * <p>게임 규칙:</p>
  * <ul>
  *   <li>각 플레이어에게 5장씩 카드 분배</li>
- *   <li>가장 높은 족보를 가진 플레이어 승리</li>
- *   <li>동점 시 모든 동점자가 승리</li>
+ *   <li>가장 높은 족보를 가진 플레이어 승리 (같은 족보는 키커로 비교)</li>
+ *   <li>족보와 키커까지 같은 완전 동점 시 모든 동점자가 승리</li>
  *   <li>전체 동점 시 무승부 (상금 없음)</li>
  *   <li>승자당 100원 상금 지급</li>
  * </ul>
  * 
  * <p>게임 진행 순서:</p>
  * <ol>
- *   <li>새 덱 생성 및 셔플</li>
+ *   <li>덱 리셋(52장 복원) 및 셔플</li>
  *   <li>각 플레이어에게 5장씩 카드 분배</li>
  *   <li>모든 플레이어 핸드 공개</li>
  *   <li>족보 비교하여 승자 결정</li>
- *   <li>승부 결과 출력 및 기록</li>
+ *   <li>승부 결과 기록 및 리스너 알림 (출력은 리스너 담당)</li>
  *   <li>상금 분배</li>
  * </ol>
  * 
  * <p>사용 예시:</p>
  * <pre>
- * DealerRef dealer = new DealerRef();
+ * DealerRef dealer = new DealerRef(new AsyncRoundPrinter(System.out));
  * List&lt;Player&gt; players = Arrays.asList(player1, player2);
- * dealer.playGame(players, 10);  // 10라운드 게임 진행
+ * dealer.playGame(players, 10);  // 10라운드 게임 진행 (출력은 백그라운드 스레드)
+ * dealer.simulate(players, 1_000_000);  // 출력 없이 100만 라운드 진행
+ * new DealerRef(seed).simulate(players, 100);  // 같은 시드면 같은 결과 (재현)
+ * RoundReplay.deal(seed, 57, 2);               // 57번째 라운드만 바로 재현
  * </pre>
  * 
  * @author XIYO
- * @version 1.1
+ * @version 1.7
  * @since 2024-01-01
  */
 public class DealerRef implements IDealer {
-    private IDeck deck;
+    private final IDeck deck;
     private static final int CARDS_PER_PLAYER = 5;
     private static final int PRIZE_PER_ROUND = 100;
     
+    /** 한 라운드에 나눠줄 카드를 한 번에 뽑아 두는 버퍼 (플레이어 수에 맞춰 재사용) */
+    private ICard[] dealBuffer = new ICard[0];
+    /** 승자 판정에 라운드마다 재사용하는 강도 버퍼 */
+    private int[] strengthBuffer = new int[0];
+    /** 승자 판정에 라운드마다 재사용하는 승자 순번 버퍼 */
+    private int[] winnerBuffer = new int[0];
+    /** 라운드 진행 이벤트를 받는 리스너 (기본값은 아무것도 하지 않음) */
+    private RoundListener listener = RoundListener.NO_OP;
+    /** 라운드 시드를 파생하는 테이블 시드 (seeded가 false이면 사용하지 않음) */
+    private final long tableSeed;
+    private final boolean seeded;
+    /** 미리 섞은 덱을 받아 올 풀 (null이면 매 라운드 직접 섞음) */
+    private final ShufflePool pool;
+    /** 지금까지 시작한 라운드 수 (마지막으로 시작한 라운드의 번호) */
+    private long roundsDealt;
+    
     /**
      * DealerRef 생성자
      */
     public DealerRef() {
-        this.deck = new DeckRef();
+        this.deck = new LazyDeck();
+        this.tableSeed = 0L;
+        this.seeded = false;
+        this.pool = null;
+    }
+    
+    /**
+     * 셔플에 전용 난수 생성기를 사용하는 DealerRef 생성자
+     * 
+     * @param random 덱 셔플에 사용할 난수 생성기 (이 딜러를 사용하는 스레드 전용)
+     * @throws IllegalArgumentException random이 null일 때
+     */
+    public DealerRef(RandomGenerator random) {
+        this.deck = new LazyDeck(random);
+        this.tableSeed = 0L;
+        this.seeded = false;
+        this.pool = null;
+    }
+    
+    /**
+     * 테이블 시드로 라운드마다 덱 순서를 정하는 DealerRef 생성자
+     * 
+     * n번째 라운드의 덱은 {@link DeckRandom#roundSeed(long, long) DeckRandom.roundSeed(tableSeed, n)}만으로
+     * 정해지므로, 같은 시드로 만든 딜러는 게임 전체를 재현하고
+     * {@link RoundReplay}는 앞선 라운드 없이 임의의 라운드를 바로 재현합니다.
+     * 
+     * @param tableSeed 테이블 시드
+     */
+    public DealerRef(long tableSeed) {
+        this.deck = new ArrayDeck();
+        this.tableSeed = tableSeed;
+        this.seeded = true;
+        this.pool = null;
+    }
+    
+    /**
+     * 여러 벌의 덱을 담은 슈로 카드를 나누는 DealerRef 생성자
+     * 
+     * 슈는 라운드마다 새로 섞지 않고 컷 카드가 나왔을 때만 다시 섞습니다.
+     * 52장으로 부족한 11명 이상 테이블에 사용합니다.
+     * 
+     * @param shoe 카드를 나눌 슈 (이 딜러 전용)
+     * @throws IllegalArgumentException shoe가 null일 때
+     */
+    public DealerRef(Shoe shoe) {
+        if (shoe == null) {
+            throw new IllegalArgumentException("슈는 null일 수 없습니다.");
+        }
+        this.deck = shoe;
+        this.tableSeed = 0L;
+        this.seeded = false;
+        this.pool = null;
+    }
+    
+    /**
+     * 백그라운드에서 미리 섞어 둔 덱을 받아 쓰는 DealerRef 생성자
+     * 
+     * 라운드마다 풀에서 순열 하나를 복사해 오므로 이 딜러의 스레드는 섞지 않습니다.
+     * 풀이 비어 있으면 그 라운드만 직접 섞습니다. 풀은 여러 딜러가 함께 써도 됩니다.
+     * 
+     * @param pool 미리 섞은 덱 풀
+     * @throws IllegalArgumentException pool이 null일 때
+     */
+    public DealerRef(ShufflePool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("덱 풀은 null일 수 없습니다.");
+        }
+        this.deck = new ArrayDeck();
+        this.tableSeed = 0L;
+        this.seeded = false;
+        this.pool = pool;
+    }
+    
+    /**
+     * 라운드 리스너를 지정하는 DealerRef 생성자
+     * 
+     * @param listener 라운드 진행 이벤트를 받을 리스너 (예: {@link AsyncRoundPrinter})
+     * @throws IllegalArgumentException listener가 null일 때
+     */
+    public DealerRef(RoundListener listener) {
+        this();
+        if (listener == null) {
+            throw new IllegalArgumentException("리스너는 null일 수 없습니다.");
+        }
+        this.listener = listener;
+    }
+    
+    /**
+     * 라운드 진행 이벤트를 받을 리스너를 지정합니다.
+     * 
+     * 리스너를 지정하지 않으면 {@link RoundListener#NO_OP}을 사용하므로
+     * {@link #playGame(List, int)}는 아무것도 출력하지 않습니다.
+     * 
+     * @param listener 라운드 리스너
+     * @throws IllegalArgumentException listener가 null일 때
+     */
+    public void setRoundListener(RoundListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("리스너는 null일 수 없습니다.");
+        }
+        this.listener = listener;
+    }
+    
+    /**
+     * 테이블 시드를 반환합니다.
+     * 
+     * @return 테이블 시드
+     * @throws IllegalStateException 테이블 시드 없이 만든 딜러일 때
+     */
+    public long getTableSeed() {
+        if (!seeded) {
+            throw new IllegalStateException("테이블 시드 없이 만든 딜러입니다.");
+        }
+        return tableSeed;
+    }
+    
+    /**
+     * 지금까지 시작한 라운드 수를 반환합니다.
+     * 
+     * 라운드 진행 중에는 현재 라운드의 번호(1부터)이며, 테이블 시드와 함께
+     * {@link RoundReplay}에 주면 이 라운드를 재현할 수 있습니다.
+     * 
+     * @return 시작한 라운드 수
+     */
+    public long getRoundsDealt() {
+        return roundsDealt;
     }
     
     /**
      * 새로운 게임을 시작합니다.
      * 덱을 초기화하고 셔플합니다.
+     * 
+     * 테이블 시드가 있으면 이번 라운드 시드로 정해지는 순서로 덱을 복원합니다.
+     * 슈를 사용하면 컷 카드가 나왔을 때만 다시 섞고, 아니면 남은 카드로 이어서 나눕니다.
+     * 덱 풀을 사용하면 미리 섞어 둔 순서를 받고, 풀이 비었을 때만 직접 섞습니다.
      */
     public void startNewGame() {
-        // 새로운 덱 생성
-        deck = new DeckRef();
-        deck.shuffle();
+        roundsDealt++;
+        if (deck instanceof Shoe shoe) {
+            shoe.nextRound();
+        } else if (seeded && deck instanceof ArrayDeck arrayDeck) {
+            arrayDeck.reset(DeckRandom.roundSeed(tableSeed, roundsDealt));
+        } else if (pool != null && deck instanceof ArrayDeck arrayDeck) {
+            // 풀에서 미리 섞은 순서를 받고, 풀이 비었을 때만 직접 섞음
+            if (!arrayDeck.reset(pool)) {
+                arrayDeck.reset();
+                arrayDeck.shuffle();
+            }
+        } else {
+            // 같은 덱을 52장으로 되돌려 재사용 (LazyDeck은 나눌 카드만 섞음)
+            deck.reset();
+            deck.shuffle();
+        }
     }
     
     /**
@@ -81,44 +255,43 @@ public class DealerRef implements IDealer {
      * @param players 카드를 받을 플레이어 목록
      */
     public void dealCards(List<? extends IPlayer> players) {
-        // 모든 플레이어의 핸드를 초기화
-        for (IPlayer player : players) {
-            player.setHand(new HandRef());
-        }
+        int playerCount = players.size();
         
-        // 각 플레이어에게 5장씩 분배
-        for (int i = 0; i < CARDS_PER_PLAYER; i++) {
-            for (IPlayer player : players) {
-                player.getHand().add(deck.drawCard());
+        // 모든 플레이어의 핸드를 초기화 (HandRef는 비워서 재사용)
+        for (int i = 0; i < playerCount; i++) {
+            IPlayer player = players.get(i);
+            if (player.getHand() instanceof HandRef hand) {
+                hand.clear();
+            } else {
+                player.setHand(new HandRef());
             }
         }
+        
+        // 필요한 카드를 한 번에 뽑은 뒤, 한 장씩 돌아가며 5장씩 분배
+        int total = playerCount * CARDS_PER_PLAYER;
+        if (dealBuffer.length < total) {
+            dealBuffer = new ICard[total];
+        }
+        deck.draw(total, dealBuffer);
+        for (int i = 0; i < total; i++) {
+            players.get(i % playerCount).getHand().add(dealBuffer[i]);
+        }
     }
     
     /**
      * 라운드의 승자를 결정합니다.
      * 
+     * 각 핸드의 강도를 한 번씩 구한 뒤 {@link Showdown}으로 최고 강도와 동점자를 한 번에 찾습니다.
+     * 
      * @param players 참가 플레이어 목록
      * @return 승자 목록 (동점일 경우 여러 명)
      */
     public List<? extends IPlayer> determineWinners(List<? extends IPlayer> players) {
-        List<IPlayer> winners = new ArrayList<>();
-        int highestScore = 0;
-        
-        // 최고 점수 찾기
-        for (IPlayer player : players) {
-            int score = player.getHand().open();
-            if (score > highestScore) {
-                highestScore = score;
-            }
+        int winnerCount = showdown(players);
+        List<IPlayer> winners = new ArrayList<>(winnerCount);
+        for (int i = 0; i < winnerCount; i++) {
+            winners.add(players.get(winnerBuffer[i]));
         }
-        
-        // 최고 점수를 가진 모든 플레이어 찾기
-        for (IPlayer player : players) {
-            if (player.getHand().open() == highestScore) {
-                winners.add(player);
-            }
-        }
-        
         return winners;
     }
     
@@ -137,64 +310,133 @@ public class DealerRef implements IDealer {
     /**
      * 전체 게임을 진행합니다.
      * 
+     * 딜러는 직접 출력하지 않고 라운드마다 {@link RoundListener}에 진행 상황을 알립니다.
+     * 콘솔에 보려면 {@link AsyncRoundPrinter}를 리스너로 지정하세요.
+     * 
      * @param players 참가 플레이어 목록
      * @param rounds 진행할 라운드 수
      */
     public void playGame(List<? extends IPlayer> players, int rounds) {
-        if (players == null || players.isEmpty()) {
-            throw new IllegalArgumentException("플레이어가 없습니다.");
-        }
-        if (rounds <= 0) {
-            throw new IllegalArgumentException("라운드 수는 양수여야 합니다.");
-        }
+        validateGame(players, rounds);
         
         for (int round = 1; round <= rounds; round++) {
-            System.out.println("\n=== 라운드 " + round + " ===");
+            listener.roundStarted(round);
             
             // 새 게임 시작
             startNewGame();
             
             // 카드 분배
             dealCards(players);
+            listener.cardsDealt(round, players);
             
-            // 각 플레이어의 핸드 출력
-            System.out.println("플레이어 핸드:");
-            for (IPlayer player : players) {
-                System.out.println(player.getName() + ": " + player.getHand() + 
-                    " (" + player.getHand().evaluate() + ")");
-            }
-            
-            // 승자 판정
+            // 승자 판정 (각 핸드의 강도는 여기서 한 번 평가되어 강도 버퍼에 남음)
             List<? extends IPlayer> winners = determineWinners(players);
+            listener.handsEvaluated(round, players);
             
-            // 결과 출력 및 기록 업데이트
+            // 결과 기록
             if (winners.size() == players.size()) {
-                // 모든 플레이어가 동점 - 무승부
-                System.out.println("\n결과: 무승부!");
-                System.out.println("상금: 없음");
+                // 모든 플레이어가 동점 - 무승부 (상금 없음)
+                listener.winnersDecided(round, winners, true);
                 for (IPlayer player : players) {
                     player.recordDraw();
                 }
-                // 무승부 시에는 상금 분배 없음
             } else {
-                // 승자 출력
-                System.out.println("\n승자:");
-                for (IPlayer winner : winners) {
-                    System.out.println("  🏆 " + winner.getName() + " - " + 
-                        winner.getHand().evaluate() + " (+" + PRIZE_PER_ROUND + "원)");
-                }
+                listener.winnersDecided(round, winners, false);
                 
-                // 승자와 패자 기록
-                for (IPlayer player : players) {
-                    if (winners.contains(player)) {
-                        player.recordWin();
-                    } else {
-                        player.recordLose();
-                    }
-                }
+                // 승자와 패자 기록 (강도 버퍼와 비교하므로 플레이어 수에 비례)
+                recordResults(players);
                 // 승자에게만 상금 분배
                 distributePrize(winners, PRIZE_PER_ROUND);
+                for (IPlayer winner : winners) {
+                    listener.prizePaid(round, winner, PRIZE_PER_ROUND);
+                }
+            }
+        }
+    }
+    
+    /**
+     * 출력 없이 여러 라운드를 진행합니다 (시뮬레이션 모드).
+     * 
+     * 승부 규칙, 전적 기록, 상금 분배는 {@link #playGame(List, int)}와 같지만
+     * 콘솔 출력과 승자 목록을 만들지 않습니다. 덱, 핸드, 분배 버퍼, 강도 버퍼를
+     * 라운드마다 재사용하므로 첫 라운드 이후에는 라운드당 객체를 할당하지 않습니다.
+     * 
+     * <p>장시간 시뮬레이션에서 GC 일시 정지로 인한 지연 편차를 없애기 위해 사용합니다.</p>
+     * 
+     * @param players 참가 플레이어 목록 (인덱스 접근이 빠른 목록 권장)
+     * @param rounds 진행할 라운드 수
+     * @throws IllegalArgumentException 플레이어가 없거나 라운드 수가 양수가 아닐 때
+     */
+    public void simulate(List<? extends IPlayer> players, int rounds) {
+        validateGame(players, rounds);
+        
+        for (int round = 0; round < rounds; round++) {
+            startNewGame();
+            dealCards(players);
+            settleRound(players);
+        }
+    }
+    
+    // ===== 헬퍼 메서드들 =====
+    
+    private static void validateGame(List<? extends IPlayer> players, int rounds) {
+        if (players == null || players.isEmpty()) {
+            throw new IllegalArgumentException("플레이어가 없습니다.");
+        }
+        if (rounds <= 0) {
+            throw new IllegalArgumentException("라운드 수는 양수여야 합니다.");
+        }
+    }
+    
+    /**
+     * 목록을 만들지 않고 강도 버퍼만으로 승부를 판정하고 기록과 상금을 반영합니다.
+     */
+    private void settleRound(List<? extends IPlayer> players) {
+        int winnerCount = showdown(players);
+        
+        // 모든 플레이어가 동점 - 무승부 (상금 없음)
+        if (winnerCount == players.size()) {
+            for (int i = 0; i < winnerCount; i++) {
+                players.get(i).recordDraw();
+            }
+            return;
+        }
+        
+        recordResults(players);
+        for (int i = 0; i < winnerCount; i++) {
+            players.get(winnerBuffer[i]).addMoney(PRIZE_PER_ROUND);
+        }
+    }
+    
+    /**
+     * 핸드 강도를 강도 버퍼에 모으고, 승자 순번을 승자 버퍼에 기록합니다.
+     * 
+     * @return 승자 수
+     */
+    private int showdown(List<? extends IPlayer> players) {
+        int playerCount = players.size();
+        if (strengthBuffer.length < playerCount) {
+            strengthBuffer = new int[playerCount];
+            winnerBuffer = new int[playerCount];
+        }
+        for (int i = 0; i < playerCount; i++) {
+            strengthBuffer[i] = players.get(i).getHand().strength();
+        }
+        return Showdown.winners(strengthBuffer, playerCount, winnerBuffer);
+    }
+    
+    /**
+     * 직전 {@link #showdown(List)} 결과로 승자와 패자를 기록합니다 (무승부가 아닐 때).
+     */
+    private void recordResults(List<? extends IPlayer> players) {
+        int best = strengthBuffer[winnerBuffer[0]];
+        HandRank rank = HandStrength.rankOf(best);
+        for (int i = 0; i < players.size(); i++) {
+            if (strengthBuffer[i] == best) {
+                players.get(i).recordWin(rank);
+            } else {
+                players.get(i).recordLose();
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,184 @@
+package game.participants.dealer;
+
+import game.components.deck.DeckRandom;
+import game.components.hand.HandRank;
+import game.participants.player.IPlayer;
+import game.participants.player.PlayerRef;
+import game.participants.player.PlayerStats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 병렬 몬테카를로 시뮬레이터 - 여러 코어로 라운드를 나눠 진행
+ *
+ * 라운드끼리는 최종 자금과 전적 합계 외에 서로 영향을 주지 않으므로,
+ * 전체 라운드를 고정 크기 묶음({@value #CHUNK_ROUNDS}라운드)으로 나눠 {@link ForkJoinPool}에서 병렬로 진행합니다.
+ * 묶음마다 자체 딜러(덱, 난수 생성기, 버퍼)와 대리 플레이어(핸드)를 사용하므로 스레드 사이에 공유 상태가 없고,
+ * 결과는 마지막에 한 번만 실제 플레이어에게 합산합니다.
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>병렬 실행: 묶음 범위를 반씩 나누는 fork/join 분할</li>
+ *   <li>결정적 결과: 묶음 시드 = {@link DeckRandom#deriveSeed(long, long)}(seed, 묶음 번호)</li>
+ *   <li>순차 실행: 같은 묶음 시드로 한 스레드에서 실행 - 병렬 결과와 항상 같음</li>
+ *   <li>게임 규칙: 각 묶음은 {@link DealerRef#simulate(List, int)}로 진행 (승자당 100원, 전원 동점은 무승부)</li>
+ * </ul>
+ *
+ * <p>스레드 수나 작업 실행 순서가 달라도 묶음별 카드 흐름은 같고 합산은 덧셈뿐이므로,
+ * 같은 시드면 병렬 실행과 순차 실행의 합계가 정확히 같습니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * MonteCarloSimulator simulator = new MonteCarloSimulator();
+ * SimulationResult result = simulator.run(players, 1_000_000_000, 42L);
+ * // players의 전적과 자금에 결과가 반영됨
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.1
+ * @since 2026-10-17
+ */
+public class MonteCarloSimulator {
+    /** 작업 묶음 하나의 라운드 수 (시드 분할 단위) */
+    public static final int CHUNK_ROUNDS = 1 << 16;
+
+    private static final int INITIAL_MONEY = 0;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * 공용 ForkJoinPool을 사용하는 MonteCarloSimulator 생성자
+     */
+    public MonteCarloSimulator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 지정한 ForkJoinPool을 사용하는 MonteCarloSimulator 생성자
+     *
+     * @param pool 라운드를 실행할 풀
+     * @throws IllegalArgumentException pool이 null일 때
+     */
+    public MonteCarloSimulator(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("ForkJoinPool은 null일 수 없습니다.");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * 라운드를 병렬로 진행하고 결과를 플레이어들에게 반영합니다.
+     *
+     * 플레이어의 핸드는 사용하지 않으며, 전적과 자금만 마지막에 한 번 갱신합니다.
+     *
+     * @param players 참가 플레이어 목록
+     * @param rounds 진행할 라운드 수
+     * @param seed 기준 시드 (같은 시드면 같은 결과)
+     * @return 플레이어 순서대로 합산한 결과
+     * @throws IllegalArgumentException 플레이어가 없거나 라운드 수가 양수가 아닐 때
+     */
+    public SimulationResult run(List<? extends IPlayer> players, int rounds, long seed) {
+        validate(players, rounds);
+        SimulationResult result = pool.invoke(new ChunkTask(players.size(), rounds, seed, 0, chunkCount(rounds)));
+        result.applyTo(players);
+        return result;
+    }
+
+    /**
+     * 병렬 실행과 같은 묶음 시드로 라운드를 현재 스레드에서 순서대로 진행하고 결과를 반영합니다.
+     *
+     * @param players 참가 플레이어 목록
+     * @param rounds 진행할 라운드 수
+     * @param seed 기준 시드 (같은 시드면 {@link #run(List, int, long)}과 같은 결과)
+     * @return 플레이어 순서대로 합산한 결과
+     * @throws IllegalArgumentException 플레이어가 없거나 라운드 수가 양수가 아닐 때
+     */
+    public static SimulationResult runSequential(List<? extends IPlayer> players, int rounds, long seed) {
+        validate(players, rounds);
+        SimulationResult result = new SimulationResult(players.size());
+        int chunks = chunkCount(rounds);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            result.merge(simulateChunk(players.size(), rounds, seed, chunk));
+        }
+        result.applyTo(players);
+        return result;
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    private static void validate(List<? extends IPlayer> players, int rounds) {
+        if (players == null || players.isEmpty()) {
+            throw new IllegalArgumentException("플레이어가 없습니다.");
+        }
+        if (rounds <= 0) {
+            throw new IllegalArgumentException("라운드 수는 양수여야 합니다.");
+        }
+    }
+
+    private static int chunkCount(int rounds) {
+        return (rounds - 1) / CHUNK_ROUNDS + 1;
+    }
+
+    /**
+     * 묶음 하나를 자체 딜러와 대리 플레이어로 진행합니다.
+     */
+    private static SimulationResult simulateChunk(int playerCount, int rounds, long seed, int chunk) {
+        int chunkRounds = Math.min(CHUNK_ROUNDS, rounds - chunk * CHUNK_ROUNDS);
+        DealerRef dealer = new DealerRef(DeckRandom.deriveSeed(seed, chunk));
+        List<PlayerRef> shadows = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            shadows.add(new PlayerRef("플레이어" + (i + 1), INITIAL_MONEY));
+        }
+
+        dealer.simulate(shadows, chunkRounds);
+
+        SimulationResult result = new SimulationResult(playerCount);
+        long[] rankWins = new long[HandRank.values().length];
+        for (int i = 0; i < playerCount; i++) {
+            PlayerRef shadow = shadows.get(i);
+            PlayerStats.Snapshot stats = shadow.getStats().snapshot();
+            for (HandRank rank : HandRank.values()) {
+                rankWins[rank.ordinal()] = stats.getWins(rank);
+            }
+            result.add(i, stats.getWins(), stats.getLoses(), stats.getDraws(),
+                shadow.getMoney() - INITIAL_MONEY, rankWins);
+        }
+        return result;
+    }
+
+    /**
+     * 묶음 범위 [from, to)를 반씩 나눠 병렬로 진행하는 작업
+     */
+    private static final class ChunkTask extends RecursiveTask<SimulationResult> {
+        private final int playerCount;
+        private final int rounds;
+        private final long seed;
+        private final int from;
+        private final int to;
+
+        ChunkTask(int playerCount, int rounds, long seed, int from, int to) {
+            this.playerCount = playerCount;
+            this.rounds = rounds;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (to - from == 1) {
+                return simulateChunk(playerCount, rounds, seed, from);
+            }
+            int mid = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(playerCount, rounds, seed, from, mid);
+            left.fork();
+            SimulationResult right = new ChunkTask(playerCount, rounds, seed, mid, to).compute();
+            SimulationResult result = left.join();
+            result.merge(right);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package game.participants.dealer;
+
+import game.participants.player.IPlayer;
+
+import java.util.List;
+
+/**
+ * 라운드 진행 이벤트를 받는 리스너 인터페이스
+ *
+ * 딜러는 게임을 진행하면서 라운드 시작, 카드 분배, 핸드 평가, 승자 결정, 상금 지급을
+ * 이 리스너에 알립니다. 출력, 로그, 통계 수집은 딜러 밖의 리스너가 담당하므로
+ * 리스너가 없으면({@link #NO_OP}) 게임 스레드는 출력 비용을 전혀 치르지 않습니다.
+ *
+ * <p>이벤트 순서 (라운드마다):</p>
+ * <ol>
+ *   <li>{@link #roundStarted(int)}</li>
+ *   <li>{@link #cardsDealt(int, List)}</li>
+ *   <li>{@link #handsEvaluated(int, List)}</li>
+ *   <li>{@link #winnersDecided(int, List, boolean)}</li>
+ *   <li>{@link #prizePaid(int, IPlayer, int)} - 승자마다 한 번 (무승부면 호출되지 않음)</li>
+ * </ol>
+ *
+ * <p>주의: 전달된 플레이어와 핸드 객체는 다음 라운드에서 재사용되므로 호출 중에만 유효합니다.
+ * 나중에 처리하는 리스너는 필요한 값을 호출 중에 복사해야 합니다.
+ * 모든 메서드는 게임 스레드에서 호출되므로 오래 걸리는 작업을 하면 안 됩니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * DealerRef dealer = new DealerRef();
+ * dealer.setRoundListener(new RoundListener() {
+ *     &#64;Override
+ *     public void prizePaid(int round, IPlayer winner, int amount) {
+ *         totalPrize += amount;
+ *     }
+ * });
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface RoundListener {
+    /** 아무것도 하지 않는 리스너 (딜러의 기본값) */
+    RoundListener NO_OP = new RoundListener() {
+    };
+
+    /**
+     * 새 라운드가 시작되었습니다.
+     *
+     * @param round 라운드 번호 (1부터 시작)
+     */
+    default void roundStarted(int round) {
+    }
+
+    /**
+     * 모든 플레이어에게 카드를 나눠주었습니다.
+     *
+     * @param round 라운드 번호
+     * @param players 참가 플레이어 목록 (핸드에 카드가 들어 있음)
+     */
+    default void cardsDealt(int round, List<? extends IPlayer> players) {
+    }
+
+    /**
+     * 모든 핸드의 강도를 평가했습니다.
+     *
+     * 이 시점에는 {@code getHand().strength()}가 캐시되어 있어 호출 비용이 거의 없습니다.
+     *
+     * @param round 라운드 번호
+     * @param players 참가 플레이어 목록
+     */
+    default void handsEvaluated(int round, List<? extends IPlayer> players) {
+    }
+
+    /**
+     * 승자가 결정되었습니다.
+     *
+     * @param round 라운드 번호
+     * @param winners 승자 목록 (동점이면 여러 명)
+     * @param draw 모든 플레이어가 동점인 무승부이면 true (상금 없음)
+     */
+    default void winnersDecided(int round, List<? extends IPlayer> winners, boolean draw) {
+    }
+
+    /**
+     * 승자에게 상금을 지급했습니다.
+     *
+     * @param round 라운드 번호
+     * @param winner 상금을 받은 플레이어
+     * @param amount 지급한 금액
+     */
+    default void prizePaid(int round, IPlayer winner, int amount) {
+    }
+}
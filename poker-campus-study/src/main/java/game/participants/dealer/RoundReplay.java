@@ -0,0 +1,127 @@
+package game.participants.dealer;
+
+import game.components.card.ICard;
+import game.components.deck.DeckRandom;
+import game.components.hand.HandEvaluator;
+import game.components.hand.HandStrength;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 라운드 재현기 - 테이블 시드와 라운드 번호만으로 그 라운드의 카드 분배를 다시 만듦
+ *
+ * 테이블 시드로 만든 {@link DealerRef}는 n번째 라운드의 덱 순서를
+ * {@link DeckRandom#roundSeed(long, long)}의 결과만으로 정합니다. 따라서 앞선 라운드를
+ * 다시 진행하지 않고도 임의의 라운드를 몇 마이크로초 만에 재현할 수 있고,
+ * 감사 기록에는 카드 목록 대신 (테이블 시드, 라운드 번호)만 남기면 됩니다.
+ *
+ * <p>분배 규칙은 {@link DealerRef#dealCards(List)}와 같습니다:
+ * 덱 맨 위부터 플레이어 수 × 5장을 한 장씩 돌아가며 나눕니다.</p>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * DealerRef dealer = new DealerRef(tableSeed);
+ * dealer.playGame(players, 1_000);
+ *
+ * // 분쟁이 생긴 57번째 라운드만 재현
+ * List&lt;List&lt;ICard&gt;&gt; hands = RoundReplay.deal(tableSeed, 57, players.size());
+ * List&lt;Integer&gt; winners = RoundReplay.winners(hands);
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class RoundReplay {
+    private static final int DECK_SIZE = 52;
+    private static final int CARDS_PER_PLAYER = 5;
+    private static final int MAX_PLAYERS = DECK_SIZE / CARDS_PER_PLAYER;
+
+    private RoundReplay() {
+    }
+
+    /**
+     * 라운드의 카드 분배를 재현합니다.
+     *
+     * @param tableSeed 테이블 시드 ({@link DealerRef#getTableSeed()})
+     * @param round 라운드 번호 (1부터, {@link DealerRef#getRoundsDealt()})
+     * @param playerCount 플레이어 수
+     * @return 플레이어 순서대로 받은 5장 (받은 순서)
+     * @throws IllegalArgumentException 라운드 번호가 양수가 아니거나 플레이어 수가 1-10이 아닐 때
+     */
+    public static List<List<ICard>> deal(long tableSeed, long round, int playerCount) {
+        if (round <= 0) {
+            throw new IllegalArgumentException("라운드 번호는 1부터 시작합니다.");
+        }
+        if (playerCount <= 0 || playerCount > MAX_PLAYERS) {
+            throw new IllegalArgumentException("플레이어 수는 1-" + MAX_PLAYERS + "명이어야 합니다.");
+        }
+        ICard[] deck = new ICard[DECK_SIZE];
+        DeckRandom.fillShuffled(DeckRandom.roundSeed(tableSeed, round), deck);
+
+        List<List<ICard>> hands = new ArrayList<>(playerCount);
+        for (int p = 0; p < playerCount; p++) {
+            ICard[] hand = new ICard[CARDS_PER_PLAYER];
+            for (int c = 0; c < CARDS_PER_PLAYER; c++) {
+                hand[c] = deck[c * playerCount + p];
+            }
+            hands.add(List.of(hand));
+        }
+        return hands;
+    }
+
+    /**
+     * 재현한 핸드들의 승자를 판정합니다.
+     *
+     * 딜러와 같은 규칙이며, 모든 플레이어가 동점이면 무승부이므로 전원이 반환됩니다.
+     *
+     * @param hands {@link #deal(long, long, int)}의 결과
+     * @return 승자 순번 목록 (동점이면 여러 명)
+     */
+    public static List<Integer> winners(List<List<ICard>> hands) {
+        int best = Integer.MIN_VALUE;
+        List<Integer> winners = new ArrayList<>();
+        for (int p = 0; p < hands.size(); p++) {
+            int strength = strength(hands.get(p));
+            if (strength > best) {
+                best = strength;
+                winners.clear();
+            }
+            if (strength == best) {
+                winners.add(p);
+            }
+        }
+        return winners;
+    }
+
+    /**
+     * 재현한 라운드를 사람이 읽을 수 있는 문자열로 만듭니다.
+     *
+     * @param tableSeed 테이블 시드
+     * @param round 라운드 번호
+     * @param playerCount 플레이어 수
+     * @return 핸드, 족보, 승자를 담은 여러 줄 문자열
+     */
+    public static String describe(long tableSeed, long round, int playerCount) {
+        List<List<ICard>> hands = deal(tableSeed, round, playerCount);
+        List<Integer> winners = winners(hands);
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("테이블 시드 %d, 라운드 %d (라운드 시드 %d)%n",
+            tableSeed, round, DeckRandom.roundSeed(tableSeed, round)));
+        for (int p = 0; p < hands.size(); p++) {
+            sb.append(String.format("플레이어 %d: %s (%s)%s%n", p + 1, hands.get(p),
+                HandStrength.toString(strength(hands.get(p))), winners.contains(p) ? " 🏆" : ""));
+        }
+        if (winners.size() == hands.size()) {
+            sb.append("결과: 무승부!").append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    private static int strength(List<ICard> hand) {
+        return HandEvaluator.strength(hand.get(0), hand.get(1), hand.get(2), hand.get(3), hand.get(4));
+    }
+}
@@ -0,0 +1,179 @@
+package game.participants.dealer;
+
+import game.components.hand.HandRank;
+import game.participants.player.IPlayer;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 시뮬레이션 결과 - 플레이어별 승/패/무 횟수, 족보별 승리 횟수와 상금 합계
+ *
+ * 병렬 시뮬레이션에서 작업 묶음마다 하나씩 만들어 합산한 뒤,
+ * 마지막에 한 번만 실제 플레이어에게 반영합니다. 합산은 덧셈뿐이므로
+ * 합치는 순서와 관계없이 결과가 같습니다.
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * SimulationResult result = simulator.run(players, 1_000_000_000, seed);
+ * long wins = result.getWins(0);       // 첫 번째 플레이어의 승리 횟수
+ * long prize = result.getPrize(0);     // 첫 번째 플레이어의 상금 합계
+ * long flushes = result.getWins(0, HandRank.FLUSH);  // 플러시로 이긴 횟수
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.1
+ * @since 2026-10-17
+ */
+public final class SimulationResult {
+    private final long[] wins;
+    private final long[] loses;
+    private final long[] draws;
+    private final long[] prizes;
+    /** [플레이어][족보 순서]별 승리 횟수 */
+    private final long[][] rankWins;
+
+    /**
+     * 빈 결과를 만듭니다.
+     *
+     * @param playerCount 플레이어 수
+     */
+    SimulationResult(int playerCount) {
+        this.wins = new long[playerCount];
+        this.loses = new long[playerCount];
+        this.draws = new long[playerCount];
+        this.prizes = new long[playerCount];
+        this.rankWins = new long[playerCount][HandRank.values().length];
+    }
+
+    /**
+     * 플레이어 수를 반환합니다.
+     *
+     * @return 플레이어 수
+     */
+    public int getPlayerCount() {
+        return wins.length;
+    }
+
+    /**
+     * 플레이어의 승리 횟수를 반환합니다.
+     *
+     * @param player 플레이어 순번 (참가 목록의 인덱스)
+     * @return 승리 횟수
+     */
+    public long getWins(int player) {
+        return wins[player];
+    }
+
+    /**
+     * 플레이어가 주어진 족보로 이긴 횟수를 반환합니다.
+     *
+     * @param player 플레이어 순번 (참가 목록의 인덱스)
+     * @param rank 족보
+     * @return 그 족보로 이긴 횟수
+     */
+    public long getWins(int player, HandRank rank) {
+        return rankWins[player][rank.ordinal()];
+    }
+
+    /**
+     * 플레이어의 패배 횟수를 반환합니다.
+     *
+     * @param player 플레이어 순번 (참가 목록의 인덱스)
+     * @return 패배 횟수
+     */
+    public long getLoses(int player) {
+        return loses[player];
+    }
+
+    /**
+     * 플레이어의 무승부 횟수를 반환합니다.
+     *
+     * @param player 플레이어 순번 (참가 목록의 인덱스)
+     * @return 무승부 횟수
+     */
+    public long getDraws(int player) {
+        return draws[player];
+    }
+
+    /**
+     * 플레이어가 받은 상금 합계를 반환합니다.
+     *
+     * @param player 플레이어 순번 (참가 목록의 인덱스)
+     * @return 상금 합계
+     */
+    public long getPrize(int player) {
+        return prizes[player];
+    }
+
+    /**
+     * 플레이어 한 명의 결과를 더합니다.
+     */
+    void add(int player, long wins, long loses, long draws, long prize, long[] rankWins) {
+        for (int r = 0; r < rankWins.length; r++) {
+            this.rankWins[player][r] += rankWins[r];
+        }
+        this.wins[player] += wins;
+        this.loses[player] += loses;
+        this.draws[player] += draws;
+        this.prizes[player] += prize;
+    }
+
+    /**
+     * 다른 결과를 이 결과에 합칩니다.
+     */
+    void merge(SimulationResult other) {
+        for (int i = 0; i < wins.length; i++) {
+            add(i, other.wins[i], other.loses[i], other.draws[i], other.prizes[i], other.rankWins[i]);
+        }
+    }
+
+    /**
+     * 결과를 실제 플레이어들의 전적과 자금에 반영합니다.
+     *
+     * @param players 결과와 같은 순서의 참가 플레이어 목록
+     * @throws IllegalArgumentException 플레이어 수가 결과와 다를 때
+     */
+    void applyTo(List<? extends IPlayer> players) {
+        if (players.size() != wins.length) {
+            throw new IllegalArgumentException("플레이어 수가 결과와 다릅니다.");
+        }
+        for (int i = 0; i < wins.length; i++) {
+            IPlayer player = players.get(i);
+            player.recordResults(Math.toIntExact(wins[i]), Math.toIntExact(loses[i]), Math.toIntExact(draws[i]),
+                rankWins[i]);
+            // 상금 합계를 한 번에 정산 (상금은 음수가 아니므로 항상 반영됨)
+            player.applyDelta(prizes[i]);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof SimulationResult other)) return false;
+        return Arrays.equals(wins, other.wins) && Arrays.equals(loses, other.loses)
+            && Arrays.equals(draws, other.draws) && Arrays.equals(prizes, other.prizes)
+            && Arrays.deepEquals(rankWins, other.rankWins);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(wins);
+        result = 31 * result + Arrays.hashCode(loses);
+        result = 31 * result + Arrays.hashCode(draws);
+        result = 31 * result + Arrays.hashCode(prizes);
+        return 31 * result + Arrays.deepHashCode(rankWins);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("SimulationResult[");
+        for (int i = 0; i < wins.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(String.format("#%d: %d승 %d패 %d무 +%d원", i, wins[i], loses[i], draws[i], prizes[i]));
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -1,5 +1,6 @@
 package game.participants.player;
 
+import game.components.hand.HandRank;
 import game.components.hand.IHand;
 
 /**
@@ -9,7 +10,7 @@ import game.components.hand.IHand;
  * 모든 플레이어 구현체는 이 인터페이스를 구현해야 합니다.
  * 
  * @author XIYO
- * @version 1.1
+ * @version 1.3
  * @since 2024-01-01
  */
 public interface IPlayer {
@@ -43,6 +44,42 @@ public interface IPlayer {
      */
     boolean removeMoney(int amount);
     
+    /**
+     * 플레이어의 현재 자금을 long으로 반환합니다.
+     * 
+     * int 범위를 넘는 자금을 가질 수 있는 구현체는 이 메서드를 재정의해야 합니다.
+     * 기본 구현은 {@link #getMoney()}를 반환합니다.
+     * 
+     * @return 현재 보유 자금
+     */
+    default long getBalance() {
+        return getMoney();
+    }
+    
+    /**
+     * 자금 증감액을 한 번에 반영합니다.
+     * 
+     * 정산할 때 여러 라운드의 손익을 합친 값을 한 번에 반영하기 위해 사용합니다.
+     * 차감 결과가 음수가 되면 아무것도 바꾸지 않고 false를 반환합니다.
+     * 기본 구현은 {@link #addMoney(int)}와 {@link #removeMoney(int)}로 나눠 반영하므로
+     * 원자적이지 않습니다. 여러 스레드에서 쓰는 구현체는 {@link Wallet}처럼 원자적으로 재정의해야 합니다.
+     * 
+     * @param delta 증감액 (양수는 입금, 음수는 출금)
+     * @return 반영했으면 true, 잔액이 부족하면 false
+     */
+    default boolean applyDelta(long delta) {
+        if (delta < 0) {
+            if (delta < -getBalance()) {
+                return false;
+            }
+            return removeMoney((int) -delta);
+        }
+        for (long rest = delta; rest > 0; rest -= Integer.MAX_VALUE) {
+            addMoney((int) Math.min(rest, Integer.MAX_VALUE));
+        }
+        return true;
+    }
+    
     /**
      * 플레이어의 현재 핸드를 반환합니다.
      * 
@@ -84,6 +121,18 @@ public interface IPlayer {
      */
     void recordWin();
     
+    /**
+     * 이긴 족보와 함께 승리를 기록합니다.
+     * 
+     * 족보별 승리 통계를 지원하는 구현체는 이 메서드를 재정의합니다.
+     * 기본 구현은 {@link #recordWin()}을 호출합니다.
+     * 
+     * @param rank 이긴 핸드의 족보
+     */
+    default void recordWin(HandRank rank) {
+        recordWin();
+    }
+    
     /**
      * 패배를 기록합니다.
      */
@@ -94,6 +143,73 @@ public interface IPlayer {
      */
     void recordDraw();
     
+    /**
+     * 여러 라운드의 승패 결과를 한 번에 기록합니다.
+     * 
+     * 병렬 시뮬레이션처럼 결과를 모아 두었다가 합칠 때 사용합니다.
+     * 기본 구현은 {@link #recordWin()}, {@link #recordLose()}, {@link #recordDraw()}를
+     * 횟수만큼 호출합니다.
+     * 
+     * @param wins 추가할 승리 횟수
+     * @param loses 추가할 패배 횟수
+     * @param draws 추가할 무승부 횟수
+     * @throws IllegalArgumentException 횟수가 음수일 때
+     */
+    default void recordResults(int wins, int loses, int draws) {
+        if (wins < 0 || loses < 0 || draws < 0) {
+            throw new IllegalArgumentException("기록 횟수는 음수일 수 없습니다.");
+        }
+        for (int i = 0; i < wins; i++) {
+            recordWin();
+        }
+        for (int i = 0; i < loses; i++) {
+            recordLose();
+        }
+        for (int i = 0; i < draws; i++) {
+            recordDraw();
+        }
+    }
+    
+    /**
+     * 여러 라운드의 승패 결과를 족보별 승리 수와 함께 한 번에 기록합니다.
+     * 
+     * 족보 없이 이긴 판이 있을 수 있으므로 족보별 승리 합은 wins보다 작아도 됩니다.
+     * 기본 구현은 족보별 승리마다 {@link #recordWin(HandRank)}를, 나머지 승리는
+     * {@link #recordWin()}을 호출한 뒤 {@link #recordResults(int, int, int)}로 패/무를 기록합니다.
+     * 
+     * @param wins 추가할 승리 횟수
+     * @param loses 추가할 패배 횟수
+     * @param draws 추가할 무승부 횟수
+     * @param winsByRank 족보 순서({@link HandRank#ordinal()})별로 추가할 승리 횟수
+     * @throws IllegalArgumentException 횟수가 음수이거나, 배열 길이가 족보 수와 다르거나,
+     *                                  족보별 승리 합이 wins보다 클 때
+     */
+    default void recordResults(int wins, int loses, int draws, long[] winsByRank) {
+        HandRank[] ranks = HandRank.values();
+        if (wins < 0 || loses < 0 || draws < 0) {
+            throw new IllegalArgumentException("기록 횟수는 음수일 수 없습니다.");
+        }
+        if (winsByRank == null || winsByRank.length != ranks.length) {
+            throw new IllegalArgumentException("족보별 승리 배열의 길이는 족보 수와 같아야 합니다.");
+        }
+        long rankTotal = 0;
+        for (long count : winsByRank) {
+            if (count < 0) {
+                throw new IllegalArgumentException("기록 횟수는 음수일 수 없습니다.");
+            }
+            rankTotal += count;
+        }
+        if (rankTotal > wins) {
+            throw new IllegalArgumentException("족보별 승리 합이 승리 횟수보다 많습니다.");
+        }
+        for (HandRank rank : ranks) {
+            for (long i = 0; i < winsByRank[rank.ordinal()]; i++) {
+                recordWin(rank);
+            }
+        }
+        recordResults(Math.toIntExact(wins - rankTotal), loses, draws);
+    }
+    
     /**
      * 플레이어를 문자열로 표현합니다.
      * 
@@ -1,5 +1,6 @@
 package game.participants.player;
 
+import game.components.hand.HandRank;
 import game.components.hand.HandRef;
 import game.components.hand.IHand;
 
@@ -13,15 +14,16 @@ import game.components.hand.IHand;
  * <ul>
  *   <li>플레이어 정보: 이름, 자금 관리</li>
  *   <li>핸드 관리: 현재 손패 설정 및 조회</li>
- *   <li>자금 관리: 돈 추가/차감 (안전성 검증 포함)</li>
- *   <li>전적 추적: 승/패/무승부 기록 관리</li>
+ *   <li>자금 관리: 돈 추가/차감 ({@link Wallet}으로 여러 스레드에서도 원자적, long 잔액)</li>
+ *   <li>전적 추적: 승/패/무승부와 족보별 승리 기록 ({@link PlayerStats}로 여러 스레드에서도 경합 없이)</li>
  *   <li>입력 검증: null 체크, 음수 방지</li>
  * </ul>
  * 
  * <p>안전성 보장:</p>
  * <ul>
  *   <li>음수 자금 차단: 음수 금액 추가/차감 방지</li>
- *   <li>잔액 부족 방지: 보유 자금보다 많은 차감 방지</li>
+ *   <li>잔액 부족 방지: 보유 자금보다 많은 차감 방지 (확인과 차감이 원자적)</li>
+ *   <li>오버플로 방지: 잔액이 long 범위를 넘는 입금은 반영하지 않고 예외 발생</li>
  *   <li>null 방지: 이름, 핸드 null 체크</li>
  * </ul>
  * 
@@ -35,16 +37,14 @@ import game.components.hand.IHand;
  * </pre>
  * 
  * @author XIYO
- * @version 1.1
+ * @version 1.4
  * @since 2024-01-01
  */
 public class PlayerRef implements IPlayer {
     private String name;
-    private int money;
+    private final Wallet wallet;
     private IHand hand;
-    private int winCount;
-    private int loseCount;
-    private int drawCount;
+    private final PlayerStats stats = new PlayerStats();
     
     /**
      * PlayerRef 생성자
@@ -60,12 +60,9 @@ public class PlayerRef implements IPlayer {
         }
         
         this.name = name;
-        this.money = initialMoney;
+        this.wallet = new Wallet(initialMoney);
         // Interface 타입으로 선언하여 다형성 지원: IHand hand = new HandRef()
         this.hand = new HandRef();
-        this.winCount = 0;
-        this.loseCount = 0;
-        this.drawCount = 0;
     }
     
     /**
@@ -80,22 +77,39 @@ public class PlayerRef implements IPlayer {
     /**
      * 플레이어의 현재 자금을 반환합니다.
      * 
-     * @return 현재 보유 자금
+     * @return 현재 보유 자금 (int 범위를 넘으면 {@link Integer#MAX_VALUE})
      */
     public int getMoney() {
-        return money;
+        return (int) Math.min(wallet.getBalance(), Integer.MAX_VALUE);
+    }
+    
+    /**
+     * 플레이어의 현재 자금을 long으로 반환합니다.
+     * 
+     * @return 현재 보유 자금
+     */
+    @Override
+    public long getBalance() {
+        return wallet.getBalance();
+    }
+    
+    /**
+     * 플레이어의 지갑을 반환합니다.
+     * 
+     * @return 원자적으로 입출금하는 지갑
+     */
+    public Wallet getWallet() {
+        return wallet;
     }
     
     /**
      * 플레이어에게 돈을 추가합니다.
      * 
      * @param amount 추가할 금액
+     * @throws IllegalArgumentException amount가 음수일 때
      */
     public void addMoney(int amount) {
-        if (amount < 0) {
-            throw new IllegalArgumentException("금액은 음수일 수 없습니다.");
-        }
-        money += amount;
+        wallet.deposit(amount);
     }
     
     /**
@@ -108,11 +122,18 @@ public class PlayerRef implements IPlayer {
         if (amount < 0) {
             return false;
         }
-        if (money >= amount) {
-            money -= amount;
-            return true;
-        }
-        return false;
+        return wallet.withdraw(amount);
+    }
+    
+    /**
+     * 자금 증감액을 원자적으로 반영합니다.
+     * 
+     * @param delta 증감액 (양수는 입금, 음수는 출금)
+     * @return 반영했으면 true, 잔액이 부족하면 false
+     */
+    @Override
+    public boolean applyDelta(long delta) {
+        return wallet.applyDelta(delta);
     }
     
     /**
@@ -139,54 +160,105 @@ public class PlayerRef implements IPlayer {
     /**
      * 플레이어의 승리 횟수를 반환합니다.
      * 
-     * @return 승리 횟수
+     * @return 승리 횟수 (int 범위를 넘으면 {@link Integer#MAX_VALUE})
      */
     public int getWinCount() {
-        return winCount;
+        return (int) Math.min(stats.getWins(), Integer.MAX_VALUE);
     }
     
     /**
      * 플레이어의 패배 횟수를 반환합니다.
      * 
-     * @return 패배 횟수
+     * @return 패배 횟수 (int 범위를 넘으면 {@link Integer#MAX_VALUE})
      */
     public int getLoseCount() {
-        return loseCount;
+        return (int) Math.min(stats.getLoses(), Integer.MAX_VALUE);
     }
     
     /**
      * 플레이어의 무승부 횟수를 반환합니다.
      * 
-     * @return 무승부 횟수
+     * @return 무승부 횟수 (int 범위를 넘으면 {@link Integer#MAX_VALUE})
      */
     public int getDrawCount() {
-        return drawCount;
+        return (int) Math.min(stats.getDraws(), Integer.MAX_VALUE);
     }
     
     /**
      * 승리를 기록합니다.
      */
     public void recordWin() {
-        winCount++;
+        stats.recordWin();
+    }
+    
+    /**
+     * 이긴 족보와 함께 승리를 기록합니다.
+     * 
+     * @param rank 이긴 핸드의 족보
+     * @throws IllegalArgumentException rank가 null일 때
+     */
+    @Override
+    public void recordWin(HandRank rank) {
+        stats.recordWin(rank);
     }
     
     /**
      * 패배를 기록합니다.
      */
     public void recordLose() {
-        loseCount++;
+        stats.recordLose();
     }
     
     /**
      * 무승부를 기록합니다.
      */
     public void recordDraw() {
-        drawCount++;
+        stats.recordDraw();
+    }
+    
+    /**
+     * 여러 라운드의 승패 결과를 한 번에 기록합니다.
+     * 
+     * @param wins 추가할 승리 횟수
+     * @param loses 추가할 패배 횟수
+     * @param draws 추가할 무승부 횟수
+     * @throws IllegalArgumentException 횟수가 음수일 때
+     */
+    @Override
+    public void recordResults(int wins, int loses, int draws) {
+        stats.record(wins, loses, draws);
+    }
+    
+    /**
+     * 여러 라운드의 승패 결과를 족보별 승리 수와 함께 한 번에 기록합니다.
+     * 
+     * @param wins 추가할 승리 횟수
+     * @param loses 추가할 패배 횟수
+     * @param draws 추가할 무승부 횟수
+     * @param winsByRank 족보 순서별로 추가할 승리 횟수
+     * @throws IllegalArgumentException 횟수가 음수이거나, 배열 길이가 족보 수와 다르거나,
+     *                                  족보별 승리 합이 wins보다 클 때
+     */
+    @Override
+    public void recordResults(int wins, int loses, int draws, long[] winsByRank) {
+        stats.record(wins, loses, draws, winsByRank);
+    }
+    
+    /**
+     * 플레이어의 전적 통계를 반환합니다.
+     * 
+     * 승/패/무와 족보별 승리를 함께 보려면 {@link PlayerStats#snapshot()}을 사용하세요.
+     * 
+     * @return 전적 통계
+     */
+    public PlayerStats getStats() {
+        return stats;
     }
     
     @Override
     public String toString() {
+        PlayerStats.Snapshot snapshot = stats.snapshot();
         return String.format("%s (자금: %d원, 전적: %d승 %d패 %d무)", 
-            name, money, winCount, loseCount, drawCount);
+            name, wallet.getBalance(), snapshot.getWins(), snapshot.getLoses(), snapshot.getDraws());
     }
 }
\ No newline at end of file
@@ -0,0 +1,388 @@
+package game.participants.player;
+
+import game.components.hand.HandRank;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * 플레이어 전적 통계 - 여러 스레드가 동시에 기록해도 경합하지 않는 승/패/무 카운터
+ *
+ * 카운터를 여러 칸(stripe)으로 나눠 스레드마다 다른 칸에 기록하고, 읽을 때 모든 칸을 합칩니다.
+ * 칸마다 작은 시퀀스 잠금(seqlock)이 있어 한 번의 기록(예: 승리 + 그 족보의 승리 수)이
+ * 원자적으로 반영되므로, 스냅샷에서는 항상 {@code 족보별 승리 합 ≤ 승리 수}와
+ * {@code 승 + 패 + 무 = 전체 판 수}가 성립합니다.
+ *
+ * <p>구조:</p>
+ * <ul>
+ *   <li>처음에는 칸 하나만 사용 (메모리 절약), 두 스레드가 같은 칸에서 부딪히면 그때 칸을 늘림</li>
+ *   <li>칸 수: 코어 수 이상의 2의 거듭제곱 (최대 {@value #MAX_STRIPES})</li>
+ *   <li>칸마다 캐시 라인 하나 이상 떨어뜨려 거짓 공유(false sharing)를 피함</li>
+ *   <li>칸이 사용 중이면 기다리지 않고 다음 칸에 기록</li>
+ * </ul>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * PlayerStats stats = new PlayerStats();
+ * stats.recordWin(HandRank.FLUSH);   // 어느 스레드에서나 호출 가능
+ * stats.recordLose();
+ * PlayerStats.Snapshot snapshot = stats.snapshot();
+ * snapshot.getHandsPlayed();         // 2
+ * snapshot.getWins(HandRank.FLUSH);  // 1
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.1
+ * @since 2026-10-17
+ */
+public final class PlayerStats {
+    private static final int MAX_STRIPES = 64;
+    private static final int STRIPES = Math.min(MAX_STRIPES,
+        Integer.highestOneBit(Math.max(2, Runtime.getRuntime().availableProcessors()) * 2 - 1));
+    private static final HandRank[] HAND_RANKS = HandRank.values();
+
+    // 칸 안의 위치: 시퀀스, 승, 패, 무, 족보별 승리
+    private static final int SEQ = 0;
+    private static final int WINS = 1;
+    private static final int LOSES = 2;
+    private static final int DRAWS = 3;
+    private static final int RANK_WINS = 4;
+    private static final int COUNTERS = RANK_WINS - 1 + HAND_RANKS.length;
+    /** 칸 앞의 여백 (long 8개 = 64바이트) */
+    private static final int PAD = 8;
+    /** 칸 하나의 간격 - 칸 사이에 64바이트 이상의 빈 공간이 남음 */
+    private static final int STRIDE = PAD + 1 + COUNTERS + PAD;
+
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle STRIPED;
+
+    static {
+        try {
+            STRIPED = MethodHandles.lookup().findVarHandle(PlayerStats.class, "striped", long[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** 경합 전까지 쓰는 칸 하나 */
+    private final long[] base = new long[STRIDE];
+    /** 경합이 생기면 만드는 여러 칸 (STRIDE 간격) */
+    private volatile long[] striped;
+
+    /**
+     * 승리를 기록합니다 (족보 정보 없음).
+     */
+    public void recordWin() {
+        add(1, 0, 0, -1, null);
+    }
+
+    /**
+     * 이긴 족보와 함께 승리를 기록합니다.
+     *
+     * @param rank 이긴 핸드의 족보
+     * @throws IllegalArgumentException rank가 null일 때
+     */
+    public void recordWin(HandRank rank) {
+        if (rank == null) {
+            throw new IllegalArgumentException("족보는 null일 수 없습니다.");
+        }
+        add(1, 0, 0, rank.ordinal(), null);
+    }
+
+    /**
+     * 패배를 기록합니다.
+     */
+    public void recordLose() {
+        add(0, 1, 0, -1, null);
+    }
+
+    /**
+     * 무승부를 기록합니다.
+     */
+    public void recordDraw() {
+        add(0, 0, 1, -1, null);
+    }
+
+    /**
+     * 여러 판의 결과를 한 번에 원자적으로 기록합니다.
+     *
+     * @param wins 추가할 승리 횟수
+     * @param loses 추가할 패배 횟수
+     * @param draws 추가할 무승부 횟수
+     * @throws IllegalArgumentException 횟수가 음수일 때
+     */
+    public void record(long wins, long loses, long draws) {
+        if (wins < 0 || loses < 0 || draws < 0) {
+            throw new IllegalArgumentException("기록 횟수는 음수일 수 없습니다.");
+        }
+        add(wins, loses, draws, -1, null);
+    }
+
+    /**
+     * 여러 판의 결과를 족보별 승리 수와 함께 한 번에 원자적으로 기록합니다.
+     *
+     * 족보 없이 이긴 판이 있을 수 있으므로 족보별 승리 합은 wins보다 작아도 됩니다.
+     *
+     * @param wins 추가할 승리 횟수
+     * @param loses 추가할 패배 횟수
+     * @param draws 추가할 무승부 횟수
+     * @param winsByRank 족보 순서({@link HandRank#ordinal()})별로 추가할 승리 횟수
+     * @throws IllegalArgumentException 횟수가 음수이거나, 배열 길이가 족보 수와 다르거나,
+     *                                  족보별 승리 합이 wins보다 클 때
+     */
+    public void record(long wins, long loses, long draws, long[] winsByRank) {
+        if (wins < 0 || loses < 0 || draws < 0) {
+            throw new IllegalArgumentException("기록 횟수는 음수일 수 없습니다.");
+        }
+        if (winsByRank == null || winsByRank.length != HAND_RANKS.length) {
+            throw new IllegalArgumentException("족보별 승리 배열의 길이는 족보 수와 같아야 합니다.");
+        }
+        long rankTotal = 0;
+        for (long count : winsByRank) {
+            if (count < 0) {
+                throw new IllegalArgumentException("기록 횟수는 음수일 수 없습니다.");
+            }
+            rankTotal += count;
+        }
+        if (rankTotal > wins) {
+            throw new IllegalArgumentException("족보별 승리 합이 승리 횟수보다 많습니다.");
+        }
+        add(wins, loses, draws, -1, winsByRank.clone());
+    }
+
+    /**
+     * 승리 횟수를 반환합니다.
+     *
+     * 칸마다 따로 읽으므로 기록 중에는 다른 카운터와 어긋날 수 있습니다.
+     * 여러 값을 함께 쓸 때는 {@link #snapshot()}을 사용하세요.
+     *
+     * @return 승리 횟수
+     */
+    public long getWins() {
+        return sum(WINS);
+    }
+
+    /**
+     * 패배 횟수를 반환합니다.
+     *
+     * @return 패배 횟수
+     */
+    public long getLoses() {
+        return sum(LOSES);
+    }
+
+    /**
+     * 무승부 횟수를 반환합니다.
+     *
+     * @return 무승부 횟수
+     */
+    public long getDraws() {
+        return sum(DRAWS);
+    }
+
+    /**
+     * 모든 카운터를 함께 읽은 스냅샷을 반환합니다.
+     *
+     * 칸마다 기록 도중의 값을 읽지 않으므로, 한 번의 기록이 일부만 보이는 일이 없습니다.
+     *
+     * @return 전적 스냅샷
+     */
+    public Snapshot snapshot() {
+        long[] totals = new long[COUNTERS];
+        long[] scratch = new long[COUNTERS];
+        readStripe(base, PAD, totals, scratch);
+        long[] cells = striped;
+        if (cells != null) {
+            for (int at = PAD; at < cells.length; at += STRIDE) {
+                readStripe(cells, at, totals, scratch);
+            }
+        }
+        return new Snapshot(totals);
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    private void add(long wins, long loses, long draws, int rank, long[] winsByRank) {
+        long[] cells = striped;
+        if (cells == null) {
+            if (tryAdd(base, PAD, wins, loses, draws, rank, winsByRank)) {
+                return;
+            }
+            cells = expand();
+        }
+        int mask = STRIPES - 1;
+        int stripe = probe() & mask;
+        while (!tryAdd(cells, PAD + stripe * STRIDE, wins, loses, draws, rank, winsByRank)) {
+            stripe = (stripe + 1) & mask;
+        }
+    }
+
+    /**
+     * 칸을 잠글 수 있으면 기록하고 true, 다른 스레드가 쓰는 중이면 false를 반환합니다.
+     */
+    private static boolean tryAdd(long[] cells, int at, long wins, long loses, long draws,
+                                  int rank, long[] winsByRank) {
+        long seq = (long) SLOT.getOpaque(cells, at + SEQ);
+        if ((seq & 1) != 0 || !SLOT.compareAndSet(cells, at + SEQ, seq, seq + 1)) {
+            return false;
+        }
+        bump(cells, at + WINS, wins);
+        bump(cells, at + LOSES, loses);
+        bump(cells, at + DRAWS, draws);
+        if (rank >= 0) {
+            bump(cells, at + RANK_WINS + rank, wins);
+        }
+        if (winsByRank != null) {
+            for (int r = 0; r < winsByRank.length; r++) {
+                bump(cells, at + RANK_WINS + r, winsByRank[r]);
+            }
+        }
+        SLOT.setRelease(cells, at + SEQ, seq + 2);
+        return true;
+    }
+
+    private static void bump(long[] cells, int index, long delta) {
+        if (delta != 0) {
+            SLOT.setOpaque(cells, index, cells[index] + delta);
+        }
+    }
+
+    /**
+     * 칸 하나를 기록 도중이 아닌 상태로 읽어 totals에 더합니다.
+     */
+    private static void readStripe(long[] cells, int at, long[] totals, long[] scratch) {
+        while (true) {
+            long seq = (long) SLOT.getAcquire(cells, at + SEQ);
+            if ((seq & 1) == 0) {
+                for (int i = 0; i < COUNTERS; i++) {
+                    scratch[i] = (long) SLOT.getOpaque(cells, at + 1 + i);
+                }
+                VarHandle.acquireFence();
+                if ((long) SLOT.getOpaque(cells, at + SEQ) == seq) {
+                    for (int i = 0; i < COUNTERS; i++) {
+                        totals[i] += scratch[i];
+                    }
+                    return;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private long sum(int field) {
+        long total = (long) SLOT.getOpaque(base, PAD + field);
+        long[] cells = striped;
+        if (cells != null) {
+            for (int at = PAD; at < cells.length; at += STRIDE) {
+                total += (long) SLOT.getOpaque(cells, at + field);
+            }
+        }
+        return total;
+    }
+
+    private long[] expand() {
+        long[] cells = striped;
+        if (cells == null) {
+            STRIPED.compareAndSet(this, null, new long[STRIPES * STRIDE]);
+            cells = striped;
+        }
+        return cells;
+    }
+
+    /**
+     * 스레드마다 고정된 칸 번호의 출발점
+     */
+    private static int probe() {
+        long id = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        return (int) (id ^ (id >>> 32));
+    }
+
+    /**
+     * 전적 스냅샷 - {@link PlayerStats#snapshot()} 시점의 값 (변하지 않음)
+     */
+    public static final class Snapshot {
+        private final long[] counters;
+
+        private Snapshot(long[] counters) {
+            this.counters = counters;
+        }
+
+        /**
+         * 승리 횟수를 반환합니다.
+         *
+         * @return 승리 횟수
+         */
+        public long getWins() {
+            return counters[WINS - 1];
+        }
+
+        /**
+         * 패배 횟수를 반환합니다.
+         *
+         * @return 패배 횟수
+         */
+        public long getLoses() {
+            return counters[LOSES - 1];
+        }
+
+        /**
+         * 무승부 횟수를 반환합니다.
+         *
+         * @return 무승부 횟수
+         */
+        public long getDraws() {
+            return counters[DRAWS - 1];
+        }
+
+        /**
+         * 전체 판 수를 반환합니다.
+         *
+         * @return 승 + 패 + 무
+         */
+        public long getHandsPlayed() {
+            return getWins() + getLoses() + getDraws();
+        }
+
+        /**
+         * 주어진 족보로 이긴 횟수를 반환합니다.
+         *
+         * 족보 없이 기록한 승리({@link PlayerStats#recordWin()})는 포함되지 않습니다.
+         *
+         * @param rank 족보
+         * @return 그 족보로 이긴 횟수
+         */
+        public long getWins(HandRank rank) {
+            return counters[RANK_WINS - 1 + rank.ordinal()];
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Snapshot other && Arrays.equals(counters, other.counters);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(counters);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(getWins()).append("승 ").append(getLoses()).append("패 ")
+                .append(getDraws()).append("무 (").append(getHandsPlayed()).append("판)");
+            for (HandRank rank : HAND_RANKS) {
+                long wins = getWins(rank);
+                if (wins > 0) {
+                    sb.append(", ").append(rank.getDisplayName()).append(' ').append(wins).append("승");
+                }
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package game.participants.player;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * 지갑 - 여러 스레드에서 동시에 입출금해도 안전한 잔액
+ *
+ * 잔액은 {@code long}이며 {@link VarHandle}의 compare-and-set으로만 바꿉니다.
+ * 같은 플레이어가 여러 테이블에 동시에 앉아 상금을 받고 베팅해도 잔액이 어긋나지 않고,
+ * 잠금을 쓰지 않으므로 경합이 없을 때는 CAS 한 번으로 끝납니다.
+ *
+ * <p>주요 기능:</p>
+ * <ul>
+ *   <li>입금: 잔액이 long 범위를 넘으면 바뀌지 않고 예외 발생</li>
+ *   <li>출금: 잔액이 충분할 때만 원자적으로 차감 (확인과 차감 사이에 끼어들 수 없음)</li>
+ *   <li>일괄 정산: 여러 라운드의 손익을 합친 증감액을 CAS 한 번으로 반영</li>
+ *   <li>잔액은 절대 음수가 되지 않음</li>
+ * </ul>
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * Wallet wallet = new Wallet(10_000);
+ * wallet.deposit(100);                 // 상금
+ * if (wallet.withdraw(500)) { ... }    // 잔액이 충분할 때만 베팅
+ * wallet.applyDelta(-300 + 1_200);     // 여러 라운드 손익을 한 번에 정산
+ * </pre>
+ *
+ * @author XIYO
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class Wallet {
+    private static final VarHandle BALANCE;
+
+    static {
+        try {
+            BALANCE = MethodHandles.lookup().findVarHandle(Wallet.class, "balance", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @SuppressWarnings("unused") // BALANCE로만 접근
+    private volatile long balance;
+
+    /**
+     * Wallet 생성자
+     *
+     * @param initialBalance 초기 잔액
+     * @throws IllegalArgumentException 초기 잔액이 음수일 때
+     */
+    public Wallet(long initialBalance) {
+        if (initialBalance < 0) {
+            throw new IllegalArgumentException("초기 잔액은 음수일 수 없습니다.");
+        }
+        this.balance = initialBalance;
+    }
+
+    /**
+     * 현재 잔액을 반환합니다.
+     *
+     * @return 잔액 (0 이상)
+     */
+    public long getBalance() {
+        return (long) BALANCE.getVolatile(this);
+    }
+
+    /**
+     * 돈을 입금합니다.
+     *
+     * @param amount 입금액
+     * @throws IllegalArgumentException amount가 음수일 때
+     * @throws IllegalStateException 잔액이 long 범위를 넘을 때 (잔액은 바뀌지 않음)
+     */
+    public void deposit(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("금액은 음수일 수 없습니다.");
+        }
+        applyDelta(amount);
+    }
+
+    /**
+     * 잔액이 충분할 때만 돈을 출금합니다.
+     *
+     * @param amount 출금액
+     * @return 출금했으면 true, 잔액이 부족하면 false (잔액은 바뀌지 않음)
+     * @throws IllegalArgumentException amount가 음수일 때
+     */
+    public boolean withdraw(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("금액은 음수일 수 없습니다.");
+        }
+        return applyDelta(-amount);
+    }
+
+    /**
+     * 증감액을 원자적으로 반영합니다.
+     *
+     * 정산할 때 여러 라운드의 상금과 베팅을 하나의 증감액으로 합쳐 호출하면
+     * 라운드마다 입출금하는 것보다 CAS 횟수가 줄어듭니다.
+     *
+     * @param delta 증감액 (양수는 입금, 음수는 출금)
+     * @return 반영했으면 true, 잔액이 음수가 되어 반영하지 않았으면 false
+     * @throws IllegalStateException 잔액이 long 범위를 넘을 때 (잔액은 바뀌지 않음)
+     */
+    public boolean applyDelta(long delta) {
+        long current = (long) BALANCE.getVolatile(this);
+        while (true) {
+            long next = current + delta;
+            if (delta > 0 && next < current) {
+                throw new IllegalStateException("잔액이 최대값을 넘습니다. (잔액: " + current + ", 입금액: " + delta + ")");
+            }
+            if (next < 0) {
+                return false;
+            }
+            long witness = (long) BALANCE.compareAndExchange(this, current, next);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getBalance() + "원";
+    }
+}
@@ -0,0 +1,132 @@
+package game.components.card;
+
+import game.components.deck.DeckRef;
+import game.components.hand.HandRef;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CardSet 클래스 테스트
+ *
+ * <p>long 비트마스크 카드 집합의 연산과 IHand/IDeck 연동을 검증합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>집합 연산 - 추가, 합집합, 제거, 포함 여부</li>
+ *   <li>무늬별 장수와 랭크 마스크 추출</li>
+ *   <li>플러시/스트레이트 판정</li>
+ *   <li>HandRef와 DeckRef의 카드 집합 연동</li>
+ *   <li>표준 카드 공유 - ICard.of()와 toList()가 같은 객체를 반환</li>
+ * </ol>
+ */
+public class CardSetTest {
+
+    private final ICard aceOfSpades = new CardRef(Suit.SPADES, Rank.ACE);
+    private final ICard twoOfHearts = new CardRef(Suit.HEARTS, Rank.TWO);
+    private final ICard kingOfClubs = new CardRef(Suit.CLUBS, Rank.KING);
+
+    @Test
+    @DisplayName("1. 집합 연산 테스트 - 추가, 합집합, 제거, 포함 여부")
+    void testSetOperations() {
+        // given
+        long set = CardSet.of(aceOfSpades, twoOfHearts);
+
+        // when
+        long union = CardSet.union(set, CardSet.of(kingOfClubs));
+        long removed = CardSet.remove(union, CardSet.of(twoOfHearts));
+
+        // then
+        assertEquals(2, CardSet.size(set));
+        assertEquals(3, CardSet.size(union));
+        assertTrue(CardSet.contains(removed, aceOfSpades));
+        assertFalse(CardSet.contains(removed, twoOfHearts), "제거한 카드가 남아 있습니다.");
+        assertTrue(CardSet.contains(removed, kingOfClubs));
+        assertEquals(52, CardSet.size(CardSet.FULL_DECK));
+        assertEquals(1L << 12, CardSet.of(aceOfSpades), "스페이드 에이스는 비트 12여야 합니다.");
+        assertEquals(1L << 13, CardSet.of(twoOfHearts), "하트 2는 비트 13이어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("2. 무늬별 장수와 랭크 마스크 테스트")
+    void testSuitCountAndRankMask() {
+        // given
+        long set = CardSet.of(aceOfSpades, new CardRef(Suit.SPADES, Rank.TWO), twoOfHearts, kingOfClubs);
+
+        // then
+        assertEquals(2, CardSet.suitCount(set, Suit.SPADES));
+        assertEquals(1, CardSet.suitCount(set, Suit.HEARTS));
+        assertEquals(0, CardSet.suitCount(set, Suit.DIAMONDS));
+        assertEquals((1 << 12) | 1, CardSet.suitMask(set, Suit.SPADES));
+        assertEquals((1 << 12) | (1 << 11) | 1, CardSet.rankMask(set),
+            "랭크 마스크는 무늬와 관계없이 A, K, 2만 켜져 있어야 합니다.");
+        assertEquals("[2♠, A♠, 2♥, K♣]", CardSet.toString(set));
+    }
+
+    @Test
+    @DisplayName("3. 플러시/스트레이트 판정 테스트")
+    void testFlushAndStraight() {
+        // given
+        long flush = CardSet.of(
+            new CardRef(Suit.HEARTS, Rank.TWO), new CardRef(Suit.HEARTS, Rank.SIX),
+            new CardRef(Suit.HEARTS, Rank.NINE), new CardRef(Suit.HEARTS, Rank.JACK),
+            new CardRef(Suit.HEARTS, Rank.KING));
+        long wheel = CardSet.of(
+            new CardRef(Suit.HEARTS, Rank.ACE), new CardRef(Suit.CLUBS, Rank.TWO),
+            new CardRef(Suit.SPADES, Rank.THREE), new CardRef(Suit.HEARTS, Rank.FOUR),
+            new CardRef(Suit.DIAMONDS, Rank.FIVE), new CardRef(Suit.DIAMONDS, Rank.SIX));
+
+        // then
+        assertTrue(CardSet.isFlush(flush));
+        assertFalse(CardSet.isStraight(flush));
+        assertFalse(CardSet.isFlush(wheel));
+        assertTrue(CardSet.isStraight(wheel));
+        assertEquals(Rank.SIX.ordinal(), CardSet.straightHigh(CardSet.rankMask(wheel)),
+            "2-3-4-5-6이 있으면 백스트레이트보다 6 하이 스트레이트가 우선입니다.");
+        assertEquals(Rank.FIVE.ordinal(), CardSet.straightHigh(0x100F), "백스트레이트의 최고 랭크는 5입니다.");
+        assertEquals(-1, CardSet.straightHigh(0x1E07), "A-K-Q-J-2-3-4는 스트레이트가 아닙니다.");
+    }
+
+    @Test
+    @DisplayName("4. 핸드/덱 연동 테스트 - 카드 집합 노출과 죽은 카드 제거")
+    void testHandAndDeckIntegration() {
+        // given
+        HandRef hand = new HandRef();
+        hand.add(aceOfSpades);
+        hand.add(kingOfClubs);
+        DeckRef deck = new DeckRef();
+
+        // when
+        deck.removeAll(hand.getCardSet());
+
+        // then
+        assertEquals(CardSet.of(aceOfSpades, kingOfClubs), hand.getCardSet());
+        assertEquals(50, CardSet.size(deck.getCardSet()));
+        assertEquals(CardSet.remove(CardSet.FULL_DECK, hand.getCardSet()), deck.getCardSet());
+
+        hand.clear();
+        assertEquals(CardSet.EMPTY, hand.getCardSet(), "clear() 후 카드 집합이 비어야 합니다.");
+        hand.addAll(CardSet.of(twoOfHearts, aceOfSpades));
+        assertEquals(2, hand.getCards().size());
+    }
+
+    @Test
+    @DisplayName("5. 표준 카드 테스트 - 같은 카드는 항상 같은 객체인지 확인")
+    void testCanonicalCards() {
+        // given
+        ICard ace = ICard.of(Suit.SPADES, Rank.ACE);
+
+        // then
+        assertSame(ace, ICard.of(ace.getIndex()), "인덱스로 얻은 카드가 같은 객체여야 합니다.");
+        assertSame(ace, CardSet.toList(CardSet.of(aceOfSpades)).get(0), "toList()는 표준 카드를 반환해야 합니다.");
+        assertEquals(aceOfSpades, ace, "새로 만든 카드와도 값은 같아야 합니다.");
+        assertEquals(aceOfSpades.hashCode(), ace.hashCode());
+        assertSame(ICard.of(0), new DeckRef().drawCard(), "덱은 표준 카드로 채워져야 합니다.");
+        for (int index = 0; index < 52; index++) {
+            assertEquals(index, ICard.of(index).getIndex());
+        }
+        assertThrows(IllegalArgumentException.class, () -> ICard.of(52));
+        assertThrows(IllegalArgumentException.class, () -> ICard.of(null, Rank.ACE));
+    }
+}
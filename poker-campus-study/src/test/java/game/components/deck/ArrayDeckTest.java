@@ -0,0 +1,175 @@
+package game.components.deck;
+
+import game.components.card.CardSet;
+import game.components.card.ICard;
+import game.components.card.Rank;
+import game.components.card.Suit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ArrayDeck 클래스 테스트
+ *
+ * <p>커서 기반 배열 덱의 뽑기, 여러 장 뽑기, 리셋, 죽은 카드 제거를 검증합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>셔플 후 52장이 중복 없이 모두 있는지</li>
+ *   <li>리셋 테스트 - 모두 뽑은 뒤 52장 복원</li>
+ *   <li>여러 장 뽑기 테스트 - draw(n, dest)와 예외 처리</li>
+ *   <li>죽은 카드 제거 후 리셋 시 복원</li>
+ *   <li>시드 재현 - 같은 시드면 ArrayDeck과 DeckRef 모두 같은 순서</li>
+ *   <li>시드 리셋 - reset(seed)의 순서가 이전 상태와 관계없이 시드만으로 정해지는지</li>
+ * </ol>
+ */
+public class ArrayDeckTest {
+
+    @Test
+    @DisplayName("1. 셔플 테스트 - 섞은 뒤에도 52장이 중복 없이 모두 있는지 확인")
+    void testShuffleKeepsAllCards() {
+        // given
+        ArrayDeck deck = new ArrayDeck();
+
+        // when
+        deck.shuffle();
+        long drawn = CardSet.EMPTY;
+        int count = 0;
+        while (!deck.isEmpty()) {
+            drawn = CardSet.add(drawn, deck.drawCard());
+            count++;
+        }
+
+        // then
+        assertEquals(52, count, "덱은 52장의 카드를 가져야 합니다.");
+        assertEquals(CardSet.FULL_DECK, drawn, "모든 카드가 한 번씩 나와야 합니다.");
+        assertThrows(IllegalStateException.class, deck::drawCard);
+    }
+
+    @Test
+    @DisplayName("2. 리셋 테스트 - 모두 뽑은 뒤 reset()으로 52장이 복원되는지 확인")
+    void testReset() {
+        // given
+        ArrayDeck deck = new ArrayDeck();
+        deck.shuffle();
+        for (int i = 0; i < 52; i++) {
+            deck.drawCard();
+        }
+
+        // when
+        deck.reset();
+
+        // then
+        assertFalse(deck.isEmpty());
+        assertEquals(52, deck.size());
+        assertEquals(CardSet.FULL_DECK, deck.getCardSet());
+    }
+
+    @Test
+    @DisplayName("3. 여러 장 뽑기 테스트 - draw(n, dest)가 한 장씩 뽑는 것과 같은지 확인")
+    void testBulkDraw() {
+        // given
+        ArrayDeck bulk = new ArrayDeck();
+        ArrayDeck single = new ArrayDeck();
+        ICard[] dest = new ICard[10];
+
+        // when
+        bulk.draw(10, dest);
+
+        // then
+        for (ICard card : dest) {
+            assertSame(single.drawCard(), card, "여러 장 뽑기는 맨 위부터 순서대로 뽑아야 합니다.");
+        }
+        assertEquals(42, bulk.size());
+        assertThrows(IllegalArgumentException.class, () -> bulk.draw(11, dest));
+        assertThrows(IllegalArgumentException.class, () -> bulk.draw(-1, dest));
+        assertThrows(IllegalStateException.class, () -> bulk.draw(43, new ICard[52]));
+        assertEquals(42, bulk.size(), "실패한 뽑기는 덱을 바꾸지 않아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("4. 죽은 카드 제거 테스트 - removeAll() 후 리셋하면 복원되는지 확인")
+    void testRemoveAllThenReset() {
+        // given
+        ArrayDeck deck = new ArrayDeck();
+        deck.shuffle();
+        long dead = CardSet.of(ICard.of(Suit.SPADES, Rank.ACE), ICard.of(Suit.HEARTS, Rank.KING));
+
+        // when
+        deck.removeAll(dead);
+
+        // then
+        assertEquals(50, deck.size());
+        assertEquals(CardSet.remove(CardSet.FULL_DECK, dead), deck.getCardSet());
+
+        deck.reset();
+        assertEquals(CardSet.FULL_DECK, deck.getCardSet(), "리셋하면 제거한 카드도 돌아와야 합니다.");
+    }
+
+    @Test
+    @DisplayName("5. 시드 재현 테스트 - 같은 시드의 생성기로 섞으면 같은 순서가 나오는지 확인")
+    void testSeededShuffleIsReproducible() {
+        // given
+        ArrayDeck first = new ArrayDeck(DeckRandom.create(42L));
+        ArrayDeck second = new ArrayDeck(DeckRandom.create(42L));
+        ArrayDeck other = new ArrayDeck(DeckRandom.create(43L));
+        DeckRef listFirst = new DeckRef(DeckRandom.create(42L));
+        DeckRef listSecond = new DeckRef(DeckRandom.create(42L));
+
+        // when
+        first.shuffle();
+        second.shuffle();
+        other.shuffle();
+        listFirst.shuffle();
+        listSecond.shuffle();
+
+        // then
+        boolean differs = false;
+        for (int i = 0; i < 52; i++) {
+            ICard card = first.drawCard();
+            assertSame(card, second.drawCard(), "같은 시드는 같은 순서여야 합니다.");
+            differs |= card != other.drawCard();
+            assertSame(listFirst.drawCard(), listSecond.drawCard(), "DeckRef도 같은 시드는 같은 순서여야 합니다.");
+        }
+        assertTrue(differs, "다른 시드는 다른 순서여야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> new ArrayDeck(null));
+    }
+
+    @Test
+    @DisplayName("6. 시드 리셋 테스트 - reset(seed)의 순서가 이전 상태와 관계없이 시드만으로 정해지는지 확인")
+    void testSeededResetIsPureFunctionOfSeed() {
+        // given - 한 덱은 새로 만들고, 다른 덱은 섞고 일부를 뽑아 둠
+        ArrayDeck fresh = new ArrayDeck();
+        ArrayDeck used = new ArrayDeck(DeckRandom.create(7L));
+        used.shuffle();
+        used.draw(13, new ICard[13]);
+        ICard[] expected = new ICard[52];
+        DeckRandom.fillShuffled(DeckRandom.roundSeed(99L, 3), expected);
+
+        // when
+        fresh.reset(DeckRandom.roundSeed(99L, 3));
+        used.reset(DeckRandom.roundSeed(99L, 3));
+
+        // then
+        long seen = CardSet.EMPTY;
+        for (int i = 0; i < 52; i++) {
+            ICard card = fresh.drawCard();
+            assertSame(expected[i], card, i + "번째 카드가 시드 순서와 같아야 합니다");
+            assertSame(card, used.drawCard(), "이전 상태와 관계없이 같은 순서여야 합니다");
+            seen = CardSet.add(seen, card);
+        }
+        assertEquals(CardSet.FULL_DECK, seen, "52장이 중복 없이 모두 있어야 합니다");
+
+        // then - 첫 번째 카드는 시드에 따라 고르게 퍼져야 함 (52,000개 시드, 카드당 기대값 1,000)
+        int[] firstCard = new int[52];
+        ICard[] order = new ICard[52];
+        for (long seed = 0; seed < 52_000; seed++) {
+            DeckRandom.fillShuffled(DeckRandom.roundSeed(1L, seed), order);
+            firstCard[order[0].getIndex()]++;
+        }
+        for (int count : firstCard) {
+            assertTrue(count > 850 && count < 1150, "첫 카드 분포가 고르지 않습니다: " + count);
+        }
+    }
+}
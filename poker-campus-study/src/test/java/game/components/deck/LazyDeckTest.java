@@ -0,0 +1,206 @@
+package game.components.deck;
+
+import game.components.card.CardSet;
+import game.components.card.ICard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LazyDeck 클래스 테스트
+ *
+ * <p>뽑을 때 한 장씩 섞는 덱이 전체를 섞는 덱과 같은 분포로 카드를 내는지 카이제곱 검정으로 확인하고,
+ * 난수 호출이 뽑은 카드 수만큼만 일어나는지 검증합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>카드 보존 - 섞은 뒤 52장이 중복 없이 모두 나오는지</li>
+ *   <li>위치별 분포 - 라운드 20장의 위치마다 52장이 고르게 나오는지 (카이제곱)</li>
+ *   <li>두 장 결합 분포 - 첫 두 장의 순서쌍 2,652가지가 고르게 나오는지 (카이제곱)</li>
+ *   <li>난수 호출 수 - 20장을 뽑으면 난수를 20번만 사용하는지</li>
+ *   <li>재현과 제거 - 같은 시드면 같은 흐름, 제거한 카드는 나오지 않음</li>
+ * </ol>
+ */
+public class LazyDeckTest {
+
+    private static final int ROUNDS = 260_000;
+    private static final int CARDS_PER_ROUND = 20;
+    /** 유의수준 0.0001의 표준정규 분위수 */
+    private static final double Z_CRITICAL = 3.719;
+
+    @Test
+    @DisplayName("1. 카드 보존 테스트 - 섞은 뒤에도 52장이 중복 없이 모두 나오는지 확인")
+    void testShuffleKeepsAllCards() {
+        // given
+        LazyDeck deck = new LazyDeck(DeckRandom.create(1L));
+
+        // when
+        deck.shuffle();
+        long drawn = CardSet.EMPTY;
+        int count = 0;
+        while (!deck.isEmpty()) {
+            drawn = CardSet.add(drawn, deck.drawCard());
+            count++;
+        }
+
+        // then
+        assertEquals(52, count, "덱은 52장의 카드를 가져야 합니다.");
+        assertEquals(CardSet.FULL_DECK, drawn, "모든 카드가 한 번씩 나와야 합니다.");
+        assertThrows(IllegalStateException.class, deck::drawCard);
+        deck.reset();
+        assertEquals(52, deck.size(), "리셋하면 52장이 복원되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("2. 위치별 분포 테스트 - 라운드 20장의 위치마다 카드가 고르게 나오는지 카이제곱으로 확인")
+    void testPositionDistribution() {
+        // given - 라운드마다 reset 후 셔플 (딜러와 같은 사용 방식, 이전 라운드 순서가 남아 있음)
+        LazyDeck deck = new LazyDeck(DeckRandom.create(2L));
+        ICard[] dealt = new ICard[CARDS_PER_ROUND];
+        long[] counts = new long[CARDS_PER_ROUND * 52];
+
+        // when
+        for (int round = 0; round < ROUNDS; round++) {
+            deck.reset();
+            deck.shuffle();
+            deck.draw(CARDS_PER_ROUND, dealt);
+            for (int position = 0; position < CARDS_PER_ROUND; position++) {
+                counts[position * 52 + dealt[position].getIndex()]++;
+            }
+        }
+
+        // then - 위치마다 자유도 51
+        double chiSquare = chiSquare(counts, (double) ROUNDS / 52);
+        double critical = criticalValue(CARDS_PER_ROUND * 51);
+        assertTrue(chiSquare < critical,
+            String.format("위치별 분포가 균등해야 합니다. (카이제곱: %.1f, 임계값: %.1f)", chiSquare, critical));
+    }
+
+    @Test
+    @DisplayName("3. 두 장 결합 분포 테스트 - 첫 두 장의 순서쌍이 고르게 나오는지 카이제곱으로 확인")
+    void testPairDistribution() {
+        // given
+        LazyDeck deck = new LazyDeck(DeckRandom.create(3L));
+        long[] counts = new long[52 * 52];
+
+        // when
+        for (int round = 0; round < ROUNDS; round++) {
+            deck.reset();
+            deck.shuffle();
+            int first = deck.drawCard().getIndex();
+            int second = deck.drawCard().getIndex();
+            counts[first * 52 + second]++;
+        }
+
+        // then - 같은 카드 쌍(대각선)은 나올 수 없음
+        long[] pairs = new long[52 * 51];
+        int cell = 0;
+        for (int first = 0; first < 52; first++) {
+            assertEquals(0, counts[first * 52 + first], "같은 카드가 두 번 나오면 안 됩니다.");
+            for (int second = 0; second < 52; second++) {
+                if (first != second) {
+                    pairs[cell++] = counts[first * 52 + second];
+                }
+            }
+        }
+        double chiSquare = chiSquare(pairs, (double) ROUNDS / pairs.length);
+        double critical = criticalValue(pairs.length - 1);
+        assertTrue(chiSquare < critical,
+            String.format("두 장 결합 분포가 균등해야 합니다. (카이제곱: %.1f, 임계값: %.1f)", chiSquare, critical));
+    }
+
+    @Test
+    @DisplayName("4. 난수 호출 수 테스트 - 20장을 뽑으면 난수를 20번만 사용하는지 확인")
+    void testRandomCalls() {
+        // given
+        CountingRandom lazyRandom = new CountingRandom(DeckRandom.create(4L));
+        CountingRandom fullRandom = new CountingRandom(DeckRandom.create(4L));
+        LazyDeck lazy = new LazyDeck(lazyRandom);
+        ArrayDeck full = new ArrayDeck(fullRandom);
+        ICard[] dealt = new ICard[CARDS_PER_ROUND];
+
+        // when
+        lazy.shuffle();
+        assertEquals(0, lazyRandom.calls, "셔플만으로는 난수를 쓰지 않아야 합니다.");
+        lazy.draw(CARDS_PER_ROUND, dealt);
+        full.shuffle();
+        full.draw(CARDS_PER_ROUND, dealt);
+
+        // then
+        assertEquals(20, lazyRandom.calls, "뽑은 카드 수만큼만 난수를 써야 합니다.");
+        assertEquals(51, fullRandom.calls, "전체 셔플은 51번 사용합니다.");
+    }
+
+    @Test
+    @DisplayName("5. 재현과 제거 테스트 - 같은 시드면 같은 흐름이고 제거한 카드는 나오지 않는지 확인")
+    void testReproducibilityAndRemoval() {
+        // given
+        LazyDeck first = new LazyDeck(DeckRandom.create(5L));
+        LazyDeck second = new LazyDeck(DeckRandom.create(5L));
+        long dead = CardSet.of(ICard.of(0), ICard.of(13), ICard.of(51));
+
+        // when & then
+        for (int round = 0; round < 1_000; round++) {
+            first.reset();
+            second.reset();
+            first.removeAll(dead);
+            second.removeAll(dead);
+            first.shuffle();
+            second.shuffle();
+            assertEquals(CardSet.FULL_DECK & ~dead, first.getCardSet(), "제거한 카드만 빠져야 합니다.");
+            while (!first.isEmpty()) {
+                ICard card = first.drawCard();
+                assertSame(card, second.drawCard(), "같은 시드면 같은 카드가 나와야 합니다.");
+                assertFalse(CardSet.contains(dead, card), "제거한 카드가 나오면 안 됩니다.");
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new LazyDeck(null), "null 생성기는 예외가 발생해야 합니다.");
+        assertThrows(IllegalStateException.class, () -> first.draw(1, new ICard[1]), "빈 덱에서 뽑으면 예외가 발생해야 합니다.");
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    private static double chiSquare(long[] observed, double expected) {
+        double sum = 0;
+        for (long count : observed) {
+            double diff = count - expected;
+            sum += diff * diff / expected;
+        }
+        return sum;
+    }
+
+    /**
+     * 카이제곱 분포의 상위 임계값 (Wilson-Hilferty 근사, 자유도가 클 때 정확)
+     */
+    private static double criticalValue(int degrees) {
+        double a = 2.0 / (9.0 * degrees);
+        double t = 1 - a + Z_CRITICAL * Math.sqrt(a);
+        return degrees * t * t * t;
+    }
+
+    /**
+     * 범위 지정 난수 호출 횟수를 세는 생성기
+     */
+    private static final class CountingRandom implements RandomGenerator {
+        private final RandomGenerator delegate;
+        private int calls;
+
+        private CountingRandom(RandomGenerator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public long nextLong() {
+            return delegate.nextLong();
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            calls++;
+            return delegate.nextInt(bound);
+        }
+    }
+}
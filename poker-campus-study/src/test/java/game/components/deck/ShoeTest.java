@@ -0,0 +1,151 @@
+package game.components.deck;
+
+import com.sun.management.ThreadMXBean;
+import game.components.card.ICard;
+import game.participants.dealer.DealerRef;
+import game.participants.player.IPlayer;
+import game.participants.player.PlayerRef;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Shoe 클래스 테스트
+ *
+ * <p>여러 벌의 카드 구성, 컷 카드가 나왔을 때만 다시 섞는 동작,
+ * 52장으로 부족한 큰 테이블에서의 딜러 연동을 검증합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>카드 구성 - K벌이면 카드마다 정확히 K장</li>
+ *   <li>컷 카드 - 컷 카드가 나오기 전에는 섞지 않고, 나온 뒤 첫 라운드에만 섞음</li>
+ *   <li>큰 테이블 - 14명 테이블을 슈로 진행하고 라운드당 할당이 없는지</li>
+ *   <li>재현성 - 같은 시드의 생성기면 같은 카드 흐름</li>
+ *   <li>입력 검증 - 덱 수, 컷 카드 위치, 전체보다 많은 뽑기</li>
+ * </ol>
+ */
+public class ShoeTest {
+
+    @Test
+    @DisplayName("1. 카드 구성 테스트 - 6벌 슈에 카드마다 6장씩 있는지 확인")
+    void testComposition() {
+        // given
+        Shoe shoe = new Shoe(6);
+        int[] counts = new int[52];
+
+        // when - 한 번에 모두 뽑음
+        ICard[] all = new ICard[shoe.size()];
+        shoe.draw(all.length, all);
+        for (ICard card : all) {
+            counts[card.getIndex()]++;
+        }
+
+        // then
+        assertEquals(6 * 52, all.length, "6벌은 312장이어야 합니다");
+        for (int index = 0; index < 52; index++) {
+            assertEquals(6, counts[index], ICard.of(index) + "는 6장이어야 합니다");
+        }
+        assertTrue(shoe.isEmpty(), "모두 뽑으면 비어 있어야 합니다");
+        assertNotNull(shoe.drawCard(), "빈 슈에서 뽑으면 다시 섞은 뒤 뽑아야 합니다");
+        assertEquals(6 * 52 - 1, shoe.size(), "다시 섞은 뒤 한 장이 빠져야 합니다");
+    }
+
+    @Test
+    @DisplayName("2. 컷 카드 테스트 - 컷 카드가 나온 뒤 첫 라운드에만 다시 섞는지 확인")
+    void testLazyReshuffle() {
+        // given - 2벌(104장), 절반 위치에 컷 카드
+        Shoe shoe = new Shoe(2, 0.5, DeckRandom.create(1L));
+        ICard[] dealt = new ICard[20];
+        assertEquals(1, shoe.getReshuffleCount(), "생성 시 한 번 섞어야 합니다");
+
+        // when & then - 20장씩 2라운드 (40장 < 52장): 섞지 않음
+        for (int round = 0; round < 2; round++) {
+            assertFalse(shoe.nextRound(), "컷 카드 전에는 섞지 않아야 합니다");
+            shoe.draw(20, dealt);
+        }
+        assertEquals(64, shoe.size(), "남은 카드로 이어서 나눠야 합니다");
+
+        // 3라운드에서 60장 - 컷 카드가 나옴 (라운드는 끝까지 진행)
+        assertFalse(shoe.nextRound(), "아직 컷 카드가 나오지 않았습니다");
+        shoe.draw(20, dealt);
+        assertTrue(shoe.isCutCardOut(), "52장을 지나면 컷 카드가 나와야 합니다");
+        assertEquals(1, shoe.getReshuffleCount(), "라운드 도중에는 섞지 않아야 합니다");
+
+        // 다음 라운드 시작 시 전체를 다시 섞음
+        assertTrue(shoe.nextRound(), "컷 카드가 나온 뒤 첫 라운드에는 섞어야 합니다");
+        assertEquals(104, shoe.size(), "버린 카드까지 모두 돌아와야 합니다");
+        assertEquals(2, shoe.getReshuffleCount(), "전체 셔플은 한 번만 추가되어야 합니다");
+        assertFalse(shoe.isCutCardOut(), "다시 섞으면 컷 카드가 다시 꽂혀야 합니다");
+    }
+
+    @Test
+    @DisplayName("3. 큰 테이블 테스트 - 14명 테이블을 슈로 진행하고 라운드당 할당이 없는지 확인")
+    void testLargeTable() {
+        // given - 14명 × 5장 = 70장 (52장 덱으로는 불가능)
+        List<IPlayer> players = new ArrayList<>();
+        for (int i = 0; i < 14; i++) {
+            players.add(new PlayerRef("플레이어" + (i + 1), 10000));
+        }
+        Shoe shoe = new Shoe(4, 0.6, DeckRandom.create(7L));
+        DealerRef dealer = new DealerRef(shoe);
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+        dealer.simulate(players, 20_000); // 워밍업 및 버퍼 준비
+
+        // when
+        long reshufflesBefore = shoe.getReshuffleCount();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        dealer.simulate(players, 30_000);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // then - 208장 중 125장 위치에 컷 카드: 70장씩 두 라운드(140장)면 나오므로 2라운드마다 한 번 섞음
+        long games = 0;
+        for (IPlayer player : players) {
+            games += player.getWinCount() + player.getLoseCount() + player.getDrawCount();
+        }
+        assertEquals(14L * 50_000, games, "모든 플레이어가 모든 라운드에 참가해야 합니다");
+        assertEquals(15_000, shoe.getReshuffleCount() - reshufflesBefore, "2라운드마다 한 번만 섞어야 합니다");
+        assertTrue(allocated < 1024, "라운드당 할당이 없어야 합니다. (측정값: " + allocated + " bytes)");
+    }
+
+    @Test
+    @DisplayName("4. 재현성 테스트 - 같은 시드의 생성기면 같은 카드 흐름인지 확인")
+    void testReproducibility() {
+        // given
+        Shoe first = new Shoe(3, 0.6, DeckRandom.create(42L));
+        Shoe second = new Shoe(3, 0.6, DeckRandom.create(42L));
+        ICard[] a = new ICard[37];
+        ICard[] b = new ICard[37];
+
+        // when & then - 여러 번의 전체 셔플을 거쳐도 같아야 함
+        for (int round = 0; round < 100; round++) {
+            assertEquals(first.nextRound(), second.nextRound(), "섞는 시점이 같아야 합니다");
+            first.draw(a.length, a);
+            second.draw(b.length, b);
+            assertArrayEquals(a, b, (round + 1) + "라운드 카드가 같아야 합니다");
+        }
+    }
+
+    @Test
+    @DisplayName("5. 입력 검증 테스트 - 잘못된 설정과 뽑기에 예외 발생 확인")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> new Shoe(0), "0벌은 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> new Shoe(Shoe.MAX_DECKS + 1), "최대보다 많은 덱은 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> new Shoe(2, 0.0), "컷 카드 위치 0은 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> new Shoe(2, 1.5), "컷 카드 위치 1 초과는 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> new Shoe(2, Double.NaN), "NaN 위치는 예외가 발생해야 합니다");
+
+        Shoe shoe = new Shoe(1);
+        assertThrows(IllegalStateException.class, () -> shoe.draw(53, new ICard[53]),
+            "슈 전체보다 많이 뽑으면 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> shoe.draw(5, new ICard[4]),
+            "배열보다 많이 뽑으면 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> new DealerRef((Shoe) null),
+            "null 슈는 예외가 발생해야 합니다");
+    }
+}
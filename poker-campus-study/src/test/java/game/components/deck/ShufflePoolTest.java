@@ -0,0 +1,171 @@
+package game.components.deck;
+
+import com.sun.management.ThreadMXBean;
+import game.components.card.ICard;
+import game.participants.dealer.DealerRef;
+import game.participants.player.IPlayer;
+import game.participants.player.PlayerRef;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ShufflePool 클래스 테스트
+ *
+ * <p>생산 스레드가 채운 순열이 온전한 52장 덱인지, 여러 딜러 스레드가 동시에 꺼내도
+ * 같은 순열을 두 번 받거나 찢어진 순열을 받지 않는지, 가득 찼을 때와 비었을 때의 동작을 검증합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>순열 유효성 - 꺼낸 덱마다 52장이 한 장씩, 생산/소비 지표</li>
+ *   <li>동시 소비 - 여러 스레드가 동시에 꺼내도 모든 덱이 온전하고 소비 수가 맞는지</li>
+ *   <li>배압과 대체 - 가득 차면 생산이 멈추고, 비면 딜러가 직접 섞어 계속 진행</li>
+ *   <li>딜러 연동 - 풀을 쓰는 딜러가 라운드당 할당 없이 진행</li>
+ *   <li>입력 검증 - 칸 수, 생산 스레드 수, 작은 배열</li>
+ * </ol>
+ */
+public class ShufflePoolTest {
+
+    @Test
+    @DisplayName("1. 순열 유효성 테스트 - 꺼낸 덱마다 52장이 한 장씩 있는지 확인")
+    void testPermutations() {
+        // given
+        try (ShufflePool pool = new ShufflePool(64, 1)) {
+            ICard[] deck = new ICard[52];
+            int taken = 0;
+
+            // when - 버퍼 크기보다 많이 꺼냄 (칸 재사용)
+            while (taken < 1_000) {
+                if (pool.poll(deck)) {
+                    assertPermutation(deck);
+                    taken++;
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+
+            // then
+            assertEquals(1_000, pool.getConsumed(), "꺼낸 수가 소비 수와 같아야 합니다");
+            assertTrue(pool.getProduced() >= pool.getConsumed(), "생산 수는 소비 수 이상이어야 합니다");
+            assertTrue(pool.depth() <= pool.getCapacity(), "깊이는 칸 수를 넘을 수 없습니다");
+        }
+    }
+
+    @Test
+    @DisplayName("2. 동시 소비 테스트 - 여러 스레드가 동시에 꺼내도 모든 덱이 온전한지 확인")
+    void testConcurrentConsumers() throws Exception {
+        // given
+        int threads = 4;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (ShufflePool pool = new ShufflePool(256, 2)) {
+            // when
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    ICard[] deck = new ICard[52];
+                    int fromPool = 0;
+                    for (int i = 0; i < perThread; i++) {
+                        if (pool.poll(deck)) {
+                            assertPermutation(deck);
+                            fromPool++;
+                        }
+                    }
+                    return fromPool;
+                }));
+            }
+            long fromPool = 0;
+            for (Future<Integer> result : results) {
+                fromPool += result.get();
+            }
+
+            // then - 꺼낸 덱과 빈 버퍼 횟수를 합치면 모든 요청 수
+            assertEquals(fromPool, pool.getConsumed(), "꺼낸 덱 수가 소비 수와 같아야 합니다");
+            assertEquals((long) threads * perThread, fromPool + pool.getMisses(), "모든 요청이 꺼내거나 빈 버퍼로 끝나야 합니다");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("3. 배압과 대체 테스트 - 가득 차면 생산이 멈추고, 비면 딜러가 직접 섞는지 확인")
+    void testBackPressureAndFallback() throws InterruptedException {
+        // given
+        ShufflePool pool = new ShufflePool(32, 2);
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (pool.depth() < pool.getCapacity() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+
+        // when & then - 가득 찬 뒤에는 칸 수 이상 생산하지 않음
+        assertEquals(32, pool.depth(), "버퍼가 가득 차야 합니다");
+        Thread.sleep(20);
+        assertEquals(32, pool.getProduced(), "가득 찬 버퍼에는 더 넣지 않아야 합니다");
+        assertTrue(pool.getProducerStalls() > 0, "가득 차면 생산 대기가 기록되어야 합니다");
+
+        // 생산을 멈추면 남은 덱을 다 쓴 뒤 딜러가 직접 섞음
+        pool.close();
+        List<IPlayer> players = List.of(new PlayerRef("플레이어1", 10000), new PlayerRef("플레이어2", 10000));
+        new DealerRef(pool).simulate(players, 100);
+        assertEquals(32, pool.getConsumed(), "남은 덱을 먼저 모두 써야 합니다");
+        assertEquals(68, pool.getMisses(), "나머지 라운드는 직접 섞어야 합니다");
+        assertEquals(100, players.get(0).getWinCount() + players.get(0).getLoseCount() + players.get(0).getDrawCount(),
+            "풀이 비어도 모든 라운드가 진행되어야 합니다");
+    }
+
+    @Test
+    @DisplayName("4. 딜러 연동 테스트 - 풀을 쓰는 딜러가 라운드당 할당 없이 진행되는지 확인")
+    void testDealerSteadyStateAllocation() {
+        // given
+        List<IPlayer> players = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            players.add(new PlayerRef("플레이어" + (i + 1), 10000));
+        }
+        try (ShufflePool pool = new ShufflePool(1024, 2)) {
+            DealerRef dealer = new DealerRef(pool);
+            ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+            threads.setThreadAllocatedMemoryEnabled(true);
+            dealer.simulate(players, 50_000); // 워밍업 및 버퍼 준비
+
+            // when
+            long consumedBefore = pool.getConsumed();
+            long before = threads.getCurrentThreadAllocatedBytes();
+            dealer.simulate(players, 100_000);
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+            // then
+            assertTrue(pool.getConsumed() > consumedBefore, "풀에서 덱을 받아 써야 합니다");
+            assertTrue(allocated < 1024, "라운드당 할당이 없어야 합니다. (측정값: " + allocated + " bytes)");
+        }
+    }
+
+    @Test
+    @DisplayName("5. 입력 검증 테스트 - 잘못된 설정과 배열에 예외 발생 확인")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> new ShufflePool(1, 1), "1칸은 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> new ShufflePool(100, 1), "2의 거듭제곱이 아니면 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> new ShufflePool(64, 0), "생산 스레드 0개는 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> new DealerRef((ShufflePool) null), "null 풀은 예외가 발생해야 합니다");
+        try (ShufflePool pool = new ShufflePool(2, 1)) {
+            assertThrows(IllegalArgumentException.class, () -> pool.poll(new ICard[51]), "51칸 배열은 예외가 발생해야 합니다");
+        }
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    private static void assertPermutation(ICard[] deck) {
+        long seen = 0;
+        for (ICard card : deck) {
+            seen |= 1L << card.getIndex();
+        }
+        assertEquals((1L << 52) - 1, seen, "52장이 한 장씩 있어야 합니다");
+    }
+}
@@ -0,0 +1,165 @@
+package game.components.hand;
+
+import game.components.deck.DeckRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BatchHandEvaluator 클래스 테스트
+ *
+ * <p>일괄 평가의 벡터 경로와 스칼라 경로가 한 장씩 평가하는 {@link HandEvaluator}와
+ * 비트 단위로 같은 강도를 내는지 검증합니다. {@code ./gradlew test}는 벡터 모듈 없이 스칼라 경로를,
+ * {@code ./gradlew vectorTest}는 벡터 모듈을 더해 벡터 경로를 검증합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>전체 조합 일치 - 2,598,960가지 5장 조합 모두 두 경로가 HandEvaluator와 같은지</li>
+ *   <li>나머지 처리 - 벡터 폭의 배수가 아닌 핸드 수, count 뒤 칸은 그대로</li>
+ *   <li>중복 카드 - 여러 벌 덱에서 나오는 중복 카드 핸드도 같은지</li>
+ *   <li>입력 검증 - 배열 수, 길이, 핸드 수</li>
+ * </ol>
+ */
+public class BatchHandEvaluatorTest {
+    /** vectorTest 태스크가 설정하는 속성 - true면 벡터 경로가 실제로 쓰이는지도 확인 */
+    private static final String EXPECT_VECTOR_PROPERTY = "poker.batch.expectVector";
+
+    @Test
+    @DisplayName("1. 전체 조합 일치 테스트 - 모든 5장 조합에서 두 경로가 HandEvaluator와 같은지 확인")
+    void testAllHandsMatchScalar() {
+        // given - 모든 조합을 위치별 배열로 펼침
+        int total = 2_598_960;
+        int[][] cards = new int[5][total];
+        int[] expected = new int[total];
+        int n = 0;
+        for (int a = 0; a < 52; a++) {
+            for (int b = a + 1; b < 52; b++) {
+                for (int c = b + 1; c < 52; c++) {
+                    for (int d = c + 1; d < 52; d++) {
+                        for (int e = d + 1; e < 52; e++) {
+                            cards[0][n] = a;
+                            cards[1][n] = b;
+                            cards[2][n] = c;
+                            cards[3][n] = d;
+                            cards[4][n] = e;
+                            expected[n++] = HandEvaluator.strength(a, b, c, d, e);
+                        }
+                    }
+                }
+            }
+        }
+
+        // when
+        int[] batch = new int[total];
+        int[] scalar = new int[total];
+        BatchHandEvaluator.strengths(cards, total, batch);
+        BatchHandEvaluator.scalarStrengths(cards, total, scalar);
+
+        // then
+        assertEquals(total, n, "조합 수가 맞아야 합니다.");
+        assertArrayEquals(expected, scalar, "스칼라 경로가 HandEvaluator와 같아야 합니다.");
+        assertArrayEquals(expected, batch, "일괄 평가(벡터 사용: " + BatchHandEvaluator.isVectorized() + ")가 HandEvaluator와 같아야 합니다.");
+        if (Boolean.getBoolean(EXPECT_VECTOR_PROPERTY)) {
+            assertTrue(BatchHandEvaluator.isVectorized(), "vectorTest에서는 벡터 경로를 사용해야 합니다.");
+        }
+    }
+
+    @Test
+    @DisplayName("2. 나머지 처리 테스트 - 벡터 폭의 배수가 아닌 핸드 수도 정확히 평가하는지 확인")
+    void testTailHandling() {
+        // given
+        int[][] cards = randomHands(DeckRandom.create(2L), 100, false);
+
+        // when & then - 0개부터 벡터 몇 개 분량까지 모든 길이
+        for (int count = 0; count <= 70; count++) {
+            int[] out = new int[100];
+            Arrays.fill(out, -1);
+            BatchHandEvaluator.strengths(cards, count, out);
+            for (int i = 0; i < count; i++) {
+                assertEquals(HandEvaluator.strength(cards[0][i], cards[1][i], cards[2][i], cards[3][i], cards[4][i]), out[i],
+                    count + "개 중 " + i + "번째 핸드가 같아야 합니다.");
+            }
+            for (int i = count; i < out.length; i++) {
+                assertEquals(-1, out[i], "count 뒤의 칸은 건드리지 않아야 합니다.");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("3. 중복 카드 테스트 - 여러 벌 덱의 중복 카드 핸드도 두 경로가 같은지 확인")
+    void testDuplicateCards() {
+        // given - 카드마다 독립적으로 뽑아 같은 카드, 같은 랭크 5장, 랭크가 겹치는 플러시가 섞이게 함
+        int count = 200_000;
+        int[][] cards = randomHands(DeckRandom.create(3L), count, true);
+        // 같은 랭크 5장과 랭크가 겹치는 플러시를 확실히 포함
+        int[][] special = {{12, 12, 25, 38, 51}, {12, 12, 11, 10, 9}, {12, 12, 12, 11, 11}, {0, 0, 0, 0, 0}};
+        for (int i = 0; i < special.length; i++) {
+            for (int j = 0; j < 5; j++) {
+                cards[j][i * 7] = special[i][j];
+            }
+        }
+
+        // when
+        int[] batch = new int[count];
+        int[] scalar = new int[count];
+        BatchHandEvaluator.strengths(cards, count, batch);
+        BatchHandEvaluator.scalarStrengths(cards, count, scalar);
+
+        // then
+        assertArrayEquals(scalar, batch, "중복 카드 핸드도 두 경로가 같아야 합니다.");
+        assertEquals(HandRank.FOUR_OF_A_KIND, HandStrength.rankOf(batch[0]), "A 5장은 A 포카드로 평가되어야 합니다.");
+        assertEquals(HandRank.FLUSH, HandStrength.rankOf(batch[7]), "랭크가 겹치는 같은 무늬 5장은 플러시여야 합니다.");
+        assertEquals(HandRank.FULL_HOUSE, HandStrength.rankOf(batch[14]), "AAA KK 같은 무늬는 풀하우스여야 합니다.");
+    }
+
+    @Test
+    @DisplayName("4. 입력 검증 테스트 - 잘못된 배열과 핸드 수에 예외 발생 확인")
+    void testValidation() {
+        int[][] cards = new int[5][10];
+        int[] out = new int[10];
+
+        assertThrows(IllegalArgumentException.class, () -> BatchHandEvaluator.strengths(new int[4][10], 10, out),
+            "카드 배열이 5개가 아니면 예외가 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> BatchHandEvaluator.strengths(cards, 11, new int[11]),
+            "카드 배열이 핸드 수보다 짧으면 예외가 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> BatchHandEvaluator.strengths(cards, 10, new int[9]),
+            "결과 배열이 짧으면 예외가 발생해야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> BatchHandEvaluator.scalarStrengths(cards, -1, out),
+            "음수 핸드 수는 예외가 발생해야 합니다.");
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    /**
+     * 무작위 핸드를 위치별 배열로 만듭니다.
+     *
+     * @param duplicates true면 카드마다 독립적으로 뽑음 (같은 카드 허용), false면 한 덱에서 5장
+     */
+    private static int[][] randomHands(RandomGenerator random, int count, boolean duplicates) {
+        int[][] cards = new int[5][count];
+        int[] deck = new int[52];
+        for (int i = 0; i < count; i++) {
+            if (duplicates) {
+                for (int j = 0; j < 5; j++) {
+                    cards[j][i] = random.nextInt(52);
+                }
+                continue;
+            }
+            for (int k = 0; k < 52; k++) {
+                deck[k] = k;
+            }
+            for (int j = 0; j < 5; j++) {
+                int pick = j + random.nextInt(52 - j);
+                int temp = deck[pick];
+                deck[pick] = deck[j];
+                deck[j] = temp;
+                cards[j][i] = deck[j];
+            }
+        }
+        return cards;
+    }
+}
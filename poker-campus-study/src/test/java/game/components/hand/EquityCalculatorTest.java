@@ -0,0 +1,195 @@
+package game.components.hand;
+
+import game.components.card.CardSet;
+import game.components.card.ICard;
+import game.components.card.Rank;
+import game.components.card.Suit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EquityCalculator 클래스 테스트
+ *
+ * <p>완전 열거 결과가 단순 중첩 반복(무차별 대입)으로 센 승/무/패 횟수와 정확히 같은지,
+ * 그리고 시간 예산과 입력 검증이 올바르게 동작하는지 검증합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>2인 대결 - 무차별 대입과 승/무/패 횟수 비교</li>
+ *   <li>3인 대결 - 알려진 카드 수가 다른 플레이어의 결과가 입력 순서대로 나오는지 확인</li>
+ *   <li>플레이어 1명 - 항상 승리</li>
+ *   <li>시간 예산 초과 - 부분 결과 반환</li>
+ *   <li>잘못된 입력 - 중복 카드, 카드 초과, 카드 부족</li>
+ * </ol>
+ */
+public class EquityCalculatorTest {
+
+    private final EquityCalculator calculator = new EquityCalculator();
+
+    @Test
+    @DisplayName("1. 2인 대결 테스트 - 무차별 대입과 승/무/패 횟수가 같은지 확인")
+    void testHeadsUpMatchesBruteForce() {
+        // given - A: 스페이드 A K Q J (1장 남음), B: 하트 10 10 9 (2장 남음)
+        List<List<ICard>> holdings = List.of(
+            List.of(card(Suit.SPADES, Rank.ACE), card(Suit.SPADES, Rank.KING),
+                card(Suit.SPADES, Rank.QUEEN), card(Suit.SPADES, Rank.JACK)),
+            List.of(card(Suit.HEARTS, Rank.TEN), card(Suit.DIAMONDS, Rank.TEN),
+                card(Suit.HEARTS, Rank.NINE)));
+
+        // when
+        EquityResult result = calculator.calculate(holdings);
+        long[][] expected = bruteForce(holdings);
+
+        // then
+        assertTrue(result.isComplete(), "모든 경우를 열거해야 합니다");
+        assertEquals(45L * 946L, result.getCompletions(), "경우의 수는 C(45,1) × C(44,2)여야 합니다");
+        assertTally(expected, result);
+    }
+
+    @Test
+    @DisplayName("2. 3인 대결 테스트 - 알려진 카드 수가 달라도 결과가 입력 순서대로 나오는지 확인")
+    void testThreeWayKeepsInputOrder() {
+        // given - 알려진 카드 수 5, 3, 4 (내부 열거 순서와 입력 순서가 다름)
+        List<List<ICard>> holdings = List.of(
+            List.of(card(Suit.CLUBS, Rank.TWO), card(Suit.CLUBS, Rank.THREE),
+                card(Suit.DIAMONDS, Rank.SEVEN), card(Suit.HEARTS, Rank.SEVEN), card(Suit.SPADES, Rank.KING)),
+            List.of(card(Suit.HEARTS, Rank.ACE), card(Suit.DIAMONDS, Rank.ACE), card(Suit.CLUBS, Rank.EIGHT)),
+            List.of(card(Suit.DIAMONDS, Rank.QUEEN), card(Suit.DIAMONDS, Rank.JACK),
+                card(Suit.DIAMONDS, Rank.TEN), card(Suit.DIAMONDS, Rank.NINE)));
+
+        // when
+        EquityResult result = calculator.calculate(holdings);
+        long[][] expected = bruteForce(holdings);
+
+        // then
+        assertTrue(result.isComplete(), "모든 경우를 열거해야 합니다");
+        assertEquals(3, result.getPlayerCount(), "플레이어 수가 유지되어야 합니다");
+        assertTally(expected, result);
+    }
+
+    @Test
+    @DisplayName("3. 플레이어 1명 테스트 - 혼자면 모든 경우에 승리하는지 확인")
+    void testSinglePlayerAlwaysWins() {
+        // given
+        List<List<ICard>> holdings = List.of(List.of(
+            card(Suit.SPADES, Rank.TWO), card(Suit.HEARTS, Rank.FIVE),
+            card(Suit.CLUBS, Rank.NINE), card(Suit.DIAMONDS, Rank.KING)));
+
+        // when
+        EquityResult result = calculator.calculate(holdings);
+
+        // then
+        assertEquals(48, result.getCompletions(), "남은 48장 각각이 한 경우여야 합니다");
+        assertEquals(1.0, result.getWinFraction(0), "혼자면 승률은 100%여야 합니다");
+        assertEquals(0, result.getLosses(0), "패배가 없어야 합니다");
+    }
+
+    @Test
+    @DisplayName("4. 시간 예산 테스트 - 예산을 넘기면 부분 결과를 반환하는지 확인")
+    void testBudgetStopsEarly() {
+        // given - 카드를 모르는 2인 대결은 약 4조 가지라 예산 안에 끝날 수 없음
+        EquityCalculator limited = new EquityCalculator(ForkJoinPool.commonPool(), Duration.ofMillis(200));
+        List<List<ICard>> holdings = List.of(List.of(), List.of());
+
+        // when
+        EquityResult result = limited.calculate(holdings);
+
+        // then
+        assertFalse(result.isComplete(), "예산 안에 모두 열거할 수 없어야 합니다");
+        assertTrue(result.getCompletions() > 0, "예산 안에 열거한 경우가 있어야 합니다");
+        assertEquals(result.getCompletions(),
+            result.getWins(0) + result.getTies(0) + result.getLosses(0), "부분 결과도 합이 맞아야 합니다");
+        assertTrue(result.getElapsed().toMillis() < 10_000, "예산 직후에 멈춰야 합니다");
+    }
+
+    @Test
+    @DisplayName("5. 입력 검증 테스트 - 중복 카드, 카드 초과, 카드 부족 시 예외 발생 확인")
+    void testInvalidInput() {
+        ICard ace = card(Suit.SPADES, Rank.ACE);
+
+        assertThrows(IllegalArgumentException.class, () -> calculator.calculate(List.of()),
+            "플레이어가 없으면 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class,
+            () -> calculator.calculate(List.of(List.of(ace), List.of(ace))),
+            "중복 카드면 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class,
+            () -> calculator.calculate(List.of(List.of(ace, ace, ace, ace, ace, ace))),
+            "6장 이상이면 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class,
+            () -> calculator.calculate(Collections.nCopies(11, List.<ICard>of())),
+            "남은 카드가 부족하면 예외가 발생해야 합니다");
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    private static ICard card(Suit suit, Rank rank) {
+        return ICard.of(suit, rank);
+    }
+
+    private static void assertTally(long[][] expected, EquityResult result) {
+        for (int p = 0; p < expected[0].length; p++) {
+            assertEquals(expected[0][p], result.getWins(p), "플레이어 " + p + "의 승리 횟수가 같아야 합니다");
+            assertEquals(expected[1][p], result.getTies(p), "플레이어 " + p + "의 무승부 횟수가 같아야 합니다");
+            assertEquals(expected[2][p], result.getLosses(p), "플레이어 " + p + "의 패배 횟수가 같아야 합니다");
+        }
+    }
+
+    /**
+     * 플레이어 순서대로 남은 카드를 인덱스 증가 순으로 골라 채우는 단순 중첩 반복
+     *
+     * @return {승리, 무승부, 패배} × 플레이어
+     */
+    private static long[][] bruteForce(List<List<ICard>> holdings) {
+        int players = holdings.size();
+        long[] hands = new long[players];
+        long used = CardSet.EMPTY;
+        for (int p = 0; p < players; p++) {
+            hands[p] = CardSet.of(holdings.get(p));
+            used |= hands[p];
+        }
+        long[][] tally = new long[3][players];
+        fill(0, 0, hands, used, tally);
+        return tally;
+    }
+
+    private static void fill(int player, int from, long[] hands, long used, long[][] tally) {
+        if (player == hands.length) {
+            int best = Integer.MIN_VALUE;
+            int count = 0;
+            for (long hand : hands) {
+                int strength = HandEvaluator.strength(hand);
+                if (strength > best) {
+                    best = strength;
+                    count = 1;
+                } else if (strength == best) {
+                    count++;
+                }
+            }
+            for (int p = 0; p < hands.length; p++) {
+                int strength = HandEvaluator.strength(hands[p]);
+                tally[strength != best ? 2 : count == 1 ? 0 : 1][p]++;
+            }
+            return;
+        }
+        if (CardSet.size(hands[player]) == EquityCalculator.HAND_SIZE) {
+            fill(player + 1, 0, hands, used, tally);
+            return;
+        }
+        for (int index = from; index < 52; index++) {
+            long bit = 1L << index;
+            if ((used & bit) != 0) {
+                continue;
+            }
+            hands[player] |= bit;
+            fill(player, index + 1, hands, used | bit, tally);
+            hands[player] &= ~bit;
+        }
+    }
+}
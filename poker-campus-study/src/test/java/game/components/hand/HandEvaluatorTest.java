@@ -0,0 +1,216 @@
+package game.components.hand;
+
+import game.components.card.CardRef;
+import game.components.card.ICard;
+import game.components.card.Rank;
+import game.components.card.Suit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HandEvaluator 클래스 테스트
+ *
+ * <p>룩업 테이블 평가기가 모든 5장 조합을 올바르게 분류하는지 검증합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>전체 2,598,960가지 조합의 족보별 빈도와 강도 값 개수 확인</li>
+ *   <li>경계 족보 판정 (로열 플러시, 백스트레이트, 백스트레이트 플러시)</li>
+ *   <li>HandRef 위임 결과 확인</li>
+ *   <li>같은 족보의 키커 비교</li>
+ *   <li>HandRef 강도 캐시 무효화</li>
+ *   <li>여러 벌 슈에서 나오는 같은 카드 중복 핸드</li>
+ * </ol>
+ */
+public class HandEvaluatorTest {
+
+    /** 서로 다른 5장 핸드 강도(동치류)의 알려진 개수 */
+    private static final int DISTINCT_STRENGTHS = 7462;
+
+    /** 52장 전체 조합에서 족보별로 알려진 개수 (HandRank 순서) */
+    private static final int[] KNOWN_FREQUENCIES = {
+        1_302_540, 1_098_240, 123_552, 54_912, 10_200, 5_108, 3_744, 624, 36, 4
+    };
+
+    @Test
+    @DisplayName("1. 전체 조합 빈도 테스트 - 모든 5장 조합의 족보 개수가 알려진 값과 같은지 확인")
+    void testAllHandFrequencies() {
+        // given
+        int[] frequencies = new int[HandRank.values().length];
+        Set<Integer> strengths = new HashSet<>();
+
+        // when - 52C5 전체 조합 평가
+        for (int a = 0; a < 52; a++) {
+            for (int b = a + 1; b < 52; b++) {
+                for (int c = b + 1; c < 52; c++) {
+                    for (int d = c + 1; d < 52; d++) {
+                        for (int e = d + 1; e < 52; e++) {
+                            int strength = HandEvaluator.strength(a, b, c, d, e);
+                            frequencies[HandStrength.rankOf(strength).ordinal()]++;
+                            strengths.add(strength);
+                        }
+                    }
+                }
+            }
+        }
+
+        // then
+        for (HandRank rank : HandRank.values()) {
+            assertEquals(KNOWN_FREQUENCIES[rank.ordinal()], frequencies[rank.ordinal()],
+                rank.getDisplayName() + " 개수가 올바르지 않습니다.");
+        }
+        assertEquals(DISTINCT_STRENGTHS, strengths.size(),
+            "키커까지 구분한 서로 다른 강도 값의 개수가 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("2. 경계 족보 판정 테스트 - 로열 플러시와 백스트레이트 구분")
+    void testEdgeHands() {
+        assertEquals(HandRank.ROYAL_FLUSH, evaluate(
+            card(Suit.SPADES, Rank.TEN), card(Suit.SPADES, Rank.JACK), card(Suit.SPADES, Rank.QUEEN),
+            card(Suit.SPADES, Rank.KING), card(Suit.SPADES, Rank.ACE)));
+
+        assertEquals(HandRank.STRAIGHT_FLUSH, evaluate(
+            card(Suit.HEARTS, Rank.ACE), card(Suit.HEARTS, Rank.TWO), card(Suit.HEARTS, Rank.THREE),
+            card(Suit.HEARTS, Rank.FOUR), card(Suit.HEARTS, Rank.FIVE)),
+            "A-2-3-4-5 같은 무늬는 로열 플러시가 아니라 스트레이트 플러시입니다.");
+
+        assertEquals(HandRank.STRAIGHT, evaluate(
+            card(Suit.HEARTS, Rank.ACE), card(Suit.CLUBS, Rank.TWO), card(Suit.HEARTS, Rank.THREE),
+            card(Suit.DIAMONDS, Rank.FOUR), card(Suit.SPADES, Rank.FIVE)),
+            "백스트레이트(A-2-3-4-5)는 스트레이트입니다.");
+
+        assertEquals(HandRank.HIGH_CARD, evaluate(
+            card(Suit.HEARTS, Rank.QUEEN), card(Suit.CLUBS, Rank.KING), card(Suit.HEARTS, Rank.ACE),
+            card(Suit.DIAMONDS, Rank.TWO), card(Suit.SPADES, Rank.THREE)),
+            "Q-K-A-2-3은 이어지지 않으므로 하이카드입니다.");
+
+        assertEquals(HandRank.FULL_HOUSE, evaluate(
+            card(Suit.HEARTS, Rank.KING), card(Suit.CLUBS, Rank.KING), card(Suit.SPADES, Rank.KING),
+            card(Suit.DIAMONDS, Rank.TWO), card(Suit.SPADES, Rank.TWO)));
+    }
+
+    @Test
+    @DisplayName("3. HandRef 위임 테스트 - HandRef.evaluate()가 평가기와 같은 결과를 반환하는지 확인")
+    void testHandRefDelegation() {
+        // given
+        HandRef hand = new HandRef();
+        hand.add(card(Suit.HEARTS, Rank.SEVEN));
+        hand.add(card(Suit.CLUBS, Rank.SEVEN));
+        hand.add(card(Suit.SPADES, Rank.NINE));
+        hand.add(card(Suit.DIAMONDS, Rank.NINE));
+        hand.add(card(Suit.SPADES, Rank.ACE));
+
+        // when & then
+        assertEquals(HandRank.TWO_PAIR, hand.evaluate());
+        assertEquals(HandRank.TWO_PAIR.getScore(), hand.open());
+    }
+
+    @Test
+    @DisplayName("4. 키커 비교 테스트 - 같은 족보끼리 높은 카드가 이기는지 확인")
+    void testKickers() {
+        int acesPair = strength(
+            card(Suit.HEARTS, Rank.ACE), card(Suit.CLUBS, Rank.ACE), card(Suit.SPADES, Rank.NINE),
+            card(Suit.DIAMONDS, Rank.FIVE), card(Suit.SPADES, Rank.THREE));
+        int twosPair = strength(
+            card(Suit.HEARTS, Rank.TWO), card(Suit.CLUBS, Rank.TWO), card(Suit.SPADES, Rank.KING),
+            card(Suit.DIAMONDS, Rank.QUEEN), card(Suit.SPADES, Rank.JACK));
+        assertTrue(acesPair > twosPair, "A 원페어는 2 원페어보다 강해야 합니다.");
+
+        int aceFlush = strength(
+            card(Suit.HEARTS, Rank.ACE), card(Suit.HEARTS, Rank.NINE), card(Suit.HEARTS, Rank.SEVEN),
+            card(Suit.HEARTS, Rank.FIVE), card(Suit.HEARTS, Rank.THREE));
+        int kingFlush = strength(
+            card(Suit.SPADES, Rank.KING), card(Suit.SPADES, Rank.QUEEN), card(Suit.SPADES, Rank.JACK),
+            card(Suit.SPADES, Rank.NINE), card(Suit.SPADES, Rank.EIGHT));
+        assertTrue(aceFlush > kingFlush, "A 하이 플러시는 K 하이 플러시보다 강해야 합니다.");
+
+        int wheel = strength(
+            card(Suit.HEARTS, Rank.ACE), card(Suit.CLUBS, Rank.TWO), card(Suit.HEARTS, Rank.THREE),
+            card(Suit.DIAMONDS, Rank.FOUR), card(Suit.SPADES, Rank.FIVE));
+        int sixHigh = strength(
+            card(Suit.HEARTS, Rank.SIX), card(Suit.CLUBS, Rank.TWO), card(Suit.HEARTS, Rank.THREE),
+            card(Suit.DIAMONDS, Rank.FOUR), card(Suit.SPADES, Rank.FIVE));
+        assertTrue(sixHigh > wheel, "백스트레이트는 가장 약한 스트레이트입니다.");
+
+        int sameAcesPair = strength(
+            card(Suit.DIAMONDS, Rank.ACE), card(Suit.SPADES, Rank.ACE), card(Suit.HEARTS, Rank.NINE),
+            card(Suit.CLUBS, Rank.FIVE), card(Suit.HEARTS, Rank.THREE));
+        assertEquals(acesPair, sameAcesPair, "무늬만 다른 핸드는 완전한 동점이어야 합니다.");
+        assertEquals("원페어(200) A-9-5-3", HandStrength.toString(acesPair));
+    }
+
+    @Test
+    @DisplayName("5. 강도 캐시 테스트 - 카드가 바뀌면 캐시된 강도가 다시 계산되는지 확인")
+    void testCachedStrengthInvalidation() {
+        // given
+        HandRef hand = new HandRef();
+        hand.add(card(Suit.HEARTS, Rank.TWO));
+        hand.add(card(Suit.CLUBS, Rank.TWO));
+        hand.add(card(Suit.SPADES, Rank.NINE));
+        hand.add(card(Suit.DIAMONDS, Rank.FIVE));
+        hand.add(card(Suit.SPADES, Rank.THREE));
+        int pair = hand.strength();
+
+        // when
+        hand.clear();
+        assertThrows(IllegalStateException.class, hand::strength, "clear() 후에는 캐시를 쓰면 안 됩니다.");
+        hand.add(card(Suit.HEARTS, Rank.ACE));
+        hand.add(card(Suit.CLUBS, Rank.ACE));
+        hand.add(card(Suit.SPADES, Rank.ACE));
+        hand.add(card(Suit.DIAMONDS, Rank.FIVE));
+        hand.add(card(Suit.SPADES, Rank.FIVE));
+
+        // then
+        assertNotEquals(pair, hand.strength(), "새 카드로 다시 평가해야 합니다.");
+        assertEquals(HandRank.FULL_HOUSE, hand.evaluate());
+        assertEquals(hand.strength(), hand.strength(), "캐시된 값은 호출마다 같아야 합니다.");
+    }
+
+    @Test
+    @DisplayName("6. 중복 카드 테스트 - 여러 벌 슈에서 같은 카드가 겹친 핸드도 평가되는지 확인")
+    void testDuplicateCards() {
+        // given - 같은 카드가 두 장 이상 (Shoe에서만 가능)
+        ICard aceOfSpades = card(Suit.SPADES, Rank.ACE);
+
+        // when & then - 같은 무늬 + 같은 숫자: 플러시와 짝 족보 중 강한 쪽
+        assertEquals(HandRank.FLUSH, evaluate(aceOfSpades, aceOfSpades,
+            card(Suit.SPADES, Rank.KING), card(Suit.SPADES, Rank.QUEEN), card(Suit.SPADES, Rank.JACK)));
+        assertEquals(HandRank.FULL_HOUSE, evaluate(aceOfSpades, aceOfSpades, aceOfSpades,
+            card(Suit.SPADES, Rank.KING), card(Suit.SPADES, Rank.KING)));
+
+        // 파이브 카드는 별도 족보가 없으므로 같은 숫자 포카드의 최고 값
+        int fiveAces = strength(aceOfSpades, aceOfSpades, card(Suit.HEARTS, Rank.ACE),
+            card(Suit.CLUBS, Rank.ACE), card(Suit.DIAMONDS, Rank.ACE));
+        int quadAcesKing = strength(aceOfSpades, card(Suit.HEARTS, Rank.ACE), card(Suit.CLUBS, Rank.ACE),
+            card(Suit.DIAMONDS, Rank.ACE), card(Suit.SPADES, Rank.KING));
+        assertEquals(HandRank.FOUR_OF_A_KIND, HandStrength.rankOf(fiveAces));
+        assertTrue(fiveAces > quadAcesKing, "A 파이브 카드는 K 키커 A 포카드보다 강해야 합니다.");
+
+        // HandRef도 카드 집합 대신 카드로 평가해야 함
+        HandRef hand = new HandRef();
+        hand.add(aceOfSpades);
+        hand.add(aceOfSpades);
+        hand.add(card(Suit.HEARTS, Rank.NINE));
+        hand.add(card(Suit.CLUBS, Rank.NINE));
+        hand.add(card(Suit.DIAMONDS, Rank.TWO));
+        assertEquals(HandRank.TWO_PAIR, hand.evaluate());
+    }
+
+    private static ICard card(Suit suit, Rank rank) {
+        return new CardRef(suit, rank);
+    }
+
+    private static HandRank evaluate(ICard c0, ICard c1, ICard c2, ICard c3, ICard c4) {
+        return HandEvaluator.evaluate(c0, c1, c2, c3, c4);
+    }
+
+    private static int strength(ICard c0, ICard c1, ICard c2, ICard c3, ICard c4) {
+        return HandEvaluator.strength(c0, c1, c2, c3, c4);
+    }
+}
@@ -0,0 +1,136 @@
+package game.components.hand;
+
+import game.components.card.CardRef;
+import game.components.card.ICard;
+import game.components.card.Rank;
+import game.components.card.Suit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SevenCardEvaluator 클래스 테스트
+ *
+ * <p>7장 평가기가 21가지 5장 조합을 HandRef로 모두 평가한 결과(무차별 대입)와 같은지 검증합니다.
+ * 처리량 비교는 JMH 벤치마크({@code HandEvaluationBenchmark})에서 측정합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>무작위 7장 핸드의 결과를 HandRef 최고 21조합과 비교</li>
+ *   <li>전체 133,784,560가지 7장 조합의 족보별 빈도 확인 (오래 걸리므로 {@code slow} 태그 - {@code ./gradlew slowTest})</li>
+ * </ol>
+ */
+public class SevenCardEvaluatorTest {
+
+    /** 52장 중 7장 전체 조합에서 최고 5장 족보별로 알려진 개수 (HandRank 순서) */
+    private static final long[] KNOWN_FREQUENCIES = {
+        23_294_460, 58_627_800, 31_433_400, 6_461_620, 6_180_020,
+        4_047_644, 3_473_184, 224_848, 37_260, 4_324
+    };
+
+    private static final ICard[] CARDS = new ICard[52];
+
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                CARDS[suit.ordinal() * 13 + rank.ordinal()] = new CardRef(suit, rank);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("1. 무차별 대입 비교 테스트 - 무작위 7장의 결과가 HandRef 21조합 최고값과 같은지 확인")
+    void testMatchesBruteForce() {
+        // given
+        Random random = new Random(20240101L);
+        int[] hand = new int[7];
+
+        for (int trial = 0; trial < 20_000; trial++) {
+            drawSeven(random, hand);
+
+            // when
+            int expected = bruteForce(hand);
+            int actual = SevenCardEvaluator.strength(hand[0], hand[1], hand[2], hand[3], hand[4], hand[5], hand[6]);
+
+            // then
+            assertEquals(expected, actual,
+                "7장 평가 결과가 무차별 대입과 다릅니다: " + HandStrength.toString(expected)
+                    + " / " + HandStrength.toString(actual));
+        }
+    }
+
+    @Test
+    @Tag("slow")
+    @DisplayName("2. 전체 조합 빈도 테스트 - 모든 7장 조합의 족보 개수가 알려진 값과 같은지 확인")
+    void testAllHandFrequencies() {
+        // given
+        long[] frequencies = new long[HandRank.values().length];
+
+        // when - 52C7 전체 조합 평가
+        for (int a = 0; a < 52; a++) {
+            for (int b = a + 1; b < 52; b++) {
+                for (int c = b + 1; c < 52; c++) {
+                    for (int d = c + 1; d < 52; d++) {
+                        for (int e = d + 1; e < 52; e++) {
+                            for (int f = e + 1; f < 52; f++) {
+                                for (int g = f + 1; g < 52; g++) {
+                                    int strength = SevenCardEvaluator.strength(a, b, c, d, e, f, g);
+                                    frequencies[HandStrength.rankOf(strength).ordinal()]++;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        // then
+        for (HandRank rank : HandRank.values()) {
+            assertEquals(KNOWN_FREQUENCIES[rank.ordinal()], frequencies[rank.ordinal()],
+                rank.getDisplayName() + " 개수가 올바르지 않습니다.");
+        }
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    private static void drawSeven(Random random, int[] hand) {
+        long used = 0;
+        for (int i = 0; i < hand.length; i++) {
+            int card;
+            do {
+                card = random.nextInt(52);
+            } while ((used & (1L << card)) != 0);
+            used |= 1L << card;
+            hand[i] = card;
+        }
+    }
+
+    /**
+     * 21가지 5장 조합을 HandRef로 평가하여 최고 강도를 구합니다.
+     */
+    private static int bruteForce(int[] cards) {
+        int best = 0;
+        for (int a = 0; a < 7; a++) {
+            for (int b = a + 1; b < 7; b++) {
+                for (int c = b + 1; c < 7; c++) {
+                    for (int d = c + 1; d < 7; d++) {
+                        for (int e = d + 1; e < 7; e++) {
+                            HandRef hand = new HandRef();
+                            hand.add(CARDS[cards[a]]);
+                            hand.add(CARDS[cards[b]]);
+                            hand.add(CARDS[cards[c]]);
+                            hand.add(CARDS[cards[d]]);
+                            hand.add(CARDS[cards[e]]);
+                            best = Math.max(best, hand.strength());
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,111 @@
+package game.components.hand;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Showdown 클래스 테스트
+ *
+ * <p>한 번의 순회로 찾은 승자가 "최고 강도를 구한 뒤 다시 훑는" 두 단계 방식과
+ * 같은지, 수백 좌석의 쇼다운에서도 동점자가 정확한지 검증합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>기본 판정 - 단독 승자, 동점 승자, 전원 동점</li>
+ *   <li>대규모 좌석 - 500좌석 무작위 강도를 두 단계 방식과 비교</li>
+ *   <li>부분 판정 - 앞쪽 count칸만 판정하고 버퍼 재사용</li>
+ *   <li>입력 검증 - 잘못된 좌석 수와 작은 버퍼</li>
+ * </ol>
+ */
+public class ShowdownTest {
+
+    @Test
+    @DisplayName("1. 기본 판정 테스트 - 단독 승자, 동점, 전원 동점 확인")
+    void testBasicShowdown() {
+        int pair = HandStrength.of(HandRank.ONE_PAIR, 12, 10, 7, 3);
+        int flush = HandStrength.of(HandRank.FLUSH, 12, 10, 7, 3, 1);
+
+        assertArrayEquals(new int[]{2}, Showdown.winners(new int[]{pair, pair, flush, pair}), "플러시가 단독 승자여야 합니다");
+        assertArrayEquals(new int[]{0, 3}, Showdown.winners(new int[]{flush, pair, pair, flush}), "같은 플러시는 모두 승자여야 합니다");
+        assertArrayEquals(new int[]{0, 1, 2}, Showdown.winners(new int[]{pair, pair, pair}), "전원 동점이면 모두 승자여야 합니다");
+        assertArrayEquals(new int[0], Showdown.winners(new int[0]), "좌석이 없으면 승자도 없어야 합니다");
+    }
+
+    @Test
+    @DisplayName("2. 대규모 좌석 테스트 - 500좌석 쇼다운이 두 단계 방식과 같은지 확인")
+    void testLargeField() {
+        SplittableRandom random = new SplittableRandom(2026);
+        int[] winners = new int[500];
+        for (int trial = 0; trial < 1_000; trial++) {
+            // given - 동점이 자주 나오도록 강도 종류를 좁힘
+            int[] strengths = new int[500];
+            for (int i = 0; i < strengths.length; i++) {
+                strengths[i] = HandStrength.of(HandRank.values()[random.nextInt(3)], random.nextInt(4));
+            }
+
+            // when
+            int winnerCount = Showdown.winners(strengths, strengths.length, winners);
+
+            // then
+            List<Integer> expected = twoPass(strengths);
+            assertEquals(expected.size(), winnerCount, "승자 수가 같아야 합니다");
+            for (int i = 0; i < winnerCount; i++) {
+                assertEquals((int) expected.get(i), winners[i], "승자 순번이 오름차순으로 같아야 합니다");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("3. 부분 판정 테스트 - 앞쪽 좌석만 판정하고 버퍼를 재사용하는지 확인")
+    void testPartialRange() {
+        // given - 뒤쪽에 더 센 강도가 남아 있는 재사용 버퍼
+        int[] strengths = {5, 9, 9, 1, 100, 100};
+        int[] winners = {7, 7, 7, 7, 7, 7};
+
+        // when
+        int winnerCount = Showdown.winners(strengths, 4, winners);
+
+        // then
+        assertEquals(2, winnerCount, "앞쪽 4좌석만 판정해야 합니다");
+        assertEquals(1, winners[0], "첫 승자 순번이 맞아야 합니다");
+        assertEquals(2, winners[1], "두 번째 승자 순번이 맞아야 합니다");
+    }
+
+    @Test
+    @DisplayName("4. 입력 검증 테스트 - 잘못된 좌석 수와 작은 버퍼에 예외 발생 확인")
+    void testValidation() {
+        int[] strengths = {1, 2, 3};
+
+        assertThrows(IllegalArgumentException.class, () -> Showdown.winners(strengths, 4, new int[4]),
+            "배열보다 큰 좌석 수는 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> Showdown.winners(strengths, -1, new int[3]),
+            "음수 좌석 수는 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> Showdown.winners(strengths, 3, new int[2]),
+            "좌석 수보다 작은 버퍼는 예외가 발생해야 합니다");
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    /**
+     * 최고 강도를 먼저 구한 뒤 다시 훑는 기준 구현입니다.
+     */
+    private static List<Integer> twoPass(int[] strengths) {
+        int best = Integer.MIN_VALUE;
+        for (int strength : strengths) {
+            best = Math.max(best, strength);
+        }
+        List<Integer> winners = new ArrayList<>();
+        for (int i = 0; i < strengths.length; i++) {
+            if (strengths[i] == best) {
+                winners.add(i);
+            }
+        }
+        return winners;
+    }
+}
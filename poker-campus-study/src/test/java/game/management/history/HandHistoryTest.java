@@ -0,0 +1,289 @@
+package game.management.history;
+
+import game.components.card.CardSet;
+import game.components.card.ICard;
+import game.participants.dealer.DealerRef;
+import game.participants.dealer.RoundListener;
+import game.participants.dealer.RoundReplay;
+import game.participants.player.IPlayer;
+import game.participants.player.PlayerRef;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HandHistoryWriter / HandHistoryReader 테스트
+ *
+ * <p>딜러에 기록기를 연결해 진행한 라운드가 파일에 그대로 남는지,
+ * 그리고 이어 쓰기와 잘린 파일 복구가 올바른지 검증합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>왕복 기록 - 카드, 강도, 승자, 상금이 딜러의 진행과 일치</li>
+ *   <li>재현 연동 - 기록한 라운드 번호로 RoundReplay가 같은 카드를 재현</li>
+ *   <li>이어 쓰기 - 다시 열면 잘린 레코드를 버리고 라운드 번호를 이어서 부여</li>
+ *   <li>입력 검증 - 핸드 기록이 아닌 파일, 잘못된 버퍼 크기, 닫힌 기록기</li>
+ *   <li>승자 결정과 상금 사이의 동기화 - 상금이 빠지지 않고, 헤더에 동기화 위치가 남음</li>
+ * </ol>
+ */
+public class HandHistoryTest {
+
+    private static final long TABLE_SEED = 20261017L;
+
+    @Test
+    @DisplayName("1. 왕복 기록 테스트 - 파일에서 읽은 라운드가 딜러의 진행과 같은지 확인")
+    void testRoundTrip() throws IOException {
+        Path path = Files.createTempFile("hand-history", ".hh");
+        try {
+            // given - 딜러 이벤트를 기록기와 기대값 수집기에 함께 전달
+            List<IPlayer> players = newPlayers(4);
+            List<String> expected = new ArrayList<>();
+            long rounds;
+            try (HandHistoryWriter history = HandHistoryWriter.open(path, HandHistoryWriter.DEFAULT_BUFFER_SIZE, 1_000)) {
+                DealerRef dealer = new DealerRef(TABLE_SEED);
+                Recorder recorder = new Recorder(history, expected);
+                dealer.setRoundListener(recorder);
+
+                // when - 두 번의 게임 (라운드 번호는 이어져야 함)
+                dealer.playGame(players, 3_000);
+                dealer.playGame(players, 2_000);
+                recorder.finish();
+                rounds = history.getRoundsWritten();
+            }
+
+            // then
+            List<String> actual = new ArrayList<>();
+            long[] lastRound = {0};
+            long count = HandHistoryReader.open(path).scan(record -> {
+                assertEquals(lastRound[0] + 1, record.getRoundId(), "라운드 번호는 1부터 이어져야 합니다");
+                lastRound[0] = record.getRoundId();
+                actual.add(describe(record));
+            });
+            assertEquals(5_000, rounds, "기록한 라운드 수가 정확해야 합니다");
+            assertEquals(5_000, count, "읽은 레코드 수가 정확해야 합니다");
+            assertEquals(expected, actual, "모든 라운드의 내용이 같아야 합니다");
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    @DisplayName("2. 재현 연동 테스트 - 기록한 라운드 번호로 같은 카드를 재현하는지 확인")
+    void testReplayFromHistory() throws IOException {
+        Path path = Files.createTempFile("hand-history", ".hh");
+        try {
+            // given
+            try (HandHistoryWriter history = HandHistoryWriter.open(path)) {
+                DealerRef dealer = new DealerRef(TABLE_SEED);
+                dealer.setRoundListener(history);
+                dealer.playGame(newPlayers(3), 200);
+            }
+
+            // when & then
+            HandHistoryReader.open(path).scan(record -> {
+                List<List<ICard>> hands = RoundReplay.deal(TABLE_SEED, record.getRoundId(), record.getSeatCount());
+                List<Integer> winners = RoundReplay.winners(hands);
+                for (int seat = 0; seat < record.getSeatCount(); seat++) {
+                    assertEquals(CardSet.of(hands.get(seat)), CardSet.of(record.getCards(seat)),
+                        record.getRoundId() + "라운드 카드가 같아야 합니다");
+                    assertEquals(winners.contains(seat), record.isWinner(seat), record.getRoundId() + "라운드 승자가 같아야 합니다");
+                }
+            });
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    @DisplayName("3. 이어 쓰기 테스트 - 잘린 레코드를 버리고 라운드 번호를 이어서 부여하는지 확인")
+    void testAppendAfterTornWrite() throws IOException {
+        Path path = Files.createTempFile("hand-history", ".hh");
+        try {
+            // given - 100라운드 기록 후 마지막 레코드 중간에서 파일을 자름 (기록 중 중단 흉내)
+            List<IPlayer> players = newPlayers(2);
+            try (HandHistoryWriter history = HandHistoryWriter.open(path)) {
+                new DealerRef(history).playGame(players, 100);
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(channel.size() - 5);
+            }
+            assertEquals(99, HandHistoryReader.open(path).count(), "잘린 레코드는 읽지 않아야 합니다");
+
+            // when
+            try (HandHistoryWriter history = HandHistoryWriter.open(path)) {
+                new DealerRef(history).playGame(players, 50);
+            }
+
+            // then
+            List<Long> roundIds = new ArrayList<>();
+            HandHistoryReader.open(path).scan(record -> roundIds.add(record.getRoundId()));
+            assertEquals(149, roundIds.size(), "남은 99라운드와 새 50라운드가 있어야 합니다");
+            for (int i = 0; i < roundIds.size(); i++) {
+                assertEquals(i + 1L, (long) roundIds.get(i), "라운드 번호는 빈틈 없이 이어져야 합니다");
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    @DisplayName("4. 입력 검증 테스트 - 잘못된 파일과 설정에 예외 발생 확인")
+    void testValidation() throws IOException {
+        Path path = Files.createTempFile("hand-history", ".txt");
+        try {
+            Files.writeString(path, "라운드 1: 텍스트 로그");
+
+            assertThrows(IOException.class, () -> HandHistoryReader.open(path), "핸드 기록이 아닌 파일은 예외가 발생해야 합니다");
+            assertThrows(IOException.class, () -> HandHistoryWriter.open(path), "핸드 기록이 아닌 파일에는 이어 쓸 수 없어야 합니다");
+            assertThrows(IllegalArgumentException.class, () -> HandHistoryWriter.open(path, 16, 0),
+                "레코드 하나보다 작은 버퍼는 예외가 발생해야 합니다");
+
+            Files.delete(path);
+            HandHistoryWriter history = HandHistoryWriter.open(path);
+            history.close();
+            history.close();
+            assertThrows(IllegalStateException.class, history::commit, "닫힌 기록기는 예외가 발생해야 합니다");
+            assertEquals(0, HandHistoryReader.open(path).count(), "빈 기록 파일은 레코드가 없어야 합니다");
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    @DisplayName("5. 중간 동기화 테스트 - 승자 결정과 상금 사이에 동기화해도 상금이 남는지 확인")
+    void testCommitBeforePrize() throws IOException {
+        Path path = Files.createTempFile("hand-history", ".hh");
+        try {
+            // given - 승자가 정해질 때마다 상금보다 먼저 동기화
+            List<IPlayer> players = newPlayers(3);
+            List<String> expected = new ArrayList<>();
+            try (HandHistoryWriter history = HandHistoryWriter.open(path)) {
+                Recorder recorder = new Recorder(history, expected) {
+                    @Override
+                    public void winnersDecided(int round, List<? extends IPlayer> winners, boolean draw) {
+                        super.winnersDecided(round, winners, draw);
+                        history.commit();
+                    }
+                };
+                DealerRef dealer = new DealerRef(TABLE_SEED);
+                dealer.setRoundListener(recorder);
+
+                // when
+                dealer.playGame(players, 300);
+                recorder.finish();
+            }
+
+            // then
+            List<String> actual = new ArrayList<>();
+            HandHistoryReader.open(path).scan(record -> actual.add(describe(record)));
+            assertEquals(expected, actual, "동기화 뒤에 지급한 상금도 기록되어야 합니다");
+
+            ByteBuffer header = ByteBuffer.wrap(Files.readAllBytes(path), 0, HandHistoryFormat.FILE_HEADER_SIZE)
+                .order(HandHistoryFormat.ORDER);
+            assertEquals(Files.size(path), header.getLong(HandHistoryFormat.COMMITTED_END_OFFSET),
+                "헤더에 마지막 동기화 위치가 있어야 합니다");
+            assertEquals(300L, header.getLong(HandHistoryFormat.COMMITTED_ROUND_OFFSET),
+                "헤더에 마지막 라운드 번호가 있어야 합니다");
+
+            // when & then - 다시 열면 헤더의 위치부터 이어 씀
+            try (HandHistoryWriter history = HandHistoryWriter.open(path)) {
+                new DealerRef(history).playGame(players, 10);
+            }
+            long[] lastRound = {0};
+            assertEquals(310, HandHistoryReader.open(path).scan(record -> lastRound[0] = record.getRoundId()),
+                "이어 쓴 라운드까지 모두 있어야 합니다");
+            assertEquals(310L, lastRound[0], "라운드 번호는 헤더의 번호에서 이어져야 합니다");
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    private static List<IPlayer> newPlayers(int count) {
+        List<IPlayer> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            players.add(new PlayerRef("플레이어" + (i + 1), 10000));
+        }
+        return players;
+    }
+
+    private static String describe(HandRecord record) {
+        StringBuilder sb = new StringBuilder();
+        for (int seat = 0; seat < record.getSeatCount(); seat++) {
+            sb.append(record.getCards(seat)).append(record.getStrength(seat))
+                .append(record.isWinner(seat) ? "W" : "L").append(record.getPrizeDelta(seat)).append(';');
+        }
+        return sb.append(record.isDraw()).toString();
+    }
+
+    /**
+     * 이벤트를 기록기에 넘기면서 같은 형식의 기대값을 직접 만듭니다.
+     */
+    private static class Recorder implements RoundListener {
+        private final HandHistoryWriter history;
+        private final List<String> expected;
+        private List<? extends IPlayer> players;
+        private List<? extends IPlayer> winners;
+        private boolean draw;
+        private int prize;
+
+        Recorder(HandHistoryWriter history, List<String> expected) {
+            this.history = history;
+            this.expected = expected;
+        }
+
+        @Override
+        public void roundStarted(int round) {
+            finish();
+        }
+
+        /** 직전 라운드의 기대값을 추가합니다 (핸드가 다음 라운드에 재사용되기 전에 호출). */
+        void finish() {
+            if (players != null) {
+                expected.add(expectedLine());
+                players = null;
+            }
+        }
+
+        @Override
+        public void handsEvaluated(int round, List<? extends IPlayer> players) {
+            history.handsEvaluated(round, players);
+            this.players = players;
+        }
+
+        @Override
+        public void winnersDecided(int round, List<? extends IPlayer> winners, boolean draw) {
+            history.winnersDecided(round, winners, draw);
+            this.winners = List.copyOf(winners);
+            this.draw = draw;
+            this.prize = 0;
+        }
+
+        @Override
+        public void prizePaid(int round, IPlayer winner, int amount) {
+            history.prizePaid(round, winner, amount);
+            prize = amount;
+        }
+
+        private String expectedLine() {
+            StringBuilder sb = new StringBuilder();
+            for (IPlayer player : players) {
+                boolean won = winners.contains(player);
+                sb.append(CardSet.toList(player.getHand().getCardSet())).append(player.getHand().strength())
+                    .append(won ? "W" : "L").append(won ? prize : 0).append(';');
+            }
+            return sb.append(draw).toString();
+        }
+    }
+}
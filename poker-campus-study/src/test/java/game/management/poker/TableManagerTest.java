@@ -0,0 +1,214 @@
+package game.management.poker;
+
+import game.participants.player.IPlayer;
+import game.participants.player.PlayerRef;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TableManager와 PokerTable 테스트
+ *
+ * <p>많은 테이블을 가상 스레드로 동시에 진행해도 전적과 지표가 정확한지,
+ * 그리고 {@link GameState} 생명주기가 올바르게 전이되는지 검증합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>테이블 1,000개 동시 진행 - 전적 합계와 지표 확인</li>
+ *   <li>생명주기 - 플레이어 대기, 시작, 일시 정지, 재개, 닫기</li>
+ *   <li>잘못된 상태 전이 - 예외 발생 확인</li>
+ *   <li>시드 재현성 - 같은 시드면 같은 결과</li>
+ *   <li>자리 관리 - 한 플레이어는 진행 중인 테이블 하나에만 앉음</li>
+ * </ol>
+ */
+public class TableManagerTest {
+
+    private static final int INITIAL_MONEY = 10000;
+
+    @Test
+    @DisplayName("1. 다중 테이블 테스트 - 테이블 1,000개를 동시에 진행해도 전적과 지표가 맞는지 확인")
+    void testThousandTables() throws InterruptedException {
+        // given
+        int tableCount = 1_000;
+        int rounds = 100;
+        List<PokerTable> tables = new ArrayList<>();
+
+        try (TableManager manager = new TableManager()) {
+            // when
+            for (int i = 0; i < tableCount; i++) {
+                tables.add(manager.createTable(players(4), rounds));
+            }
+            for (PokerTable table : tables) {
+                table.awaitEnd();
+            }
+            TableMetrics metrics = manager.metrics();
+
+            // then
+            assertEquals(0, metrics.openTables(), "진행 중인 테이블이 없어야 합니다");
+            assertEquals(tableCount, metrics.tablesCompleted(), "모든 테이블이 끝나야 합니다");
+            assertEquals((long) tableCount * rounds, metrics.roundsPlayed(), "전체 라운드 수가 맞아야 합니다");
+            assertTrue(metrics.roundsPerSecond() > 0, "라운드 처리량이 기록되어야 합니다");
+        }
+        for (PokerTable table : tables) {
+            assertEquals(GameState.ENDED, table.getState(), "테이블은 종료 상태여야 합니다");
+            assertEquals(rounds, table.getRoundsPlayed(), "모든 라운드를 진행해야 합니다");
+            for (IPlayer player : table.getPlayers()) {
+                assertEquals(rounds, player.getWinCount() + player.getLoseCount() + player.getDrawCount(),
+                    "라운드마다 전적이 하나씩 기록되어야 합니다");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("2. 생명주기 테스트 - 대기, 시작, 일시 정지, 재개, 닫기가 상태대로 동작하는지 확인")
+    void testLifecycle() throws InterruptedException {
+        try (TableManager manager = new TableManager()) {
+            // given
+            PokerTable table = manager.createTable(Integer.MAX_VALUE);
+            assertEquals(GameState.NOT_STARTED, table.getState(), "처음에는 시작 전이어야 합니다");
+
+            // when - 혼자서는 시작하지 못하고 기다림
+            table.seat(new PlayerRef("럭키가이", INITIAL_MONEY));
+            table.start();
+            assertEquals(GameState.WAITING_FOR_PLAYERS, table.getState(), "인원이 모자라면 대기해야 합니다");
+
+            // when - 두 번째 플레이어가 앉으면 바로 시작
+            CountDownLatch firstSlice = new CountDownLatch(1);
+            table.onSliceEnd(firstSlice::countDown);
+            table.seat(new PlayerRef("포커마스터", INITIAL_MONEY));
+            assertEquals(GameState.IN_PROGRESS, table.getState(), "인원이 차면 진행해야 합니다");
+            assertTrue(firstSlice.await(5, TimeUnit.SECONDS), "제한 시간 안에 라운드가 진행되어야 합니다");
+
+            // when - 일시 정지하면 테이블 스레드가 재개를 기다리며 라운드가 멈춤
+            manager.pause(table.getId());
+            assertEquals(GameState.PAUSED, table.getState(), "일시 정지 상태여야 합니다");
+            assertTrue(table.awaitParked(5, TimeUnit.SECONDS), "테이블 스레드가 재개를 기다려야 합니다");
+            int pausedAt = table.getRoundsPlayed();
+            CountDownLatch resumedSlice = new CountDownLatch(1);
+            int[] firstAfterResume = new int[1];
+            table.onSliceEnd(() -> {
+                if (resumedSlice.getCount() > 0) {
+                    firstAfterResume[0] = table.getRoundsPlayed();
+                    resumedSlice.countDown();
+                }
+            });
+
+            // when - 재개하면 멈춘 곳에서 다시 진행
+            manager.resume(table.getId());
+            assertTrue(resumedSlice.await(5, TimeUnit.SECONDS), "재개 후 라운드가 진행되어야 합니다");
+            assertEquals(pausedAt + PokerTable.ROUNDS_PER_SLICE, firstAfterResume[0],
+                "일시 정지 중에는 라운드가 늘지 않아야 합니다");
+
+            // when - 닫으면 종료
+            manager.closeTable(table.getId());
+            table.awaitEnd();
+
+            // then
+            assertEquals(GameState.ENDED, table.getState(), "닫으면 종료 상태여야 합니다");
+            assertThrows(IllegalArgumentException.class, () -> manager.getTable(table.getId()),
+                "끝난 테이블은 관리 목록에서 빠져야 합니다");
+        }
+    }
+
+    @Test
+    @DisplayName("3. 잘못된 전이 테스트 - 허용되지 않는 상태 변경 시 예외 발생 확인")
+    void testInvalidTransitions() {
+        try (TableManager manager = new TableManager()) {
+            PokerTable table = manager.createTable(10);
+
+            assertThrows(IllegalStateException.class, table::pause, "시작 전에는 일시 정지할 수 없어야 합니다");
+            assertThrows(IllegalStateException.class, table::resume, "일시 정지 전에는 재개할 수 없어야 합니다");
+
+            for (IPlayer player : players(PokerTable.MAX_PLAYERS)) {
+                table.seat(player);
+            }
+            assertThrows(IllegalStateException.class, () -> table.seat(new PlayerRef("초과", INITIAL_MONEY)),
+                "최대 인원을 넘으면 앉을 수 없어야 합니다");
+
+            table.close();
+            assertThrows(IllegalStateException.class, table::start, "닫힌 테이블은 시작할 수 없어야 합니다");
+            assertThrows(IllegalArgumentException.class, () -> manager.createTable(0),
+                "라운드 수가 0이면 예외가 발생해야 합니다");
+        }
+    }
+
+    @Test
+    @DisplayName("4. 재현성 테스트 - 같은 시드의 관리자는 같은 결과를 내는지 확인")
+    void testSeededReproducibility() throws InterruptedException {
+        // given / when
+        List<IPlayer> first = runSeeded(42L);
+        List<IPlayer> second = runSeeded(42L);
+
+        // then
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getMoney(), second.get(i).getMoney(), "같은 시드면 자금이 같아야 합니다");
+            assertEquals(first.get(i).getWinCount(), second.get(i).getWinCount(), "같은 시드면 승수가 같아야 합니다");
+        }
+    }
+
+    @Test
+    @DisplayName("5. 자리 관리 테스트 - 진행 중인 다른 테이블의 플레이어는 앉을 수 없고, 테이블이 끝나면 풀리는지 확인")
+    void testPlayerSeatedAtOneTable() throws InterruptedException {
+        try (TableManager manager = new TableManager()) {
+            // given
+            List<IPlayer> players = players(2);
+            PokerTable first = manager.createTable(Integer.MAX_VALUE);
+            first.seat(players.get(0));
+            first.seat(players.get(1));
+            first.start();
+            PokerTable second = manager.createTable(10);
+
+            // when & then - 진행 중인 테이블의 플레이어는 다른 테이블에 앉을 수 없음
+            assertThrows(IllegalArgumentException.class, () -> second.seat(players.get(0)),
+                "다른 테이블에 앉아 있는 플레이어는 앉을 수 없어야 합니다");
+            assertThrows(IllegalArgumentException.class, () -> manager.createTable(players, 10),
+                "다른 테이블에 앉아 있는 플레이어로 테이블을 만들 수 없어야 합니다");
+            assertEquals(0, manager.metrics().tablesCompleted(), "시작하지 못하고 닫힌 테이블은 끝난 테이블로 세지 않아야 합니다");
+            assertEquals(List.of(), second.getPlayers(), "실패한 자리는 남지 않아야 합니다");
+
+            // when - 첫 테이블이 멈추면 자리가 풀림
+            first.close();
+            first.awaitEnd();
+            second.seat(players.get(0));
+            second.seat(players.get(1));
+            second.start();
+            second.awaitEnd();
+
+            // then
+            assertEquals(10, second.getRoundsPlayed(), "풀린 플레이어로 다른 테이블을 진행할 수 있어야 합니다");
+            assertEquals(2, manager.metrics().tablesCompleted(), "진행했던 두 테이블만 끝난 테이블로 세야 합니다");
+        }
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    private static List<IPlayer> players(int count) {
+        List<IPlayer> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            players.add(new PlayerRef("플레이어" + (i + 1), INITIAL_MONEY));
+        }
+        return players;
+    }
+
+    private static List<IPlayer> runSeeded(long seed) throws InterruptedException {
+        List<IPlayer> all = new ArrayList<>();
+        try (TableManager manager = new TableManager(seed)) {
+            List<PokerTable> tables = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                List<IPlayer> players = players(3);
+                all.addAll(players);
+                tables.add(manager.createTable(players, 500));
+            }
+            for (PokerTable table : tables) {
+                table.awaitEnd();
+            }
+        }
+        return all;
+    }
+}
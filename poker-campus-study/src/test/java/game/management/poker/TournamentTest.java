@@ -0,0 +1,180 @@
+package game.management.poker;
+
+import game.participants.player.IPlayer;
+import game.participants.player.PlayerRef;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tournament 클래스 테스트
+ *
+ * <p>탈락과 재배치를 거쳐 우승자 한 명이 모든 칩을 갖는지, 단계마다 테이블 수와 인원이
+ * 균형을 이루는지, 재배치가 꼭 필요한 자리만 옮기는지 검증합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>끝까지 진행 - 모든 참가자의 순위, 칩 보존, 우승자 잔액</li>
+ *   <li>단계별 균형 - 테이블 수 최소, 인원 차이 1명 이하, 옮긴 자리 수 최소</li>
+ *   <li>재현성 - 같은 시드면 같은 순위 (병렬 진행과 무관)</li>
+ *   <li>입력 검증 - 정원, 앤티, 인원, 중복/빈털터리 참가자</li>
+ *   <li>큰 앤티 - 앤티를 두 배로 올려도 long 범위를 넘지 않고 끝까지 진행</li>
+ * </ol>
+ */
+public class TournamentTest {
+
+    private static final int STACK = 1_000;
+
+    @Test
+    @DisplayName("1. 끝까지 진행 테스트 - 우승자가 모든 칩을 갖고 모든 참가자에게 순위가 있는지 확인")
+    void testRunToCompletion() {
+        // given
+        List<IPlayer> players = newPlayers(1_000);
+
+        // when
+        TournamentResult result = new Tournament(players, 7L).run();
+
+        // then
+        assertEquals(players.size(), result.standings().size(), "모든 참가자가 순위에 있어야 합니다");
+        Map<IPlayer, Boolean> distinct = new IdentityHashMap<>();
+        for (IPlayer player : result.standings()) {
+            distinct.put(player, Boolean.TRUE);
+        }
+        assertEquals(players.size(), distinct.size(), "순위에 같은 플레이어가 두 번 나오면 안 됩니다");
+        assertEquals((long) STACK * players.size(), result.champion().getBalance(), "우승자가 모든 칩을 가져야 합니다");
+        for (IPlayer player : result.standings().subList(1, players.size())) {
+            assertEquals(0, player.getBalance(), "탈락자는 칩이 없어야 합니다");
+        }
+        assertEquals(112, result.startingTables(), "1000명 / 9인 = 112개 테이블로 시작해야 합니다");
+        assertEquals(111, result.tablesBroken(), "마지막 한 테이블만 남아야 합니다");
+        assertTrue(result.elapsed().toNanos() > 0, "전체 소요 시간이 기록되어야 합니다");
+        assertTrue(result.toString().contains("소요 시간"), "요약에 소요 시간이 있어야 합니다");
+    }
+
+    @Test
+    @DisplayName("2. 단계별 균형 테스트 - 테이블 수와 인원이 맞고 필요한 자리만 옮기는지 확인")
+    void testIncrementalRebalancing() {
+        // given
+        int seats = 6;
+        Tournament tournament = new Tournament(newPlayers(500), seats, 50, 11L, ForkJoinPool.commonPool());
+        assertBalanced(tournament.tableSizes(), 500, seats);
+
+        // when & then - 단계마다 탈락 직후 인원으로 최소 이동 수를 구해 비교
+        while (tournament.remaining() >= 2) {
+            tournament.playTables();
+            List<Integer> afterBusts = new ArrayList<>(tournament.tableSizes());
+            long movesBefore = tournament.seatMoves();
+            tournament.finishLevel();
+
+            int remaining = tournament.remaining();
+            assertBalanced(tournament.tableSizes(), remaining, seats);
+            assertEquals(minimumMoves(afterBusts, remaining, seats), tournament.seatMoves() - movesBefore,
+                "꼭 옮겨야 하는 자리만 옮겨야 합니다: " + afterBusts);
+        }
+        assertEquals(1, tournament.remaining(), "한 명만 남아야 합니다");
+    }
+
+    @Test
+    @DisplayName("3. 재현성 테스트 - 같은 시드면 병렬 진행과 무관하게 같은 순위인지 확인")
+    void testDeterministicStandings() {
+        // when
+        List<String> first;
+        List<String> second;
+        try (ForkJoinPool parallel = new ForkJoinPool(4); ForkJoinPool single = new ForkJoinPool(1)) {
+            first = standingNames(new Tournament(newPlayers(300), 4, 20, 99L, parallel).run());
+            second = standingNames(new Tournament(newPlayers(300), 4, 20, 99L, single).run());
+        }
+
+        // then
+        assertEquals(first, second, "같은 시드와 참가자면 같은 순위여야 합니다");
+    }
+
+    @Test
+    @DisplayName("4. 입력 검증 테스트 - 잘못된 설정과 참가자에 예외 발생 확인")
+    void testValidation() {
+        List<IPlayer> players = newPlayers(10);
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(players, 1, 100, 1L, pool), "정원 1명은 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(players, 11, 100, 1L, pool), "정원 11명은 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(players, 9, 0, 1L, pool), "앤티 0은 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(players.subList(0, 1), 1L), "1명은 예외가 발생해야 합니다");
+
+        List<IPlayer> duplicated = new ArrayList<>(players);
+        duplicated.add(players.get(0));
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(duplicated, 1L), "중복 참가자는 예외가 발생해야 합니다");
+
+        List<IPlayer> broke = new ArrayList<>(players);
+        broke.add(new PlayerRef("빈털터리", 0));
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(broke, 1L), "칩이 없는 참가자는 예외가 발생해야 합니다");
+
+        Tournament tournament = new Tournament(players, 1L);
+        tournament.run();
+        assertThrows(IllegalStateException.class, tournament::run, "두 번 진행하면 예외가 발생해야 합니다");
+    }
+
+    @Test
+    @DisplayName("5. 큰 앤티 테스트 - 앤티를 두 배로 올릴 때 넘치지 않고 우승자가 모든 칩을 갖는지 확인")
+    void testHugeAnteDoesNotOverflow() {
+        // given - 두 배로 올리면 long 범위를 넘는 시작 앤티
+        List<IPlayer> players = newPlayers(50);
+
+        // when
+        TournamentResult result = new Tournament(players, 9, Long.MAX_VALUE / 2 + 1, 5L, ForkJoinPool.commonPool()).run();
+
+        // then
+        assertEquals(players.size() * (long) STACK, result.champion().getBalance(), "우승자가 모든 칩을 가져야 합니다");
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    private static List<IPlayer> newPlayers(int count) {
+        List<IPlayer> players = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            players.add(new PlayerRef("플레이어" + i, STACK));
+        }
+        return players;
+    }
+
+    private static List<String> standingNames(TournamentResult result) {
+        List<String> names = new ArrayList<>();
+        for (IPlayer player : result.standings()) {
+            names.add(player.getName());
+        }
+        return names;
+    }
+
+    /**
+     * 가장 큰 테이블들을 남기고 그중 큰 쪽에 한 명씩 더 앉힐 때 옮겨야 하는 자리 수입니다.
+     * (없어지는 테이블의 인원 + 남는 테이블에서 목표보다 많은 인원)
+     */
+    private static long minimumMoves(List<Integer> sizes, int remaining, int seats) {
+        List<Integer> sorted = new ArrayList<>(sizes);
+        sorted.sort(Collections.reverseOrder());
+        int target = Math.max(1, (remaining + seats - 1) / seats);
+        long moves = 0;
+        for (int i = 0; i < sorted.size(); i++) {
+            int want = i < target ? remaining / target + (i < remaining % target ? 1 : 0) : 0;
+            moves += Math.max(0, sorted.get(i) - want);
+        }
+        return moves;
+    }
+
+    /**
+     * 테이블 수가 최소이고, 인원 합이 남은 인원과 같으며, 인원 차이가 1명 이하인지 확인합니다.
+     */
+    private static void assertBalanced(List<Integer> sizes, int remaining, int seats) {
+        assertEquals(Math.max(1, (remaining + seats - 1) / seats), sizes.size(), "필요한 만큼의 테이블만 있어야 합니다");
+        assertEquals(remaining, sizes.stream().mapToInt(Integer::intValue).sum(), "모든 생존자가 앉아 있어야 합니다");
+        assertTrue(Collections.max(sizes) - Collections.min(sizes) <= 1, "테이블 간 인원 차이는 1명 이하여야 합니다: " + sizes);
+        assertTrue(Collections.max(sizes) <= seats, "정원을 넘으면 안 됩니다: " + sizes);
+    }
+}
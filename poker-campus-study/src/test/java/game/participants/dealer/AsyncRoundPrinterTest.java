@@ -0,0 +1,176 @@
+package game.participants.dealer;
+
+import game.participants.player.IPlayer;
+import game.participants.player.PlayerRef;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RoundListener와 AsyncRoundPrinter 테스트
+ *
+ * <p>딜러가 라운드 이벤트를 올바른 순서로 알리고, 비동기 출력기가 모든 이벤트를 빠짐없이 출력하는지 검증합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>이벤트 순서와 횟수 - 기록용 리스너로 확인</li>
+ *   <li>비동기 출력 - close() 후 모든 라운드와 승자 줄이 출력되었는지 확인</li>
+ *   <li>리스너 없이 진행 - 기본값은 출력하지 않음</li>
+ *   <li>인터럽트된 게임 스레드 - 이벤트를 버리지 않고 인터럽트 상태는 유지</li>
+ * </ol>
+ */
+public class AsyncRoundPrinterTest {
+
+    private static final int ROUNDS = 200;
+
+    @Test
+    @DisplayName("1. 이벤트 순서 테스트 - 라운드마다 시작, 분배, 평가, 결정, 지급 순서로 알리는지 확인")
+    void testEventOrder() {
+        // given
+        List<IPlayer> players = newPlayers();
+        StringBuilder log = new StringBuilder();
+        int[] paid = new int[1];
+        RoundListener recorder = new RoundListener() {
+            @Override
+            public void roundStarted(int round) {
+                log.append('S');
+            }
+
+            @Override
+            public void cardsDealt(int round, List<? extends IPlayer> players) {
+                log.append('C');
+            }
+
+            @Override
+            public void handsEvaluated(int round, List<? extends IPlayer> players) {
+                log.append('H');
+            }
+
+            @Override
+            public void winnersDecided(int round, List<? extends IPlayer> winners, boolean draw) {
+                log.append(draw ? 'D' : 'W');
+            }
+
+            @Override
+            public void prizePaid(int round, IPlayer winner, int amount) {
+                log.append('P');
+                paid[0] += amount;
+            }
+        };
+
+        // when
+        new DealerRef(recorder).playGame(players, ROUNDS);
+
+        // then
+        assertTrue(log.toString().matches("(SCH(D|WP+))+"), "이벤트 순서가 올바르지 않습니다: " + log);
+        int totalWins = 0;
+        for (IPlayer player : players) {
+            totalWins += player.getWinCount();
+        }
+        assertEquals(ROUNDS, log.chars().filter(c -> c == 'S').count());
+        assertEquals(totalWins, log.chars().filter(c -> c == 'P').count(), "승리마다 상금 지급 이벤트가 있어야 합니다.");
+        assertEquals(totalWins * 100, paid[0]);
+    }
+
+    @Test
+    @DisplayName("2. 비동기 출력 테스트 - close() 후 모든 라운드가 출력되었는지 확인")
+    void testAsyncPrinterWritesEverything() {
+        // given
+        List<IPlayer> players = newPlayers();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(buffer, false, StandardCharsets.UTF_8);
+
+        // when
+        try (AsyncRoundPrinter printer = new AsyncRoundPrinter(out)) {
+            new DealerRef(printer).playGame(players, ROUNDS);
+        }
+        String text = buffer.toString(StandardCharsets.UTF_8);
+
+        // then
+        int totalWins = 0;
+        for (IPlayer player : players) {
+            totalWins += player.getWinCount();
+            assertEquals(ROUNDS, countLines(text, player.getName() + ": ["), player.getName() + "의 핸드 줄 수");
+        }
+        assertTrue(text.contains("=== 라운드 1 ===") && text.contains("=== 라운드 " + ROUNDS + " ==="));
+        assertEquals(ROUNDS, countLines(text, "플레이어 핸드:"));
+        assertEquals(totalWins, countLines(text, "  🏆 "), "승자 줄 수가 승리 횟수와 다릅니다.");
+        assertThrows(IllegalStateException.class, () -> {
+            AsyncRoundPrinter closed = new AsyncRoundPrinter(out);
+            closed.close();
+            closed.roundStarted(1);
+        });
+    }
+
+    @Test
+    @DisplayName("3. 기본 리스너 테스트 - 리스너 없이도 게임이 진행되는지 확인")
+    void testNoListenerByDefault() {
+        // given
+        List<IPlayer> players = newPlayers();
+        PrintStream original = System.out;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(buffer));
+
+        // when
+        try {
+            new DealerRef().playGame(players, 10);
+        } finally {
+            System.setOut(original);
+        }
+
+        // then
+        assertEquals(0, buffer.size(), "기본값은 아무것도 출력하지 않아야 합니다.");
+        assertEquals(10, players.get(0).getWinCount() + players.get(0).getLoseCount() + players.get(0).getDrawCount());
+        assertThrows(IllegalArgumentException.class, () -> new DealerRef().setRoundListener(null));
+    }
+
+    @Test
+    @DisplayName("4. 인터럽트 테스트 - 게임 스레드가 인터럽트되어도 이벤트를 버리지 않는지 확인")
+    void testInterruptedGameThreadKeepsEvents() {
+        // given
+        List<IPlayer> players = newPlayers();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(buffer, false, StandardCharsets.UTF_8);
+
+        // when - 인터럽트 상태에서 큐에 넣으면 put()이 바로 InterruptedException을 던짐
+        boolean stillInterrupted;
+        try (AsyncRoundPrinter printer = new AsyncRoundPrinter(out)) {
+            Thread.currentThread().interrupt();
+            new DealerRef(printer).playGame(players, ROUNDS);
+        } finally {
+            stillInterrupted = Thread.interrupted();
+        }
+        String text = buffer.toString(StandardCharsets.UTF_8);
+
+        // then
+        assertTrue(stillInterrupted, "인터럽트 상태가 복원되어야 합니다.");
+        assertEquals(ROUNDS, countLines(text, "플레이어 핸드:"), "인터럽트되어도 모든 라운드가 출력되어야 합니다.");
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    private static List<IPlayer> newPlayers() {
+        List<IPlayer> players = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            players.add(new PlayerRef("플레이어" + i, 10000));
+        }
+        return players;
+    }
+
+    private static int countLines(String text, String prefix) {
+        int count = 0;
+        for (String line : text.split(System.lineSeparator())) {
+            if (line.startsWith(prefix)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
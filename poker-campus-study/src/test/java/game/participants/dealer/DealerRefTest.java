@@ -0,0 +1,127 @@
+package game.participants.dealer;
+
+import com.sun.management.ThreadMXBean;
+import game.components.hand.IHand;
+import game.participants.player.IPlayer;
+import game.participants.player.PlayerRef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DealerRef 클래스 테스트
+ *
+ * <p>시뮬레이션 모드가 게임 규칙을 지키면서 라운드당 객체를 할당하지 않는지 검증합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>시뮬레이션 결과 기록 - 전적 합계와 상금 반영</li>
+ *   <li>핸드 재사용 - 라운드가 바뀌어도 같은 핸드 객체</li>
+ *   <li>정상 상태 할당량 - ThreadMXBean으로 라운드당 할당 바이트 측정</li>
+ *   <li>시드 재현 - 같은 시드의 딜러는 같은 결과</li>
+ * </ol>
+ */
+public class DealerRefTest {
+
+    private static final int INITIAL_MONEY = 10000;
+
+    private DealerRef dealer;
+    private List<IPlayer> players;
+
+    @BeforeEach
+    void setUp() {
+        dealer = new DealerRef();
+        players = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            players.add(new PlayerRef("플레이어" + i, INITIAL_MONEY));
+        }
+    }
+
+    @Test
+    @DisplayName("1. 시뮬레이션 기록 테스트 - 모든 라운드가 전적과 상금에 반영되는지 확인")
+    void testSimulateRecordsResults() {
+        // given
+        int rounds = 1000;
+
+        // when
+        dealer.simulate(players, rounds);
+
+        // then
+        int totalWins = 0;
+        int totalPrize = 0;
+        for (IPlayer player : players) {
+            assertEquals(rounds, player.getWinCount() + player.getLoseCount() + player.getDrawCount(),
+                player.getName() + "의 전적 합계가 라운드 수와 다릅니다.");
+            totalWins += player.getWinCount();
+            totalPrize += player.getMoney() - INITIAL_MONEY;
+        }
+        assertEquals(totalWins * 100, totalPrize, "승리 1회마다 100원씩 지급되어야 합니다.");
+        assertThrows(IllegalArgumentException.class, () -> dealer.simulate(players, 0));
+        assertThrows(IllegalArgumentException.class, () -> dealer.simulate(new ArrayList<>(), 1));
+    }
+
+    @Test
+    @DisplayName("2. 핸드 재사용 테스트 - 라운드마다 새 핸드를 만들지 않는지 확인")
+    void testHandsAreReused() {
+        // given
+        IHand[] before = new IHand[players.size()];
+        for (int i = 0; i < before.length; i++) {
+            before[i] = players.get(i).getHand();
+        }
+
+        // when
+        dealer.simulate(players, 10);
+
+        // then
+        for (int i = 0; i < before.length; i++) {
+            assertSame(before[i], players.get(i).getHand(), "핸드 객체를 재사용해야 합니다.");
+            assertEquals(5, players.get(i).getHand().getCards().size());
+        }
+    }
+
+    @Test
+    @DisplayName("3. 할당량 테스트 - 워밍업 이후 라운드당 할당 바이트가 0인지 확인")
+    void testSteadyStateAllocation() {
+        // given
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+        dealer.simulate(players, 50_000); // 워밍업 및 버퍼 준비
+
+        // when
+        int rounds = 100_000;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        dealer.simulate(players, rounds);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // then - 측정 호출 자체의 소량 할당만 허용
+        assertTrue(allocated < 1024,
+            "정상 상태에서는 라운드당 할당이 없어야 합니다. (측정값: " + allocated + " bytes)");
+    }
+
+    @Test
+    @DisplayName("4. 시드 재현 테스트 - 같은 시드의 딜러가 같은 결과를 내는지 확인")
+    void testSeededDealerIsReproducible() {
+        // given
+        List<IPlayer> replay = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            replay.add(new PlayerRef("플레이어" + i, INITIAL_MONEY));
+        }
+
+        // when
+        new DealerRef(2024L).simulate(players, 500);
+        new DealerRef(2024L).simulate(replay, 500);
+
+        // then
+        for (int i = 0; i < players.size(); i++) {
+            assertEquals(players.get(i).getMoney(), replay.get(i).getMoney());
+            assertEquals(players.get(i).getWinCount(), replay.get(i).getWinCount());
+            assertEquals(players.get(i).getDrawCount(), replay.get(i).getDrawCount());
+        }
+    }
+}
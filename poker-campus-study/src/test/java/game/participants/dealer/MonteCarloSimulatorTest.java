@@ -0,0 +1,134 @@
+package game.participants.dealer;
+
+import game.components.deck.DeckRandom;
+import game.components.hand.HandRank;
+import game.participants.player.IPlayer;
+import game.participants.player.PlayerRef;
+import game.participants.player.PlayerStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MonteCarloSimulator 클래스 테스트
+ *
+ * <p>병렬 시뮬레이션이 스레드 수와 관계없이 순차 실행과 같은 합계를 내는지 검증합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>병렬/순차 결과 일치 - 스레드 수 1, 4와 순차 실행 비교</li>
+ *   <li>합계 검증 - 전적 합계, 상금, 플레이어 반영</li>
+ *   <li>입력 검증 - 잘못된 플레이어 목록과 라운드 수</li>
+ *   <li>족보별 승리 - 같은 묶음 시드로 진행한 DealerRef.simulate와 일치</li>
+ * </ol>
+ */
+public class MonteCarloSimulatorTest {
+
+    private static final int INITIAL_MONEY = 10000;
+    /** 마지막 묶음이 짧아지도록 묶음 크기의 배수가 아닌 라운드 수 */
+    private static final int ROUNDS = 3 * MonteCarloSimulator.CHUNK_ROUNDS + 1234;
+
+    @Test
+    @DisplayName("1. 결정성 테스트 - 스레드 수와 관계없이 순차 실행과 같은 결과인지 확인")
+    void testParallelMatchesSequential() {
+        // given
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool quad = new ForkJoinPool(4);
+
+        try {
+            // when
+            SimulationResult sequential = MonteCarloSimulator.runSequential(newPlayers(), ROUNDS, 42L);
+            SimulationResult oneThread = new MonteCarloSimulator(single).run(newPlayers(), ROUNDS, 42L);
+            SimulationResult fourThreads = new MonteCarloSimulator(quad).run(newPlayers(), ROUNDS, 42L);
+            SimulationResult otherSeed = new MonteCarloSimulator(quad).run(newPlayers(), ROUNDS, 43L);
+
+            // then
+            assertEquals(sequential, oneThread, "스레드 1개 결과가 순차 실행과 다릅니다.");
+            assertEquals(sequential, fourThreads, "스레드 4개 결과가 순차 실행과 다릅니다.");
+            assertNotEquals(sequential, otherSeed, "다른 시드는 다른 결과여야 합니다.");
+        } finally {
+            single.shutdown();
+            quad.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("2. 합계 테스트 - 전적과 상금이 플레이어에게 정확히 반영되는지 확인")
+    void testTotalsAreApplied() {
+        // given
+        List<IPlayer> players = newPlayers();
+
+        // when
+        SimulationResult result = new MonteCarloSimulator().run(players, ROUNDS, 7L);
+
+        // then
+        for (int i = 0; i < players.size(); i++) {
+            IPlayer player = players.get(i);
+            assertEquals(ROUNDS, result.getWins(i) + result.getLoses(i) + result.getDraws(i),
+                "플레이어 " + i + "의 전적 합계가 라운드 수와 다릅니다.");
+            assertEquals(result.getWins(i) * 100, result.getPrize(i), "승리 1회마다 100원이어야 합니다.");
+            assertEquals(result.getWins(i), player.getWinCount());
+            assertEquals(result.getLoses(i), player.getLoseCount());
+            assertEquals(result.getDraws(i), player.getDrawCount());
+            assertEquals(INITIAL_MONEY + result.getPrize(i), player.getMoney());
+        }
+    }
+
+    @Test
+    @DisplayName("3. 입력 검증 테스트 - 플레이어가 없거나 라운드 수가 양수가 아닐 때 예외")
+    void testValidation() {
+        MonteCarloSimulator simulator = new MonteCarloSimulator();
+        assertThrows(IllegalArgumentException.class, () -> simulator.run(new ArrayList<>(), 10, 1L));
+        assertThrows(IllegalArgumentException.class, () -> simulator.run(newPlayers(), 0, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloSimulator(null));
+    }
+
+    @Test
+    @DisplayName("4. 족보별 승리 테스트 - 같은 묶음 시드로 진행한 DealerRef.simulate와 족보별 승리 수가 같은지 확인")
+    void testRankWinsMatchDealerSimulate() {
+        // given
+        List<IPlayer> players = newPlayers();
+        List<IPlayer> expected = newPlayers();
+        for (int chunk = 0; chunk * MonteCarloSimulator.CHUNK_ROUNDS < ROUNDS; chunk++) {
+            int chunkRounds = Math.min(MonteCarloSimulator.CHUNK_ROUNDS, ROUNDS - chunk * MonteCarloSimulator.CHUNK_ROUNDS);
+            new DealerRef(DeckRandom.deriveSeed(42L, chunk)).simulate(expected, chunkRounds);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            // when
+            SimulationResult result = new MonteCarloSimulator(pool).run(players, ROUNDS, 42L);
+
+            // then
+            long rankWinTotal = 0;
+            for (int i = 0; i < players.size(); i++) {
+                PlayerStats.Snapshot want = ((PlayerRef) expected.get(i)).getStats().snapshot();
+                PlayerStats.Snapshot got = ((PlayerRef) players.get(i)).getStats().snapshot();
+                for (HandRank rank : HandRank.values()) {
+                    assertEquals(want.getWins(rank), result.getWins(i, rank), "결과의 족보별 승리 수가 다릅니다: " + rank);
+                    assertEquals(want.getWins(rank), got.getWins(rank), "플레이어에 반영된 족보별 승리 수가 다릅니다: " + rank);
+                    rankWinTotal += got.getWins(rank);
+                }
+                assertEquals(want, got, "플레이어 전적 스냅샷이 다릅니다.");
+            }
+            assertTrue(rankWinTotal > 0, "족보별 승리가 기록되어야 합니다.");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    private static List<IPlayer> newPlayers() {
+        List<IPlayer> players = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            players.add(new PlayerRef("플레이어" + i, INITIAL_MONEY));
+        }
+        return players;
+    }
+}
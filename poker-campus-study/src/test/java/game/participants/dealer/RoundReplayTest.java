@@ -0,0 +1,110 @@
+package game.participants.dealer;
+
+import game.components.card.ICard;
+import game.participants.player.IPlayer;
+import game.participants.player.PlayerRef;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RoundReplay 클래스 테스트
+ *
+ * <p>테이블 시드로 만든 딜러가 실제로 나눈 카드와 승자를, 앞선 라운드 없이
+ * (테이블 시드, 라운드 번호)만으로 똑같이 재현하는지 검증합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>카드 재현 - 딜러가 나눈 모든 라운드의 핸드와 일치</li>
+ *   <li>승자 재현 - 딜러가 판정한 승자와 일치</li>
+ *   <li>입력 검증 - 라운드 번호와 플레이어 수</li>
+ * </ol>
+ */
+public class RoundReplayTest {
+
+    private static final long TABLE_SEED = 20261017L;
+    private static final int ROUNDS = 300;
+
+    @Test
+    @DisplayName("1. 카드 재현 테스트 - 딜러가 나눈 핸드를 라운드 번호만으로 재현하는지 확인")
+    void testReplayMatchesDealtCards() {
+        // given
+        List<IPlayer> players = newPlayers(4);
+        DealerRef dealer = new DealerRef(TABLE_SEED);
+        List<List<List<ICard>>> dealt = new ArrayList<>();
+        dealer.setRoundListener(new RoundListener() {
+            @Override
+            public void cardsDealt(int round, List<? extends IPlayer> players) {
+                assertEquals(dealt.size() + 1, dealer.getRoundsDealt(), "라운드 번호는 1부터 하나씩 늘어야 합니다");
+                List<List<ICard>> hands = new ArrayList<>();
+                for (IPlayer player : players) {
+                    hands.add(player.getHand().getCards());
+                }
+                dealt.add(hands);
+            }
+        });
+
+        // when
+        dealer.playGame(players, ROUNDS);
+
+        // then - 뒤쪽 라운드부터 거꾸로 재현해도 같아야 함 (앞선 라운드에 의존하지 않음)
+        for (int round = ROUNDS; round >= 1; round--) {
+            assertEquals(dealt.get(round - 1), RoundReplay.deal(TABLE_SEED, round, players.size()),
+                round + "라운드의 재현 결과가 실제와 달라서는 안 됩니다");
+        }
+    }
+
+    @Test
+    @DisplayName("2. 승자 재현 테스트 - 재현한 승자가 딜러의 판정과 같은지 확인")
+    void testReplayMatchesWinners() {
+        // given
+        List<IPlayer> players = newPlayers(3);
+        DealerRef dealer = new DealerRef(TABLE_SEED);
+        List<List<Integer>> decided = new ArrayList<>();
+        dealer.setRoundListener(new RoundListener() {
+            @Override
+            public void winnersDecided(int round, List<? extends IPlayer> winners, boolean draw) {
+                List<Integer> indexes = new ArrayList<>();
+                for (IPlayer winner : winners) {
+                    indexes.add(players.indexOf(winner));
+                }
+                decided.add(indexes);
+            }
+        });
+
+        // when
+        dealer.playGame(players, ROUNDS);
+
+        // then
+        for (int round = 1; round <= ROUNDS; round++) {
+            List<List<ICard>> hands = RoundReplay.deal(TABLE_SEED, round, players.size());
+            assertEquals(decided.get(round - 1), RoundReplay.winners(hands), round + "라운드의 승자가 같아야 합니다");
+        }
+        assertTrue(RoundReplay.describe(TABLE_SEED, 1, 3).contains("플레이어 3"), "설명에 모든 플레이어가 있어야 합니다");
+    }
+
+    @Test
+    @DisplayName("3. 입력 검증 테스트 - 잘못된 라운드 번호와 플레이어 수에 예외 발생 확인")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> RoundReplay.deal(TABLE_SEED, 0, 4),
+            "라운드 번호는 1부터여야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> RoundReplay.deal(TABLE_SEED, 1, 11),
+            "플레이어는 10명까지여야 합니다");
+        assertThrows(IllegalStateException.class, () -> new DealerRef().getTableSeed(),
+            "시드 없는 딜러는 테이블 시드가 없어야 합니다");
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    private static List<IPlayer> newPlayers(int count) {
+        List<IPlayer> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            players.add(new PlayerRef("플레이어" + (i + 1), 10000));
+        }
+        return players;
+    }
+}
@@ -0,0 +1,184 @@
+package game.participants.player;
+
+import game.components.hand.HandRank;
+import game.participants.dealer.DealerRef;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PlayerStats 클래스 테스트
+ *
+ * <p>여러 스레드가 같은 플레이어의 전적을 동시에 기록해도 횟수가 정확한지,
+ * 그리고 스냅샷에서 한 번의 기록이 일부만 보이는 일이 없는지 검증합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>64개 스레드 동시 기록 - 승/패/무와 족보별 승리 횟수 정확성</li>
+ *   <li>스냅샷 일관성 - 기록 중에 읽어도 족보별 승리 합과 승리 수가 일치</li>
+ *   <li>딜러 연동 - 시뮬레이션 후 족보별 승리 합이 승리 수와 같음</li>
+ *   <li>입력 검증 - null 족보, 음수 횟수, 족보별 승리 배열</li>
+ *   <li>int 범위 초과 - PlayerRef의 int 횟수는 음수로 넘치지 않고 최댓값에 머묾</li>
+ * </ol>
+ */
+public class PlayerStatsTest {
+
+    private static final int THREADS = 64;
+    private static final HandRank[] RANKS = HandRank.values();
+
+    @Test
+    @DisplayName("1. 동시 기록 테스트 - 64개 스레드가 한 플레이어에 기록해도 횟수가 정확한지 확인")
+    void testConcurrentRecording() throws InterruptedException {
+        // given
+        PlayerStats stats = new PlayerStats();
+        int perThread = 20_000;
+
+        // when - 스레드마다 승(족보 순환), 패, 무를 번갈아 기록
+        runConcurrently(() -> {
+            for (int i = 0; i < perThread; i++) {
+                switch (i % 3) {
+                    case 0 -> stats.recordWin(RANKS[i % RANKS.length]);
+                    case 1 -> stats.recordLose();
+                    default -> stats.recordDraw();
+                }
+            }
+        });
+        PlayerStats.Snapshot snapshot = stats.snapshot();
+
+        // then
+        long expectedWins = (long) THREADS * ((perThread + 2) / 3);
+        assertEquals(expectedWins, snapshot.getWins(), "승리 수가 정확해야 합니다");
+        assertEquals((long) THREADS * perThread, snapshot.getHandsPlayed(), "전체 판 수가 정확해야 합니다");
+        assertEquals(snapshot.getWins(), stats.getWins(), "단일 카운터도 같은 값이어야 합니다");
+        long rankTotal = 0;
+        for (HandRank rank : RANKS) {
+            rankTotal += snapshot.getWins(rank);
+        }
+        assertEquals(expectedWins, rankTotal, "족보별 승리 합은 승리 수와 같아야 합니다");
+    }
+
+    @Test
+    @DisplayName("2. 스냅샷 일관성 테스트 - 기록 중에 읽어도 한 번의 기록이 일부만 보이지 않는지 확인")
+    void testSnapshotConsistency() throws InterruptedException {
+        // given
+        PlayerStats stats = new PlayerStats();
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> violation = new AtomicReference<>();
+
+        Thread reader = new Thread(() -> {
+            long lastPlayed = 0;
+            while (!done.get()) {
+                PlayerStats.Snapshot snapshot = stats.snapshot();
+                long rankTotal = 0;
+                for (HandRank rank : RANKS) {
+                    rankTotal += snapshot.getWins(rank);
+                }
+                if (rankTotal != snapshot.getWins() || snapshot.getHandsPlayed() < lastPlayed) {
+                    violation.compareAndSet(null, snapshot.toString());
+                }
+                lastPlayed = snapshot.getHandsPlayed();
+            }
+        });
+        reader.start();
+
+        // when - 모든 승리를 족보와 함께 기록 (승리 수와 족보별 합이 항상 같아야 함)
+        runConcurrently(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                stats.recordWin(RANKS[i % RANKS.length]);
+                stats.recordLose();
+            }
+        });
+        done.set(true);
+        reader.join();
+
+        // then
+        assertNull(violation.get(), "기록 도중의 값이 스냅샷에 보이면 안 됩니다");
+        assertEquals((long) THREADS * 20_000, stats.snapshot().getWins(), "승리 수가 정확해야 합니다");
+    }
+
+    @Test
+    @DisplayName("3. 딜러 연동 테스트 - 시뮬레이션 후 족보별 승리 합이 승리 수와 같은지 확인")
+    void testDealerRecordsRanks() {
+        // given
+        PlayerRef first = new PlayerRef("럭키가이", 0);
+        PlayerRef second = new PlayerRef("포커마스터", 0);
+
+        // when
+        new DealerRef(7L).simulate(List.of(first, second), 10_000);
+
+        // then
+        for (PlayerRef player : List.of(first, second)) {
+            PlayerStats.Snapshot snapshot = player.getStats().snapshot();
+            long rankTotal = 0;
+            for (HandRank rank : RANKS) {
+                rankTotal += snapshot.getWins(rank);
+            }
+            assertEquals(snapshot.getWins(), rankTotal, "모든 승리에 족보가 기록되어야 합니다");
+            assertEquals(10_000, snapshot.getHandsPlayed(), "라운드마다 한 판씩 기록되어야 합니다");
+            assertEquals(player.getWinCount(), snapshot.getWins(), "getWinCount()와 같아야 합니다");
+        }
+    }
+
+    @Test
+    @DisplayName("4. 입력 검증 테스트 - 잘못된 입력 시 예외 발생 확인")
+    void testValidation() {
+        PlayerStats stats = new PlayerStats();
+
+        assertThrows(IllegalArgumentException.class, () -> stats.recordWin(null), "null 족보는 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> stats.record(-1, 0, 0), "음수 횟수는 예외가 발생해야 합니다");
+        long[] tooMany = new long[HandRank.values().length];
+        tooMany[HandRank.FLUSH.ordinal()] = 2;
+        assertThrows(IllegalArgumentException.class, () -> stats.record(1, 0, 0, tooMany), "족보별 승리 합이 승리 수보다 많으면 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> stats.record(1, 0, 0, new long[1]), "족보 수와 길이가 다른 배열은 예외가 발생해야 합니다");
+        assertEquals(0, stats.snapshot().getHandsPlayed(), "실패한 기록은 반영되지 않아야 합니다");
+    }
+
+    @Test
+    @DisplayName("5. 범위 초과 테스트 - 횟수가 int 범위를 넘어도 PlayerRef가 음수를 반환하지 않는지 확인")
+    void testIntCountsSaturate() {
+        // given
+        PlayerRef player = new PlayerRef("장기전", 10000);
+
+        // when - 각 횟수를 Integer.MAX_VALUE + 1 이상으로
+        player.recordResults(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        player.recordResults(1, 2, 3);
+
+        // then
+        assertEquals((long) Integer.MAX_VALUE + 1, player.getStats().getWins(), "long 횟수는 정확해야 합니다");
+        assertEquals(Integer.MAX_VALUE, player.getWinCount(), "승리 횟수는 최댓값에 머물러야 합니다");
+        assertEquals(Integer.MAX_VALUE, player.getLoseCount(), "패배 횟수는 최댓값에 머물러야 합니다");
+        assertEquals(Integer.MAX_VALUE, player.getDrawCount(), "무승부 횟수는 최댓값에 머물러야 합니다");
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    /**
+     * 스레드들을 동시에 출발시키고 모두 끝날 때까지 기다립니다.
+     */
+    private static void runConcurrently(Runnable work) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                work.run();
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+}
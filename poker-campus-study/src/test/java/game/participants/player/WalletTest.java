@@ -0,0 +1,176 @@
+package game.participants.player;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Wallet 클래스 테스트
+ *
+ * <p>여러 스레드가 동시에 입출금해도 돈이 새로 생기거나 사라지지 않는지,
+ * 잔액 확인과 차감이 원자적인지, 오버플로를 막는지 검증합니다.</p>
+ *
+ * <p>테스트 항목:</p>
+ * <ol>
+ *   <li>동시 이체 - 지갑 사이를 무작위로 오가도 전체 금액 보존</li>
+ *   <li>동시 출금 - 잔액만큼만 성공하고 음수가 되지 않음</li>
+ *   <li>동시 일괄 정산 - 반영된 증감액의 합과 최종 잔액 일치</li>
+ *   <li>오버플로 - long 범위를 넘는 입금은 거부하고 잔액 유지</li>
+ *   <li>PlayerRef - 두 테이블에서 동시에 상금을 받아도 합계 정확</li>
+ * </ol>
+ */
+public class WalletTest {
+
+    private static final int THREADS = 8;
+
+    @Test
+    @DisplayName("1. 동시 이체 테스트 - 무작위 이체를 동시에 해도 전체 금액이 보존되는지 확인")
+    void testConcurrentTransfersConserveMoney() throws InterruptedException {
+        // given
+        Wallet[] wallets = new Wallet[16];
+        for (int i = 0; i < wallets.length; i++) {
+            wallets[i] = new Wallet(1_000);
+        }
+        long total = 16 * 1_000L;
+
+        // when
+        runConcurrently(thread -> {
+            SplittableRandom random = new SplittableRandom(thread);
+            for (int i = 0; i < 200_000; i++) {
+                Wallet from = wallets[random.nextInt(wallets.length)];
+                Wallet to = wallets[random.nextInt(wallets.length)];
+                long amount = random.nextInt(1, 50);
+                if (from.withdraw(amount)) {
+                    to.deposit(amount);
+                }
+            }
+        });
+
+        // then
+        long sum = 0;
+        for (Wallet wallet : wallets) {
+            assertTrue(wallet.getBalance() >= 0, "잔액은 음수가 될 수 없습니다");
+            sum += wallet.getBalance();
+        }
+        assertEquals(total, sum, "돈이 새로 생기거나 사라지면 안 됩니다");
+    }
+
+    @Test
+    @DisplayName("2. 동시 출금 테스트 - 잔액만큼만 출금에 성공하는지 확인")
+    void testConcurrentWithdrawIfSufficient() throws InterruptedException {
+        // given
+        Wallet wallet = new Wallet(10_000);
+        AtomicInteger successes = new AtomicInteger();
+
+        // when - 모두 합쳐 잔액의 4배를 출금 시도
+        runConcurrently(thread -> {
+            for (int i = 0; i < 5_000; i++) {
+                if (wallet.withdraw(1)) {
+                    successes.incrementAndGet();
+                }
+            }
+        });
+
+        // then
+        assertEquals(10_000, successes.get(), "잔액만큼만 출금에 성공해야 합니다");
+        assertEquals(0, wallet.getBalance(), "잔액은 정확히 0이어야 합니다");
+    }
+
+    @Test
+    @DisplayName("3. 동시 일괄 정산 테스트 - 반영된 증감액의 합과 최종 잔액이 같은지 확인")
+    void testConcurrentApplyDelta() throws InterruptedException {
+        // given
+        Wallet wallet = new Wallet(500);
+        AtomicLong applied = new AtomicLong();
+
+        // when
+        runConcurrently(thread -> {
+            SplittableRandom random = new SplittableRandom(100 + thread);
+            for (int i = 0; i < 100_000; i++) {
+                long delta = random.nextLong(-300, 300);
+                if (wallet.applyDelta(delta)) {
+                    applied.addAndGet(delta);
+                }
+            }
+        });
+
+        // then
+        assertEquals(500 + applied.get(), wallet.getBalance(), "반영된 증감액만큼만 잔액이 바뀌어야 합니다");
+        assertTrue(wallet.getBalance() >= 0, "잔액은 음수가 될 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("4. 오버플로 테스트 - long 범위를 넘는 입금은 거부되고 잔액이 유지되는지 확인")
+    void testOverflowRejected() {
+        // given
+        Wallet wallet = new Wallet(Long.MAX_VALUE - 5);
+
+        // when / then
+        assertThrows(IllegalStateException.class, () -> wallet.deposit(10), "오버플로는 예외가 발생해야 합니다");
+        assertEquals(Long.MAX_VALUE - 5, wallet.getBalance(), "거부된 입금은 잔액을 바꾸지 않아야 합니다");
+        assertFalse(wallet.withdraw(Long.MAX_VALUE), "잔액보다 큰 출금은 실패해야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> wallet.deposit(-1), "음수 입금은 예외가 발생해야 합니다");
+        assertThrows(IllegalArgumentException.class, () -> new Wallet(-1), "음수 초기 잔액은 예외가 발생해야 합니다");
+    }
+
+    @Test
+    @DisplayName("5. PlayerRef 테스트 - 두 테이블에서 동시에 상금을 받아도 합계가 정확한지 확인")
+    void testPlayerAtTwoTables() throws InterruptedException {
+        // given
+        PlayerRef player = new PlayerRef("럭키가이", 0);
+
+        // when - 스레드마다 한 테이블처럼 상금을 받고 베팅
+        runConcurrently(thread -> {
+            for (int i = 0; i < 100_000; i++) {
+                player.addMoney(100);
+                assertTrue(player.removeMoney(40), "방금 받은 상금으로 베팅할 수 있어야 합니다");
+            }
+        });
+
+        // then
+        assertEquals(THREADS * 100_000L * 60, player.getBalance(), "모든 상금과 베팅이 반영되어야 합니다");
+        assertEquals(player.getBalance(), player.getMoney(), "int 범위 안에서는 getMoney()와 같아야 합니다");
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    private interface Worker {
+        void run(int thread);
+    }
+
+    /**
+     * 스레드들을 동시에 출발시키고 모두 끝날 때까지 기다립니다. 작업 중 실패는 다시 던집니다.
+     */
+    private static void runConcurrently(Worker worker) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[THREADS];
+        Throwable[] failures = new Throwable[THREADS];
+        for (int t = 0; t < THREADS; t++) {
+            int id = t;
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                    worker.run(id);
+                } catch (Throwable e) {
+                    failures[id] = e;
+                }
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (Throwable failure : failures) {
+            if (failure != null) {
+                fail("작업 스레드에서 예외가 발생했습니다: " + failure);
+            }
+        }
+    }
+}
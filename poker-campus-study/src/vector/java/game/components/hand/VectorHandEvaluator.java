@@ -0,0 +1,134 @@
+package game.components.hand;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * 벡터 API({@code jdk.incubator.vector})로 여러 핸드를 레인별로 한 번에 평가하는 내부 구현
+ *
+ * {@link HandEvaluator}의 평가 방식을 그대로 레인마다 수행하므로 결과가 비트 단위로 같습니다.
+ * 인큐베이터 모듈이 필요한 클래스는 이것뿐이므로 별도 소스 세트({@code src/vector/java})에 두고,
+ * 벡터 모듈이 있을 때만 {@link BatchHandEvaluator}가 이름으로 찾아 불러옵니다.
+ *
+ * <p>레인별 계산:</p>
+ * <ul>
+ *   <li>카드 비트: 카드 인덱스로 {@code CARD_BITS} 표를 모아 읽기(gather)</li>
+ *   <li>플러시 마스크: 다섯 장의 무늬 비트 AND</li>
+ *   <li>랭크 마스크: 다섯 장의 랭크 비트 OR - 비트 수 5면 스트레이트/하이카드 표 조회</li>
+ *   <li>페어 계열: 랭크 소수 곱을 완전 해시와 같은 식으로 섞은 뒤 변위 표와 강도 표 조회</li>
+ *   <li>세 결과를 마스크로 고르고, 여러 벌 덱의 중복 카드 레인만 스칼라로 다시 평가</li>
+ * </ul>
+ *
+ * <p>모아 읽기에 쓰는 인덱스는 결과 배열의 같은 칸에 잠시 써 두므로 추가 할당이 없습니다.</p>
+ *
+ * @author XIYO
+ * @version 1.1
+ * @since 2026-10-17
+ */
+final class VectorHandEvaluator {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    /** 벡터 경로를 쓸 최소 레인 수 (이보다 좁으면 스칼라가 더 빠름) */
+    private static final int MIN_LANES = 4;
+
+    private static final int SUIT_BITS = 0xF << HandEvaluator.SUIT_SHIFT;
+    private static final int HASH_SEED = HandEvaluator.PAIRED_HASH.seed();
+    private static final int BUCKET_SHIFT = HandEvaluator.PAIRED_HASH.bucketShift();
+    private static final int SLOT_SHIFT = HandEvaluator.PAIRED_HASH.slotShift();
+    private static final int SLOT_MASK = HandEvaluator.PAIRED_HASH.size() - 1;
+    private static final int[] DISPLACEMENTS = HandEvaluator.PAIRED_HASH.displacements();
+
+    private VectorHandEvaluator() {
+    }
+
+    /**
+     * 이 플랫폼에서 벡터 경로가 쓸 만한지 확인합니다.
+     *
+     * @return 선호 벡터의 int 레인이 {@value #MIN_LANES}개 이상이면 true
+     */
+    static boolean isSupported() {
+        return SPECIES.length() >= MIN_LANES;
+    }
+
+    /**
+     * 핸드 count개의 강도를 평가합니다. 인자 검증은 호출한 쪽에서 합니다.
+     *
+     * @param cards 카드 위치별 인덱스 배열 5개 (cards[j][i]: i번째 핸드의 j번째 카드)
+     * @param count 평가할 핸드 수
+     * @param out 강도를 쓸 배열
+     */
+    static void strengths(int[][] cards, int count, int[] out) {
+        int[] c0 = cards[0];
+        int[] c1 = cards[1];
+        int[] c2 = cards[2];
+        int[] c3 = cards[3];
+        int[] c4 = cards[4];
+        int bound = SPECIES.loopBound(count);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            IntVector a = IntVector.fromArray(SPECIES, HandEvaluator.CARD_BITS, 0, c0, i);
+            IntVector b = IntVector.fromArray(SPECIES, HandEvaluator.CARD_BITS, 0, c1, i);
+            IntVector c = IntVector.fromArray(SPECIES, HandEvaluator.CARD_BITS, 0, c2, i);
+            IntVector d = IntVector.fromArray(SPECIES, HandEvaluator.CARD_BITS, 0, c3, i);
+            IntVector e = IntVector.fromArray(SPECIES, HandEvaluator.CARD_BITS, 0, c4, i);
+
+            IntVector rankMask = a.or(b).or(c).or(d).or(e).lanewise(VectorOperators.LSHR, HandEvaluator.RANK_BIT_SHIFT);
+            VectorMask<Integer> flush = a.and(b).and(c).and(d).and(e).and(SUIT_BITS).compare(VectorOperators.NE, 0);
+            IntVector rankCount = bitCount13(rankMask);
+            VectorMask<Integer> unique = rankCount.compare(VectorOperators.EQ, 5);
+
+            // 플러시/스트레이트/하이카드 표 조회 (랭크 마스크를 out에 잠시 써 두고 인덱스로 사용)
+            rankMask.intoArray(out, i);
+            IntVector flushes = IntVector.fromArray(SPECIES, HandEvaluator.FLUSHES, 0, out, i);
+            IntVector unique5 = IntVector.fromArray(SPECIES, HandEvaluator.UNIQUE5, 0, out, i);
+
+            // 페어 계열: 랭크 소수 곱 → PerfectHash.indexOf()와 같은 계산
+            IntVector product = a.and(HandEvaluator.PRIME_MASK)
+                .mul(b.and(HandEvaluator.PRIME_MASK))
+                .mul(c.and(HandEvaluator.PRIME_MASK))
+                .mul(d.and(HandEvaluator.PRIME_MASK))
+                .mul(e.and(HandEvaluator.PRIME_MASK));
+            IntVector h = product.mul(HASH_SEED);
+            h = h.lanewise(VectorOperators.XOR, h.lanewise(VectorOperators.LSHR, PerfectHash.MIX_SHIFT_1));
+            h = h.mul(PerfectHash.MIX_MULTIPLIER);
+            h = h.lanewise(VectorOperators.XOR, h.lanewise(VectorOperators.LSHR, PerfectHash.MIX_SHIFT_2));
+            h.lanewise(VectorOperators.LSHR, BUCKET_SHIFT).intoArray(out, i);
+            IntVector displacement = IntVector.fromArray(SPECIES, DISPLACEMENTS, 0, out, i);
+            h.lanewise(VectorOperators.LSHR, SLOT_SHIFT).and(SLOT_MASK)
+                .lanewise(VectorOperators.XOR, displacement)
+                .intoArray(out, i);
+            IntVector paired = IntVector.fromArray(SPECIES, HandEvaluator.PAIRED, 0, out, i);
+
+            paired.blend(unique5, unique).blend(flushes, flush).intoArray(out, i);
+
+            // 여러 벌 덱에서만 나오는 레인 (랭크가 겹치는 플러시, 같은 랭크 5장)은 스칼라로 다시 평가
+            VectorMask<Integer> duplicates = flush.and(flushes.compare(VectorOperators.EQ, 0))
+                .or(rankCount.compare(VectorOperators.EQ, 1));
+            long lanes = duplicates.toLong();
+            while (lanes != 0) {
+                int hand = i + Long.numberOfTrailingZeros(lanes);
+                out[hand] = HandEvaluator.strength(c0[hand], c1[hand], c2[hand], c3[hand], c4[hand]);
+                lanes &= lanes - 1;
+            }
+        }
+        for (; i < count; i++) {
+            out[i] = HandEvaluator.strength(c0[i], c1[i], c2[i], c3[i], c4[i]);
+        }
+    }
+
+    // ===== 헬퍼 메서드들 =====
+
+    /**
+     * 13비트 랭크 마스크의 켜진 비트 수를 레인별로 셉니다 (시프트/AND/덧셈만 사용하는 SWAR 방식).
+     *
+     * 인큐베이터 API의 {@code VectorOperators.BIT_COUNT}는 플랫폼에 따라 내장 명령으로 바뀌지 않을 수 있어,
+     * 어디서나 기본 정수 연산으로 컴파일되는 이 방식을 사용합니다.
+     */
+    private static IntVector bitCount13(IntVector mask) {
+        IntVector x = mask.sub(mask.lanewise(VectorOperators.LSHR, 1).and(0x5555));
+        x = x.and(0x3333).add(x.lanewise(VectorOperators.LSHR, 2).and(0x3333));
+        x = x.add(x.lanewise(VectorOperators.LSHR, 4)).and(0x0F0F);
+        return x.add(x.lanewise(VectorOperators.LSHR, 8)).and(0x1F);
+    }
+}